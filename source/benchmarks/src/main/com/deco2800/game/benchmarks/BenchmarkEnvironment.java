@@ -0,0 +1,40 @@
+package com.deco2800.game.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.HeadlessNativesLoader;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Sets up the parts of libGDX the benchmarks need without opening a window. Benchmarks run in a
+ * forked JVM, so call {@link #init()} from each benchmark's setup.
+ */
+public class BenchmarkEnvironment {
+    private static boolean initialised = false;
+
+    /**
+     * Load native libraries and internal file access. Internal files are read relative to the working
+     * directory, which the jmh Gradle task sets to core/assets.
+     */
+    public static synchronized void init() {
+        if (initialised) {
+            return;
+        }
+        HeadlessNativesLoader.load();
+        Box2D.init();
+        Gdx.files = new HeadlessFiles();
+        initialised = true;
+    }
+
+    /**
+     * Clear every service a benchmark registered, so state doesn't leak between benchmarks.
+     */
+    public static void reset() {
+        ServiceLocator.clear();
+    }
+
+    private BenchmarkEnvironment() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+}
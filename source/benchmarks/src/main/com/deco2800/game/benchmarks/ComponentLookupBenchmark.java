@@ -0,0 +1,57 @@
+package com.deco2800.game.benchmarks;
+
+import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.components.CombatStatsComponent;
+import com.deco2800.game.components.ComponentType;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.components.HitboxComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of looking up components by class, through {@link ComponentType#getFrom(Class)} and
+ * {@link Entity#getComponent(Class)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComponentLookupBenchmark {
+    private Entity entity;
+
+    @Setup
+    public void setUp() {
+        entity = new Entity()
+                .addComponent(new CombatStatsComponent(100, 10))
+                .addComponent(new AITaskComponent());
+        // Register the type the entity doesn't have, so misses measure the lookup and not creation
+        ComponentType.getFrom(HitboxComponent.class);
+    }
+
+    @Benchmark
+    public ComponentType getComponentType() {
+        return ComponentType.getFrom(CombatStatsComponent.class);
+    }
+
+    @Benchmark
+    public CombatStatsComponent getComponent() {
+        return entity.getComponent(CombatStatsComponent.class);
+    }
+
+    @Benchmark
+    public HitboxComponent getMissingComponent() {
+        return entity.getComponent(HitboxComponent.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.deco2800.game.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.components.CombatStatsComponent;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link EntityService#update()} over N entities with a mix of components: every
+ * entity has a physics body, and some also have combat stats, an AI component with no tasks, or a
+ * component that fires an event every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityServiceBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int entities;
+
+    private EntityService entityService;
+    private PhysicsEngine physics;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        ServiceLocator.registerTimeSource(new GameTime());
+        physics = new PhysicsEngine();
+        ServiceLocator.registerPhysicsService(new PhysicsService(physics));
+        entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+
+        for (int i = 0; i < entities; i++) {
+            Entity entity = new Entity()
+                    .addComponent(new PhysicsComponent(physics))
+                    .addComponent(new ColliderComponent());
+            if (i % 2 == 0) {
+                entity.addComponent(new CombatStatsComponent(100, 10));
+            }
+            if (i % 3 == 0) {
+                entity.addComponent(new AITaskComponent());
+            }
+            if (i % 4 == 0) {
+                entity.addComponent(new EventComponent());
+            }
+            entity.setPosition(new Vector2(i % 100, i / 100f));
+            entityService.register(entity);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        physics.dispose();
+        BenchmarkEnvironment.reset();
+    }
+
+    @Benchmark
+    public EntityService update() {
+        entityService.update();
+        return entityService;
+    }
+
+    /**
+     * Fires an event with one listener every tick, like components that report their state.
+     */
+    private static class EventComponent extends Component {
+        private int ticks = 0;
+
+        @Override
+        public void create() {
+            entity.getEvents().addListener("tick", (Integer tick) -> ticks = tick);
+        }
+
+        @Override
+        public void update() {
+            entity.getEvents().trigger("tick", ticks + 1);
+        }
+    }
+}
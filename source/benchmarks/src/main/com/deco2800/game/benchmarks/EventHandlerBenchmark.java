@@ -0,0 +1,75 @@
+package com.deco2800.game.benchmarks;
+
+import com.deco2800.game.events.EventHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of triggering an event on an {@link EventHandler}, by number of listeners.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventHandlerBenchmark {
+    private static final String EVENT = "event";
+    private static final String EVENT_1 = "event1";
+    private static final String EVENT_2 = "event2";
+    private static final String MISSING_EVENT = "missing";
+
+    @Param({"0", "1", "4", "16"})
+    public int listeners;
+
+    private EventHandler events;
+    private int calls;
+    private Integer arg;
+
+    @Setup
+    public void setUp() {
+        events = new EventHandler();
+        for (int i = 0; i < listeners; i++) {
+            events.addListener(EVENT, () -> calls++);
+            events.addListener(EVENT_1, (Integer value) -> calls += value);
+            events.addListener(EVENT_2, (Integer value, Float other) -> calls += value);
+        }
+        arg = 1;
+    }
+
+    @Benchmark
+    public int triggerNoArgs() {
+        events.trigger(EVENT);
+        return calls;
+    }
+
+    @Benchmark
+    public int triggerOneArg() {
+        events.trigger(EVENT_1, arg);
+        return calls;
+    }
+
+    @Benchmark
+    public int triggerTwoArgs() {
+        events.trigger(EVENT_2, arg, 2f);
+        return calls;
+    }
+
+    @Benchmark
+    public void triggerWithoutListeners(Blackhole blackhole) {
+        events.trigger(MISSING_EVENT);
+        blackhole.consume(events);
+    }
+}
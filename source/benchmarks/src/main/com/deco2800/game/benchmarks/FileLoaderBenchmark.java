@@ -0,0 +1,57 @@
+package com.deco2800.game.benchmarks;
+
+import com.deco2800.game.areas.terrain.BinaryMap;
+import com.deco2800.game.areas.terrain.Map;
+import com.deco2800.game.files.FileLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading a level map with {@link FileLoader#readClass(Class, String)}, compared with
+ * loading the map compiled by {@link BinaryMap}, as areas do when they load.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FileLoaderBenchmark {
+    private static final String LEVEL = "maps/lvl_1.json";
+
+    private String binaryLevel;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkEnvironment.init();
+        if (FileLoader.readClass(Map.class, LEVEL) == null) {
+            throw new IllegalStateException("Could not read " + LEVEL + ", run from core/assets");
+        }
+        File binaryFile = File.createTempFile("lvl_1", BinaryMap.EXTENSION);
+        binaryFile.deleteOnExit();
+        BinaryMap.compile(new File(LEVEL), binaryFile);
+        binaryLevel = binaryFile.getAbsolutePath();
+    }
+
+    @Benchmark
+    public Map readLevel() {
+        return FileLoader.readClass(Map.class, LEVEL);
+    }
+
+    @Benchmark
+    public Map loadBinaryLevel() {
+        return BinaryMap.load(LEVEL, new File(binaryLevel));
+    }
+}
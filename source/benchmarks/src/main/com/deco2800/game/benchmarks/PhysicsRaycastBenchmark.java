@@ -0,0 +1,85 @@
+package com.deco2800.game.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.physics.PhysicsEngine;
+import com.deco2800.game.physics.PhysicsLayer;
+import com.deco2800.game.physics.components.ColliderComponent;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.physics.raycast.RaycastHit;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PhysicsEngine#raycast(Vector2, Vector2, short, RaycastHit)} between random points
+ * in a world of N static obstacles, like NPC line of sight checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhysicsRaycastBenchmark {
+    private static final float WORLD_SIZE = 100f;
+    private static final int RAYS = 1024;
+
+    @Param({"100", "1000"})
+    public int obstacles;
+
+    private PhysicsEngine physics;
+    private final Vector2[] from = new Vector2[RAYS];
+    private final Vector2[] to = new Vector2[RAYS];
+    private final RaycastHit hit = new RaycastHit();
+    private int nextRay = 0;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        ServiceLocator.registerTimeSource(new GameTime());
+        physics = new PhysicsEngine();
+
+        Random random = new Random(0);
+        for (int i = 0; i < obstacles; i++) {
+            Entity obstacle = new Entity()
+                    .addComponent(new PhysicsComponent(physics).setBodyType(BodyType.StaticBody))
+                    .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+            obstacle.setPosition(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+            obstacle.create();
+        }
+        for (int i = 0; i < RAYS; i++) {
+            from[i] = new Vector2(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+            to[i] = new Vector2(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+        }
+        // Build the broad phase before measuring
+        physics.getWorld().step(GameTime.TICK_TIME, 1, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        physics.dispose();
+        BenchmarkEnvironment.reset();
+    }
+
+    @Benchmark
+    public boolean raycast() {
+        nextRay = (nextRay + 1) % RAYS;
+        return physics.raycast(from[nextRay], to[nextRay], PhysicsLayer.OBSTACLE, hit);
+    }
+}
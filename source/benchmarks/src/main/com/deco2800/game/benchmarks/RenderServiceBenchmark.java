@@ -0,0 +1,99 @@
+package com.deco2800.game.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.rendering.Renderable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RenderService#render(SpriteBatch)} over N renderables spread across layers, with
+ * drawing itself left out so only the layer iteration and depth sort are measured. Between frames a
+ * share of the renderables move, changing their depth like walking entities do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderServiceBenchmark {
+    private static final int LAYERS = 3;
+
+    @Param({"100", "1000", "5000"})
+    public int renderables;
+
+    /**
+     * percentage of renderables that move each frame
+     */
+    @Param({"0", "10", "100"})
+    public int movingPercent;
+
+    private final Random random = new Random(0);
+    private RenderService renderService;
+    private BenchRenderable[] all;
+    private int drawn;
+
+    @Setup
+    public void setUp() {
+        renderService = new RenderService();
+        all = new BenchRenderable[renderables];
+        for (int i = 0; i < renderables; i++) {
+            all[i] = new BenchRenderable(i % LAYERS, random.nextFloat() * 100f);
+            renderService.register(all[i]);
+        }
+    }
+
+    @Benchmark
+    public int render() {
+        int moving = renderables * movingPercent / 100;
+        for (int i = 0; i < moving; i++) {
+            BenchRenderable renderable = all[random.nextInt(renderables)];
+            renderable.zIndex += random.nextFloat() - 0.5f;
+        }
+        renderService.render(null);
+        return drawn;
+    }
+
+    private class BenchRenderable implements Renderable {
+        private final int layer;
+        private float zIndex;
+
+        BenchRenderable(int layer, float zIndex) {
+            this.layer = layer;
+            this.zIndex = zIndex;
+        }
+
+        @Override
+        public void render(SpriteBatch batch) {
+            drawn++;
+        }
+
+        @Override
+        public float getZIndex() {
+            return zIndex;
+        }
+
+        @Override
+        public int getLayer() {
+            return layer;
+        }
+
+        @Override
+        public int compareTo(Renderable o) {
+            return Float.compare(getZIndex(), o.getZIndex());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.deco2800.game.benchmarks;
+
+import com.deco2800.game.utils.SortedIntMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SortedIntMap} put and get by map size, with keys inserted in random order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedIntMapBenchmark {
+    @Param({"4", "16", "64"})
+    public int size;
+
+    private int[] keys;
+    private SortedIntMap<Integer> map;
+    private int nextKey = 0;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        map = new SortedIntMap<>(size);
+        for (int key : keys) {
+            map.put(key, key);
+        }
+    }
+
+    /**
+     * Fill an empty map with every key.
+     */
+    @Benchmark
+    public SortedIntMap<Integer> putAll() {
+        SortedIntMap<Integer> filled = new SortedIntMap<>(size);
+        for (int key : keys) {
+            filled.put(key, key);
+        }
+        return filled;
+    }
+
+    @Benchmark
+    public Integer get() {
+        nextKey = (nextKey + 1) % size;
+        return map.get(keys[nextKey]);
+    }
+
+    @Benchmark
+    public Integer getMissing() {
+        return map.get(-1);
+    }
+}
@@ -3,7 +3,10 @@ package com.deco2800.game;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.deco2800.game.files.UserSettings;
+import com.deco2800.game.input.InputRecording;
+import com.deco2800.game.input.ReplayOptions;
 import com.deco2800.game.screens.*;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
@@ -18,6 +21,19 @@ import static com.badlogic.gdx.Gdx.app;
  */
 public class GdxGame extends Game {
     private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
+    private final ReplayOptions replayOptions;
+    /**
+     * recording for the next game screen to replay
+     */
+    private InputRecording pendingReplay = null;
+
+    public GdxGame() {
+        this(new ReplayOptions());
+    }
+
+    public GdxGame(ReplayOptions replayOptions) {
+        this.replayOptions = replayOptions;
+    }
 
     @Override
     public void create() {
@@ -27,7 +43,48 @@ public class GdxGame extends Game {
         // Sets background to light yellow
         Gdx.gl.glClearColor(49 / 255f, 49 / 255f, 49 / 255f, 1);
 
-        setScreen(ScreenType.MAIN_MENU);
+        if (replayOptions.replayFile != null) {
+            startReplay(Gdx.files.absolute(replayOptions.replayFile));
+        } else {
+            setScreen(ScreenType.MAIN_MENU);
+        }
+    }
+
+    /**
+     * Replay a recorded play session, starting its level with the recorded seed and player health.
+     *
+     * @param file recording to replay
+     */
+    public void startReplay(FileHandle file) {
+        InputRecording recording = InputRecording.load(file);
+        ScreenType level = recording == null ? null : getLevelScreen(recording.getLevel());
+        if (level == null) {
+            logger.error("Could not replay {}, showing the main menu", file.path());
+            setScreen(ScreenType.MAIN_MENU);
+            return;
+        }
+        logger.info("Replaying {} from {}", recording.getLevel(), file.path());
+        pendingReplay = recording;
+        if (recording.getPlayerHealth() == InputRecording.DEFAULT_HEALTH) {
+            setScreen(level);
+        } else {
+            setScreen(level, recording.getPlayerHealth());
+        }
+    }
+
+    /**
+     * Take the recording waiting to be replayed by the next game screen.
+     *
+     * @return recording, or null if there is none
+     */
+    public InputRecording takePendingReplay() {
+        InputRecording replay = pendingReplay;
+        pendingReplay = null;
+        return replay;
+    }
+
+    public ReplayOptions getReplayOptions() {
+        return replayOptions;
     }
 
     /**
@@ -144,6 +201,31 @@ public class GdxGame extends Game {
         }
     }
 
+    /**
+     * Get the screen type which plays a level.
+     *
+     * @param level name of the level, e.g. "game3"
+     * @return screen type, or null if there is no such level
+     */
+    private static ScreenType getLevelScreen(String level) {
+        switch (level) {
+            case "tutorial":
+                return ScreenType.MAIN_GAME_TUTORIAL;
+            case "game1":
+                return ScreenType.GAMEAREA1;
+            case "game2":
+                return ScreenType.GAMEAREA2;
+            case "game3":
+                return ScreenType.GAMEAREA3;
+            case "game4":
+                return ScreenType.GAMEAREA4;
+            case "game5":
+                return ScreenType.GAMEAREA5;
+            default:
+                return null;
+        }
+    }
+
     public enum ScreenType {
         MAIN_MENU, MAIN_GAME_TUTORIAL, SETTINGS, DEATHSCREEN, GAMEAREA1,
         GAMEAREA2, GAMEAREA3, GAMEAREA4, GAMEAREA5, END_SCREEN
@@ -0,0 +1,85 @@
+package com.deco2800.game.ai.lod;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.configs.AILodConfig;
+
+/**
+ * Assigns AI level-of-detail tiers to NPCs based on their distance to a focus entity (the player),
+ * and keeps count of how many NPCs sit in each tier. NPCs opt in through
+ * {@link com.deco2800.game.ai.tasks.AITaskComponent#setLevelOfDetailEnabled(boolean)}.
+ */
+public class AILodService {
+    private final int[] tierCounts = new int[AILodTier.values().length];
+    private Entity focus;
+
+    /**
+     * Set the entity NPC distances are measured from, normally the player.
+     *
+     * @param focus focus entity, or null to run every NPC at full detail
+     */
+    public void setFocus(Entity focus) {
+        this.focus = focus;
+    }
+
+    public Entity getFocus() {
+        return focus;
+    }
+
+    /**
+     * Work out which tier an NPC belongs in. An NPC only leaves its current tier once it is
+     * {@link AILodConfig#HYSTERESIS} past the boundary.
+     *
+     * @param npc     NPC to check
+     * @param current tier the NPC is currently in, or null if it has none yet
+     * @return tier the NPC should be in
+     */
+    public AILodTier getTier(Entity npc, AILodTier current) {
+        if (focus == null) {
+            return AILodTier.NEAR;
+        }
+        Vector2 npcPosition = npc.getPosition();
+        float distance = npcPosition.dst(focus.getPosition());
+
+        float nearDistance = AILodConfig.NEAR_DISTANCE;
+        float farDistance = AILodConfig.FAR_DISTANCE;
+        if (current == AILodTier.NEAR) {
+            nearDistance += AILodConfig.HYSTERESIS;
+        } else if (current == AILodTier.MID) {
+            nearDistance -= AILodConfig.HYSTERESIS;
+            farDistance += AILodConfig.HYSTERESIS;
+        } else if (current == AILodTier.FAR) {
+            farDistance -= AILodConfig.HYSTERESIS;
+        }
+
+        if (distance < nearDistance) {
+            return AILodTier.NEAR;
+        } else if (distance < farDistance) {
+            return AILodTier.MID;
+        }
+        return AILodTier.FAR;
+    }
+
+    /**
+     * Move an NPC between tier counters.
+     *
+     * @param from tier the NPC was in, or null if it is new
+     * @param to   tier the NPC is now in, or null if it has been removed
+     */
+    public void changeTier(AILodTier from, AILodTier to) {
+        if (from != null) {
+            tierCounts[from.ordinal()]--;
+        }
+        if (to != null) {
+            tierCounts[to.ordinal()]++;
+        }
+    }
+
+    /**
+     * @param tier tier to count
+     * @return number of NPCs currently in the tier
+     */
+    public int getCount(AILodTier tier) {
+        return tierCounts[tier.ordinal()];
+    }
+}
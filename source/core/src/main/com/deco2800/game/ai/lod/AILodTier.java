@@ -0,0 +1,28 @@
+package com.deco2800.game.ai.lod;
+
+import com.deco2800.game.entities.configs.AILodConfig;
+
+/**
+ * How much AI work an NPC gets, based on its distance from the player.
+ */
+public enum AILodTier {
+    /** Full AI every tick. */
+    NEAR(1),
+    /** Full AI at a reduced tick rate, without repeated animation events. */
+    MID(AILodConfig.MID_UPDATE_INTERVAL),
+    /** Coarse wandering only, with no raycasts, at a low tick rate. */
+    FAR(AILodConfig.FAR_UPDATE_INTERVAL);
+
+    private final int updateInterval;
+
+    AILodTier(int updateInterval) {
+        this.updateInterval = updateInterval;
+    }
+
+    /**
+     * @return number of ticks between AI updates in this tier
+     */
+    public int getUpdateInterval() {
+        return updateInterval;
+    }
+}
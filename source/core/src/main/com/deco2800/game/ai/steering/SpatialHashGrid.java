@@ -0,0 +1,86 @@
+package com.deco2800.game.ai.steering;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * A uniform grid for finding items near a point without checking every item. The grid is meant
+ * to be cleared and refilled every frame; cell arrays are kept between frames to avoid garbage.
+ *
+ * @param <T> type of item stored
+ */
+public class SpatialHashGrid<T> {
+    private final float cellSize;
+    private final LongMap<Array<T>> cells = new LongMap<>();
+
+    /**
+     * @param cellSize width and height of a cell in metres
+     */
+    public SpatialHashGrid(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive, got " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Remove all items, keeping the cells for reuse.
+     */
+    @SuppressWarnings("GDXJavaUnsafeIterator")
+    public void clear() {
+        for (Array<T> cell : cells.values()) {
+            cell.clear();
+        }
+    }
+
+    /**
+     * Add an item at a position.
+     *
+     * @param item item to add
+     * @param x    world x position
+     * @param y    world y position
+     */
+    public void insert(T item, float x, float y) {
+        long key = key(toCell(x), toCell(y));
+        Array<T> cell = cells.get(key);
+        if (cell == null) {
+            cell = new Array<>(false, 4);
+            cells.put(key, cell);
+        }
+        cell.add(item);
+    }
+
+    /**
+     * Find all items in the cells overlapping a square around a point. Items may be up to a cell
+     * outside the radius, so callers should check the exact distance themselves.
+     *
+     * @param x      world x position
+     * @param y      world y position
+     * @param radius search radius
+     * @param out    array to add the items to. It is not cleared first.
+     * @return out
+     */
+    public Array<T> query(float x, float y, float radius, Array<T> out) {
+        int minX = toCell(x - radius);
+        int maxX = toCell(x + radius);
+        int minY = toCell(y - radius);
+        int maxY = toCell(y + radius);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                Array<T> cell = cells.get(key(cellX, cellY));
+                if (cell != null) {
+                    out.addAll(cell);
+                }
+            }
+        }
+        return out;
+    }
+
+    private int toCell(float position) {
+        return (int) Math.floor(position / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+}
@@ -0,0 +1,175 @@
+package com.deco2800.game.ai.steering;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.entities.configs.SteeringConfig;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
+
+/**
+ * Local crowd avoidance for NPCs. {@link com.deco2800.game.physics.components.PhysicsMovementComponent}
+ * passes its desired velocity through {@link #steer(Vector2)}, which bends it away from nearby
+ * NPCs before Box2D has to push them apart. It combines:
+ * <ul>
+ *   <li>separation: move away from NPCs that are already too close</li>
+ *   <li>avoidance: a simple velocity obstacle, moving sideways from NPCs we would otherwise hit
+ *   within {@link SteeringConfig#TIME_HORIZON} seconds</li>
+ *   <li>cohesion: a weak pull towards nearby NPCs, so groups stay together</li>
+ * </ul>
+ *
+ * <p>Requires a {@link SteeringService} to be registered, otherwise velocities are left unchanged.
+ */
+public class SteeringComponent extends Component {
+    // Spreads NPCs that spawn on exactly the same point in different directions
+    private static final float GOLDEN_ANGLE = 2.3999632f;
+    private static final float MIN_DISTANCE = 0.0001f;
+
+    private final float radius;
+    private final Vector2 position = new Vector2();
+    private final Vector2 velocity = new Vector2();
+    private final Array<SteeringComponent> neighbours = new Array<>(false, 8);
+    private final Vector2 separation = new Vector2();
+    private final Vector2 avoidance = new Vector2();
+    private final Vector2 centroid = new Vector2();
+    private final Vector2 offset = new Vector2();
+    private final Vector2 relativeVelocity = new Vector2();
+    private final Vector2 closest = new Vector2();
+    private PhysicsComponent physicsComponent;
+    private SteeringService steeringService;
+
+    public SteeringComponent() {
+        this(SteeringConfig.AGENT_RADIUS);
+    }
+
+    /**
+     * @param radius how much room the NPC takes up, in metres
+     */
+    public SteeringComponent(float radius) {
+        this.radius = radius;
+    }
+
+    @Override
+    public void create() {
+        physicsComponent = entity.getComponent(PhysicsComponent.class);
+        steeringService = ServiceLocator.getSteeringService();
+        if (steeringService != null) {
+            steeringService.register(this);
+            snapshot();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (steeringService != null) {
+            steeringService.unregister(this);
+        }
+    }
+
+    /**
+     * Adjust a desired velocity to avoid nearby NPCs. The result is never faster than the desired
+     * velocity.
+     *
+     * @param desiredVelocity velocity the NPC wants to move at. Modified in place.
+     * @return desiredVelocity
+     */
+    public Vector2 steer(Vector2 desiredVelocity) {
+        float speed = desiredVelocity.len();
+        if (steeringService == null || speed == 0f) {
+            return desiredVelocity;
+        }
+        steeringService.getNeighbours(this, SteeringConfig.NEIGHBOUR_RADIUS, neighbours);
+        if (neighbours.size == 0) {
+            return desiredVelocity;
+        }
+
+        separation.setZero();
+        avoidance.setZero();
+        centroid.setZero();
+        int cohesionCount = 0;
+        for (int i = 0; i < neighbours.size; i++) {
+            SteeringComponent other = neighbours.get(i);
+            float combinedRadius = radius + other.radius;
+            float separationDistance = combinedRadius + SteeringConfig.SEPARATION_MARGIN;
+
+            offset.set(position).sub(other.position);
+            float distance = offset.len();
+            if (distance < MIN_DISTANCE) {
+                offset.set(1f, 0f).rotateRad(entity.getId() * GOLDEN_ANGLE);
+                distance = 0f;
+            } else {
+                offset.scl(1f / distance);
+            }
+
+            if (distance < separationDistance) {
+                separation.mulAdd(offset, 1f - distance / separationDistance);
+            } else {
+                centroid.add(other.position);
+                cohesionCount++;
+            }
+
+            addAvoidance(other, combinedRadius, desiredVelocity);
+        }
+
+        desiredVelocity
+                .mulAdd(separation, SteeringConfig.SEPARATION_WEIGHT * speed)
+                .mulAdd(avoidance, SteeringConfig.AVOIDANCE_WEIGHT * speed);
+        if (cohesionCount > 0) {
+            centroid.scl(1f / cohesionCount).sub(position).nor();
+            desiredVelocity.mulAdd(centroid, SteeringConfig.COHESION_WEIGHT * speed);
+        }
+        return desiredVelocity.limit(speed);
+    }
+
+    /**
+     * Velocity obstacle check against one neighbour: if moving at the desired velocity would bring
+     * the two NPCs within their combined radius inside the time horizon, steer away from where they
+     * would be closest, more strongly the sooner that is.
+     */
+    private void addAvoidance(SteeringComponent other, float combinedRadius, Vector2 desiredVelocity) {
+        relativeVelocity.set(desiredVelocity).sub(other.velocity);
+        float relativeSpeed2 = relativeVelocity.len2();
+        if (relativeSpeed2 < MIN_DISTANCE) {
+            return;
+        }
+        // other.position - position, i.e. from this NPC to the other
+        offset.set(other.position).sub(position);
+        float timeToClosest = offset.dot(relativeVelocity) / relativeSpeed2;
+        if (timeToClosest <= 0f || timeToClosest >= SteeringConfig.TIME_HORIZON) {
+            return;
+        }
+        closest.set(offset).mulAdd(relativeVelocity, -timeToClosest);
+        float closestDistance = closest.len();
+        if (closestDistance >= combinedRadius) {
+            return;
+        }
+        if (closestDistance < MIN_DISTANCE) {
+            // Head on, pick a side
+            closest.set(relativeVelocity).rotate90(1);
+        }
+        closest.nor();
+        avoidance.mulAdd(closest, -(1f - timeToClosest / SteeringConfig.TIME_HORIZON));
+    }
+
+    /**
+     * Record the current position and velocity, so every NPC steers against the same values.
+     */
+    void snapshot() {
+        Body body = physicsComponent.getBody();
+        position.set(body.getWorldCenter());
+        velocity.set(body.getLinearVelocity());
+    }
+
+    Vector2 getPosition() {
+        return position;
+    }
+
+    /**
+     * @return radius of the NPC in metres
+     */
+    public float getRadius() {
+        return radius;
+    }
+
+}
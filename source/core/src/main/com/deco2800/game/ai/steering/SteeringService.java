@@ -0,0 +1,75 @@
+package com.deco2800.game.ai.steering;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.configs.SteeringConfig;
+
+/**
+ * Keeps track of steering NPCs and answers neighbour queries for them. Call {@link #update()} once
+ * per frame after the physics step, so every NPC steers against the same snapshot of positions.
+ */
+public class SteeringService {
+    private final Array<SteeringComponent> agents = new Array<>(false, 16);
+    private final SpatialHashGrid<SteeringComponent> grid = new SpatialHashGrid<>(SteeringConfig.CELL_SIZE);
+
+    /**
+     * Add an NPC to the crowd.
+     *
+     * @param agent steering component of the NPC
+     */
+    public void register(SteeringComponent agent) {
+        agents.add(agent);
+    }
+
+    /**
+     * Remove an NPC from the crowd.
+     *
+     * @param agent steering component of the NPC
+     */
+    public void unregister(SteeringComponent agent) {
+        agents.removeValue(agent, true);
+    }
+
+    /**
+     * Snapshot every NPC's position and velocity and rebuild the neighbour grid.
+     */
+    public void update() {
+        grid.clear();
+        for (int i = 0; i < agents.size; i++) {
+            SteeringComponent agent = agents.get(i);
+            agent.snapshot();
+            Vector2 position = agent.getPosition();
+            grid.insert(agent, position.x, position.y);
+        }
+    }
+
+    /**
+     * Find the NPCs within a radius of an NPC, not including the NPC itself.
+     *
+     * @param agent  NPC to search around
+     * @param radius search radius in metres
+     * @param out    array to fill. It is cleared first.
+     * @return out
+     */
+    public Array<SteeringComponent> getNeighbours(SteeringComponent agent, float radius, Array<SteeringComponent> out) {
+        out.clear();
+        Vector2 position = agent.getPosition();
+        grid.query(position.x, position.y, radius, out);
+
+        float radius2 = radius * radius;
+        for (int i = out.size - 1; i >= 0; i--) {
+            SteeringComponent other = out.get(i);
+            if (other == agent || other.getPosition().dst2(position) > radius2) {
+                out.removeIndex(i);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * @return number of NPCs being steered
+     */
+    public int getAgentCount() {
+        return agents.size;
+    }
+}
@@ -1,11 +1,16 @@
 package com.deco2800.game.ai.tasks;
 
+import com.deco2800.game.ai.lod.AILodService;
+import com.deco2800.game.ai.lod.AILodTier;
 import com.deco2800.game.components.Component;
+import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Task-based AI component. Given a list of tasks with priorities, the AI component will run the
@@ -14,13 +19,21 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>With level of detail enabled, how often the AI runs depends on the NPC's distance to the
+ * player, see {@link AILodService}.
  */
 public class AITaskComponent extends Component implements TaskRunner {
     private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
     private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
+    // Last evaluated priority of each task, in the same order as priorityTasks
+    private int[] priorities = new int[2];
     private PriorityTask currentTask;
-
+    private int highestPriority;
+    private boolean lodEnabled = false;
+    private AILodTier lodTier;
+    private int ticksUntilUpdate;
 
     /**
      * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -32,21 +45,51 @@ public class AITaskComponent extends Component implements TaskRunner {
     public AITaskComponent addTask(PriorityTask task) {
         logger.debug("{} Adding task {}", this, task);
         priorityTasks.add(task);
+        if (priorities.length < priorityTasks.size()) {
+            priorities = Arrays.copyOf(priorities, priorities.length * 2);
+        }
         task.create(this);
 
         return this;
     }
 
+    /**
+     * Enable or disable AI level of detail for this NPC. When disabled (default), the AI runs at full
+     * detail every tick.
+     *
+     * @param enabled true to scale AI work with distance to the player
+     * @return self
+     */
+    public AITaskComponent setLevelOfDetailEnabled(boolean enabled) {
+        this.lodEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * @return current level of detail tier, or null if level of detail is not in use
+     */
+    public AILodTier getLevelOfDetail() {
+        return lodTier;
+    }
+
     /**
      * On update, run the current highest priority task. If it's a different one, stop the old one and
      * start the new one. If the highest priority task has negative priority, no task will be run.
+     * Only tasks whose priority is not cached (see {@link PriorityTask#isPriorityCached()}) are
+     * re-evaluated.
      */
     @Override
     public void update() {
         // only update tasks if game is not paused
         if (!ServiceLocator.getTimeSource().isPaused()) {
+            if (!updateLevelOfDetail()) {
+                return;
+            }
             PriorityTask desiredtask = getHighestPriorityTask();
-            if (desiredtask == null || desiredtask.getPriority() < 0) {
+            if (desiredtask == null || highestPriority < 0) {
+                if (currentTask != null && !canRun(currentTask)) {
+                    changeTask(null);
+                }
                 return;
             }
             if (desiredtask != currentTask) {
@@ -64,19 +107,73 @@ public class AITaskComponent extends Component implements TaskRunner {
         if (currentTask != null) {
             currentTask.stop();
         }
+        AILodService lodService = ServiceLocator.getAILodService();
+        if (lodTier != null && lodService != null) {
+            lodService.changeTier(lodTier, null);
+            lodTier = null;
+        }
     }
 
     /**
-     * return the Task with highest priority
+     * Update this NPC's level of detail tier and work out whether the AI should run this tick.
+     * NPCs are staggered by entity id so a tier's updates are spread across ticks.
      *
-     * @return PriorityTask
+     * @return true if the AI should run this tick
+     */
+    private boolean updateLevelOfDetail() {
+        AILodService lodService = ServiceLocator.getAILodService();
+        if (!lodEnabled || lodService == null) {
+            return true;
+        }
+        AILodTier tier = lodService.getTier(entity, lodTier);
+        if (tier != lodTier) {
+            logger.debug("{} Changing AI level of detail from {} to {}", this, lodTier, tier);
+            lodService.changeTier(lodTier, tier);
+            lodTier = tier;
+            ticksUntilUpdate = entity.getId() % tier.getUpdateInterval();
+            PhysicsMovementComponent movementComponent = entity.getComponent(PhysicsMovementComponent.class);
+            if (movementComponent != null) {
+                movementComponent.setReducedAnimationEvents(tier != AILodTier.NEAR);
+            }
+        }
+        if (ticksUntilUpdate > 0) {
+            ticksUntilUpdate--;
+            return false;
+        }
+        ticksUntilUpdate = tier.getUpdateInterval() - 1;
+        return true;
+    }
+
+    /**
+     * @param task task to check
+     * @return true if the task may run at the current level of detail
+     */
+    private boolean canRun(PriorityTask task) {
+        return lodTier != AILodTier.FAR || task.isLowDetail();
+    }
+
+    /**
+     * return the Task with highest priority. The first task added wins ties. Far NPCs only consider
+     * low detail tasks.
+     *
+     * @return PriorityTask, or null if there are no tasks
      */
     private PriorityTask getHighestPriorityTask() {
-        try {
-            return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-        } catch (NoSuchElementException e) {
-            return null;
+        PriorityTask highestTask = null;
+        for (int i = 0; i < priorityTasks.size(); i++) {
+            PriorityTask task = priorityTasks.get(i);
+            if (!canRun(task)) {
+                continue;
+            }
+            if (!task.isPriorityCached()) {
+                priorities[i] = task.getPriority();
+            }
+            if (highestTask == null || priorities[i] > highestPriority) {
+                highestTask = task;
+                highestPriority = priorities[i];
+            }
         }
+        return highestTask;
     }
 
     /**
@@ -0,0 +1,180 @@
+package com.deco2800.game.ai.tasks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.events.EventHandler;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Caches the result of an expensive priority calculation until it is invalidated. A priority
+ * task can keep one of these and report {@link #isValid()} from {@link PriorityTask#isPriorityCached()}
+ * so that the task runner skips re-evaluating it every frame.
+ *
+ * <p>The cache is invalidated by any of:
+ * <ul>
+ *   <li>a timer, set with {@link #refreshEvery(long)}</li>
+ *   <li>an event firing on an entity, see {@link #invalidateOn(EventHandler, String, int)}</li>
+ *   <li>a watched entity moving further than a threshold, see {@link #invalidateOnMove(Entity, float)}</li>
+ *   <li>a manual call to {@link #invalidate()}</li>
+ * </ul>
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * priorityCache.refreshEvery(200L).invalidateOnMove(target, 0.25f);
+ * ...
+ * public int getPriority() {
+ *   return priorityCache.get(this::calculatePriority);
+ * }
+ * </pre>
+ */
+public class PriorityCache {
+    private final Array<MoveWatch> moveWatches = new Array<>(false, 2);
+    private long refreshIntervalMS = -1L;
+    private long lastEvaluated;
+    private boolean dirty = true;
+    private int priority;
+
+    /**
+     * Re-evaluate the priority at least this often, in game time (pauses are not counted).
+     *
+     * @param intervalMS refresh interval in milliseconds, or a negative number to disable
+     * @return self
+     */
+    public PriorityCache refreshEvery(long intervalMS) {
+        this.refreshIntervalMS = intervalMS;
+        return this;
+    }
+
+    /**
+     * Invalidate the cache whenever an event with no arguments fires, e.g. "hit" or "alert".
+     *
+     * @param events    event handler to listen on
+     * @param eventName name of the event
+     * @return self
+     */
+    public PriorityCache invalidateOn(EventHandler events, String eventName) {
+        return invalidateOn(events, eventName, 0);
+    }
+
+    /**
+     * Invalidate the cache whenever an event fires. The listener must be registered with the same
+     * number of arguments the event is triggered with, e.g. 1 for "updateHealth" or 2 for
+     * "collisionStart".
+     *
+     * @param events    event handler to listen on
+     * @param eventName name of the event
+     * @param argCount  number of arguments the event is triggered with (0 to 3)
+     * @return self
+     */
+    public PriorityCache invalidateOn(EventHandler events, String eventName, int argCount) {
+        switch (argCount) {
+            case 0:
+                events.addListener(eventName, this::invalidate);
+                break;
+            case 1:
+                events.addListener(eventName, (Object arg0) -> invalidate());
+                break;
+            case 2:
+                events.addListener(eventName, (Object arg0, Object arg1) -> invalidate());
+                break;
+            case 3:
+                events.addListener(eventName, (Object arg0, Object arg1, Object arg2) -> invalidate());
+                break;
+            default:
+                throw new IllegalArgumentException("Events support at most 3 arguments, got " + argCount);
+        }
+        return this;
+    }
+
+    /**
+     * Invalidate the cache once the given entity has moved further than a threshold since the
+     * priority was last evaluated.
+     *
+     * @param entity   entity to watch, e.g. the task's target or owner
+     * @param distance distance in metres the entity has to move
+     * @return self
+     */
+    public PriorityCache invalidateOnMove(Entity entity, float distance) {
+        moveWatches.add(new MoveWatch(entity, distance));
+        return this;
+    }
+
+    /**
+     * Mark the cached priority as stale, so it is re-evaluated on the next call to get().
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * @return true if the cached priority can still be used, false if it must be re-evaluated
+     */
+    public boolean isValid() {
+        if (dirty) {
+            return false;
+        }
+        if (refreshIntervalMS >= 0 && getTimeSince(lastEvaluated) >= refreshIntervalMS) {
+            return false;
+        }
+        for (int i = 0; i < moveWatches.size; i++) {
+            if (moveWatches.get(i).hasMoved()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the cached priority, evaluating it first if the cache is no longer valid.
+     *
+     * @param evaluator calculates the priority
+     * @return priority
+     */
+    public int get(IntSupplier evaluator) {
+        if (!isValid()) {
+            priority = evaluator.getAsInt();
+            lastEvaluated = getTime();
+            for (int i = 0; i < moveWatches.size; i++) {
+                moveWatches.get(i).reset();
+            }
+            dirty = false;
+        }
+        return priority;
+    }
+
+    private static long getTime() {
+        GameTime timeSource = ServiceLocator.getTimeSource();
+        return timeSource == null ? 0L : timeSource.getTime();
+    }
+
+    private static long getTimeSince(long lastTime) {
+        return getTime() - lastTime;
+    }
+
+    /**
+     * Remembers where a watched entity was when the priority was last evaluated.
+     */
+    private static class MoveWatch {
+        private final Entity entity;
+        private final float distance2;
+        private final Vector2 lastPosition = new Vector2();
+
+        MoveWatch(Entity entity, float distance) {
+            this.entity = entity;
+            this.distance2 = distance * distance;
+        }
+
+        boolean hasMoved() {
+            return entity.getPosition().dst2(lastPosition) > distance2;
+        }
+
+        void reset() {
+            lastPosition.set(entity.getPosition());
+        }
+    }
+}
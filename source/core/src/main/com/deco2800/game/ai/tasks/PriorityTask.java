@@ -6,4 +6,27 @@ package com.deco2800.game.ai.tasks;
  */
 public interface PriorityTask extends Task {
     int getPriority();
+
+    /**
+     * Whether the priority last returned by getPriority() is still valid. While this returns true,
+     * the task runner reuses the last priority instead of calling getPriority() again, so tasks with
+     * expensive priority checks (e.g. raycasts) can be skipped until something relevant changes.
+     * See {@link PriorityCache}.
+     *
+     * @return true if the last priority can be reused, false to re-evaluate it (default)
+     */
+    default boolean isPriorityCached() {
+        return false;
+    }
+
+    /**
+     * Whether this task may run for NPCs in the far AI level-of-detail tier. Far NPCs only run
+     * cheap tasks, so this should only be true for tasks that need no raycasts or target tracking,
+     * e.g. wandering.
+     *
+     * @return true if the task can run at far detail, false otherwise (default)
+     */
+    default boolean isLowDetail() {
+        return false;
+    }
 }
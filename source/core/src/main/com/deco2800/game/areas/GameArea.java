@@ -1,12 +1,16 @@
 package com.deco2800.game.areas;
 
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
+import com.deco2800.game.areas.terrain.BinaryMap;
 import com.deco2800.game.areas.terrain.Map;
+import com.deco2800.game.areas.terrain.PotentiallyVisibleSet;
 import com.deco2800.game.areas.terrain.TerrainComponent;
 import com.deco2800.game.areas.terrain.TerrainFactory;
+import com.deco2800.game.areas.terrain.TileAtlas;
 import com.deco2800.game.components.gamearea.GameAreaDisplay;
 import com.deco2800.game.components.tasks.ShootProjectileTask;
 import com.deco2800.game.entities.Entity;
@@ -14,8 +18,8 @@ import com.deco2800.game.entities.factories.CutsceneTriggerFactory;
 import com.deco2800.game.entities.factories.NPCFactory;
 import com.deco2800.game.entities.factories.ObstacleFactory;
 import com.deco2800.game.entities.factories.PlayerFactory;
-import com.deco2800.game.files.FileLoader;
 import com.deco2800.game.files.PlayerSave;
+import com.deco2800.game.rendering.StaticSpriteLayer;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.DialogueSet;
@@ -27,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -45,6 +50,8 @@ public abstract class GameArea implements Disposable {
     protected int numEnemy = 0;
     protected int numBoss = 0;
     protected Map map;
+    protected PotentiallyVisibleSet visibility;
+    private CompletableFuture<PotentiallyVisibleSet> pendingVisibility;
     protected static final float WALL_WIDTH_F = 0.1f;
     protected String[] tileTextures = null;
     protected static final String[] textures = {
@@ -177,6 +184,11 @@ public abstract class GameArea implements Disposable {
     protected static final String WALL_HEIGHT = "height";
     protected static final String WALL_WIDTH = "width";
     protected String playerWeaponType = "Axe";
+    /**
+     * Whether to bake map obstacle and light tiles into a {@link StaticSpriteLayer} instead of
+     * spawning an entity for each tile
+     */
+    protected boolean bakeStaticTiles = true;
 
     protected GameArea() {
         areaEntities = new ArrayList<>();
@@ -187,12 +199,17 @@ public abstract class GameArea implements Disposable {
      */
     public void create(String mapFile, String areaName) {
         ServiceLocator.registerGameArea(this);
-        map = FileLoader.readClass(Map.class, mapFile);
+        map = BinaryMap.load(mapFile);
         tileTextures = map.tileRefsArray();
         loadAssets();
         displayUI(areaName);
 
         spawnTerrain();
+        visibility = PotentiallyVisibleSet.load(mapFile, map, terrain.getTileSize());
+        if (visibility == null) {
+            // Not compiled, so build it in the background and raycast every check until it's done
+            pendingVisibility = PotentiallyVisibleSet.computeAsync(map, terrain.getTileSize());
+        }
         spawnObstacles();
         spawnLights();
         spawnLavaTraps();
@@ -293,6 +310,22 @@ public abstract class GameArea implements Disposable {
         return numEnemy;
     }
 
+    /**
+     * @return precomputed wall visibility for the map, or null if the map has not been created or
+     * its visibility is still being computed
+     */
+    public PotentiallyVisibleSet getVisibility() {
+        if (pendingVisibility != null && pendingVisibility.isDone()) {
+            if (pendingVisibility.isCompletedExceptionally()) {
+                logger.error("Failed to compute visibility set, raycasting every check");
+            } else {
+                visibility = pendingVisibility.getNow(null);
+            }
+            pendingVisibility = null;
+        }
+        return visibility;
+    }
+
     /**
      * Returns the player entity that is created.
      *
@@ -623,47 +656,52 @@ public abstract class GameArea implements Disposable {
     }
 
     protected void spawnObstacles() {
-        int[][] obstacles = map.getTransObstacles();
-        HashMap<String, String> tileRefs = map.getTileRefs();
-        if (obstacles != null) {
-            GridPoint2 min = new GridPoint2(0, 0);
-            GridPoint2 max = new GridPoint2(map.getDimensions().get(TILES_WIDTH) - 1,
-                    map.getDimensions().get(TILES_HEIGHT) - 1);
-
-            for (int y = min.y; y <= max.y; y++) {
-                for (int x = min.y; x <= max.x; x++) {
-                    if (obstacles[y][x] != 0) {
-
-                        Entity obstacle = ObstacleFactory.createObstacle(tileRefs.get(String.valueOf(obstacles[y][x])));
-                        GridPoint2 pos = new GridPoint2(x, max.y - y);
-
-                        spawnEntityAt(obstacle, pos, true, false);
-                    }
-                }
-            }
-        }
+        spawnTiles(map.getTransObstacles());
     }
 
     protected void spawnLights() {
-        int[][] lights = map.getlightTiles();
-        HashMap<String, String> tileRefs = map.getTileRefs();
-        if (lights != null) {
-            GridPoint2 min = new GridPoint2(0, 0);
-            GridPoint2 max = new GridPoint2(map.getDimensions().get(TILES_WIDTH) - 1,
-                    map.getDimensions().get(TILES_HEIGHT) - 1);
-
-            for (int y = min.y; y <= max.y; y++) {
-                for (int x = min.y; x <= max.x; x++) {
-                    if (lights[y][x] != 0) {
-
-                        Entity obstacle = ObstacleFactory.createObstacle(tileRefs.get(String.valueOf(lights[y][x])));
-                        GridPoint2 pos = new GridPoint2(x, max.y - y);
+        spawnTiles(map.getlightTiles());
+    }
 
-                        spawnEntityAt(obstacle, pos, true, false);
-                    }
+    /**
+     * Spawn a grid of obstacle tiles from the map, either baked into one static layer or as an entity
+     * each, depending on {@link #bakeStaticTiles}.
+     *
+     * @param tiles tile references by row from the top of the map, 0 for no tile
+     */
+    private void spawnTiles(int[][] tiles) {
+        if (tiles == null) {
+            return;
+        }
+        HashMap<String, String> tileRefs = map.getTileRefs();
+        int maxX = map.getDimensions().get(TILES_WIDTH) - 1;
+        int maxY = map.getDimensions().get(TILES_HEIGHT) - 1;
+        StaticSpriteLayer layer = bakeStaticTiles ? new StaticSpriteLayer() : null;
+
+        for (int y = 0; y <= maxY; y++) {
+            for (int x = 0; x <= maxX; x++) {
+                if (tiles[y][x] == 0) {
+                    continue;
+                }
+                String tileRef = tileRefs.get(String.valueOf(tiles[y][x]));
+                GridPoint2 pos = new GridPoint2(x, maxY - y);
+                if (layer != null) {
+                    // Same size and position as an obstacle entity centered on the tile
+                    TextureRegion region = TileAtlas.getRegion(tileRef);
+                    float height = ObstacleFactory.OBSTACLE_HEIGHT;
+                    float width = height * region.getRegionWidth() / region.getRegionHeight();
+                    Vector2 worldPos = terrain.tileToWorldPosition(pos);
+                    worldPos.x += (terrain.getTileSize() - width) / 2;
+                    layer.add(region, worldPos.x, worldPos.y, width, height);
+                } else {
+                    spawnEntityAt(ObstacleFactory.createObstacle(tileRef), pos, true, false);
                 }
             }
         }
+
+        if (layer != null && layer.getSpriteCount() > 0) {
+            spawnEntity(new Entity().addComponent(layer));
+        }
     }
 
     protected void spawnLavaTraps() {
@@ -789,7 +827,7 @@ public abstract class GameArea implements Disposable {
         logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
         resourceService.loadTextures(textures);
-        resourceService.loadTextures(tileTextures);
+        TileAtlas.load(tileTextures);
         resourceService.loadTextureAtlases(textureAtlases);
         resourceService.loadSounds(sounds);
         resourceService.loadMusic(new String[]{music});
@@ -807,7 +845,7 @@ public abstract class GameArea implements Disposable {
         if (ServiceLocator.getResourceService() != null) {
             ResourceService resourceService = ServiceLocator.getResourceService();
             resourceService.unloadAssets(textures);
-            resourceService.unloadAssets(tileTextures);
+            TileAtlas.unload(tileTextures);
             resourceService.unloadAssets(textureAtlases);
             resourceService.unloadAssets(sounds);
             resourceService.unloadAssets(new String[]{music});
@@ -815,6 +853,10 @@ public abstract class GameArea implements Disposable {
     }
 
     public void dispose() {
+        if (pendingVisibility != null) {
+            pendingVisibility.cancel(false);
+            pendingVisibility = null;
+        }
         for (Entity entity : areaEntities) {
             entity.dispose();
         }
@@ -0,0 +1,334 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.deco2800.game.files.FileLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary form of a map JSON file, compiled at build time by the compileMaps task and memory
+ * mapped when a level loads, so loading doesn't have to parse megabytes of JSON.
+ *
+ * <p>After a fixed header with a CRC32 of the JSON file it was compiled from and the map's
+ * dimensions, a .lvl file holds:
+ * <ul>
+ *   <li>the tile references, as pairs of length prefixed UTF-8 strings</li>
+ *   <li>the tile layers ({@link Map#TILE_LAYERS}), run length encoded as (value, run) varint pairs
+ *   in row order</li>
+ *   <li>the object tables ({@link Map#OBJECT_TABLES}), as an x, y, width and height float for each
+ *   object</li>
+ * </ul>
+ * Layers and tables are stored by name, and missing ones are skipped. Counts and lengths are
+ * varints.
+ */
+public class BinaryMap {
+    private static final Logger logger = LoggerFactory.getLogger(BinaryMap.class);
+
+    public static final String EXTENSION = ".lvl";
+
+    private static final int MAGIC = 0x4C564C31; // "LVL1"
+    private static final int VERSION = 2;
+    private static final String[] DIMENSIONS = {"n_tiles_width", "n_tiles_height", "n_pixels_width", "n_pixels_height"};
+    private static final String[] OBJECT_FIELDS = {"x", "y", "width", "height"};
+
+    private BinaryMap() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * Load a map from its compiled .lvl file, falling back to the JSON file if there is no compiled
+     * map or it was compiled from a different version of the JSON.
+     *
+     * @param mapFile path of the map's JSON file, e.g. "maps/lvl_1.json"
+     * @return loaded map, may be null
+     */
+    public static Map load(String mapFile) {
+        return load(mapFile, Gdx.files.internal(getBinaryPath(mapFile)).file());
+    }
+
+    /**
+     * Load a map from a compiled .lvl file, falling back to the JSON file if the compiled map is
+     * missing or out of date.
+     *
+     * @param mapFile    path of the map's JSON file
+     * @param binaryFile compiled map
+     * @return loaded map, may be null
+     */
+    public static Map load(String mapFile, File binaryFile) {
+        if (binaryFile.exists()) {
+            long start = System.nanoTime();
+            try {
+                ByteBuffer buffer = map(binaryFile);
+                File jsonFile = Gdx.files.internal(mapFile).file();
+                if (!jsonFile.exists() || getSourceChecksum(buffer) == getChecksum(jsonFile)) {
+                    Map map = read(buffer);
+                    logger.debug("Loaded map {} in {}ms", binaryFile, (System.nanoTime() - start) / 1_000_000f);
+                    return map;
+                }
+                logger.warn("Compiled map {} is out of date, run the compileMaps task", binaryFile);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to read compiled map {}: {}", binaryFile, e.getMessage());
+            }
+        }
+        return FileLoader.readClass(Map.class, mapFile);
+    }
+
+    /**
+     * @param mapFile path of a map's JSON file
+     * @return path of the map's compiled .lvl file
+     */
+    public static String getBinaryPath(String mapFile) {
+        return mapFile.replaceFirst("\\.json$", "") + EXTENSION;
+    }
+
+    /**
+     * Compile a map JSON file into a .lvl file.
+     *
+     * @param jsonFile   map JSON file
+     * @param binaryFile file to write the compiled map to
+     * @throws IOException if the compiled map can't be written
+     */
+    public static void compile(File jsonFile, File binaryFile) throws IOException {
+        Map map = new Json().fromJson(Map.class, new FileHandle(jsonFile));
+        try (OutputStream output = new FileOutputStream(binaryFile)) {
+            output.write(encode(map, getChecksum(jsonFile)));
+        }
+    }
+
+    /**
+     * Read a compiled map.
+     *
+     * @param buffer compiled map, read from the start
+     * @return decoded map
+     */
+    static Map read(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a version " + VERSION + " compiled map");
+        }
+        buffer.position(16);
+        Map map = new Map();
+
+        HashMap<String, Integer> dimensions = new HashMap<>();
+        for (String dimension : DIMENSIONS) {
+            dimensions.put(dimension, buffer.getInt());
+        }
+        map.setDimensions(dimensions);
+
+        int tileRefCount = readVarint(buffer);
+        HashMap<String, String> tileRefs = new HashMap<>(tileRefCount * 2);
+        for (int i = 0; i < tileRefCount; i++) {
+            tileRefs.put(readString(buffer), readString(buffer));
+        }
+        map.setTileRefs(tileRefs);
+
+        int layerCount = readVarint(buffer);
+        for (int i = 0; i < layerCount; i++) {
+            map.setTileLayer(readString(buffer), readTiles(buffer));
+        }
+
+        int tableCount = readVarint(buffer);
+        for (int i = 0; i < tableCount; i++) {
+            map.setObjects(readString(buffer), readObjects(buffer));
+        }
+        return map;
+    }
+
+    /**
+     * Encode a map in the compiled format.
+     *
+     * @param map            map to encode
+     * @param sourceChecksum CRC32 of the JSON file it was read from, to tell when it is out of date
+     * @return compiled map
+     */
+    static byte[] encode(Map map, long sourceChecksum) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(sourceChecksum);
+        for (String dimension : DIMENSIONS) {
+            output.writeInt(map.getDimensions().get(dimension));
+        }
+
+        HashMap<String, String> tileRefs = map.getTileRefs();
+        writeVarint(output, tileRefs.size());
+        for (java.util.Map.Entry<String, String> tileRef : tileRefs.entrySet()) {
+            writeString(output, tileRef.getKey());
+            writeString(output, tileRef.getValue());
+        }
+
+        String[] layers = Arrays.stream(Map.TILE_LAYERS)
+                .filter(layer -> map.getTileLayer(layer) != null).toArray(String[]::new);
+        writeVarint(output, layers.length);
+        for (String layer : layers) {
+            writeString(output, layer);
+            writeTiles(output, layer, map.getTileLayer(layer));
+        }
+
+        String[] tables = Arrays.stream(Map.OBJECT_TABLES)
+                .filter(table -> map.getObjects(table) != null).toArray(String[]::new);
+        writeVarint(output, tables.length);
+        for (String table : tables) {
+            writeString(output, table);
+            writeObjects(output, table, map.getObjects(table));
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static long getSourceChecksum(ByteBuffer buffer) {
+        return buffer.getLong(8);
+    }
+
+    /**
+     * @param file map JSON file
+     * @return CRC32 of the file's contents
+     */
+    static long getChecksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(map(file));
+        return crc.getValue();
+    }
+
+    private static void writeTiles(DataOutputStream output, String layer, int[][] tiles) throws IOException {
+        int columns = tiles.length == 0 ? 0 : tiles[0].length;
+        writeVarint(output, tiles.length);
+        writeVarint(output, columns);
+        int value = 0;
+        int run = 0;
+        for (int[] row : tiles) {
+            if (row.length != columns) {
+                throw new IllegalArgumentException("Rows of tile layer " + layer + " are different lengths");
+            }
+            for (int tile : row) {
+                if (run > 0 && tile != value) {
+                    writeVarint(output, zigZag(value));
+                    writeVarint(output, run);
+                    run = 0;
+                }
+                value = tile;
+                run++;
+            }
+        }
+        if (run > 0) {
+            writeVarint(output, zigZag(value));
+            writeVarint(output, run);
+        }
+    }
+
+    private static int[][] readTiles(ByteBuffer buffer) {
+        int rows = readVarint(buffer);
+        int columns = readVarint(buffer);
+        int[][] tiles = new int[rows][columns];
+        int row = 0;
+        int column = 0;
+        while (row < rows && columns > 0) {
+            int value = unZigZag(readVarint(buffer));
+            int run = readVarint(buffer);
+            while (run > 0) {
+                int end = Math.min(columns, column + run);
+                Arrays.fill(tiles[row], column, end, value);
+                run -= end - column;
+                column = end;
+                if (column == columns) {
+                    column = 0;
+                    row++;
+                }
+            }
+        }
+        return tiles;
+    }
+
+    private static void writeObjects(DataOutputStream output, String table, HashMap<String, Float>[] objects)
+            throws IOException {
+        writeVarint(output, objects.length);
+        for (HashMap<String, Float> object : objects) {
+            if (object.size() != OBJECT_FIELDS.length) {
+                throw new IllegalArgumentException(
+                        "Objects in " + table + " must have exactly " + Arrays.toString(OBJECT_FIELDS));
+            }
+            for (String field : OBJECT_FIELDS) {
+                Float value = object.get(field);
+                if (value == null) {
+                    throw new IllegalArgumentException("Object in " + table + " is missing " + field);
+                }
+                output.writeFloat(value);
+            }
+        }
+    }
+
+    private static HashMap<String, Float>[] readObjects(ByteBuffer buffer) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HashMap<String, Float>[] objects = new HashMap[readVarint(buffer)];
+        for (int i = 0; i < objects.length; i++) {
+            HashMap<String, Float> object = new HashMap<>(8);
+            for (String field : OBJECT_FIELDS) {
+                object.put(field, buffer.getFloat());
+            }
+            objects[i] = object;
+        }
+        return objects;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarint(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarint(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            FileChannel channel = input.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.function.IntFunction;
+
+/**
+ * Renders the tile layers of an orthogonal tiled map from {@link SpriteCache}s built once when the
+ * renderer is created. Each layer is split into square chunks of tiles, and only the chunks in view
+ * are drawn, so the cost of a frame depends on the size of the view rather than the map.
+ *
+ * <p>Tiles are drawn at their region's size from the bottom left corner of their cell. Tile flips
+ * and rotations, object layers and image layers aren't supported.
+ */
+public class ChunkedTiledMapRenderer implements TiledMapRenderer, Disposable {
+    /**
+     * Width and height of a chunk in tiles
+     */
+    public static final int DEFAULT_CHUNK_TILES = 16;
+    // The most sprites a SpriteCache with indices can hold
+    private static final int MAX_CACHE_SPRITES = 8191;
+    private static final int NO_CACHE = -1;
+
+    private final TiledMap map;
+    private final Array<TiledMapTileLayer> layers;
+    private final float unitScale;
+    private final int chunkTiles;
+    private final IntFunction<SpriteCache> cacheFactory;
+    private final Array<SpriteCache> caches = new Array<>(false, 4);
+    // Which cache each chunk of each layer is in, and its id in that cache
+    private final int[][] chunkCaches;
+    private final int[][] chunkIds;
+    private final int chunksX;
+    private final int chunksY;
+    private final float chunkWidth;
+    private final float chunkHeight;
+
+    private final Matrix4 projection = new Matrix4();
+    private final Rectangle view = new Rectangle();
+    private int chunksDrawn;
+
+    /**
+     * @param map       map to render
+     * @param unitScale world units per tile pixel
+     */
+    public ChunkedTiledMapRenderer(TiledMap map, float unitScale) {
+        this(map, unitScale, DEFAULT_CHUNK_TILES, size -> new SpriteCache(size, true));
+    }
+
+    /**
+     * @param map          map to render
+     * @param unitScale    world units per tile pixel
+     * @param chunkTiles   width and height of a chunk in tiles
+     * @param cacheFactory creates a sprite cache able to hold the given number of tiles
+     */
+    ChunkedTiledMapRenderer(
+            TiledMap map, float unitScale, int chunkTiles, IntFunction<SpriteCache> cacheFactory) {
+        if (chunkTiles <= 0 || chunkTiles * chunkTiles > MAX_CACHE_SPRITES) {
+            throw new IllegalArgumentException("Chunks must hold between 1 and " + MAX_CACHE_SPRITES
+                    + " tiles, got " + chunkTiles + " x " + chunkTiles);
+        }
+        this.map = map;
+        this.layers = map.getLayers().getByType(TiledMapTileLayer.class);
+        this.unitScale = unitScale;
+        this.chunkTiles = chunkTiles;
+        this.cacheFactory = cacheFactory;
+
+        int widthTiles = 0;
+        int heightTiles = 0;
+        float tileWidth = 0f;
+        float tileHeight = 0f;
+        for (TiledMapTileLayer layer : layers) {
+            widthTiles = Math.max(widthTiles, layer.getWidth());
+            heightTiles = Math.max(heightTiles, layer.getHeight());
+            tileWidth = Math.max(tileWidth, layer.getTileWidth() * unitScale);
+            tileHeight = Math.max(tileHeight, layer.getTileHeight() * unitScale);
+        }
+        this.chunksX = (widthTiles + chunkTiles - 1) / chunkTiles;
+        this.chunksY = (heightTiles + chunkTiles - 1) / chunkTiles;
+        this.chunkWidth = tileWidth * chunkTiles;
+        this.chunkHeight = tileHeight * chunkTiles;
+        this.chunkCaches = new int[layers.size][chunksX * chunksY];
+        this.chunkIds = new int[layers.size][chunksX * chunksY];
+        build();
+    }
+
+    /**
+     * @return number of chunks drawn by the last call to render
+     */
+    public int getChunksDrawn() {
+        return chunksDrawn;
+    }
+
+    /**
+     * @return number of chunks with at least one tile, across all layers
+     */
+    public int getChunkCount() {
+        int count = 0;
+        for (int[] layerCaches : chunkCaches) {
+            for (int cache : layerCaches) {
+                if (cache != NO_CACHE) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void setView(OrthographicCamera camera) {
+        projection.set(camera.combined);
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+
+    @Override
+    public void setView(Matrix4 projectionMatrix, float viewboundsX, float viewboundsY,
+                        float viewboundsWidth, float viewboundsHeight) {
+        projection.set(projectionMatrix);
+        view.set(viewboundsX, viewboundsY, viewboundsWidth, viewboundsHeight);
+    }
+
+    @Override
+    public void render() {
+        chunksDrawn = 0;
+        for (int i = 0; i < layers.size; i++) {
+            renderLayer(i);
+        }
+    }
+
+    @Override
+    public void render(int[] layerIndices) {
+        chunksDrawn = 0;
+        for (int index : layerIndices) {
+            MapLayer layer = map.getLayers().get(index);
+            if (layer instanceof TiledMapTileLayer) {
+                renderTileLayer((TiledMapTileLayer) layer);
+            }
+        }
+    }
+
+    @Override
+    public void renderTileLayer(TiledMapTileLayer layer) {
+        int index = layers.indexOf(layer, true);
+        if (index >= 0) {
+            renderLayer(index);
+        }
+    }
+
+    @Override
+    public void renderObjects(MapLayer layer) {
+        // Terrain has no objects
+    }
+
+    @Override
+    public void renderObject(MapObject object) {
+        // Terrain has no objects
+    }
+
+    @Override
+    public void renderImageLayer(TiledMapImageLayer layer) {
+        // Terrain has no image layers
+    }
+
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        caches.clear();
+    }
+
+    private void renderLayer(int layerIndex) {
+        TiledMapTileLayer layer = layers.get(layerIndex);
+        if (!layer.isVisible()) {
+            return;
+        }
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        float offsetY = -layer.getRenderOffsetY() * unitScale;
+        int minX = Math.max(0, (int) Math.floor((view.x - offsetX) / chunkWidth));
+        int minY = Math.max(0, (int) Math.floor((view.y - offsetY) / chunkHeight));
+        int maxX = Math.min(chunksX - 1, (int) Math.floor((view.x + view.width - offsetX) / chunkWidth));
+        int maxY = Math.min(chunksY - 1, (int) Math.floor((view.y + view.height - offsetY) / chunkHeight));
+
+        int[] layerCaches = chunkCaches[layerIndex];
+        int[] layerIds = chunkIds[layerIndex];
+        SpriteCache drawing = null;
+        for (int chunkY = minY; chunkY <= maxY; chunkY++) {
+            for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+                int chunk = chunkY * chunksX + chunkX;
+                if (layerCaches[chunk] == NO_CACHE) {
+                    continue;
+                }
+                SpriteCache cache = caches.get(layerCaches[chunk]);
+                if (cache != drawing) {
+                    if (drawing != null) {
+                        drawing.end();
+                    }
+                    cache.setProjectionMatrix(projection);
+                    cache.begin();
+                    drawing = cache;
+                }
+                cache.draw(layerIds[chunk]);
+                chunksDrawn++;
+            }
+        }
+        if (drawing != null) {
+            drawing.end();
+        }
+    }
+
+    private void build() {
+        // Work out how many tiles go in each cache first, since a cache's size is fixed
+        IntArray cacheSizes = new IntArray();
+        int cacheSize = 0;
+        for (int l = 0; l < layers.size; l++) {
+            for (int chunk = 0; chunk < chunksX * chunksY; chunk++) {
+                int tiles = countTiles(layers.get(l), chunk);
+                if (tiles == 0) {
+                    chunkCaches[l][chunk] = NO_CACHE;
+                    continue;
+                }
+                if (cacheSizes.isEmpty() || cacheSize + tiles > MAX_CACHE_SPRITES) {
+                    cacheSizes.add(0);
+                    cacheSize = 0;
+                }
+                cacheSize += tiles;
+                cacheSizes.set(cacheSizes.size - 1, cacheSize);
+                chunkCaches[l][chunk] = cacheSizes.size - 1;
+            }
+        }
+
+        for (int i = 0; i < cacheSizes.size; i++) {
+            caches.add(cacheFactory.apply(cacheSizes.get(i)));
+        }
+        for (int l = 0; l < layers.size; l++) {
+            TiledMapTileLayer layer = layers.get(l);
+            for (int chunk = 0; chunk < chunksX * chunksY; chunk++) {
+                if (chunkCaches[l][chunk] != NO_CACHE) {
+                    SpriteCache cache = caches.get(chunkCaches[l][chunk]);
+                    cache.setColor(1f, 1f, 1f, layer.getOpacity());
+                    cache.beginCache();
+                    addTiles(cache, layer, chunk);
+                    chunkIds[l][chunk] = cache.endCache();
+                }
+            }
+        }
+    }
+
+    private int countTiles(TiledMapTileLayer layer, int chunk) {
+        int count = 0;
+        int startX = (chunk % chunksX) * chunkTiles;
+        int startY = (chunk / chunksX) * chunkTiles;
+        for (int y = startY; y < startY + chunkTiles; y++) {
+            for (int x = startX; x < startX + chunkTiles; x++) {
+                Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void addTiles(SpriteCache cache, TiledMapTileLayer layer, int chunk) {
+        float tileWidth = layer.getTileWidth() * unitScale;
+        float tileHeight = layer.getTileHeight() * unitScale;
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        float offsetY = -layer.getRenderOffsetY() * unitScale;
+        int startX = (chunk % chunksX) * chunkTiles;
+        int startY = (chunk / chunksX) * chunkTiles;
+        for (int y = startY; y < startY + chunkTiles; y++) {
+            for (int x = startX; x < startX + chunkTiles; x++) {
+                Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null) {
+                    continue;
+                }
+                TextureRegion region = cell.getTile().getTextureRegion();
+                cache.add(region, x * tileWidth + offsetX, y * tileHeight + offsetY,
+                        region.getRegionWidth() * unitScale, region.getRegionHeight() * unitScale);
+            }
+        }
+    }
+}
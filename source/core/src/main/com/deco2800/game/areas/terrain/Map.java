@@ -3,7 +3,8 @@ package com.deco2800.game.areas.terrain;
 import java.util.HashMap;
 
 /**
- * A class that stores the information read in from a map JSON file
+ * A class that stores the information read in from a map JSON file, or from the binary map it is
+ * compiled into (see {@link BinaryMap})
  */
 @SuppressWarnings("unused")
 public class Map {
@@ -36,6 +37,37 @@ public class Map {
     private HashMap<String, Float>[] moveDownObjects;
     private HashMap<String, Float>[] cutsceneObjects;
 
+    /**
+     * Names of the tile layers, for looking them up with {@link #getTileLayer(String)}
+     */
+    static final String[] TILE_LAYERS = {"mapTilePlacement", "transObstacles", "lightTiles"};
+    /**
+     * Names of the object tables, for looking them up with {@link #getObjects(String)}
+     */
+    static final String[] OBJECT_TABLES = {
+            "wallObjects",
+            "spikeObjects",
+            "lavaObjects",
+            "teleportObjects",
+            "initTeleportObjects",
+            "bossBounds",
+            "healthCrateObjects",
+            "meleeObjects",
+            "rangeObjects",
+            "guardObjects",
+            "assassinObjects",
+            "bossObjects",
+            "anchoredObjects",
+            "asgardMeleeObjects",
+            "outdoorMeleeObjects",
+            "hellMeleeObjects",
+            "moveRightObjects",
+            "moveLeftObjects",
+            "moveUpObjects",
+            "moveDownObjects",
+            "cutsceneObjects"
+    };
+
     public HashMap<String, Float>[] getCutsceneObjects() {
         return cutsceneObjects;
     }
@@ -152,4 +184,168 @@ public class Map {
 
         return s;
     }
+
+    void setDimensions(HashMap<String, Integer> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    void setTileRefs(HashMap<String, String> tileRefs) {
+        this.tileRefs = tileRefs;
+    }
+
+    /**
+     * @param layer one of {@link #TILE_LAYERS}
+     * @return tile layer, indexed by row then column
+     */
+    int[][] getTileLayer(String layer) {
+        switch (layer) {
+            case "mapTilePlacement":
+                return mapTilePlacement;
+            case "transObstacles":
+                return transObstacles;
+            case "lightTiles":
+                return lightTiles;
+            default:
+                throw new IllegalArgumentException("Unknown tile layer " + layer);
+        }
+    }
+
+    void setTileLayer(String layer, int[][] tiles) {
+        switch (layer) {
+            case "mapTilePlacement":
+                mapTilePlacement = tiles;
+                break;
+            case "transObstacles":
+                transObstacles = tiles;
+                break;
+            case "lightTiles":
+                lightTiles = tiles;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tile layer " + layer);
+        }
+    }
+
+    /**
+     * @param table one of {@link #OBJECT_TABLES}
+     * @return objects in the table, each with an x, y, width and height
+     */
+    HashMap<String, Float>[] getObjects(String table) {
+        switch (table) {
+            case "wallObjects":
+                return wallObjects;
+            case "spikeObjects":
+                return spikeObjects;
+            case "lavaObjects":
+                return lavaObjects;
+            case "teleportObjects":
+                return teleportObjects;
+            case "initTeleportObjects":
+                return initTeleportObjects;
+            case "bossBounds":
+                return bossBounds;
+            case "healthCrateObjects":
+                return healthCrateObjects;
+            case "meleeObjects":
+                return meleeObjects;
+            case "rangeObjects":
+                return rangeObjects;
+            case "guardObjects":
+                return guardObjects;
+            case "assassinObjects":
+                return assassinObjects;
+            case "bossObjects":
+                return bossObjects;
+            case "anchoredObjects":
+                return anchoredObjects;
+            case "asgardMeleeObjects":
+                return asgardMeleeObjects;
+            case "outdoorMeleeObjects":
+                return outdoorMeleeObjects;
+            case "hellMeleeObjects":
+                return hellMeleeObjects;
+            case "moveRightObjects":
+                return moveRightObjects;
+            case "moveLeftObjects":
+                return moveLeftObjects;
+            case "moveUpObjects":
+                return moveUpObjects;
+            case "moveDownObjects":
+                return moveDownObjects;
+            case "cutsceneObjects":
+                return cutsceneObjects;
+            default:
+                throw new IllegalArgumentException("Unknown object table " + table);
+        }
+    }
+
+    void setObjects(String table, HashMap<String, Float>[] objects) {
+        switch (table) {
+            case "wallObjects":
+                wallObjects = objects;
+                break;
+            case "spikeObjects":
+                spikeObjects = objects;
+                break;
+            case "lavaObjects":
+                lavaObjects = objects;
+                break;
+            case "teleportObjects":
+                teleportObjects = objects;
+                break;
+            case "initTeleportObjects":
+                initTeleportObjects = objects;
+                break;
+            case "bossBounds":
+                bossBounds = objects;
+                break;
+            case "healthCrateObjects":
+                healthCrateObjects = objects;
+                break;
+            case "meleeObjects":
+                meleeObjects = objects;
+                break;
+            case "rangeObjects":
+                rangeObjects = objects;
+                break;
+            case "guardObjects":
+                guardObjects = objects;
+                break;
+            case "assassinObjects":
+                assassinObjects = objects;
+                break;
+            case "bossObjects":
+                bossObjects = objects;
+                break;
+            case "anchoredObjects":
+                anchoredObjects = objects;
+                break;
+            case "asgardMeleeObjects":
+                asgardMeleeObjects = objects;
+                break;
+            case "outdoorMeleeObjects":
+                outdoorMeleeObjects = objects;
+                break;
+            case "hellMeleeObjects":
+                hellMeleeObjects = objects;
+                break;
+            case "moveRightObjects":
+                moveRightObjects = objects;
+                break;
+            case "moveLeftObjects":
+                moveLeftObjects = objects;
+                break;
+            case "moveUpObjects":
+                moveUpObjects = objects;
+                break;
+            case "moveDownObjects":
+                moveDownObjects = objects;
+                break;
+            case "cutsceneObjects":
+                cutsceneObjects = objects;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown object table " + table);
+        }
+    }
 }
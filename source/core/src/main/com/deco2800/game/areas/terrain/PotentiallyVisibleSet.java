@@ -0,0 +1,519 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.deco2800.game.concurrency.JobSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+/**
+ * Precomputed potentially visible set (PVS) for a map's walls. The map is split into cells of
+ * {@link #CELL_TILES} x {@link #CELL_TILES} tiles, and each cell stores one bit for every cell within
+ * {@link #RANGE_CELLS} of it: 0 if no line between the two cells can get past the walls, 1 if one
+ * might. Line of sight checks can then rule out most hidden targets with one bit lookup, and only
+ * raycast when the target is potentially visible.
+ *
+ * <p>The set is compiled at build time by the compileMaps task into a .pvs file next to the map,
+ * which is memory mapped when the level loads. If there is no up to date .pvs file, it is computed
+ * in the background instead, so the level doesn't freeze while it is built.
+ */
+public class PotentiallyVisibleSet {
+    private static final Logger logger = LoggerFactory.getLogger(PotentiallyVisibleSet.class);
+
+    public static final String EXTENSION = ".pvs";
+    /**
+     * Width and height of a visibility cell, in tiles.
+     */
+    public static final int CELL_TILES = 4;
+    /**
+     * How many cells away visibility is stored for. Targets further away are not covered.
+     */
+    public static final int RANGE_CELLS = 12;
+
+    private static final int MAGIC = 0x50565331; // "PVS1"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+    private static final float TILE_PIXELS = 32f;
+    private static final int WINDOW = RANGE_CELLS * 2 + 1;
+    private static final int BYTES_PER_CELL = (WINDOW * WINDOW + 7) / 8;
+
+    private final int cellsX;
+    private final int cellsY;
+    private final float tileSize;
+    private final ByteBuffer buffer;
+
+    private PotentiallyVisibleSet(int widthTiles, int heightTiles, float tileSize, ByteBuffer buffer) {
+        this.cellsX = toCells(widthTiles);
+        this.cellsY = toCells(heightTiles);
+        this.tileSize = tileSize;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Load the compiled visibility set for a map.
+     *
+     * @param mapFile  path of the map's JSON file, e.g. "maps/lvl_1.json"
+     * @param map      loaded map
+     * @param tileSize size of a tile in world units
+     * @return visibility set, or null if it hasn't been compiled or is out of date
+     */
+    public static PotentiallyVisibleSet load(String mapFile, Map map, float tileSize) {
+        int width = getWidth(map);
+        int height = getHeight(map);
+        File file = Gdx.files.internal(getPath(mapFile)).file();
+        return load(file, getBlockedTiles(map, width, height), width, height, tileSize);
+    }
+
+    /**
+     * Compute the visibility set for a map on a background job.
+     *
+     * @param map      loaded map
+     * @param tileSize size of a tile in world units
+     * @return future of the visibility set
+     */
+    public static CompletableFuture<PotentiallyVisibleSet> computeAsync(Map map, float tileSize) {
+        int width = getWidth(map);
+        int height = getHeight(map);
+        boolean[] blocked = getBlockedTiles(map, width, height);
+        return JobSystem.launch(() -> compute(blocked, width, height, tileSize));
+    }
+
+    /**
+     * Compile the visibility set for a map JSON file into a .pvs file.
+     *
+     * @param jsonFile map JSON file
+     * @param pvsFile  file to write the visibility set to
+     * @throws IOException if the file can't be written
+     */
+    public static void compile(File jsonFile, File pvsFile) throws IOException {
+        Map map = new Json().fromJson(Map.class, new FileHandle(jsonFile));
+        int width = getWidth(map);
+        int height = getHeight(map);
+        write(compute(getBlockedTiles(map, width, height), width, height, 1f), pvsFile);
+    }
+
+    /**
+     * @param mapFile path of a map's JSON file
+     * @return path of the map's compiled .pvs file
+     */
+    public static String getPath(String mapFile) {
+        return mapFile.replaceFirst("\\.json$", "") + EXTENSION;
+    }
+
+    /**
+     * Load a visibility set for a grid of blocked tiles from a file.
+     *
+     * @param file        compiled visibility set
+     * @param blocked     whether each tile is a wall, indexed by y * width + x
+     * @param widthTiles  map width in tiles
+     * @param heightTiles map height in tiles
+     * @param tileSize    size of a tile in world units
+     * @return visibility set, or null if the file is missing or was computed for different walls
+     */
+    static PotentiallyVisibleSet load(
+            File file, boolean[] blocked, int widthTiles, int heightTiles, float tileSize) {
+        if (!file.exists()) {
+            logger.info("No visibility set at {}, run the compileMaps task", file);
+            return null;
+        }
+        try {
+            ByteBuffer mapped = map(file);
+            if (isValid(mapped, widthTiles, heightTiles, getChecksum(blocked, widthTiles, heightTiles))) {
+                logger.debug("Loaded visibility set from {}", file);
+                return new PotentiallyVisibleSet(widthTiles, heightTiles, tileSize, mapped);
+            }
+            logger.warn("Visibility set {} is out of date, run the compileMaps task", file);
+        } catch (IOException e) {
+            logger.warn("Failed to read visibility set {}: {}", file, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Compute the visibility set for a grid of blocked tiles.
+     *
+     * @param blocked     whether each tile is a wall, indexed by y * width + x
+     * @param widthTiles  map width in tiles
+     * @param heightTiles map height in tiles
+     * @param tileSize    size of a tile in world units
+     * @return visibility set
+     */
+    static PotentiallyVisibleSet compute(boolean[] blocked, int widthTiles, int heightTiles, float tileSize) {
+        long start = System.currentTimeMillis();
+        ByteBuffer computed = computeBits(blocked, widthTiles, heightTiles,
+                getChecksum(blocked, widthTiles, heightTiles));
+        logger.info("Computed visibility set for {}x{} map in {}ms",
+                widthTiles, heightTiles, System.currentTimeMillis() - start);
+        return new PotentiallyVisibleSet(widthTiles, heightTiles, tileSize, computed);
+    }
+
+    /**
+     * Write a visibility set to a file, to be loaded with {@link #load(String, Map, float)}.
+     *
+     * @param visibility visibility set
+     * @param file       file to write to
+     * @throws IOException if the file can't be written
+     */
+    static void write(PotentiallyVisibleSet visibility, File file) throws IOException {
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+            output.setLength(0);
+            ByteBuffer bytes = visibility.buffer.duplicate();
+            bytes.rewind();
+            while (bytes.hasRemaining()) {
+                output.getChannel().write(bytes);
+            }
+        }
+    }
+
+    /**
+     * @param from world position
+     * @param to   world position
+     * @return true if both positions are on the map and close enough to each other to be looked up
+     */
+    public boolean covers(Vector2 from, Vector2 to) {
+        int fromX = toCell(from.x);
+        int fromY = toCell(from.y);
+        int toX = toCell(to.x);
+        int toY = toCell(to.y);
+        return isOnMap(fromX, fromY) && isOnMap(toX, toY)
+                && Math.abs(toX - fromX) <= RANGE_CELLS && Math.abs(toY - fromY) <= RANGE_CELLS;
+    }
+
+    /**
+     * Look up whether a position could be visible from another. Only valid if
+     * {@link #covers(Vector2, Vector2)} is true.
+     *
+     * @param from world position
+     * @param to   world position
+     * @return false if walls definitely block the view, true if they might not
+     */
+    public boolean isPotentiallyVisible(Vector2 from, Vector2 to) {
+        int fromX = toCell(from.x);
+        int fromY = toCell(from.y);
+        return getBit(fromY * cellsX + fromX, toCell(to.x) - fromX, toCell(to.y) - fromY);
+    }
+
+    private int toCell(float worldPosition) {
+        return (int) Math.floor(worldPosition / tileSize / CELL_TILES);
+    }
+
+    private boolean isOnMap(int cellX, int cellY) {
+        return cellX >= 0 && cellY >= 0 && cellX < cellsX && cellY < cellsY;
+    }
+
+    private boolean getBit(int cell, int dx, int dy) {
+        int bit = (dy + RANGE_CELLS) * WINDOW + dx + RANGE_CELLS;
+        return (buffer.get(HEADER_BYTES + cell * BYTES_PER_CELL + (bit >> 3)) & (1 << (bit & 7))) != 0;
+    }
+
+    private static int getWidth(Map map) {
+        return map.getDimensions().get("n_tiles_width");
+    }
+
+    private static int getHeight(Map map) {
+        return map.getDimensions().get("n_tiles_height");
+    }
+
+    private static int toCells(int tiles) {
+        return (tiles + CELL_TILES - 1) / CELL_TILES;
+    }
+
+    /**
+     * Mark the tiles covered by the map's walls, in world tile coordinates (y up).
+     */
+    static boolean[] getBlockedTiles(Map map, int width, int height) {
+        boolean[] blocked = new boolean[width * height];
+        HashMap<String, Float>[] walls = map.getWallObjects();
+        if (walls == null) {
+            return blocked;
+        }
+        for (HashMap<String, Float> wall : walls) {
+            int x = wall.get("x").intValue();
+            int y = wall.get("y").intValue();
+            int unitWidth = (int) (wall.get("width") / TILE_PIXELS);
+            int unitHeight = (int) (wall.get("height") / TILE_PIXELS);
+            int bottom = height - (y + unitHeight);
+            for (int tileY = Math.max(bottom, 0); tileY < Math.min(bottom + unitHeight, height); tileY++) {
+                for (int tileX = Math.max(x, 0); tileX < Math.min(x + unitWidth, width); tileX++) {
+                    blocked[tileY * width + tileX] = true;
+                }
+            }
+        }
+        return blocked;
+    }
+
+    private static long getChecksum(boolean[] blocked, int width, int height) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(16).putInt(width).putInt(height).putInt(CELL_TILES).putInt(RANGE_CELLS).array());
+        for (boolean tile : blocked) {
+            crc.update(tile ? 1 : 0);
+        }
+        return crc.getValue();
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            FileChannel channel = input.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int width, int height, long checksum) {
+        int expectedSize = HEADER_BYTES + toCells(width) * toCells(height) * BYTES_PER_CELL;
+        return buffer.capacity() == expectedSize
+                && buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == VERSION
+                && buffer.getInt(8) == width
+                && buffer.getInt(12) == height
+                && buffer.getInt(16) == CELL_TILES
+                && buffer.getInt(20) == RANGE_CELLS
+                && buffer.getLong(24) == checksum;
+    }
+
+    /**
+     * Compute the visibility bits for every pair of cells in range. Two cells can see each other if
+     * an unblocked line exists between the centres of any of their corner or middle tiles. Otherwise
+     * they are only marked hidden if no line between any points in them can get past the walls.
+     */
+    private static ByteBuffer computeBits(boolean[] blocked, int width, int height, long checksum) {
+        int cellsX = toCells(width);
+        int cellsY = toCells(height);
+        CellSamples[] samples = new CellSamples[cellsX * cellsY];
+        for (int cellY = 0; cellY < cellsY; cellY++) {
+            for (int cellX = 0; cellX < cellsX; cellX++) {
+                samples[cellY * cellsX + cellX] = new CellSamples(blocked, width, height, cellX, cellY);
+            }
+        }
+
+        HullFill fill = new HullFill(blocked, width, height);
+        byte[] bits = new byte[cellsX * cellsY * BYTES_PER_CELL];
+        for (int cellY = 0; cellY < cellsY; cellY++) {
+            for (int cellX = 0; cellX < cellsX; cellX++) {
+                int cell = cellY * cellsX + cellX;
+                if (samples[cell].isSolid()) {
+                    continue;
+                }
+                setBit(bits, cell, 0, 0);
+                // Visibility is symmetric, so only check half the window and set both directions
+                for (int dy = 0; dy <= RANGE_CELLS && cellY + dy < cellsY; dy++) {
+                    int minDx = dy == 0 ? 1 : -RANGE_CELLS;
+                    for (int dx = minDx; dx <= RANGE_CELLS; dx++) {
+                        int otherX = cellX + dx;
+                        if (otherX < 0 || otherX >= cellsX) {
+                            continue;
+                        }
+                        int other = (cellY + dy) * cellsX + otherX;
+                        if (samples[cell].canSee(samples[other], blocked, width)
+                                || (!samples[other].isSolid() && fill.isConnected(cellX, cellY, otherX, cellY + dy))) {
+                            setBit(bits, cell, dx, dy);
+                            setBit(bits, other, -dx, -dy);
+                        }
+                    }
+                }
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bits.length);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(height)
+                .putInt(CELL_TILES).putInt(RANGE_CELLS).putLong(checksum).put(bits);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void setBit(byte[] bits, int cell, int dx, int dy) {
+        int bit = (dy + RANGE_CELLS) * WINDOW + dx + RANGE_CELLS;
+        bits[cell * BYTES_PER_CELL + (bit >> 3)] |= (byte) (1 << (bit & 7));
+    }
+
+    /**
+     * Walk the tiles a line passes through, in tile units, and check none of them are blocked.
+     */
+    static boolean isLineClear(boolean[] blocked, int width, float x0, float y0, float x1, float y1) {
+        int tileX = (int) x0;
+        int tileY = (int) y0;
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        int stepX = Float.compare(dx, 0f);
+        int stepY = Float.compare(dy, 0f);
+        float deltaX = stepX == 0 ? Float.MAX_VALUE : Math.abs(1f / dx);
+        float deltaY = stepY == 0 ? Float.MAX_VALUE : Math.abs(1f / dy);
+        float maxX = stepX == 0 ? Float.MAX_VALUE : (stepX > 0 ? tileX + 1 - x0 : x0 - tileX) * deltaX;
+        float maxY = stepY == 0 ? Float.MAX_VALUE : (stepY > 0 ? tileY + 1 - y0 : y0 - tileY) * deltaY;
+        int steps = Math.abs((int) x1 - tileX) + Math.abs((int) y1 - tileY);
+
+        for (int i = 0; ; i++) {
+            if (blocked[tileY * width + tileX]) {
+                return false;
+            }
+            if (i == steps) {
+                return true;
+            }
+            if (maxX < maxY) {
+                maxX += deltaX;
+                tileX += stepX;
+            } else {
+                maxY += deltaY;
+                tileY += stepY;
+            }
+        }
+    }
+
+    /**
+     * The unblocked corner and middle tile centres of a cell, used as line end points.
+     */
+    private static class CellSamples {
+        private final float[] xs = new float[5];
+        private final float[] ys = new float[5];
+        private int count = 0;
+        private boolean solid = true;
+
+        CellSamples(boolean[] blocked, int width, int height, int cellX, int cellY) {
+            int minX = cellX * CELL_TILES;
+            int minY = cellY * CELL_TILES;
+            int maxX = Math.min(minX + CELL_TILES, width) - 1;
+            int maxY = Math.min(minY + CELL_TILES, height) - 1;
+            for (int y = minY; y <= maxY; y++) {
+                for (int x = minX; x <= maxX; x++) {
+                    solid &= blocked[y * width + x];
+                }
+            }
+            addSample(blocked, width, minX, minY);
+            addSample(blocked, width, maxX, minY);
+            addSample(blocked, width, minX, maxY);
+            addSample(blocked, width, maxX, maxY);
+            addSample(blocked, width, (minX + maxX) / 2, (minY + maxY) / 2);
+        }
+
+        private void addSample(boolean[] blocked, int width, int x, int y) {
+            if (!blocked[y * width + x]) {
+                xs[count] = x + 0.5f;
+                ys[count] = y + 0.5f;
+                count++;
+            }
+        }
+
+        boolean isSolid() {
+            return solid;
+        }
+
+        boolean canSee(CellSamples other, boolean[] blocked, int width) {
+            if (solid || other.solid) {
+                return false;
+            }
+            if (count == 0 || other.count == 0) {
+                // Open tiles but no open sample points, so can't rule anything out
+                return true;
+            }
+            for (int i = 0; i < count; i++) {
+                for (int j = 0; j < other.count; j++) {
+                    if (isLineClear(blocked, width, xs[i], ys[i], other.xs[j], other.ys[j])) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Flood fills open tiles to prove that no line between two cells gets past the walls, since the
+     * sample points can miss a gap that lines from elsewhere in the cells get through. Any line
+     * between the cells stays inside their convex hull, so if the open tiles touching the hull don't
+     * connect the cells, no line can.
+     */
+    private static class HullFill {
+        private final boolean[] blocked;
+        private final int width;
+        private final int height;
+        private final int[] visited;
+        private final int[] queue;
+        private final float[] range = new float[2];
+        private int stamp = 0;
+
+        HullFill(boolean[] blocked, int width, int height) {
+            this.blocked = blocked;
+            this.width = width;
+            this.height = height;
+            visited = new int[width * height];
+            queue = new int[width * height];
+        }
+
+        /**
+         * @return true if open tiles inside the two cells' convex hull connect them
+         */
+        boolean isConnected(int cellX, int cellY, int otherX, int otherY) {
+            stamp++;
+            int fromX = cellX * CELL_TILES;
+            int fromY = cellY * CELL_TILES;
+            int toX = otherX * CELL_TILES;
+            int toY = otherY * CELL_TILES;
+            int minX = Math.min(fromX, toX);
+            int minY = Math.min(fromY, toY);
+            int maxX = Math.min(Math.max(fromX, toX) + CELL_TILES, width) - 1;
+            int maxY = Math.min(Math.max(fromY, toY) + CELL_TILES, height) - 1;
+
+            int tail = 0;
+            for (int y = fromY; y < Math.min(fromY + CELL_TILES, height); y++) {
+                for (int x = fromX; x < Math.min(fromX + CELL_TILES, width); x++) {
+                    int tile = y * width + x;
+                    if (!blocked[tile]) {
+                        visited[tile] = stamp;
+                        queue[tail++] = tile;
+                    }
+                }
+            }
+
+            for (int head = 0; head < tail; head++) {
+                int x = queue[head] % width;
+                int y = queue[head] / width;
+                if (x >= toX && x < toX + CELL_TILES && y >= toY && y < toY + CELL_TILES) {
+                    return true;
+                }
+                // Diagonal steps too, since a line can pass between walls that only touch at a corner
+                for (int ny = Math.max(y - 1, minY); ny <= Math.min(y + 1, maxY); ny++) {
+                    for (int nx = Math.max(x - 1, minX); nx <= Math.min(x + 1, maxX); nx++) {
+                        int tile = ny * width + nx;
+                        if (visited[tile] != stamp && !blocked[tile] && touchesHull(nx, ny, fromX, fromY, toX, toY)) {
+                            visited[tile] = stamp;
+                            queue[tail++] = tile;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * A tile touches the hull of two cells if the line between the cells' corners passes
+         * through the tile grown by a cell's size.
+         */
+        private boolean touchesHull(int tileX, int tileY, int fromX, int fromY, int toX, int toY) {
+            range[0] = 0f;
+            range[1] = 1f;
+            return clipSlab(range, fromX, toX - fromX, tileX - CELL_TILES, tileX + 1f)
+                    && clipSlab(range, fromY, toY - fromY, tileY - CELL_TILES, tileY + 1f);
+        }
+
+        private static boolean clipSlab(float[] range, float start, float delta, float min, float max) {
+            if (delta == 0f) {
+                return start >= min && start <= max;
+            }
+            float enter = (min - start) / delta;
+            float exit = (max - start) / delta;
+            range[0] = Math.max(range[0], Math.min(enter, exit));
+            range[1] = Math.min(range[1], Math.max(enter, exit));
+            return range[0] <= range[1];
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.rendering.RenderComponent;
 
 /**
@@ -65,13 +67,19 @@ public class TerrainComponent extends RenderComponent {
 
     @Override
     public void draw(SpriteBatch batch) {
+        // The map renderer draws with its own shader, so the batch is restarted to rebind its own
+        batch.end();
         tiledMapRenderer.setView(camera);
         tiledMapRenderer.render();
+        batch.begin();
     }
 
     @Override
     public void dispose() {
         tiledMap.dispose();
+        if (tiledMapRenderer instanceof Disposable) {
+            ((Disposable) tiledMapRenderer).dispose();
+        }
         super.dispose();
     }
 
@@ -80,6 +88,15 @@ public class TerrainComponent extends RenderComponent {
         return 0f;
     }
 
+    /**
+     * The tiled map renderer only draws the tiles in the camera's view itself (see
+     * {@link ChunkedTiledMapRenderer}), so the terrain is never culled.
+     */
+    @Override
+    public boolean getBounds(Rectangle bounds) {
+        return false;
+    }
+
     @Override
     public int getLayer() {
         return TERRAIN_LAYER;
@@ -1,7 +1,6 @@
 package com.deco2800.game.areas.terrain;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
@@ -9,12 +8,9 @@ import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
 import com.badlogic.gdx.maps.tiled.renderers.HexagonalTiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.renderers.IsometricTiledMapRenderer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.GridPoint2;
 import com.deco2800.game.areas.terrain.TerrainComponent.TerrainOrientation;
 import com.deco2800.game.components.CameraComponent;
-import com.deco2800.game.services.ResourceService;
-import com.deco2800.game.services.ServiceLocator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -57,12 +53,11 @@ public class TerrainFactory {
      * @return TerrainComponent
      */
     public TerrainComponent createTerrain(Map map) {
-        ResourceService resourceService = ServiceLocator.getResourceService();
         String[] tileRefs = map.tileRefsArray();
         ArrayList<TextureRegion> textures = new ArrayList<>();
 
         for (String s : tileRefs) {
-            textures.add(new TextureRegion(resourceService.getAsset(s, Texture.class)));
+            textures.add(TileAtlas.getRegion(s));
         }
 
         return createWorldTerrain(textures, map.getMapTiles(), map.getDimensions());
@@ -72,7 +67,7 @@ public class TerrainFactory {
     private TiledMapRenderer createRenderer(TiledMap tiledMap, float tileScale) {
         switch (orientation) {
             case ORTHOGONAL:
-                return new OrthogonalTiledMapRenderer(tiledMap, tileScale);
+                return new ChunkedTiledMapRenderer(tiledMap, tileScale);
             case ISOMETRIC:
                 return new IsometricTiledMapRenderer(tiledMap, tileScale);
             case HEXAGONAL:
@@ -122,12 +117,15 @@ public class TerrainFactory {
         GridPoint2 min = new GridPoint2(0, 0);
         GridPoint2 max = new GridPoint2(mapSize.x - 1, mapSize.y - 1);
 
+        // Cells are never changed after the map is made, so every tile of the same type shares one
+        Cell[] cells = new Cell[tiles.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Cell().setTile(tiles.get(i));
+        }
+
         for (int y = min.y; y <= max.y; y++) {
             for (@SuppressWarnings("SuspiciousNameCombination") int x = min.y; x <= max.x; x++) {
-                Cell cell = new Cell();
-
-                cell.setTile(tiles.get(map[y][x] - 1));
-                layer.setCell(x, max.y - y, cell);
+                layer.setCell(x, max.y - y, cells[map[y][x] - 1]);
             }
         }
     }
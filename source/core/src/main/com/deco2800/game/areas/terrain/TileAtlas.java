@@ -0,0 +1,110 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds the images for map tiles. Tiles are packed into a single atlas at build time by the desktop
+ * project's packTextures task, so the whole map is drawn from one texture. When the atlas hasn't been
+ * built, e.g. in tests, each tile is loaded as its own texture instead.
+ *
+ * <p>The enemy health bar images (see {@link com.deco2800.game.components.HealthBarComponent}) are
+ * packed in too, so every health bar is drawn from the same texture. They're always loaded as
+ * textures by the game area as well, for when the atlas isn't there.
+ */
+public class TileAtlas {
+    private static final Logger logger = LoggerFactory.getLogger(TileAtlas.class);
+
+    /**
+     * Internal path of the packed tile atlas
+     */
+    public static final String ATLAS_PATH = "atlases/tiles.atlas";
+
+    private TileAtlas() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    /**
+     * @return true if the packed tile atlas has been built
+     */
+    public static boolean isPacked() {
+        return Gdx.files.internal(ATLAS_PATH).exists();
+    }
+
+    /**
+     * Queue the tile images to be loaded, from the atlas if it has been built.
+     *
+     * @param tileRefs paths of the tile images
+     */
+    public static void load(String[] tileRefs) {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (isPacked()) {
+            resourceService.loadTextureAtlases(new String[]{ATLAS_PATH});
+        } else {
+            resourceService.loadTextures(tileRefs);
+        }
+    }
+
+    /**
+     * Unload the tile images loaded by {@link #load(String[])}.
+     *
+     * @param tileRefs paths of the tile images
+     */
+    public static void unload(String[] tileRefs) {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (resourceService.containsAsset(ATLAS_PATH, TextureAtlas.class)) {
+            resourceService.unloadAssets(new String[]{ATLAS_PATH});
+            // Tiles missing from the atlas were loaded as textures when first used
+            for (String tileRef : tileRefs) {
+                if (resourceService.containsAsset(tileRef, Texture.class)) {
+                    resourceService.unloadAssets(new String[]{tileRef});
+                }
+            }
+        } else {
+            resourceService.unloadAssets(tileRefs);
+        }
+    }
+
+    /**
+     * Get the image for a tile. Tiles must have been loaded with {@link #load(String[])}.
+     *
+     * @param tileRef path of the tile image, e.g. Assets/gametile-1.png
+     * @return region of the tile atlas, or of the tile's own texture if the atlas isn't loaded or
+     * is missing the tile, in which case the texture is loaded now
+     */
+    public static TextureRegion getRegion(String tileRef) {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        if (resourceService.containsAsset(ATLAS_PATH, TextureAtlas.class)) {
+            TextureAtlas atlas = resourceService.getAsset(ATLAS_PATH, TextureAtlas.class);
+            TextureRegion region = atlas.findRegion(getRegionName(tileRef));
+            if (region != null) {
+                return region;
+            }
+            logger.error("Tile {} is missing from {}, run the packTextures task", tileRef, ATLAS_PATH);
+            if (!resourceService.containsAsset(tileRef, Texture.class)) {
+                resourceService.loadTextures(new String[]{tileRef});
+                resourceService.loadAll();
+            }
+        }
+        return new TextureRegion(resourceService.getAsset(tileRef, Texture.class));
+    }
+
+    /**
+     * Regions are named after the image's file name, without the directory or extension. The
+     * packTextures task packs each image under this name.
+     *
+     * @param tileRef path of the tile image
+     * @return name of the tile's region in the atlas
+     */
+    public static String getRegionName(String tileRef) {
+        int start = tileRef.lastIndexOf('/') + 1;
+        int end = tileRef.lastIndexOf('.');
+        return end > start ? tileRef.substring(start, end) : tileRef.substring(start);
+    }
+}
@@ -38,8 +38,8 @@ public class CameraComponent extends Component {
         if (player == null) {
             camera.position.set(4.75f, 4.75f, 0f);
         } else {
-            position = player.getPosition();
-            if (!player.getPosition().epsilonEquals(averagePositions())) {
+            position = player.getRenderPosition();
+            if (!position.epsilonEquals(averagePositions())) {
                 camera.position.set(averagePositions().x, averagePositions().y, 0f);
                 lastPosition = position;
             }
@@ -23,7 +23,7 @@ public class Component {
     }
 
     /**
-     * Early update called once per frame of the game, before update(). Use this only for logic that
+     * Early update called once per simulation tick, before update(). Use this only for logic that
      * must run before other updates, such as physics. Not called if component is disabled.
      */
     public void earlyUpdate() {
@@ -31,13 +31,32 @@ public class Component {
     }
 
     /**
-     * Called once per frame of the game, and should be used for most component logic. Not called if
-     * component is disabled.
+     * Called once per simulation tick, and should be used for most component logic. Ticks run at a
+     * fixed rate, independent of how fast frames are drawn. Not called if component is disabled.
      */
     public void update() {
         // No action by default.
     }
 
+    /**
+     * Called once per drawn frame, after the frame's simulation ticks. Use this only for
+     * presentation, such as smoothing movement between ticks. Game state should only change in
+     * update(). Not called if component is disabled.
+     */
+    public void frameUpdate() {
+        // No action by default.
+    }
+
+    /**
+     * Whether update() is still called on frames while the game is paused, for UI such as the pause
+     * menu. Gameplay components should not, so nothing in the world changes while paused.
+     *
+     * @return true to update while paused
+     */
+    public boolean updatesWhilePaused() {
+        return false;
+    }
+
     /**
      * Called when the component is disposed. Dispose of any internal resources here.
      */
@@ -66,8 +85,8 @@ public class Component {
     }
 
     /**
-     * Enable or disable the component. While disabled, a component does not run update() or
-     * earlyUpdate(). Other events inside the component may still fire. The component can still be
+     * Enable or disable the component. While disabled, a component does not run update(),
+     * earlyUpdate() or frameUpdate(). Other events inside the component may still fire. The component can still be
      * disposed while disabled.
      *
      * @param enabled Should component be enabled
@@ -96,6 +115,16 @@ public class Component {
         }
     }
 
+    /**
+     * Used to trigger the component's once-per-frame update. This should not need to be called
+     * manually.
+     */
+    public final void triggerFrameUpdate() {
+        if (enabled) {
+            frameUpdate();
+        }
+    }
+
     @Override
     public String toString() {
         String className = this.getClass().getSimpleName();
@@ -1,45 +1,51 @@
 package com.deco2800.game.components;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
-import com.deco2800.game.rendering.RenderComponent;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.game.rendering.HealthBarService;
 import com.deco2800.game.services.ServiceLocator;
 
-@SuppressWarnings("SuspiciousNameCombination")
-public class HealthBarComponent extends RenderComponent {
-    private float ratioOfHealth = 1f;
-    private float ratioOfHealthPrevious = 1f;
-    private final Sprite health;
-    private final Sprite healthBar;
-    private final Sprite healthDecrease;
+/**
+ * Shows a health bar above an entity with a {@link CombatStatsComponent}. The bar is drawn just in
+ * front of the entity by the {@link HealthBarService}, which is only told when health changes.
+ * Nothing is drawn if there is no health bar service.
+ */
+public class HealthBarComponent extends Component {
+    /**
+     * Images for an enemy's health bar, see {@link com.deco2800.game.areas.terrain.TileAtlas}
+     */
+    public static final String HEALTH_IMAGE = "images/enemy_health_bar.png";
+    public static final String FRAME_IMAGE = "images/enemy_health_border.png";
+    public static final String DECREASE_IMAGE = "images/enemy_health_bar_decrease.png";
+    private static final int NO_BAR = -1;
+
+    private final TextureRegion health;
+    private final TextureRegion healthBar;
+    private final TextureRegion healthDecrease;
     private final float heightOfHealth;
-    private static final float SIZE_X = 0.8f;
     private final float size;
+    private CombatStatsComponent combatStats;
+    private HealthBarService healthBarService;
+    private int bar = NO_BAR;
     private float previousHealth;
-    private boolean healthDecreaseCheck;
-    private long start = 0;
 
-    public HealthBarComponent(Sprite health, Sprite healthBar, Sprite healthDecrease) {
-        super();
-        this.health = health;
-        this.healthBar = healthBar;
-        this.healthDecrease = healthDecrease;
-        this.heightOfHealth = 1f;
-        this.size = 1f;
+    public HealthBarComponent(TextureRegion health, TextureRegion healthBar, TextureRegion healthDecrease) {
+        this(health, healthBar, healthDecrease, 1f, 1f);
     }
 
-    public HealthBarComponent(Sprite health, Sprite healthBar, Sprite healthDecrease, Float heightOfHealth) {
-        super();
-        this.health = health;
-        this.healthBar = healthBar;
-        this.healthDecrease = healthDecrease;
-        this.heightOfHealth = heightOfHealth;
-        this.size = 1f;
+    public HealthBarComponent(TextureRegion health, TextureRegion healthBar, TextureRegion healthDecrease,
+                              Float heightOfHealth) {
+        this(health, healthBar, healthDecrease, heightOfHealth, 1f);
     }
 
-    public HealthBarComponent(Sprite health, Sprite healthBar, Sprite healthDecrease, Float heightOfHealth, Float size) {
-        super();
+    /**
+     * @param health         image of the remaining health
+     * @param healthBar      image of the bar's border
+     * @param healthDecrease image shown briefly where health was lost
+     * @param heightOfHealth distance above the entity's centre to draw the bar
+     * @param size           scale of the bar
+     */
+    public HealthBarComponent(TextureRegion health, TextureRegion healthBar, TextureRegion healthDecrease,
+                              Float heightOfHealth, Float size) {
         this.health = health;
         this.healthBar = healthBar;
         this.healthDecrease = healthDecrease;
@@ -47,94 +53,50 @@ public class HealthBarComponent extends RenderComponent {
         this.size = size;
     }
 
-    public void scaleHealth(float xScale) {
-        float width = (SIZE_X / health.getWidth()) * size;
-        float height = (entity.getScale().y / health.getHeight()) * (xScale / 2) * size;
-        health.setScale(height, width);
-    }
-
-    public void scaleHealthBar() {
-        float width = (SIZE_X / healthBar.getWidth()) * size;
-        float height = (entity.getScale().y / healthBar.getHeight()) * 0.5f * size;
-        healthBar.setScale(height, width);
-    }
-
-    public void scaleHealthDecrease(float xScale, float xScalePrevious, double ratioHealthDecrease) {
-        float scale = xScale + (xScalePrevious - xScale) * (float) ratioHealthDecrease;
-        float width = (SIZE_X / healthBar.getWidth());
-        float height = (entity.getScale().y / health.getHeight()) * (scale / 2);
-        healthDecrease.setScale(height, width);
-    }
-
-    private static double round(double value) {
-        int scale = (int) Math.pow(10, 1);
-        return (double) Math.round(value * scale) / scale;
+    private static float round(float value) {
+        return Math.round(value * 10f) / 10f;
     }
 
     @Override
     public void create() {
-        super.create();
-        scaleHealthBar();
-        healthDecreaseCheck = false;
-        start = System.currentTimeMillis();
-        previousHealth = getEntity().getComponent(CombatStatsComponent.class).getHealth();
+        combatStats = entity.getComponent(CombatStatsComponent.class);
+        previousHealth = combatStats.getHealth();
+        healthBarService = ServiceLocator.getHealthBarService();
+        if (healthBarService != null) {
+            bar = healthBarService.add(
+                    entity, health, healthBar, healthDecrease, heightOfHealth, size, getRatio(previousHealth));
+        }
     }
 
     @Override
     public void update() {
-        float currentHealth = getEntity().getComponent(CombatStatsComponent.class).getHealth();
-        float maxHealth = getEntity().getComponent(CombatStatsComponent.class).getMaxHealth();
-        if (currentHealth != previousHealth) {
-            float saveHealth = previousHealth;
-            healthDecreaseCheck = true;
-            ratioOfHealthPrevious = saveHealth / maxHealth;
-            ratioOfHealthPrevious = (float) round(ratioOfHealthPrevious);
-            start = System.currentTimeMillis();
-
+        float currentHealth = combatStats.getHealth();
+        if (currentHealth == previousHealth) {
+            return;
         }
         previousHealth = currentHealth;
-        ratioOfHealth = currentHealth / maxHealth;
-        ratioOfHealth = (float) round(ratioOfHealth);
-        if (ratioOfHealth == 0f) {
-            ratioOfHealth = 0.01f;
+        if (bar != NO_BAR) {
+            healthBarService.setHealth(bar, getRatio(currentHealth));
         }
-
     }
 
+    /**
+     * Remove the health bar. Safe to call more than once, e.g. when hidden as the entity dies and
+     * again when the entity is disposed.
+     */
     @Override
     public void dispose() {
-        ServiceLocator.getRenderService().unregister(this);
-    }
-
-    @Override
-    protected void draw(SpriteBatch batch) {
-        Vector2 positionCenter = entity.getCenterPosition();
-        float angle = entity.getAngle();
-
-        if (healthBar != null) {
-            healthBar.setRotation(angle);
-            healthBar.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
-            scaleHealthBar();
-            healthBar.draw(batch);
-        }
-        if (healthDecreaseCheck && healthDecrease != null) {
-            if ((System.currentTimeMillis() - start) / 1000 >= 1) {
-                healthDecreaseCheck = false;
-            } else {
-                healthDecrease.setRotation(angle);
-                healthDecrease.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
-                double ratioOfDecrease = 1 - ((System.currentTimeMillis() - start) / 1000.0);
-                scaleHealthDecrease(ratioOfHealth, ratioOfHealthPrevious, ratioOfDecrease);
-                healthDecrease.draw(batch);
-            }
-        }
-
-        if (health != null) {
-            scaleHealth(ratioOfHealth);
-            health.setRotation(angle);
-            health.setCenter(positionCenter.x, positionCenter.y + heightOfHealth);
-            health.draw(batch);
+        if (bar != NO_BAR) {
+            healthBarService.remove(bar);
+            bar = NO_BAR;
         }
     }
 
+    /**
+     * Health left, rounded to a tenth so the bar doesn't jitter, but never empty while alive.
+     */
+    private float getRatio(float currentHealth) {
+        float ratio = round(currentHealth / combatStats.getMaxHealth());
+        return ratio == 0f ? 0.01f : ratio;
+    }
 }
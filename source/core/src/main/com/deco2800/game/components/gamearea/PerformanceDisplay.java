@@ -3,6 +3,9 @@ package com.deco2800.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.deco2800.game.ai.lod.AILodService;
+import com.deco2800.game.ai.lod.AILodTier;
+import com.deco2800.game.physics.PhysicsEngine;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 
@@ -45,6 +48,24 @@ public class PerformanceDisplay extends UIComponent {
                 message
                         .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
                         .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+        if (ServiceLocator.getPhysicsService() != null) {
+            PhysicsEngine physics = ServiceLocator.getPhysicsService().getPhysics();
+            message = message
+                    .concat(String.format("Physics contacts: %d%n", physics.getContactCount()))
+                    .concat(String.format("Physics steps: %d (%.2f ms)%n",
+                            physics.getLastFrameSteps(), physics.getLastFrameStepTime()));
+        }
+        if (ServiceLocator.getTimeSource() != null) {
+            message = message.concat(String.format("Ticks dropped: %d%n", ServiceLocator.getTimeSource().getDroppedTicks()));
+        }
+        message = message.concat(ServiceLocator.getRenderService().getStats().describe());
+        AILodService lodService = ServiceLocator.getAILodService();
+        if (lodService != null) {
+            message = message.concat(String.format("AI near/mid/far: %d/%d/%d%n",
+                    lodService.getCount(AILodTier.NEAR),
+                    lodService.getCount(AILodTier.MID),
+                    lodService.getCount(AILodTier.FAR)));
+        }
         return message;
     }
 
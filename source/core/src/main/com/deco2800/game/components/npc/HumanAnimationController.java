@@ -2,6 +2,7 @@ package com.deco2800.game.components.npc;
 
 import com.deco2800.game.components.Component;
 import com.deco2800.game.rendering.AnimationRenderComponent;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * This class listens to events relevant to an entity's state and plays the animation when one
@@ -29,7 +30,7 @@ public class HumanAnimationController extends Component {
         super.create();
         death = false;
         attack = false;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         animator = this.entity.getComponent(AnimationRenderComponent.class);
 
         entity.getEvents().addListener("LeftStart", this::animateLeft);
@@ -94,7 +95,7 @@ public class HumanAnimationController extends Component {
                 animator.startAnimation("moveRight");
                 enableWalk();
                 right = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -118,7 +119,7 @@ public class HumanAnimationController extends Component {
                 animator.startAnimation("moveUp");
                 enableWalk();
                 up = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -142,7 +143,7 @@ public class HumanAnimationController extends Component {
                 animator.startAnimation("moveDown");
                 enableWalk();
                 down = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -161,7 +162,7 @@ public class HumanAnimationController extends Component {
         }
         animator.startAnimation("EnemyAttackDown");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -175,7 +176,7 @@ public class HumanAnimationController extends Component {
         }
         animator.startAnimation("EnemyAttackUp");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -189,7 +190,7 @@ public class HumanAnimationController extends Component {
         }
         animator.startAnimation("EnemyAttackLeft");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -203,7 +204,7 @@ public class HumanAnimationController extends Component {
         }
         animator.startAnimation("EnemyAttackRight");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -5,9 +5,7 @@ import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.input.InputComponent;
-
-import java.util.Timer;
-import java.util.TimerTask;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Input handler for the player for keyboard and touch (mouse) input.
@@ -132,17 +130,12 @@ public class KeyboardPlayerInputComponent extends InputComponent {
                 triggerDashEvent();
                 update();
 
-                Timer timer = new Timer();
-                timer.schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        dashing = false;
-                        if (!locked) {
-                            triggerWalkEvent();
-                        }
-                        timer.cancel();
+                ServiceLocator.getSchedulerService().schedule(() -> {
+                    dashing = false;
+                    if (!locked) {
+                        triggerWalkEvent();
                     }
-                }, 150);
+                }, 150L);
                 return true;
             default:
                 return false;
@@ -10,9 +10,6 @@ import com.badlogic.gdx.utils.Scaling;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 /**
  * UI component to display the blooded view when health reaches a certain
  * threshold.
@@ -140,14 +137,7 @@ public class PlayerLowHealthDisplay extends UIComponent {
     private void fadeScreen(float opacity) {
         if (opacity < 1) {
             blackScreen.setColor(0, 0, 0, opacity);
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    fadeScreen(opacity + 0.05f);
-                    timer.cancel();
-                }
-            }, 30);
+            ServiceLocator.getSchedulerService().schedule(() -> fadeScreen(opacity + 0.05f), 30L);
         } else {
             blackScreen.setColor(0, 0, 0, 1);
         }
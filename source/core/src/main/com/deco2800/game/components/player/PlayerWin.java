@@ -8,9 +8,6 @@ import com.badlogic.gdx.utils.Scaling;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class PlayerWin extends UIComponent {
     private boolean hasWin = false;
     private Image whiteScreen;
@@ -39,14 +36,7 @@ public class PlayerWin extends UIComponent {
     private void winFade(float opacity) {
         if (opacity < 1) {
             whiteScreen.setColor(0, 0, 0, opacity);
-            java.util.Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    winFade(opacity + 0.05f);
-                    timer.cancel();
-                }
-            }, 30);
+            ServiceLocator.getSchedulerService().schedule(() -> winFade(opacity + 0.05f), 30L);
         } else {
             whiteScreen.setColor(0, 0, 0, 1);
         }
@@ -35,6 +35,7 @@ public class SettingsMenuDisplay extends UIComponent {
     private TextField fpsText;
     private CheckBox fullScreenCheck;
     private CheckBox vsyncCheck;
+    private CheckBox physicsThreadCheck;
     private Slider uiScaleSlider;
     private SelectBox<StringDecorator<DisplayMode>> displayModeSelect;
     private Skin settingsSkin;
@@ -93,6 +94,10 @@ public class SettingsMenuDisplay extends UIComponent {
         vsyncCheck = new CheckBox("", settingsSkin);
         vsyncCheck.setChecked(settings.vsync);
 
+        Label physicsThreadLabel = new Label("Physics thread:", settingsSkin);
+        physicsThreadCheck = new CheckBox("", settingsSkin);
+        physicsThreadCheck.setChecked(settings.physicsThread);
+
         Label uiScaleLabel = new Label("ui Scale (Unused):", settingsSkin);
         uiScaleSlider = new Slider(0.2f, 2f, 0.1f, false, settingsSkin);
         uiScaleSlider.setValue(settings.uiScale);
@@ -123,6 +128,10 @@ public class SettingsMenuDisplay extends UIComponent {
         table.add(vsyncLabel).right().padRight(15f);
         table.add(vsyncCheck).left();
 
+        table.row().padTop(10f);
+        table.add(physicsThreadLabel).right().padRight(15f);
+        table.add(physicsThreadCheck).left();
+
         table.row().padTop(10f);
         Table uiScaleTable = new Table();
         uiScaleTable.add(uiScaleSlider).width(100).left();
@@ -222,6 +231,7 @@ public class SettingsMenuDisplay extends UIComponent {
         settings.uiScale = uiScaleSlider.getValue();
         settings.displayMode = new DisplaySettings(displayModeSelect.getSelected().object);
         settings.vsync = vsyncCheck.isChecked();
+        settings.physicsThread = physicsThreadCheck.isChecked();
 
         UserSettings.set(settings, true);
     }
@@ -2,8 +2,7 @@ package com.deco2800.game.components.tasks;
 
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
-
-import java.util.concurrent.TimeUnit;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Chases a target entity and alerts nearby enemies after 3 seconds
@@ -30,7 +29,7 @@ public class AlertChaseTask extends ChaseTask implements PriorityTask {
     @Override
     public void start() {
         super.start();
-        timeDiscoveredTarget = System.nanoTime();
+        timeDiscoveredTarget = ServiceLocator.getTimeSource().getTime();
     }
 
     @Override
@@ -42,7 +41,7 @@ public class AlertChaseTask extends ChaseTask implements PriorityTask {
     @Override
     public void update() {
         super.update();
-        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timeDiscoveredTarget) >= 3000) {
+        if (ServiceLocator.getTimeSource().getTimeSince(timeDiscoveredTarget) >= 3000) {
             owner.getEntity().getEvents().trigger("alert");
         }
     }
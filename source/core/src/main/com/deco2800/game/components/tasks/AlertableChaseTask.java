@@ -2,7 +2,9 @@ package com.deco2800.game.components.tasks;
 
 
 import com.deco2800.game.ai.tasks.PriorityTask;
+import com.deco2800.game.ai.tasks.TaskRunner;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
@@ -29,28 +31,47 @@ public class AlertableChaseTask extends ChaseTask implements PriorityTask {
 
     private void alerted() {
         alerted = true;
+        priorityCache.invalidate();
     }
 
     private void unAlerted() {
         alerted = false;
+        priorityCache.invalidate();
     }
 
     /**
-     * Add listener to this alertable entity to detect event when the AlertCaller triggers "alert"
+     * Listen for alerts from the alert callers that are already spawned, and from any spawned later.
      *
-     * @return 15 if alerted (always see the target), default otherwise
+     * @param taskRunner Task runner to attach to
      */
     @SuppressWarnings("GDXJavaUnsafeIterator")
     @Override
-    public int getPriority() {
-        for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
-            //get event triggered
-            if (entity.getEntityType() != null && entity.getEntityType().equals("AlertCaller")) {
-                //note:don't re-add to same entity
-                entity.getEvents().addListener("alert", this::alerted);
-                entity.getEvents().addListener("unAlert", this::unAlerted);
-            }
+    public void create(TaskRunner taskRunner) {
+        super.create(taskRunner);
+        EntityService entityService = ServiceLocator.getEntityService();
+        if (entityService == null) {
+            return;
         }
+        for (Entity entity : entityService.getEntities()) {
+            listenIfAlertCaller(entity);
+        }
+        entityService.getEvents().addListener("entityRegistered", this::listenIfAlertCaller);
+    }
+
+    private void listenIfAlertCaller(Entity entity) {
+        if ("AlertCaller".equals(entity.getEntityType())) {
+            entity.getEvents().addListener("alert", this::alerted);
+            entity.getEvents().addListener("unAlert", this::unAlerted);
+        }
+    }
+
+    /**
+     * Alerts invalidate the cached chase priority, so the task reacts on the next frame.
+     *
+     * @return 15 if alerted (always see the target), default otherwise
+     */
+    @Override
+    public int getPriority() {
         if (alerted) {
             return 15;
         }
@@ -41,6 +41,17 @@ public class AnchoredChaseTask extends ChaseTask implements PriorityTask {
         return (super.getPriority());
     }
 
+    /**
+     * Whether the target is in the base is checked every time, so leaving it stops the chase straight
+     * away. The line of sight check in the base chase priority is still cached.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isPriorityCached() {
+        return false;
+    }
+
     /**
      * @return true if the target is currently in the anchored base,
      * false if the target is outside of the base
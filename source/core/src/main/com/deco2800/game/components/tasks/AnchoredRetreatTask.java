@@ -4,10 +4,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.utils.math.RandomUtils;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Return to the base anchor if the entity is too far away.
  * Requires an entity with a PhysicsMovementComponent.
@@ -64,6 +63,14 @@ public class AnchoredRetreatTask extends DefaultTask implements PriorityTask {
         }
     }
 
+    /**
+     * @return true, far NPCs still need to stay close to their base
+     */
+    @Override
+    public boolean isLowDetail() {
+        return true;
+    }
+
     /**
      * Generate new retreat Task and start retreating to random position around the anchor
      */
@@ -82,7 +89,7 @@ public class AnchoredRetreatTask extends DefaultTask implements PriorityTask {
         super.stop();
         movementTask.stop();
         retreating = false;
-        retreatingLastUpdated = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        retreatingLastUpdated = ServiceLocator.getTimeSource().getTime();
     }
 
     /**
@@ -93,12 +100,12 @@ public class AnchoredRetreatTask extends DefaultTask implements PriorityTask {
     public void update() {
         if (!retreating && returnToBase()) {
             retreating = true;
-            retreatingLastUpdated = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            retreatingLastUpdated = ServiceLocator.getTimeSource().getTime();
             movementTask.setTarget(getRandomPosInRange());
             movementTask.start();
         } else if (retreating && movementTask.getStatus() != Status.ACTIVE) {
             retreating = false;
-            retreatingLastUpdated = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            retreatingLastUpdated = ServiceLocator.getTimeSource().getTime();
         }
         movementTask.update();
     }
@@ -136,7 +143,7 @@ public class AnchoredRetreatTask extends DefaultTask implements PriorityTask {
      */
     private boolean returnToBase() {
         // How long to wait before updating returning again
-        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - retreatingLastUpdated <= 2000) {
+        if (ServiceLocator.getTimeSource().getTime() - retreatingLastUpdated <= 2000) {
             return retreating;
         }
         if (protectRadius > 0f) {
@@ -2,6 +2,7 @@ package com.deco2800.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
+import com.deco2800.game.ai.tasks.PriorityCache;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
 
@@ -9,12 +10,25 @@ import com.deco2800.game.entities.Entity;
  * Chases a target entity until they get too far away or line of sight is lost
  */
 public class ChaseTask extends DefaultTask implements PriorityTask {
+    /**
+     * Re-check distance and line of sight at least this often, even if nothing has moved much
+     */
+    private static final long PRIORITY_REFRESH_MS = 200L;
+    /**
+     * Re-check distance and line of sight once the owner or target has moved this far
+     */
+    private static final float PRIORITY_MOVE_THRESHOLD = 0.25f;
     protected final Entity target;
     private final int priority;
     private final float viewDistance;
     private final float maxChaseDistance;
     private Vector2 movementSpeed;
     protected MovementTask movementTask;
+    /**
+     * Cached result of the distance and line of sight checks
+     */
+    protected final PriorityCache priorityCache = new PriorityCache();
+    private boolean priorityCacheInitialised = false;
 
     /**
      * @param target           The entity to chase.
@@ -53,6 +67,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
         }
         movementTask.create(owner);
         movementTask.start();
+        priorityCache.invalidate();
         this.owner.getEntity().getEvents().trigger("chaseStart");
     }
 
@@ -77,6 +92,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     public void stop() {
         super.stop();
         movementTask.stop();
+        priorityCache.invalidate();
     }
 
     /**
@@ -87,11 +103,39 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
      */
     @Override
     public int getPriority() {
-        if (status == Status.ACTIVE) {
-            return getActivePriority();
+        if (!priorityCacheInitialised) {
+            initPriorityCache();
         }
+        return priorityCache.get(() -> {
+            if (status == Status.ACTIVE) {
+                return getActivePriority();
+            }
+            return getInactivePriority();
+        });
+    }
 
-        return getInactivePriority();
+    /**
+     * The chase priority only changes when the owner or target moves, or when the owner bumps into
+     * something, so it is cached until one of those happens or the refresh time passes.
+     *
+     * @return true if the last priority can be reused
+     */
+    @Override
+    public boolean isPriorityCached() {
+        return priorityCache.isValid();
+    }
+
+    /**
+     * Set up the invalidation rules of the priority cache. The owner entity is not known when the
+     * task is created, so this is done on the first priority check.
+     */
+    private void initPriorityCache() {
+        Entity ownerEntity = owner.getEntity();
+        priorityCache.refreshEvery(PRIORITY_REFRESH_MS)
+                .invalidateOnMove(ownerEntity, PRIORITY_MOVE_THRESHOLD)
+                .invalidateOnMove(target, PRIORITY_MOVE_THRESHOLD)
+                .invalidateOn(ownerEntity.getEvents(), "collisionStart", 2);
+        priorityCacheInitialised = true;
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.deco2800.game.components.tasks;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.utils.Timer;
+import com.deco2800.game.ai.tasks.PriorityCache;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.HealthBarComponent;
@@ -17,7 +17,6 @@ import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.RandomDialogueSet;
 import com.deco2800.game.ui.textbox.TextBox;
 
-import java.security.SecureRandom;
 import java.util.TreeMap;
 
 public class DeathPauseTask extends ChaseTask implements PriorityTask {
@@ -27,6 +26,12 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
 
     private boolean dead = false;
 
+    /**
+     * Death priority only changes when the owner's health does
+     */
+    private final PriorityCache deathPriorityCache = new PriorityCache();
+    private boolean deathPriorityCacheInitialised = false;
+
     public DeathPauseTask(Entity target, int priority, float viewDistance, float maxChaseDistance, float duration) {
         super(target, priority, viewDistance, maxChaseDistance);
         this.duration = duration;
@@ -34,8 +39,7 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
     }
 
     private void playElfDead() {
-        SecureRandom random = new SecureRandom();
-        int numCase = random.nextInt(2);
+        int numCase = ServiceLocator.getRandomService().getStream("deathSounds").nextInt(2);
         if (numCase == 1) {
             ServiceLocator.getResourceService().getAsset(
                     "sounds/death_1.mp3", Sound.class).play(0.5f);
@@ -60,7 +64,7 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
     public void waitForDeathAnimation() {
 
         if (this.declareEnd) {
-            this.start = System.currentTimeMillis();
+            this.start = ServiceLocator.getTimeSource().getTime();
             if (owner.getEntity().getEntityType().equals("melee")
                     || owner.getEntity().getEntityType().equals("assassin")
                     || owner.getEntity().getEntityType().equals("ranged")
@@ -74,12 +78,7 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
             }
             if (owner.getEntity().getEntityType().equals("odin")) {
                 showDialogue();
-                Timer.schedule(new Timer.Task() {
-                    @Override
-                    public void run() {
-                        spawnWin();
-                    }
-                }, 4.5f);
+                ServiceLocator.getSchedulerService().schedule(this::spawnWin, 4500L);
                 owner.getEntity().getComponent(HumanAnimationController.class).setDeath();
             } else if (owner.getEntity().getComponent(HumanAnimationController.class) != null) {
                 owner.getEntity().getComponent(HumanAnimationController.class).setDeath();
@@ -101,7 +100,7 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
             owner.getEntity().getComponent(TouchAttackComponent.class).dispose();
         } else {
             movementTask.stop();
-            if ((System.currentTimeMillis() - start) / 1000 >= duration) {
+            if ((ServiceLocator.getTimeSource().getTime() - start) / 1000 >= duration) {
                 if (!dead) {
                     if (owner.getEntity().getEntityType().equals("elfBoss")
                             || owner.getEntity().getEntityType().equals("loki")
@@ -154,10 +153,32 @@ public class DeathPauseTask extends ChaseTask implements PriorityTask {
 
     @Override
     public int getPriority() {
-        if (Boolean.TRUE.equals(owner.getEntity().getComponent(CombatStatsComponent.class).isDead())) {
-            return 100;
-        } else {
-            return 0;
+        if (!deathPriorityCacheInitialised) {
+            deathPriorityCache.invalidateOn(owner.getEntity().getEvents(), "updateHealth", 1);
+            deathPriorityCacheInitialised = true;
         }
+        return deathPriorityCache.get(() -> {
+            if (Boolean.TRUE.equals(owner.getEntity().getComponent(CombatStatsComponent.class).isDead())) {
+                return 100;
+            } else {
+                return 0;
+            }
+        });
+    }
+
+    /**
+     * @return true while the owner's health has not changed since the last check
+     */
+    @Override
+    public boolean isPriorityCached() {
+        return deathPriorityCache.isValid();
+    }
+
+    /**
+     * @return true, NPCs need to be able to die at any distance
+     */
+    @Override
+    public boolean isLowDetail() {
+        return true;
     }
 }
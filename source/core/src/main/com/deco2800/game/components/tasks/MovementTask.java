@@ -3,6 +3,7 @@ package com.deco2800.game.components.tasks;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.utils.math.Vector2Utils;
@@ -86,8 +87,9 @@ public class MovementTask extends DefaultTask {
             checkIfStuck();
             movementComponent.setMaxSpeed(moveSpeed);
             setTarget(target);
-            Vector2 bodyOffset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
-            if (ServiceLocator.getRenderService() != null) {
+            if (ServiceLocator.getRenderService() != null
+                    && ServiceLocator.getRenderService().getDebug().isEnabled(DebugRenderer.Category.PATHS)) {
+                Vector2 bodyOffset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
                 ServiceLocator.getRenderService().getDebug().drawLine(owner.getEntity().getCenterPosition(), target.cpy().add(bodyOffset));
             }
         }
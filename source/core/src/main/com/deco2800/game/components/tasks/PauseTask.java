@@ -56,4 +56,12 @@ public class PauseTask extends DefaultTask implements PriorityTask {
             return -1;
         }
     }
+
+    /**
+     * @return true, far NPCs still need to freeze during cutscenes
+     */
+    @Override
+    public boolean isLowDetail() {
+        return true;
+    }
 }
@@ -8,6 +8,7 @@ import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.physics.raycast.RaycastHit;
+import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
@@ -66,7 +67,8 @@ public class ProjectileMovementTask extends MovementTask implements PriorityTask
                         this.target = targetEntity.getPosition();
                     }
                 } else {
-                    ServiceLocator.getRenderService().getDebug().drawLine(owner.getEntity().getPosition(), hit.point, Color.RED, 1);
+                    ServiceLocator.getRenderService().getDebug().drawLine(
+                            DebugRenderer.Category.LOS, owner.getEntity().getPosition(), hit.point, Color.RED, 1);
                 }
             }
             //Can be very cpu intensive at times
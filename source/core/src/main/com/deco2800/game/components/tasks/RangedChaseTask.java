@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.ServiceLocator;
 
 /**
@@ -68,6 +69,17 @@ public class RangedChaseTask extends ChaseTask implements PriorityTask {
 
     }
 
+    /**
+     * The deadzone depends on the exact distance to the target, so it is checked every time. The line
+     * of sight check in the base chase priority is still cached.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isPriorityCached() {
+        return false;
+    }
+
     /**
      * @return position that is close enough to attack but staying as far away as possible
      */
@@ -89,8 +101,11 @@ public class RangedChaseTask extends ChaseTask implements PriorityTask {
             }
             v3.add(v1);
         }
-        Vector2 bodyOffset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
-        ServiceLocator.getRenderService().getDebug().drawLine(owner.getEntity().getCenterPosition(), v3.cpy().add(bodyOffset), Color.WHITE, 1);
+        DebugRenderer debugRenderer = ServiceLocator.getRenderService().getDebug();
+        if (debugRenderer.isEnabled(DebugRenderer.Category.PATHS)) {
+            Vector2 bodyOffset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
+            debugRenderer.drawLine(owner.getEntity().getCenterPosition(), v3.cpy().add(bodyOffset), Color.WHITE, 1);
+        }
         return v3;
     }
 }
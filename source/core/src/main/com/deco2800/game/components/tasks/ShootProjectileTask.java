@@ -12,7 +12,6 @@ import com.deco2800.game.entities.Entity;
 import com.deco2800.game.entities.LineEntity;
 import com.deco2800.game.entities.configs.FastArrowConfig;
 import com.deco2800.game.entities.factories.WeaponFactory;
-import com.deco2800.game.files.UserSettings;
 import com.deco2800.game.physics.PhysicsEngine;
 import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
@@ -25,10 +24,7 @@ import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.security.SecureRandom;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
-
 
 /**
  * Spawns an arrow to shoot at a target
@@ -122,6 +118,16 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
 
     private static final String FIREBALL_MOVEMENT = "fireBallMovement";
 
+    /**
+     * how fast the fast arrow's aim turns towards the target, in degrees per second
+     */
+    private static final float TRAJECTORY_TURN_SPEED = 30f;
+
+    /**
+     * decides multishots, created for the owner on first use
+     */
+    private Random multishotRandom = null;
+
 
     /**
      * @param target     The entity to chase.
@@ -181,8 +187,8 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                 gameArea.spawnEntityAt(entities[1], owner.getEntity().getCenterPosition(),
                         true, true);
                 owner.getEntity().data.put(FIREBALLS_KEY, entities);
-                lastCreatedFireball = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
-            } else if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastCreatedFireball >= cooldownMS * 2.5) {
+                lastCreatedFireball = ServiceLocator.getTimeSource().getTime();
+            } else if (ServiceLocator.getTimeSource().getTime() - lastCreatedFireball >= cooldownMS * 2.5) {
                 //Add new fireball
                 int index = 0;
                 Entity[] entities = (Entity[]) owner.getEntity().data.get(FIREBALLS_KEY);
@@ -194,7 +200,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                         gameArea.spawnEntityAt(entities[index],
                                 owner.getEntity().getCenterPosition(),
                                 true, true);
-                        lastCreatedFireball = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+                        lastCreatedFireball = ServiceLocator.getTimeSource().getTime();
                         break;
                     }
                     index++;
@@ -242,7 +248,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                 shootAnimation();
             }
             owner.getEntity().getComponent(PhysicsMovementComponent.class).setMoving(false);
-            if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - shootAnimationStart >= shootAnimationTimeMS
+            if (ServiceLocator.getTimeSource().getTime() - shootAnimationStart >= shootAnimationTimeMS
                     || projectileType == projectileTypes.FAST_ARROW) {
                 shoot();
                 playingAnimation = false;
@@ -255,7 +261,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
     private void shootAnimation() {
         playingAnimation = true;
         if (shootAnimationStart == 0) {
-            shootAnimationStart = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            shootAnimationStart = ServiceLocator.getTimeSource().getTime();
         }
         float targetDir = (getDirectionOfTarget() + 360 - 45) % 360; //shift axis
         if (owner.getEntity().getEntityType() != null
@@ -288,7 +294,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
      */
     public void shoot() {
         if (!poweringUp) {
-            lastFired = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            lastFired = ServiceLocator.getTimeSource().getTime();
         }
         switch (projectileType) {
             case NORMAL_ARROW: {
@@ -315,7 +321,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
     }
 
     private void shootNormalArrow() {
-        Random rand = new SecureRandom();
+        Random rand = getMultishotRandom();
         Vector2 relativeLoc = target.getPosition().cpy().sub(owner.getEntity().getPosition());
         relativeLoc.scl(30);
         relativeLoc.add(owner.getEntity().getPosition());
@@ -337,7 +343,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
     }
 
     private void shootTrackingArrow() {
-        Random rand = new SecureRandom();
+        Random rand = getMultishotRandom();
         //Spawns arrows in a different location on a circle around the entity
         Vector2 offset = owner.getEntity().getCenterPosition().cpy().sub(owner.getEntity().getPosition());
         offset.setAngleDeg(getDirectionOfTarget());
@@ -368,7 +374,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
         if (!poweringUp) {
             poweringUp = true;
         }
-        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= cooldownMS) {
+        if (ServiceLocator.getTimeSource().getTime() - lastFired >= cooldownMS) {
             poweringUp = false;
         }
         if (tragectoryLocation == null) {
@@ -391,7 +397,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
         }
 
         updateTrajectory(aoe);
-        float fade = ((float) TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired) / cooldownMS;
+        float fade = ((float) ServiceLocator.getTimeSource().getTime() - lastFired) / cooldownMS;
         Color newColor = new Color(Color.YELLOW);
         newColor.a = 0.5f;
         newColor.g = fade;
@@ -402,7 +408,7 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
     }
 
     private void updateTrajectory(float aoe) {
-        float turningAngle = 30f / UserSettings.get().fps;
+        float turningAngle = TRAJECTORY_TURN_SPEED * ServiceLocator.getTimeSource().getDeltaTime();
         Vector2 relativeLocationTarget = tragectoryLocation.cpy()
                 .sub(owner.getEntity().getCenterPosition());
         Vector2 relativeLocationEntity = target.getCenterPosition().cpy()
@@ -506,11 +512,15 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
      * Show trajectory before shooting on debug screen
      */
     public void showTrajectory() {
+        if (!debugRenderer.isEnabled(DebugRenderer.Category.LOS)) {
+            return;
+        }
         // If there is an obstacle in the path to the player, not visible.
-        if (physics.raycast(owner.getEntity().getCenterPosition(), tragectoryLocation, PhysicsLayer.OBSTACLE, hit)) {
-            debugRenderer.drawLine(owner.getEntity().getCenterPosition(), hit.point, Color.YELLOW, 1);
+        Vector2 from = owner.getEntity().getCenterPosition();
+        if (physics.raycast(from, tragectoryLocation, PhysicsLayer.OBSTACLE, hit)) {
+            debugRenderer.drawLine(DebugRenderer.Category.LOS, from, hit.point, Color.YELLOW, 1);
         } else {
-            debugRenderer.drawLine(owner.getEntity().getCenterPosition(), tragectoryLocation, Color.YELLOW, 1);
+            debugRenderer.drawLine(DebugRenderer.Category.LOS, from, tragectoryLocation, Color.YELLOW, 1);
         }
     }
 
@@ -546,10 +556,10 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
                 if (count == 0) {
                     logger.info("Berserk mode: Attack Speed x 4");
                     setCooldownMS(500);
-                    rampageStart = System.currentTimeMillis();
+                    rampageStart = ServiceLocator.getTimeSource().getTime();
                     count++;
                 }
-                if (count == 1 && System.currentTimeMillis() - rampageStart >= 30000) {
+                if (count == 1 && ServiceLocator.getTimeSource().getTime() - rampageStart >= 30000) {
                     logger.info("Berserk off");
                     setCooldownMS(2000);
                     owner.getEntity().getComponent(CombatStatsComponent.class).setHealth(max);
@@ -577,6 +587,19 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
         return owner.getEntity().getCenterPosition().dst(target.getPosition());
     }
 
+    /**
+     * The random stream for multishot chances, seeded per entity so replays shoot the same arrows
+     *
+     * @return random stream for this entity's multishots
+     */
+    private Random getMultishotRandom() {
+        if (multishotRandom == null) {
+            multishotRandom = ServiceLocator.getRandomService()
+                    .getStream("multishot", owner.getEntity().getId());
+        }
+        return multishotRandom;
+    }
+
     /**
      * return the position of the target and return the angle from the entity (owner) to the target
      *
@@ -633,10 +656,10 @@ public class ShootProjectileTask extends DefaultTask implements PriorityTask {
      */
     private boolean canShoot() {
         if (projectileType.equals(projectileTypes.FIREBALL) && checkFireBalls()) {
-            return (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= cooldownMS
+            return (ServiceLocator.getTimeSource().getTime() - lastFired >= cooldownMS
                     && isTargetVisible() && getDistanceToTarget() < owner.getEntity().getAttackRange());
         } else if (!projectileType.equals(projectileTypes.FIREBALL)) {
-            return (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= cooldownMS
+            return (ServiceLocator.getTimeSource().getTime() - lastFired >= cooldownMS
                     && isTargetVisible() && getDistanceToTarget() < owner.getEntity().getAttackRange());
         } else {
             return (false);
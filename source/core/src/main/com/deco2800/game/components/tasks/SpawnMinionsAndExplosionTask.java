@@ -1,6 +1,7 @@
 package com.deco2800.game.components.tasks;
 
 
+import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.areas.GameArea;
@@ -10,14 +11,16 @@ import com.deco2800.game.entities.factories.NPCFactory;
 import com.deco2800.game.entities.factories.WeaponFactory;
 import com.deco2800.game.services.ServiceLocator;
 
-import java.security.SecureRandom;
-import java.util.Random;
-
 
 /**
  * Spawns in the boss's minions
  */
 public class SpawnMinionsAndExplosionTask extends DefaultTask implements PriorityTask {
+    /**
+     * how far either side of the boss the minions spawn, so they don't start on top of each other
+     */
+    private static final float MINION_SPAWN_OFFSET = 0.6f;
+    private static final String SPAWN_STREAM = "minionSpawns";
 
     /**
      * target entity (player)
@@ -53,8 +56,7 @@ public class SpawnMinionsAndExplosionTask extends DefaultTask implements Priorit
     public SpawnMinionsAndExplosionTask(Entity target) {
         this.target = target;
         this.gameArea = ServiceLocator.getGameAreaService();
-        Random rand = new SecureRandom();
-        spawnComparator = rand.nextInt(7) + 2;
+        spawnComparator = ServiceLocator.getRandomService().getStream(SPAWN_STREAM).nextInt(7) + 2;
     }
 
     /**
@@ -80,13 +82,13 @@ public class SpawnMinionsAndExplosionTask extends DefaultTask implements Priorit
 
         gameArea.decNum();
         gameArea.decNum();
-        gameArea.spawnEntityAt(elf, owner.getEntity().getCenterPosition(), true, true);
-        gameArea.spawnEntityAt(elf2, owner.getEntity().getCenterPosition(), true, true);
+        Vector2 centre = owner.getEntity().getCenterPosition();
+        gameArea.spawnEntityAt(elf, centre.cpy().sub(MINION_SPAWN_OFFSET, 0f), true, true);
+        gameArea.spawnEntityAt(elf2, centre.cpy().add(MINION_SPAWN_OFFSET, 0f), true, true);
         gameArea.spawnEntityAt(explosion, owner.getEntity().getCenterPosition(), true, true);
         triggered = false;
         spawn = 0;
-        Random rand = new SecureRandom();
-        spawnComparator = rand.nextInt(7) + 2;
+        spawnComparator = ServiceLocator.getRandomService().getStream(SPAWN_STREAM).nextInt(7) + 2;
     }
 
     /**
@@ -12,9 +12,6 @@ import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.utils.math.RandomUtils;
 
-import java.util.concurrent.TimeUnit;
-
-
 /**
  * Spawn the vortex and teleport the enemy
  */
@@ -78,7 +75,7 @@ public class TeleportationTask extends DefaultTask implements PriorityTask {
             teleport();
         }
 
-        if (spawn && TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= 800) {
+        if (spawn && ServiceLocator.getTimeSource().getTime() - lastFired >= 800) {
             owner.getEntity().setPosition(pos2);
         }
     }
@@ -88,7 +85,7 @@ public class TeleportationTask extends DefaultTask implements PriorityTask {
      */
     public void teleport() {
         if (lastFired == 0) {
-            lastFired = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            lastFired = ServiceLocator.getTimeSource().getTime();
         }
         spawn = true;
         Entity entity = new Entity();
@@ -123,7 +120,7 @@ public class TeleportationTask extends DefaultTask implements PriorityTask {
     @Override
     public int getPriority() {
         if (canTeleport() || spawn) {
-            if (spawn && TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= 2000) {
+            if (spawn && ServiceLocator.getTimeSource().getTime() - lastFired >= 2000) {
                 spawn = false;
             }
             return 25;
@@ -172,7 +169,7 @@ public class TeleportationTask extends DefaultTask implements PriorityTask {
         int currentHealth = owner.getEntity().getComponent(CombatStatsComponent.class).getHealth();
         int maxHealth = owner.getEntity().getComponent(CombatStatsComponent.class).getMaxHealth();
 
-        if ((float) currentHealth / maxHealth < 0.75f && TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFired >= cooldown
+        if ((float) currentHealth / maxHealth < 0.75f && ServiceLocator.getTimeSource().getTime() - lastFired >= cooldown
                 && isTargetVisible()
                 && getDistanceToTarget() < owner.getEntity().getAttackRange()) {
             return currentHealth < health;
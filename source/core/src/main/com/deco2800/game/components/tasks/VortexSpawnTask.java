@@ -4,8 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultTask;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
-
-import java.util.concurrent.TimeUnit;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Move to a given position, finishing when you get close enough. Requires an entity with a
@@ -89,7 +88,7 @@ public class VortexSpawnTask extends DefaultTask implements PriorityTask {
                 && owner.getEntity().getScale().y < this.scale.y && !max) {
             owner.getEntity().setScale(owner.getEntity().getScale().add(factor.scl(0.99f)));
             owner.getEntity().setPosition(position);
-            time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+            time = ServiceLocator.getTimeSource().getTime();
         } else {
             max = true;
             //Let target teleport
@@ -99,7 +98,7 @@ public class VortexSpawnTask extends DefaultTask implements PriorityTask {
                 //Add body offset
                 owner.getEntity().data.put(TELEPORT_TARGET, true);
             }
-            if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - time >= 800
+            if (ServiceLocator.getTimeSource().getTime() - time >= 800
                     && owner.getEntity().getScale().x > 0.1f
                     && owner.getEntity().getScale().y > 0.1f) {
                 //Stop target teleporting
@@ -2,6 +2,7 @@ package com.deco2800.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.DefaultMultiTask;
+import com.deco2800.game.ai.tasks.PriorityCache;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.utils.math.RandomUtils;
 import org.slf4j.Logger;
@@ -19,6 +20,10 @@ public class WanderTask extends DefaultMultiTask implements PriorityTask {
     protected MovementTask movementTask;
     protected WaitTask waitTask;
     private Vector2 startPos;
+    /**
+     * Wander priority never changes, so it only has to be evaluated once
+     */
+    private final PriorityCache priorityCache = new PriorityCache();
 
     /**
      * @param wanderRange Distance in X and Y the entity can move from its position when start() is
@@ -40,7 +45,23 @@ public class WanderTask extends DefaultMultiTask implements PriorityTask {
      */
     @Override
     public int getPriority() {
-        return 1; // Low priority task
+        return priorityCache.get(() -> 1); // Low priority task
+    }
+
+    /**
+     * @return true once the constant wander priority has been evaluated
+     */
+    @Override
+    public boolean isPriorityCached() {
+        return priorityCache.isValid();
+    }
+
+    /**
+     * @return true, wandering is cheap enough for far NPCs
+     */
+    @Override
+    public boolean isLowDetail() {
+        return true;
     }
 
     /**
@@ -6,6 +6,7 @@ import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.rendering.AnimationRenderComponent;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Wait for the weapon break animation to run
@@ -50,12 +51,12 @@ public class WeaponDisposeTask extends ProjectileMovementTask implements Priorit
      */
     public void waitForDeathAnimation() {
         if (this.declareEnd) {
-            this.start = System.currentTimeMillis();
+            this.start = ServiceLocator.getTimeSource().getTime();
             owner.getEntity().getComponent(HitboxComponent.class).dispose();
             this.declareEnd = false;
         } else {
             owner.getEntity().getComponent(PhysicsMovementComponent.class).setMoving(false);
-            if ((System.currentTimeMillis() - start) / 500 >= duration) {
+            if ((ServiceLocator.getTimeSource().getTime() - start) / 500 >= duration) {
                 owner.getEntity().getComponent(AnimationRenderComponent.class).dispose();
                 status = Status.FINISHED;
             }
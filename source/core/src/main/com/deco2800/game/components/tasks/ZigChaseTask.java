@@ -3,6 +3,7 @@ package com.deco2800.game.components.tasks;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.ai.tasks.PriorityTask;
 import com.deco2800.game.entities.Entity;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * Advance movement, the enemies chase the target in zig zag movement from distance a far
@@ -10,7 +11,7 @@ import com.deco2800.game.entities.Entity;
 public class ZigChaseTask extends ChaseTask implements PriorityTask {
 
     private final float maxChaseDistance;
-    private long start = System.currentTimeMillis();
+    private long start = ServiceLocator.getTimeSource().getTime();
     private boolean zigLeft = false;
     private final float speedMultiplier;
 
@@ -35,7 +36,7 @@ public class ZigChaseTask extends ChaseTask implements PriorityTask {
      */
     @Override
     public void update() {
-        if (((System.currentTimeMillis() - start) / 1000f) > 0.5f
+        if (((ServiceLocator.getTimeSource().getTime() - start) / 1000f) > 0.5f
                 || getDistanceToTarget() < maxChaseDistance * 3 / 10f) {
             if (getDistanceToTarget() < maxChaseDistance * 3 / 10f) {
                 movementTask.setTarget(target.getPosition());
@@ -58,7 +59,7 @@ public class ZigChaseTask extends ChaseTask implements PriorityTask {
             if (movementTask.getStatus() != Status.ACTIVE) {
                 movementTask.start();
             }
-            start = System.currentTimeMillis();
+            start = ServiceLocator.getTimeSource().getTime();
         }
     }
 
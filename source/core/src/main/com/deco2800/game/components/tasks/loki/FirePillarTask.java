@@ -12,7 +12,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.LinkedList;
-import java.util.concurrent.TimeUnit;
 
 public class FirePillarTask extends DefaultTask implements PriorityTask {
 
@@ -87,7 +86,7 @@ public class FirePillarTask extends DefaultTask implements PriorityTask {
 
         logger.debug("Checking if the boss can attack");
 
-        return (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFiredTime >= cooldownMS
+        return (ServiceLocator.getTimeSource().getTime() - lastFiredTime >= cooldownMS
                 && getDistanceToTarget() < owner.getEntity().getAttackRange());
     }
 
@@ -96,7 +95,7 @@ public class FirePillarTask extends DefaultTask implements PriorityTask {
      */
     private void spawnPillar() {
         lastPositions.add(target.getPosition().cpy());
-        lastFiredTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastFiredTime = ServiceLocator.getTimeSource().getTime();
         if (lastPositions.size() < 2) {
             return;
         }
@@ -139,7 +138,7 @@ public class FirePillarTask extends DefaultTask implements PriorityTask {
      * Plays the animation in the direction of the attack.
      */
     private void shootAnimation() {
-        lastShootAnimation = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastShootAnimation = ServiceLocator.getTimeSource().getTime();
         float targetDir = (getDirectionOfTarget() + 360 - 45) % 360; //shift axis
         if (targetDir > 0 && targetDir < 90) { //if arrow of the angle is between 0 and 90 degrees use left shoot animation
             owner.getEntity().getEvents().trigger("attackDown");
@@ -162,7 +161,7 @@ public class FirePillarTask extends DefaultTask implements PriorityTask {
         if (owner.getEntity().getEntityType().equals("transformed")) {
             return -1;
         }
-        if (canAttack() || TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastShootAnimation < shootAnimationTimeMS) {
+        if (canAttack() || ServiceLocator.getTimeSource().getTime() - lastShootAnimation < shootAnimationTimeMS) {
             return 20;
         }
         return -1;
@@ -9,9 +9,6 @@ import com.deco2800.game.entities.factories.NPCFactory;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.services.ServiceLocator;
 
-import java.util.concurrent.TimeUnit;
-
-
 /**
  * Spawns in the boss's minions
  */
@@ -50,7 +47,7 @@ public class SpawnLokiDecoyTask extends DefaultTask implements PriorityTask {
         this.target = target;
         this.gameArea = ServiceLocator.getGameAreaService();
         this.cooldownMS = cooldownMS;
-        this.lastFiredTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        this.lastFiredTime = ServiceLocator.getTimeSource().getTime();
     }
 
     /**
@@ -70,7 +67,7 @@ public class SpawnLokiDecoyTask extends DefaultTask implements PriorityTask {
      * Spawns in enemies according to the classes variables
      */
     public void spawn() {
-        lastFiredTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastFiredTime = ServiceLocator.getTimeSource().getTime();
         Entity loki;
         ServiceLocator.getGameAreaService().incNum();
         if (spawn % 2 != 0) {
@@ -100,7 +97,7 @@ public class SpawnLokiDecoyTask extends DefaultTask implements PriorityTask {
      * @return true if can spawn, false otherwise
      */
     private boolean canSpawn() {
-        return (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFiredTime >= cooldownMS
+        return (ServiceLocator.getTimeSource().getTime() - lastFiredTime >= cooldownMS
                 && getDistanceToTarget() < owner.getEntity().getAttackRange());
     }
 
@@ -13,11 +13,8 @@ import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.security.SecureRandom;
 import java.util.LinkedList;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
-
 
 public class ShootLightningTask extends DefaultTask implements PriorityTask {
 
@@ -74,7 +71,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
         lastPositions = new LinkedList<>();
         lastShootAnimation = 0;
         lastFiredTime = 0;
-        this.randomBooleanGenerator = new SecureRandom();
+        this.randomBooleanGenerator = ServiceLocator.getRandomService().getStream("thorAttacks");
     }
 
     @Override
@@ -99,7 +96,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
 
         logger.debug("Checking if the boss can attack");
 
-        return (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastFiredTime >= cooldownMS
+        return (ServiceLocator.getTimeSource().getTime() - lastFiredTime >= cooldownMS
                 && getDistanceToTarget() < owner.getEntity().getAttackRange());
     }
 
@@ -108,7 +105,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
      */
     private void spawnLighning() {
         lastPositions.add(target.getPosition().cpy());
-        lastFiredTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastFiredTime = ServiceLocator.getTimeSource().getTime();
         if (lastPositions.size() < 2) {
             return;
         }
@@ -131,7 +128,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
      */
     private void spawnAOE() {
         lastPositions.add(target.getPosition().cpy());
-        lastFiredTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastFiredTime = ServiceLocator.getTimeSource().getTime();
         if (lastPositions.size() < 2) {
             return;
         }
@@ -159,7 +156,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
      * Plays the animation in the direction of the attack.
      */
     private void shootAnimation() {
-        lastShootAnimation = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        lastShootAnimation = ServiceLocator.getTimeSource().getTime();
         owner.getEntity().getComponent(AnimationRenderComponent.class).startAnimation("hammer_aoe");
     }
 
@@ -170,7 +167,7 @@ public class ShootLightningTask extends DefaultTask implements PriorityTask {
      */
     @Override
     public int getPriority() {
-        if (canAttack() || TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - lastShootAnimation < shootAnimationTimeMS) {
+        if (canAttack() || ServiceLocator.getTimeSource().getTime() - lastShootAnimation < shootAnimationTimeMS) {
             return 20;
         }
         return -1;
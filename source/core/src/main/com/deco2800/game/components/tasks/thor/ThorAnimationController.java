@@ -2,6 +2,7 @@ package com.deco2800.game.components.tasks.thor;
 
 import com.deco2800.game.components.Component;
 import com.deco2800.game.rendering.AnimationRenderComponent;
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * This class listens to events relevant to an entity's state and plays the animation when one
@@ -30,7 +31,7 @@ public class ThorAnimationController extends Component {
         super.create();
         death = false;
         attack = false;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         animator = this.entity.getComponent(AnimationRenderComponent.class);
 
         entity.getEvents().addListener("LeftStart", this::animateLeft);
@@ -88,7 +89,7 @@ public class ThorAnimationController extends Component {
                 animator.startAnimation("thor_right_walking");
                 enableWalk();
                 right = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -112,7 +113,7 @@ public class ThorAnimationController extends Component {
                 animator.startAnimation("up_thor_walk");
                 enableWalk();
                 up = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -136,7 +137,7 @@ public class ThorAnimationController extends Component {
                 animator.startAnimation("down_thor_walk");
                 enableWalk();
                 down = true;
-            } else if (((System.currentTimeMillis() - this.start) / 1000.0) > 0.15) {
+            } else if (((ServiceLocator.getTimeSource().getTime() - this.start) / 1000.0) > 0.15) {
                 attack = false;
             }
         } else if (!dead) {
@@ -155,7 +156,7 @@ public class ThorAnimationController extends Component {
         }
         animator.startAnimation("thor_down_attack");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -169,7 +170,7 @@ public class ThorAnimationController extends Component {
         }
         animator.startAnimation("thor_up_attack");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -183,7 +184,7 @@ public class ThorAnimationController extends Component {
         }
         animator.startAnimation("thor_left_attack");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
@@ -197,7 +198,7 @@ public class ThorAnimationController extends Component {
         }
         animator.startAnimation("thor_right_attack");
         attack = true;
-        this.start = System.currentTimeMillis();
+        this.start = ServiceLocator.getTimeSource().getTime();
         enableWalk();
     }
 
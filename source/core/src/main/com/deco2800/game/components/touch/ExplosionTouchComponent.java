@@ -8,6 +8,7 @@ import com.deco2800.game.entities.Entity;
 import com.deco2800.game.physics.BodyUserData;
 import com.deco2800.game.physics.components.ColliderComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
 
 public class ExplosionTouchComponent extends TouchComponent {
     private final float knockbackForce;
@@ -97,9 +98,9 @@ public class ExplosionTouchComponent extends TouchComponent {
         CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
 
         // Try to attack target.
-        if (targetStats != null && ((System.currentTimeMillis() - start) / 1000.0) > 0.5) {
+        if (targetStats != null && ((ServiceLocator.getTimeSource().getTime() - start) / 1000.0) > 0.5) {
             targetStats.hit(combatStats);
-            start = System.currentTimeMillis();
+            start = ServiceLocator.getTimeSource().getTime();
         }
 
         // Apply continuous knockback
@@ -7,9 +7,6 @@ import com.deco2800.game.physics.BodyUserData;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.CutsceneScreen;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class TeleportComponent extends TouchComponent {
 
     public TeleportComponent(short targetLayer) {
@@ -33,17 +30,12 @@ public class TeleportComponent extends TouchComponent {
         Entity target = ((BodyUserData) other.getBody().getUserData()).entity;
 
         CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
-        if (targetStats != null && ((System.currentTimeMillis()) / 1000.) > 0.5) {
+        if (targetStats != null) {
             CutsceneScreen screen = ServiceLocator.getEntityService()
                     .getUIEntity().getComponent(CutsceneScreen.class);
             screen.setOpen();
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    ServiceLocator.getGameScreen().levelChange();
-                }
-            }, 1000);
+            ServiceLocator.getSchedulerService().schedule(
+                    () -> ServiceLocator.getGameScreen().levelChange(), 1000L);
         }
     }
 }
@@ -10,7 +10,7 @@ import com.deco2800.game.physics.PhysicsLayer;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
-
+import com.deco2800.game.services.ServiceLocator;
 
 /**
  * When this entity touches a valid enemy's hitbox, deal damage to them and apply a knockback.
@@ -155,7 +155,7 @@ public class TouchAttackComponent extends TouchComponent {
                 return;
             }
 
-            if (((System.currentTimeMillis() - start) / 1000.0) > 0.5) {
+            if (((ServiceLocator.getTimeSource().getTime() - start) / 1000.0) > 0.5) {
                 targetStats.hit(combatStats);
                 if (entity.getEntityType().equals("viking") || entity.getEntityType().equals("odin")) {
                     Vector2 direction = target.getCenterPosition().sub(entity.getCenterPosition());
@@ -169,7 +169,7 @@ public class TouchAttackComponent extends TouchComponent {
                         entity.getEvents().trigger("attackRight");
                     }
                 }
-                start = System.currentTimeMillis();
+                start = ServiceLocator.getTimeSource().getTime();
             }
         }
 
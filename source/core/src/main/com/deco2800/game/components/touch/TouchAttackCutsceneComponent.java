@@ -10,9 +10,6 @@ import com.deco2800.game.ui.textbox.TextBox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class TouchAttackCutsceneComponent extends TouchComponent {
 
     private static final Logger logger = LoggerFactory.getLogger(TouchAttackCutsceneComponent.class);
@@ -80,14 +77,8 @@ public class TouchAttackCutsceneComponent extends TouchComponent {
         logger.debug("The player has forced an attack {} times", count + 1);
 
         if (count < repeats) {
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    repeatAttacks(input, player, count + 1);
-                    timer.cancel();
-                }
-            }, 500);
+            ServiceLocator.getSchedulerService().schedule(
+                    () -> repeatAttacks(input, player, count + 1), 500L);
         } else {
             input.unlockPlayer();
             TextBox textBox = ServiceLocator.getEntityService()
@@ -4,6 +4,8 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntMap;
+import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.areas.terrain.PotentiallyVisibleSet;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.components.ComponentType;
 import com.deco2800.game.events.EventHandler;
@@ -43,6 +45,7 @@ public class Entity {
     private boolean enabled = true;
     private boolean created = false;
     private Vector2 position = Vector2.Zero.cpy();
+    private final Vector2 renderPosition = Vector2.Zero.cpy();
     private Vector2 scale = new Vector2(1, 1);
     private Array<Component> createdComponents;
     private boolean disposeYourself = false;
@@ -61,6 +64,15 @@ public class Entity {
         eventHandler = new EventHandler();
     }
 
+    /**
+     * Start giving out entity ids from 0 again, so each level numbers its entities the same way
+     * however it was reached, e.g. from the main menu or straight into a replay. Only call this
+     * once every entity from before has been disposed, since entities are equal by id.
+     */
+    public static void resetIds() {
+        nextId = 0;
+    }
+
     /**
      * return the type of the entity
      *
@@ -106,6 +118,7 @@ public class Entity {
      */
     public void setPosition(Vector2 position) {
         this.position = position.cpy();
+        renderPosition.set(position);
         getEvents().trigger(EVT_NAME_POS, position.cpy());
     }
 
@@ -118,6 +131,7 @@ public class Entity {
     public void setPosition(float x, float y) {
         this.position.x = x;
         this.position.y = y;
+        renderPosition.set(x, y);
         getEvents().trigger(EVT_NAME_POS, position.cpy());
     }
 
@@ -129,11 +143,52 @@ public class Entity {
      */
     public void setPosition(Vector2 position, boolean notify) {
         this.position = position;
+        renderPosition.set(position);
         if (notify) {
             getEvents().trigger(EVT_NAME_POS, position);
         }
     }
 
+    /**
+     * Get the position the entity should be drawn at. This is the game position, except for physics
+     * bodies, which are drawn interpolated between physics steps.
+     *
+     * @return render position
+     */
+    public Vector2 getRenderPosition() {
+        return renderPosition.cpy();
+    }
+
+    /**
+     * Get the position the entity should be drawn at without allocating, for code that runs every
+     * frame.
+     *
+     * @param out vector to store the render position in
+     * @return out
+     */
+    public Vector2 getRenderPosition(Vector2 out) {
+        return out.set(renderPosition);
+    }
+
+    /**
+     * Set the position the entity should be drawn at, without moving it. Reset to the game position
+     * whenever the game position is set.
+     *
+     * @param renderPosition new render position
+     */
+    public void setRenderPosition(Vector2 renderPosition) {
+        this.renderPosition.set(renderPosition);
+    }
+
+    /**
+     * Get the entity's center position to draw at
+     *
+     * @return render center position
+     */
+    public Vector2 getRenderCenterPosition() {
+        return getRenderPosition().mulAdd(scale, 0.5f);
+    }
+
     /**
      * Get the entity's scale. Used for rendering and physics bounding box calculations.
      *
@@ -143,6 +198,16 @@ public class Entity {
         return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
     }
 
+    /**
+     * Get the entity's scale without allocating, for code that runs every frame.
+     *
+     * @param out vector to store the scale in
+     * @return out
+     */
+    public Vector2 getScale(Vector2 out) {
+        return out.set(scale);
+    }
+
     /**
      * Set the entity's scale.
      *
@@ -315,6 +380,35 @@ public class Entity {
         }
     }
 
+    /**
+     * Update the components that keep updating while the game is paused, see
+     * {@link Component#updatesWhilePaused()}. This is called by the entity service and should not be
+     * called manually.
+     */
+    public void pausedUpdate() {
+        if (!enabled) {
+            return;
+        }
+        for (Component component : createdComponents) {
+            if (component.updatesWhilePaused()) {
+                component.triggerUpdate();
+            }
+        }
+    }
+
+    /**
+     * Perform a once-per-frame presentation update on all components. This is called by the entity
+     * service and should not be called manually.
+     */
+    public void frameUpdate() {
+        if (!enabled) {
+            return;
+        }
+        for (Component component : createdComponents) {
+            component.triggerFrameUpdate();
+        }
+    }
+
     /**
      * teleports the entity if they aren't already going somewhere
      *
@@ -328,7 +422,8 @@ public class Entity {
     }
 
     /**
-     * Check if there are any object between the entity and the target entity
+     * Check if there are any object between the entity and the target entity. Targets behind map
+     * walls are ruled out with the map's precomputed visibility before any raycasts.
      *
      * @param target the player Entity that other NPC entities will attempt to track
      * @return true if no object, false otherwise
@@ -340,20 +435,28 @@ public class Entity {
         Vector2 from = getCenterPosition();
         Vector2 to = target.getCenterPosition();
 
+        // Walls never move, so check the precomputed visibility before raycasting. The set only
+        // knows about map walls, so potentially visible targets are still raycast below.
+        GameArea gameArea = ServiceLocator.getGameAreaService();
+        PotentiallyVisibleSet visibility = gameArea == null ? null : gameArea.getVisibility();
+        if (visibility != null && visibility.covers(from, to) && !visibility.isPotentiallyVisible(from, to)) {
+            return false;
+        }
+
         // If there is an obstacle in the path to the player, not visible.
         if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-            debugRenderer.drawLine(from, hit.point, Color.RED, 1);
+            debugRenderer.drawLine(DebugRenderer.Category.LOS, from, hit.point, Color.RED, 1);
             return false;
         }
         Vector2 from2 = getPosition();
 
         // If there is an obstacle in the path to the player, not visible.
         if (physics.raycast(from2, target.getPosition(), PhysicsLayer.OBSTACLE, hit)) {
-            debugRenderer.drawLine(from2, hit.point, Color.RED, 1);
+            debugRenderer.drawLine(DebugRenderer.Category.LOS, from2, hit.point, Color.RED, 1);
             return false;
         }
 
-        debugRenderer.drawLine(from, to, Color.BLUE, 1);
+        debugRenderer.drawLine(DebugRenderer.Category.LOS, from, to, Color.BLUE, 1);
         return true;
     }
 
@@ -1,6 +1,7 @@
 package com.deco2800.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.events.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,9 +21,11 @@ public class EntityService {
      * Stores a UI entity so the UI can be updated from other locations.
      */
     private Entity ui;
+    private final EventHandler events = new EventHandler();
 
     /**
      * Register a new entity with the entity service. The entity will be created and start updating.
+     * Triggers "entityRegistered" with the entity once it has been created.
      *
      * @param entity new entity.
      */
@@ -30,6 +33,17 @@ public class EntityService {
         logger.debug("Registering {} in entity service", entity);
         entities.add(entity);
         entity.create();
+        events.trigger("entityRegistered", entity);
+    }
+
+    /**
+     * Events about the registered entities, e.g. "entityRegistered", for systems that need to know
+     * about entities spawned after them.
+     *
+     * @return entity service's event handler
+     */
+    public EventHandler getEvents() {
+        return events;
     }
 
     /**
@@ -62,7 +76,8 @@ public class EntityService {
     }
 
     /**
-     * Update all registered entities. Should only be called from the main game loop.
+     * Update all registered entities for one simulation tick. Should only be called from the main
+     * game loop.
      */
     public void update() {
         for (Entity entity : entities) {
@@ -71,6 +86,26 @@ public class EntityService {
         }
     }
 
+    /**
+     * Update the components that keep running while the game is paused, such as UI, on frames where
+     * no simulation ticks run. Should only be called from the main game loop.
+     */
+    public void pausedUpdate() {
+        for (Entity entity : entities) {
+            entity.pausedUpdate();
+        }
+    }
+
+    /**
+     * Update the presentation of all registered entities, once per drawn frame. Should only be called
+     * from the main game loop.
+     */
+    public void frameUpdate() {
+        for (Entity entity : entities) {
+            entity.frameUpdate();
+        }
+    }
+
     /**
      * Dispose all entities.
      */
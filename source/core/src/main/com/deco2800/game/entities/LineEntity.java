@@ -3,9 +3,9 @@ package com.deco2800.game.entities;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.rendering.TextureRenderComponent;
+import com.deco2800.game.services.ServiceLocator;
 
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Creates an entity that represents a line.
@@ -23,7 +23,7 @@ public class LineEntity extends Entity {
     public LineEntity(long ttl) {
         super();
         this.ttl = ttl;
-        timeCreated = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        timeCreated = ServiceLocator.getTimeSource().getTime();
     }
 
 
@@ -53,7 +53,7 @@ public class LineEntity extends Entity {
     @Override
     public void update() {
         super.update();
-        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime()) - timeCreated >= ttl) {
+        if (ServiceLocator.getTimeSource().hasElapsed(timeCreated, ttl)) {
             this.prepareDispose();
         }
     }
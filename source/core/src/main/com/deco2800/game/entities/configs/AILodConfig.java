@@ -0,0 +1,23 @@
+package com.deco2800.game.entities.configs;
+
+/**
+ * Distances and tick rates for the AI level-of-detail tiers, see
+ * {@link com.deco2800.game.ai.lod.AILodService}. All distances are in metres from the player.
+ */
+public class AILodConfig {
+    private AILodConfig() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /** NPCs closer than this run full AI every tick. */
+    public static final float NEAR_DISTANCE = 10f;
+    /** NPCs further than this only wander. */
+    public static final float FAR_DISTANCE = 20f;
+    /** How far past a boundary an NPC must move before changing tier, so NPCs on the edge don't flicker. */
+    public static final float HYSTERESIS = 1f;
+
+    /** Mid range NPCs run their AI once every this many ticks. */
+    public static final int MID_UPDATE_INTERVAL = 3;
+    /** Far NPCs run their AI once every this many ticks. */
+    public static final int FAR_UPDATE_INTERVAL = 10;
+}
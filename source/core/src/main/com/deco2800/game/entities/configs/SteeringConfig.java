@@ -0,0 +1,26 @@
+package com.deco2800.game.entities.configs;
+
+/**
+ * Tuning values for NPC crowd steering, see {@link com.deco2800.game.ai.steering.SteeringComponent}.
+ * Distances are in metres.
+ */
+public class SteeringConfig {
+    private SteeringConfig() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /** Size of a neighbour grid cell. Should be at least the neighbour radius. */
+    public static final float CELL_SIZE = 2f;
+    /** NPCs further apart than this ignore each other. */
+    public static final float NEIGHBOUR_RADIUS = 2f;
+    /** Default radius of an NPC, matching the scaled NPC collider. */
+    public static final float AGENT_RADIUS = 0.45f;
+    /** Extra gap NPCs try to keep between their radii. */
+    public static final float SEPARATION_MARGIN = 0.2f;
+    /** How far ahead, in seconds, NPCs look for collisions with each other. */
+    public static final float TIME_HORIZON = 0.75f;
+
+    public static final float SEPARATION_WEIGHT = 1.5f;
+    public static final float AVOIDANCE_WEIGHT = 1f;
+    public static final float COHESION_WEIGHT = 0.1f;
+}
@@ -1,11 +1,11 @@
 package com.deco2800.game.entities.factories;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.ai.steering.SteeringComponent;
 import com.deco2800.game.ai.tasks.AITaskComponent;
+import com.deco2800.game.areas.terrain.TileAtlas;
 import com.deco2800.game.components.BossOverlayComponent;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.HealthBarComponent;
@@ -29,7 +29,6 @@ import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.rendering.AnimationRenderComponent;
 import com.deco2800.game.services.ServiceLocator;
 
-import java.security.SecureRandom;
 
 
 /**
@@ -150,6 +149,7 @@ public class NPCFactory {
 
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new ZigChaseTask(
                                 target, 11, 4f, 4f, 1))
@@ -184,6 +184,7 @@ public class NPCFactory {
     public static Entity createElfGuard(Entity target) {
         Entity elfGuard = createBaseNPCNoAI();
         AITaskComponent aiTaskComponent = new AITaskComponent()
+                .setLevelOfDetailEnabled(true)
                 .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                 .addTask(new AlertChaseTask(target, 15, 3f, 4f))
                 .addTask(new PauseTask())
@@ -221,6 +222,7 @@ public class NPCFactory {
         Entity anchoredElf = createBaseNPCNoAI();
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new AnchoredWanderTask(anchor, anchorSize, 2f))
                         .addTask(new AnchoredChaseTask(
                                 target, 3f, 4f, anchor, anchorSize))
@@ -292,14 +294,14 @@ public class NPCFactory {
 
     public static Entity createRangedElf(Entity target, ShootProjectileTask.projectileTypes type, float multishotChance) {
         Entity elf = createBaseNPCNoAI();
-        SecureRandom rand = new SecureRandom();
-        double chance = rand.nextDouble();
+        double chance = ServiceLocator.getRandomService().getStream("rangedElf").nextDouble();
         if (chance <= multishotChance && type == ShootProjectileTask.projectileTypes.NORMAL_ARROW) {
             type = ShootProjectileTask.projectileTypes.TRACKING_ARROW;
             multishotChance = multishotChance / 2;
         }
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new RangedChaseTask(
                                 target, 10, 15f, 20f))
@@ -471,14 +473,7 @@ public class NPCFactory {
         animator.addAnimation("default_right", 1f, Animation.PlayMode.NORMAL);
         animator.addAnimation("default_left", 1f, Animation.PlayMode.NORMAL);
 
-        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar.png", Texture.class));
-        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar_decrease.png", Texture.class));
-        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_border.png", Texture.class));
-        HealthBarComponent healthBarComponent = new HealthBarComponent(
-                healthBar, healthBarFrame, healthBarDecrease);
+        HealthBarComponent healthBarComponent = createHealthBarComponent();
         thor.addComponent(new CombatStatsComponent(ElfBossConfig.HEALTH, ElfBossConfig.BASE_ATTACK))
                 .addComponent(animator)
                 .addComponent(new ThorAnimationController())
@@ -549,6 +544,7 @@ public class NPCFactory {
 
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new ZigChaseTask(
                                 target, 11, 4f, 4f, 1))
@@ -592,6 +588,7 @@ public class NPCFactory {
 
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new ChaseTask(
                                 target, 11, 4f, 4f, new Vector2(1.6f, 1.6f)))
@@ -636,6 +633,7 @@ public class NPCFactory {
 
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new ChaseTask(
                                 target, 11, 4f, 4f, new Vector2(1.5f, 1.5f)))
@@ -697,6 +695,7 @@ public class NPCFactory {
         Entity archer = createBaseNPCNoAI();
         AITaskComponent aiComponent =
                 new AITaskComponent()
+                        .setLevelOfDetailEnabled(true)
                         .addTask(new WanderTask(new Vector2(2f, 2f), 2f))
                         .addTask(new RangedChaseTask(
                                 target, 10, 15f, 20f))
@@ -878,13 +877,10 @@ public class NPCFactory {
      * @return HealthBarComponent which will be displayed above the entities
      */
     private static HealthBarComponent createHealthBarComponent() {
-        Sprite healthBar = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar.png", Texture.class));
-        Sprite healthBarDecrease = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_bar_decrease.png", Texture.class));
-        Sprite healthBarFrame = new Sprite(ServiceLocator.getResourceService().getAsset(
-                "images/enemy_health_border.png", Texture.class));
-        return new HealthBarComponent(healthBar, healthBarFrame, healthBarDecrease);
+        return new HealthBarComponent(
+                TileAtlas.getRegion(HealthBarComponent.HEALTH_IMAGE),
+                TileAtlas.getRegion(HealthBarComponent.FRAME_IMAGE),
+                TileAtlas.getRegion(HealthBarComponent.DECREASE_IMAGE));
     }
 
     /**
@@ -897,6 +893,7 @@ public class NPCFactory {
         Entity npc = new Entity()
                 .addComponent(new PhysicsComponent())
                 .addComponent(new PhysicsMovementComponent())
+                .addComponent(new SteeringComponent())
                 .addComponent(new ColliderComponent())
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
                 .addComponent(new TouchAttackComponent(PhysicsLayer.PLAYER, 0.5f));
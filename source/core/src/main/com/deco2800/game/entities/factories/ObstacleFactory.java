@@ -3,7 +3,7 @@ package com.deco2800.game.entities.factories;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.badlogic.gdx.utils.Timer;
+import com.deco2800.game.areas.terrain.TileAtlas;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.crate.CrateAnimationController;
 import com.deco2800.game.components.crate.TransformBarrelComponent;
@@ -27,6 +27,10 @@ import com.deco2800.game.services.ServiceLocator;
  * <p>Each obstacle entity type should have a creation method that returns a corresponding entity.
  */
 public class ObstacleFactory {
+    /**
+     * Height of a map obstacle tile in metres. The width keeps the texture's aspect ratio.
+     */
+    public static final float OBSTACLE_HEIGHT = 0.5f;
 
     private ObstacleFactory() {
         throw new IllegalStateException("Instantiating static util class");
@@ -40,9 +44,9 @@ public class ObstacleFactory {
     public static Entity createObstacle(String tileRef) {
         Entity obstacle =
                 new Entity()
-                        .addComponent(new TextureRenderComponent(tileRef));
+                        .addComponent(new TextureRenderComponent(TileAtlas.getRegion(tileRef)).setStatic(true));
         obstacle.getComponent(TextureRenderComponent.class).scaleEntity();
-        obstacle.scaleHeight(0.5f);
+        obstacle.scaleHeight(OBSTACLE_HEIGHT);
         return obstacle;
     }
 
@@ -70,7 +74,7 @@ public class ObstacleFactory {
      */
     public static Entity createNonePhysicalTrap() {
         Entity trap = new Entity()
-                .addComponent(new TextureRenderComponent("images/trap.png"))
+                .addComponent(new TextureRenderComponent("images/trap.png").setStatic(true))
                 .addComponent(new PhysicsComponent())
                 .addComponent(new CombatStatsComponent(1000000, 50))
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.OBSTACLE))
@@ -89,7 +93,7 @@ public class ObstacleFactory {
      */
     public static Entity createPhysicalTrap() {
         Entity trap = new Entity()
-                .addComponent(new TextureRenderComponent("images/trap.png"))
+                .addComponent(new TextureRenderComponent("images/trap.png").setStatic(true))
                 .addComponent(new PhysicsComponent())
                 .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
                 .addComponent(new CombatStatsComponent(1000000, 1))
@@ -182,12 +186,7 @@ public class ObstacleFactory {
         win2.addAnimation("rotate", 0.3f, Animation.PlayMode.LOOP);
         win2.setAnimationScale(3f);
         win2.startAnimation("spawn");
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                win2.startAnimation("rotate");
-            }
-        }, 1f);
+        ServiceLocator.getSchedulerService().schedule(() -> win2.startAnimation("rotate"), 1000L);
 
 
         Entity win = new Entity()
@@ -469,7 +469,7 @@ public class WeaponFactory {
      */
     private static Entity createBaseArrow() {
         return new Entity()
-                .addComponent(new PhysicsComponent())
+                .addComponent(new PhysicsComponent().setFastMoving(true))
                 .addComponent(new PhysicsMovementComponent())
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PROJECTILEWEAPON))
                 .addComponent(new PlayerActions())
@@ -498,7 +498,7 @@ public class WeaponFactory {
         movingComponent.setMaxSpeed(new Vector2(speed, speed));
         Entity entity = new Entity()
                 .addComponent(animator)
-                .addComponent(new PhysicsComponent())
+                .addComponent(new PhysicsComponent().setFastMoving(true))
                 .addComponent(movingComponent)
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.MELEEWEAPON))
                 .addComponent(new CombatStatsComponent(PlayerConfig.HEALTH, PlayerConfig.BASE_ATTACK))
@@ -551,7 +551,7 @@ public class WeaponFactory {
 
         return new Entity()
                 .addComponent(animator)
-                .addComponent(new PhysicsComponent())
+                .addComponent(new PhysicsComponent().setFastMoving(true))
                 .addComponent(movingComponent)
                 .addComponent(new HitboxComponent().setLayer(PhysicsLayer.MELEEWEAPON))
                 .addComponent(new CombatStatsComponent(PlayerConfig.HEALTH, PlayerConfig.BASE_ATTACK))
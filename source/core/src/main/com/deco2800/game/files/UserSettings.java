@@ -92,6 +92,10 @@ public class UserSettings {
         public int fps = 60;
         public boolean fullscreen = true;
         public boolean vsync = true;
+        /**
+         * Step physics on its own thread while the frame renders.
+         */
+        public boolean physicsThread = false;
         /**
          * ui Scale. Currently unused, but can be implemented.
          */
@@ -0,0 +1,57 @@
+package com.deco2800.game.input;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A keyboard or mouse event, waiting to be handled by the {@link InputService} or kept in an
+ * {@link InputRecording}. Only the fields used by the event's type are set.
+ */
+class InputEvent implements Pool.Poolable {
+    enum Type {
+        KEY_DOWN, KEY_UP, KEY_TYPED, MOUSE_MOVED, SCROLLED, TOUCH_DOWN, TOUCH_DRAGGED, TOUCH_UP
+    }
+
+    Type type;
+    int keycode;
+    char character;
+    int screenX;
+    int screenY;
+    int pointer;
+    int button;
+    float amountX;
+    float amountY;
+    /**
+     * simulation tick the event was handled on, only used by recordings
+     */
+    long tick;
+    /**
+     * whether the event was handled while the game was paused, only used by recordings
+     */
+    boolean paused;
+
+    /**
+     * Copy another event into this one.
+     *
+     * @param other event to copy
+     * @return self
+     */
+    InputEvent set(InputEvent other) {
+        type = other.type;
+        keycode = other.keycode;
+        character = other.character;
+        screenX = other.screenX;
+        screenY = other.screenY;
+        pointer = other.pointer;
+        button = other.button;
+        amountX = other.amountX;
+        amountY = other.amountY;
+        tick = other.tick;
+        paused = other.paused;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        type = null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.deco2800.game.input;
+
+/**
+ * Records the events handled by the {@link InputService} into an {@link InputRecording}. Set it
+ * with {@link InputService#setRecorder(InputRecorder)}.
+ */
+public class InputRecorder {
+    private final InputRecording recording;
+
+    public InputRecorder(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Mark the end of the session, so a replay runs for as long as the session did.
+     *
+     * @param tick last simulation tick of the session
+     */
+    public void finish(long tick) {
+        recording.setTickCount(tick);
+    }
+
+    void record(InputEvent event, long tick, boolean paused) {
+        event.tick = tick;
+        event.paused = paused;
+        recording.addEvent(event);
+    }
+}
@@ -0,0 +1,253 @@
+package com.deco2800.game.input;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A recorded play session of one level: the level, the seed its randomness came from, and every
+ * keyboard and mouse event tagged with the simulation tick it was handled on. Replaying it with a
+ * fixed tick rate reproduces the session.
+ *
+ * <p>Recordings are stored in a compact binary format. Ticks are written as the difference from the
+ * previous event, so a few events per second take only a few bytes each.
+ */
+public class InputRecording {
+    /**
+     * player health to use when the level was started with its default health
+     */
+    public static final int DEFAULT_HEALTH = -1;
+    private static final Logger logger = LoggerFactory.getLogger(InputRecording.class);
+    private static final int MAGIC = 0x44524543; // "DREC"
+    private static final int VERSION = 1;
+    private static final int PAUSED_FLAG = 0x80;
+
+    private final long seed;
+    private final String level;
+    private final int playerHealth;
+    private final Array<InputEvent> events = new Array<>();
+    private long tickCount = 0L;
+
+    /**
+     * @param seed         level seed the session was played with
+     * @param level        name of the level, e.g. "game3"
+     * @param playerHealth health the player started with, or {@link #DEFAULT_HEALTH}
+     */
+    public InputRecording(long seed, String level, int playerHealth) {
+        this.seed = seed;
+        this.level = level;
+        this.playerHealth = playerHealth;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public int getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * @return number of ticks the session ran for
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return number of recorded events
+     */
+    public int getEventCount() {
+        return events.size;
+    }
+
+    InputEvent getEvent(int index) {
+        return events.get(index);
+    }
+
+    void addEvent(InputEvent event) {
+        events.add(new InputEvent().set(event));
+        tickCount = Math.max(tickCount, event.tick);
+    }
+
+    void setTickCount(long tickCount) {
+        this.tickCount = Math.max(this.tickCount, tickCount);
+    }
+
+    /**
+     * Save the recording to a file, logging any error.
+     *
+     * @param file file to write
+     */
+    public void save(FileHandle file) {
+        try (OutputStream output = new BufferedOutputStream(file.write(false))) {
+            write(new DataOutputStream(output));
+            logger.info("Saved {} input events over {} ticks to {}", events.size, tickCount, file.path());
+        } catch (IOException e) {
+            logger.error("Failed to save input recording to {}", file.path(), e);
+        }
+    }
+
+    /**
+     * Load a recording from a file.
+     *
+     * @param file file to read
+     * @return recording, or null if it could not be read
+     */
+    public static InputRecording load(FileHandle file) {
+        try (InputStream input = new BufferedInputStream(file.read())) {
+            return read(new DataInputStream(input));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to load input recording from {}", file.path(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Write the recording in its binary format.
+     *
+     * @param output output to write to
+     * @throws IOException if writing fails
+     */
+    public void write(DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeLong(seed);
+        output.writeUTF(level);
+        output.writeInt(playerHealth);
+        writeVarLong(output, tickCount);
+        writeVarLong(output, events.size);
+
+        long lastTick = 0L;
+        for (InputEvent event : events) {
+            writeVarLong(output, event.tick - lastTick);
+            lastTick = event.tick;
+            output.writeByte(event.type.ordinal() | (event.paused ? PAUSED_FLAG : 0));
+            switch (event.type) {
+                case KEY_DOWN:
+                case KEY_UP:
+                    writeVarLong(output, event.keycode);
+                    break;
+                case KEY_TYPED:
+                    output.writeChar(event.character);
+                    break;
+                case SCROLLED:
+                    output.writeFloat(event.amountX);
+                    output.writeFloat(event.amountY);
+                    break;
+                case MOUSE_MOVED:
+                    output.writeShort(event.screenX);
+                    output.writeShort(event.screenY);
+                    break;
+                case TOUCH_DRAGGED:
+                    output.writeShort(event.screenX);
+                    output.writeShort(event.screenY);
+                    output.writeByte(event.pointer);
+                    break;
+                default:
+                    output.writeShort(event.screenX);
+                    output.writeShort(event.screenY);
+                    output.writeByte(event.pointer);
+                    output.writeByte(event.button);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Read a recording in its binary format.
+     *
+     * @param input input to read from
+     * @return recording
+     * @throws IOException if reading fails or the input is not a recording
+     */
+    public static InputRecording read(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = input.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version " + version);
+        }
+        InputRecording recording = new InputRecording(input.readLong(), input.readUTF(), input.readInt());
+        recording.tickCount = readVarLong(input);
+        long eventCount = readVarLong(input);
+
+        InputEvent.Type[] types = InputEvent.Type.values();
+        long tick = 0L;
+        for (long i = 0; i < eventCount; i++) {
+            InputEvent event = new InputEvent();
+            tick += readVarLong(input);
+            event.tick = tick;
+            int header = input.readUnsignedByte();
+            event.paused = (header & PAUSED_FLAG) != 0;
+            event.type = types[header & ~PAUSED_FLAG];
+            switch (event.type) {
+                case KEY_DOWN:
+                case KEY_UP:
+                    event.keycode = (int) readVarLong(input);
+                    break;
+                case KEY_TYPED:
+                    event.character = input.readChar();
+                    break;
+                case SCROLLED:
+                    event.amountX = input.readFloat();
+                    event.amountY = input.readFloat();
+                    break;
+                case MOUSE_MOVED:
+                    event.screenX = input.readShort();
+                    event.screenY = input.readShort();
+                    break;
+                case TOUCH_DRAGGED:
+                    event.screenX = input.readShort();
+                    event.screenY = input.readShort();
+                    event.pointer = input.readByte();
+                    break;
+                default:
+                    event.screenX = input.readShort();
+                    event.screenY = input.readShort();
+                    event.pointer = input.readByte();
+                    event.button = input.readByte();
+                    break;
+            }
+            recording.events.add(event);
+        }
+        return recording;
+    }
+
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+}
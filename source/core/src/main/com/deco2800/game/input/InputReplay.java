@@ -0,0 +1,58 @@
+package com.deco2800.game.input;
+
+/**
+ * Plays an {@link InputRecording} back through the {@link InputService}. Each event is queued on the
+ * same simulation tick, and in the same paused state, it was recorded on. Set it with {@link
+ * InputService#setReplay(InputReplay)}.
+ */
+public class InputReplay {
+    private final InputRecording recording;
+    private int nextEvent = 0;
+    private long lastTick = 0L;
+
+    public InputReplay(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * @return true once every event has been queued and the recorded session length has run
+     */
+    public boolean isFinished() {
+        return nextEvent >= recording.getEventCount() && lastTick >= recording.getTickCount();
+    }
+
+    /**
+     * @return fraction of the recorded ticks replayed so far, from 0 to 1
+     */
+    public float getProgress() {
+        if (recording.getTickCount() == 0) {
+            return 1f;
+        }
+        return Math.min(1f, (float) lastTick / recording.getTickCount());
+    }
+
+    /**
+     * Queue the events recorded for a tick. Events recorded while paused are only queued while
+     * paused, and are all queued on the first paused frame, since pauses can last any number of
+     * frames.
+     *
+     * @param inputService input service to queue events on
+     * @param tick         current simulation tick
+     * @param paused       whether the game is paused
+     */
+    void queueEvents(InputService inputService, long tick, boolean paused) {
+        lastTick = tick;
+        while (nextEvent < recording.getEventCount()) {
+            InputEvent event = recording.getEvent(nextEvent);
+            if (event.tick > tick || (event.tick == tick && event.paused && !paused)) {
+                return;
+            }
+            inputService.queueEvent(event);
+            nextEvent++;
+        }
+    }
+}
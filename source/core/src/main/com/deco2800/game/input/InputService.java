@@ -4,6 +4,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.input.GestureDetector;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +22,9 @@ import java.util.List;
  *
  * <p>When an input is received, it is passed to registered input handlers in descending priority
  * order and stops as soon as the input is handled.
+ *
+ * <p>Keyboard and mouse events can be queued instead (see {@link #setQueueEvents(boolean)}), and then
+ * handled at the start of a simulation tick by {@link #processQueuedEvents()}.
  */
 public class InputService implements InputProcessor, GestureDetector.GestureListener {
     private static final Logger logger = LoggerFactory.getLogger(InputService.class);
@@ -28,6 +35,21 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
 
     private final List<InputComponent> inputHandlers = new ArrayList<>();
     private final InputFactory inputFactory;
+    private final Array<InputEvent> queuedEvents = new Array<>();
+    private final Pool<InputEvent> eventPool = new Pool<InputEvent>() {
+        @Override
+        protected InputEvent newObject() {
+            return new InputEvent();
+        }
+    };
+    /**
+     * filled in and thrown away for live events while replaying
+     */
+    private final InputEvent ignoredEvent = new InputEvent();
+    private boolean queueEvents = false;
+    private boolean processingQueue = false;
+    private InputRecorder recorder = null;
+    private InputReplay replay = null;
 
     public InputService() {
         this(InputFactory.createFromInputType(inputType));
@@ -68,6 +90,119 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
         inputHandlers.remove(inputHandler);
     }
 
+    /**
+     * Queue keyboard and mouse events until {@link #processQueuedEvents()} is called, instead of
+     * handling them as soon as they arrive.
+     *
+     * @param queueEvents true to queue events
+     */
+    public void setQueueEvents(boolean queueEvents) {
+        this.queueEvents = queueEvents;
+    }
+
+    /**
+     * Record every event handled from the queue, tagged with the simulation tick it was handled on.
+     *
+     * @param recorder recorder, or null to stop recording
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Replay a recording. Its events are queued on the tick they were recorded on, and live keyboard
+     * and mouse events are ignored until the replay has finished. Ticks are counted by the
+     * registered time source, so it should be new when the replay starts. Events must be queued (see {@link
+     * #setQueueEvents(boolean)}).
+     *
+     * @param replay replay, or null to stop replaying
+     */
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Handle all queued events in the order they arrived.
+     */
+    public void processQueuedEvents() {
+        long tick = 0L;
+        boolean paused = false;
+        if (recorder != null || replay != null) {
+            GameTime timeSource = ServiceLocator.getTimeSource();
+            tick = timeSource.getTicks();
+            paused = timeSource.isPaused();
+        }
+        if (replay != null) {
+            replay.queueEvents(this, tick, paused);
+            if (replay.isFinished()) {
+                logger.info("Replay finished on tick {}, live input resumed", tick);
+                replay = null;
+            }
+        }
+
+        processingQueue = true;
+        for (int i = 0; i < queuedEvents.size; i++) {
+            InputEvent event = queuedEvents.get(i);
+            if (recorder != null) {
+                recorder.record(event, tick, paused);
+            }
+            switch (event.type) {
+                case KEY_DOWN:
+                    keyDown(event.keycode);
+                    break;
+                case KEY_UP:
+                    keyUp(event.keycode);
+                    break;
+                case KEY_TYPED:
+                    keyTyped(event.character);
+                    break;
+                case MOUSE_MOVED:
+                    mouseMoved(event.screenX, event.screenY);
+                    break;
+                case SCROLLED:
+                    scrolled(event.amountX, event.amountY);
+                    break;
+                case TOUCH_DOWN:
+                    touchDown(event.screenX, event.screenY, event.pointer, event.button);
+                    break;
+                case TOUCH_DRAGGED:
+                    touchDragged(event.screenX, event.screenY, event.pointer);
+                    break;
+                case TOUCH_UP:
+                    touchUp(event.screenX, event.screenY, event.pointer, event.button);
+                    break;
+            }
+        }
+        eventPool.freeAll(queuedEvents);
+        queuedEvents.clear();
+        processingQueue = false;
+    }
+
+    /**
+     * Queue a copy of an event, e.g. one read from a recording.
+     *
+     * @param event event to copy
+     */
+    void queueEvent(InputEvent event) {
+        queuedEvents.add(eventPool.obtain().set(event));
+    }
+
+    private InputEvent queue(InputEvent.Type type) {
+        if (processingQueue) {
+            return null;
+        }
+        if (replay != null) {
+            return ignoredEvent;
+        }
+        if (!queueEvents) {
+            return null;
+        }
+        InputEvent event = eventPool.obtain();
+        event.type = type;
+        queuedEvents.add(event);
+        return event;
+    }
+
     /**
      * Iterates over registered input handlers in descending priority and stops as soon as the input is
      * processed.
@@ -77,6 +212,11 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean keyDown(int keycode) {
+        InputEvent queued = queue(InputEvent.Type.KEY_DOWN);
+        if (queued != null) {
+            queued.keycode = keycode;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.keyDown(keycode)) {
                 logger.debug("keyDown input handled by {}", inputHandler);
@@ -96,6 +236,11 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean keyTyped(char character) {
+        InputEvent queued = queue(InputEvent.Type.KEY_TYPED);
+        if (queued != null) {
+            queued.character = character;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.keyTyped(character)) {
                 logger.debug("keyTyped input handled by {}", inputHandler);
@@ -115,6 +260,11 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean keyUp(int keycode) {
+        InputEvent queued = queue(InputEvent.Type.KEY_UP);
+        if (queued != null) {
+            queued.keycode = keycode;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.keyUp(keycode)) {
                 logger.debug("keyUp input handled by {}", inputHandler);
@@ -134,6 +284,12 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
+        InputEvent queued = queue(InputEvent.Type.MOUSE_MOVED);
+        if (queued != null) {
+            queued.screenX = screenX;
+            queued.screenY = screenY;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.mouseMoved(screenX, screenY)) {
                 logger.debug("mouseMoved input handled by {}", inputHandler);
@@ -153,6 +309,12 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean scrolled(float amountX, float amountY) {
+        InputEvent queued = queue(InputEvent.Type.SCROLLED);
+        if (queued != null) {
+            queued.amountX = amountX;
+            queued.amountY = amountY;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.scrolled(amountX, amountY)) {
                 logger.debug("scrolled input handled by {}", inputHandler);
@@ -172,6 +334,14 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        InputEvent queued = queue(InputEvent.Type.TOUCH_DOWN);
+        if (queued != null) {
+            queued.screenX = screenX;
+            queued.screenY = screenY;
+            queued.pointer = pointer;
+            queued.button = button;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.touchDown(screenX, screenY, pointer, button)) {
                 logger.debug("touchDown input handled by {}", inputHandler);
@@ -191,6 +361,13 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean touchDragged(int screenX, int screenY, int pointer) {
+        InputEvent queued = queue(InputEvent.Type.TOUCH_DRAGGED);
+        if (queued != null) {
+            queued.screenX = screenX;
+            queued.screenY = screenY;
+            queued.pointer = pointer;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.touchDragged(screenX, screenY, pointer)) {
                 logger.debug("touchDragged input handled by {}", inputHandler);
@@ -210,6 +387,14 @@ public class InputService implements InputProcessor, GestureDetector.GestureList
      */
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        InputEvent queued = queue(InputEvent.Type.TOUCH_UP);
+        if (queued != null) {
+            queued.screenX = screenX;
+            queued.screenY = screenY;
+            queued.pointer = pointer;
+            queued.button = button;
+            return true;
+        }
         for (InputComponent inputHandler : inputHandlers) {
             if (inputHandler.touchUp(screenX, screenY, pointer, button)) {
                 logger.debug("touchUp input handled by {}", inputHandler);
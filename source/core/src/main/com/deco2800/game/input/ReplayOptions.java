@@ -0,0 +1,88 @@
+package com.deco2800.game.input;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Options for recording and replaying play sessions, usually given on the command line:
+ *
+ * <pre>
+ * --record &lt;directory&gt;   save a recording of every level played, named after the level
+ * --replay &lt;file&gt;        replay a recording instead of showing the main menu
+ * --replay-speed &lt;n&gt;     run n simulation ticks per normal tick while replaying
+ * --keep-open            keep playing after the replay finishes, instead of exiting
+ * --seed &lt;n&gt;             use the same seed for every level, e.g. for benchmarks
+ * </pre>
+ */
+public class ReplayOptions {
+    private static final Logger logger = LoggerFactory.getLogger(ReplayOptions.class);
+
+    /**
+     * directory to save recordings to, or null to not record
+     */
+    public String recordDirectory = null;
+    /**
+     * recording to replay, or null to play normally
+     */
+    public String replayFile = null;
+    /**
+     * simulation ticks to run per normal tick while replaying
+     */
+    public int replaySpeed = 1;
+    /**
+     * whether to exit the game once the replay has finished
+     */
+    public boolean exitAfterReplay = true;
+    /**
+     * seed for every level, or null for a new random seed each level
+     */
+    public Long seed = null;
+
+    /**
+     * Read options from command line arguments. Unknown arguments are ignored.
+     *
+     * @param args command line arguments
+     * @return options
+     */
+    public static ReplayOptions parse(String[] args) {
+        ReplayOptions options = new ReplayOptions();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--record":
+                    options.recordDirectory = nextArg(args, ++i);
+                    break;
+                case "--replay":
+                    options.replayFile = nextArg(args, ++i);
+                    break;
+                case "--replay-speed":
+                    try {
+                        options.replaySpeed = Math.max(1, Integer.parseInt(nextArg(args, ++i)));
+                    } catch (NumberFormatException e) {
+                        logger.error("Invalid replay speed {}", args[i]);
+                    }
+                    break;
+                case "--seed":
+                    try {
+                        options.seed = Long.parseLong(nextArg(args, ++i));
+                    } catch (NumberFormatException e) {
+                        logger.error("Invalid seed {}", args[i]);
+                    }
+                    break;
+                case "--keep-open":
+                    options.exitAfterReplay = false;
+                    break;
+                default:
+                    logger.debug("Ignoring argument {}", args[i]);
+                    break;
+            }
+        }
+        return options;
+    }
+
+    private static String nextArg(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(args[index - 1] + " needs a value");
+        }
+        return args[index];
+    }
+}
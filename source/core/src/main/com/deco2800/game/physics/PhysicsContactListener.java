@@ -1,6 +1,7 @@
 package com.deco2800.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,9 +14,34 @@ import org.slf4j.LoggerFactory;
  *
  * <p>On contact end: evt = "collisionEnd", params = ({@link Fixture} thisFixture, {@link Fixture}
  * otherFixture)
+ *
+ * <p>When physics steps off the game thread, events are queued instead and fired later by {@link
+ * #fireQueuedEvents()}, so listeners always run on the game thread.
  */
 public class PhysicsContactListener implements ContactListener {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsContactListener.class);
+    private final Array<QueuedEvent> queuedEvents = new Array<>(false, 16);
+    private boolean queueEvents = false;
+
+    /**
+     * Queue collision events instead of firing them immediately.
+     *
+     * @param queueEvents true to queue events until {@link #fireQueuedEvents()}
+     */
+    public void setQueueEvents(boolean queueEvents) {
+        this.queueEvents = queueEvents;
+    }
+
+    /**
+     * Fire all queued collision events in the order they happened.
+     */
+    public void fireQueuedEvents() {
+        for (int i = 0; i < queuedEvents.size; i++) {
+            QueuedEvent event = queuedEvents.get(i);
+            fireEventOn(event.fixture, event.evt, event.otherFixture);
+        }
+        queuedEvents.clear();
+    }
 
     @Override
     public void beginContact(Contact contact) {
@@ -40,10 +66,30 @@ public class PhysicsContactListener implements ContactListener {
     }
 
     private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+        if (queueEvents) {
+            queuedEvents.add(new QueuedEvent(fixture, evt, otherFixture));
+            return;
+        }
+        fireEventOn(fixture, evt, otherFixture);
+    }
+
+    private void fireEventOn(Fixture fixture, String evt, Fixture otherFixture) {
         BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
         if (userData != null && userData.entity != null) {
             logger.debug("{} on entity {}", evt, userData.entity);
             userData.entity.getEvents().trigger(evt, fixture, otherFixture);
         }
     }
+
+    private static class QueuedEvent {
+        private final Fixture fixture;
+        private final String evt;
+        private final Fixture otherFixture;
+
+        QueuedEvent(Fixture fixture, String evt, Fixture otherFixture) {
+            this.fixture = fixture;
+            this.evt = evt;
+            this.otherFixture = otherFixture;
+        }
+    }
 }
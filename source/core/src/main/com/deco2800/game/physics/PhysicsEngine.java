@@ -10,22 +10,51 @@ import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
+ *
+ * <p>Physics runs at a fixed timestep, so a frame usually ends part way between two steps (see
+ * {@link #getInterpolationAlpha()}). The game loop sets the timestep to its tick length and calls
+ * {@link #step()} once per tick, so {@link GameTime} alone decides how far a slow frame catches up.
+ *
+ * <p>Optionally, steps can run on a dedicated thread (see {@link #setThreaded(boolean)}). The step
+ * started by {@link #step()} or {@link #update()} then runs while the game does other work, and {@link #finishStep()} waits
+ * for it. Bodies must only be touched between finishStep() and the next update(); collision events
+ * from the step are queued and fired from finishStep() on the calling thread.
  */
 public class PhysicsEngine implements Disposable {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
     private static final float MAX_UPDATE_TIME = 0.25f;
-    private static final float PHYSICS_TIMESTEP = 0.016f;
+    private static final float DEFAULT_TIMESTEP = 0.016f;
     private static final Vector2 GRAVITY = new Vector2(0f, -0f);
-    private static final int VELOCITY_ITERATIONS = 6;
-    private static final int POSITION_ITERATIONS = 2;
+    private static final int DEFAULT_VELOCITY_ITERATIONS = 6;
+    private static final int DEFAULT_POSITION_ITERATIONS = 2;
+    private static final int DEFAULT_FAST_BODY_SUBSTEPS = 2;
 
     private final World world;
     private final GameTime timeSource;
+    private final PhysicsContactListener contactListener = new PhysicsContactListener();
     private final SingleHitCallback singleHitCallback = new SingleHitCallback();
+    private float timestep = DEFAULT_TIMESTEP;
     private float accumulator;
+    private int velocityIterations = DEFAULT_VELOCITY_ITERATIONS;
+    private int positionIterations = DEFAULT_POSITION_ITERATIONS;
+    private int fastBodySubsteps = DEFAULT_FAST_BODY_SUBSTEPS;
+    private int fastBodyCount;
+
+    private ExecutorService stepThread;
+    private Future<?> pendingStep;
+
+    // Statistics, written by the step thread when threaded
+    private volatile int lastFrameSteps;
+    private volatile float lastFrameStepTime;
+    private int contactCount;
 
     public PhysicsEngine() {
         this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -33,42 +62,231 @@ public class PhysicsEngine implements Disposable {
 
     public PhysicsEngine(World world, GameTime timeSource) {
         this.world = world;
-        world.setContactListener(new PhysicsContactListener());
+        world.setContactListener(contactListener);
         this.timeSource = timeSource;
     }
 
     public void update() {
+        update(timeSource.getDeltaTime());
+    }
+
+    /**
+     * Step physics by an amount of time, e.g. a tick's length once the tick is over.
+     *
+     * @param deltaTime time passed in seconds
+     */
+    public void update(float deltaTime) {
+        finishStep();
+
         // Updating physics isn't as easy as triggering an update every frame. Each frame could take a
         // different amount of time to run, but physics simulations are only stable if computed at a
         // consistent frame rate! See: https://gafferongames.com/post/fix_your_timestep/
-        float deltaTime = timeSource.getDeltaTime();
         float maxTime = Math.min(deltaTime, MAX_UPDATE_TIME);
         accumulator += maxTime;
 
         // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
         // we need to catch up, we'll compute multiple in a row before getting to rendering.
-        while (accumulator >= PHYSICS_TIMESTEP) {
-            world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-            accumulator -= PHYSICS_TIMESTEP;
+        int steps = (int) (accumulator / timestep);
+        accumulator -= steps * timestep;
+        runSteps(steps);
+    }
+
+    /**
+     * Run exactly one physics step of the timestep, e.g. once per simulation tick. Catching up after
+     * slow frames is left to the caller.
+     */
+    public void step() {
+        finishStep();
+        runSteps(1);
+    }
+
+    private void runSteps(int steps) {
+        // Fast projectiles can pass through thin colliders in one step, so split steps while any fly
+        int substeps = fastBodyCount > 0 ? fastBodySubsteps : 1;
+        if (stepThread != null) {
+            pendingStep = stepThread.submit(() -> step(steps, substeps));
+        } else {
+            step(steps, substeps);
+            contactCount = world.getContactCount();
+        }
+    }
+
+    private void step(int steps, int substeps) {
+        float substepTime = timestep / substeps;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            for (int j = 0; j < substeps; j++) {
+                world.step(substepTime, velocityIterations, positionIterations);
+            }
+        }
+        lastFrameSteps = steps;
+        lastFrameStepTime = (System.nanoTime() - start) / 1000000f;
+    }
+
+    /**
+     * Wait for a step running on the physics thread to finish, then fire its collision events. Does
+     * nothing if physics is not threaded or no step is running. If the step failed, physics falls
+     * back to running on the calling thread.
+     */
+    public void finishStep() {
+        if (pendingStep == null) {
+            return;
+        }
+        try {
+            pendingStep.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Physics step failed, falling back to stepping on the game thread", e.getCause());
+            pendingStep = null;
+            setThreaded(false);
+        }
+        pendingStep = null;
+        contactCount = world.getContactCount();
+        contactListener.fireQueuedEvents();
+    }
+
+    /**
+     * Run physics steps on a dedicated thread, pipelined with rendering, or on the calling thread
+     * (default).
+     *
+     * @param threaded true to step on a dedicated thread
+     */
+    public void setThreaded(boolean threaded) {
+        if (threaded == isThreaded()) {
+            return;
+        }
+        finishStep();
+        if (threaded) {
+            stepThread = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "physics");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            stepThread.shutdown();
+            stepThread = null;
+        }
+        contactListener.setQueueEvents(threaded);
+        logger.info("Physics stepping on {} thread", threaded ? "dedicated" : "game");
+    }
+
+    public boolean isThreaded() {
+        return stepThread != null;
+    }
+
+    /**
+     * How far the current frame is between the last physics step and the next one. Render
+     * positions should be interpolated by this much from the state before the last step to the
+     * current state.
+     *
+     * @return interpolation alpha, from 0 (last step) up to 1 (next step)
+     */
+    public float getInterpolationAlpha() {
+        return Math.min(accumulator / timestep, 1f);
+    }
+
+    public float getTimestep() {
+        return timestep;
+    }
+
+    /**
+     * Set the fixed physics timestep. With render interpolation, this can be raised (e.g. to 1/30 s)
+     * to save CPU without visible stutter.
+     *
+     * @param timestep seconds of simulation per physics step
+     */
+    public void setTimestep(float timestep) {
+        if (timestep <= 0f) {
+            throw new IllegalArgumentException("Physics timestep must be positive, got " + timestep);
         }
+        this.timestep = timestep;
+    }
+
+    /**
+     * Set the Box2D solver iteration counts. Fewer iterations are cheaper but less accurate.
+     *
+     * @param velocityIterations velocity constraint iterations per step
+     * @param positionIterations position constraint iterations per step
+     */
+    public void setIterations(int velocityIterations, int positionIterations) {
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+    }
+
+    public int getVelocityIterations() {
+        return velocityIterations;
+    }
+
+    public int getPositionIterations() {
+        return positionIterations;
+    }
+
+    /**
+     * Set how many sub-steps each step is split into while fast bodies are in flight.
+     *
+     * @param fastBodySubsteps sub-steps per step, 1 to disable
+     */
+    public void setFastBodySubsteps(int fastBodySubsteps) {
+        this.fastBodySubsteps = Math.max(fastBodySubsteps, 1);
+    }
+
+    /**
+     * Register a fast moving body, such as a projectile. Steps are sub-stepped while any are
+     * registered.
+     */
+    public void registerFastBody() {
+        fastBodyCount++;
+    }
+
+    /**
+     * Unregister a fast moving body registered with {@link #registerFastBody()}.
+     */
+    public void unregisterFastBody() {
+        fastBodyCount = Math.max(fastBodyCount - 1, 0);
+    }
+
+    /**
+     * @return physics steps run by the last step() or update()
+     */
+    public int getLastFrameSteps() {
+        return lastFrameSteps;
+    }
+
+    /**
+     * @return time spent by the last step() or update(), in milliseconds
+     */
+    public float getLastFrameStepTime() {
+        return lastFrameStepTime;
+    }
+
+    /**
+     * @return number of contacts in the world after the last finished step
+     */
+    public int getContactCount() {
+        return contactCount;
     }
 
     public Body createBody(BodyDef bodyDef) {
+        finishStep();
         logger.debug("Creating physics body {}", bodyDef);
         return world.createBody(bodyDef);
     }
 
     public void destroyBody(Body body) {
+        finishStep();
         logger.debug("Destroying physics body {}", body);
         world.destroyBody(body);
     }
 
     public Joint createJoint(JointDef jointDef) {
+        finishStep();
         logger.debug("Creating physics joint {}", jointDef);
         return world.createJoint(jointDef);
     }
 
     public void destroyJoint(Joint joint) {
+        finishStep();
         logger.debug("Destroying physics joint {}", joint);
         world.destroyJoint(joint);
     }
@@ -93,6 +311,7 @@ public class PhysicsEngine implements Disposable {
         if (from.cpy().sub(to).len() == 0) {
             return false;
         }
+        finishStep();
         singleHitCallback.didHit = false;
         singleHitCallback.layerMask = layerMask;
         singleHitCallback.hit = hit;
@@ -102,6 +321,7 @@ public class PhysicsEngine implements Disposable {
 
     @Override
     public void dispose() {
+        setThreaded(false);
         world.dispose();
     }
 
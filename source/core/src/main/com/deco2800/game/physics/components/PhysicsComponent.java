@@ -21,6 +21,12 @@ public class PhysicsComponent extends Component {
     private static final float GROUND_FRICTION = 5f;
     private final PhysicsEngine physics;
     private final Body body;
+    // Body position at the end of the last two ticks, for render interpolation
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 currentPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+    private boolean interpolated = false;
+    private boolean fastMoving = false;
 
     /**
      * Create a physics component with default settings.
@@ -57,6 +63,20 @@ public class PhysicsComponent extends Component {
         return this;
     }
 
+    /**
+     * Mark the body as fast moving, e.g. a projectile. Fast bodies use continuous collision
+     * detection, and physics is sub-stepped while any are alive so they don't pass through thin
+     * colliders.
+     *
+     * @param fastMoving true if the body moves fast
+     * @return self
+     */
+    public PhysicsComponent setFastMoving(boolean fastMoving) {
+        this.fastMoving = fastMoving;
+        body.setBullet(fastMoving);
+        return this;
+    }
+
     /**
      * Get the physics body.
      *
@@ -75,7 +95,21 @@ public class PhysicsComponent extends Component {
         userData.entity = entity;
         body.setUserData(userData);
 
-        entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+        entity.getEvents().addListener("setPosition", (Vector2 pos) -> {
+            body.setTransform(pos, 0f);
+            previousPosition.set(pos);
+            currentPosition.set(pos);
+        });
+
+        // Static bodies never move, so there is nothing to interpolate
+        if (body.getType() != BodyType.StaticBody) {
+            previousPosition.set(entity.getPosition());
+            currentPosition.set(previousPosition);
+            interpolated = true;
+        }
+        if (fastMoving) {
+            physics.registerFastBody();
+        }
     }
 
     /**
@@ -85,12 +119,30 @@ public class PhysicsComponent extends Component {
     @Override
     public void earlyUpdate() {
         Vector2 bodyPos = body.getPosition();
+        previousPosition.set(currentPosition);
+        currentPosition.set(bodyPos);
         // Don't notify position changes due to physics
         entity.setPosition(bodyPos, false);
     }
 
+    /**
+     * The render position is interpolated between the last two ticks, so movement looks smooth
+     * whatever the frame rate.
+     */
+    @Override
+    public void frameUpdate() {
+        if (interpolated) {
+            float alpha = ServiceLocator.getTimeSource().getInterpolationAlpha();
+            renderPosition.set(previousPosition).lerp(currentPosition, alpha);
+            entity.setRenderPosition(renderPosition);
+        }
+    }
+
     @Override
     public void dispose() {
+        if (fastMoving) {
+            physics.unregisterFastBody();
+        }
         physics.destroyBody(body);
     }
 
@@ -2,6 +2,7 @@ package com.deco2800.game.physics.components;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.deco2800.game.ai.steering.SteeringComponent;
 import com.deco2800.game.components.CombatStatsComponent;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.utils.math.Vector2Utils;
@@ -15,17 +16,22 @@ import org.slf4j.LoggerFactory;
 public class PhysicsMovementComponent extends Component {
     private static final Logger logger = LoggerFactory.getLogger(PhysicsMovementComponent.class);
     private PhysicsComponent physicsComponent;
+    private SteeringComponent steeringComponent;
     private Vector2 targetPosition;
     private boolean movementEnabled = true;
     private Vector2 maxSpeed = Vector2Utils.ONE;
     private boolean stopped = false;
     private String previousDirection = null;
     private boolean death = false;
+    private boolean reducedAnimationEvents = false;
+    // Direction of the last start event since the entity last stopped, used to skip repeats
+    private String startedDirection = null;
 
 
     @Override
     public void create() {
         physicsComponent = entity.getComponent(PhysicsComponent.class);
+        steeringComponent = entity.getComponent(SteeringComponent.class);
     }
 
     @Override
@@ -66,6 +72,7 @@ public class PhysicsMovementComponent extends Component {
                         break;
                 }
                 stopped = true;
+                startedDirection = null;
             } else {
                 stopped = false;
             }
@@ -81,7 +88,8 @@ public class PhysicsMovementComponent extends Component {
 
     /**
      * Set a target to move towards. The entity will be steered towards it in a straight line, not
-     * using pathfinding or avoiding other entities.
+     * using pathfinding. If the entity has a {@link SteeringComponent}, it will steer around other
+     * NPCs on the way.
      *
      * @param target target position
      */
@@ -94,12 +102,22 @@ public class PhysicsMovementComponent extends Component {
         this.maxSpeed = maxSpeed;
     }
 
+    /**
+     * Only trigger a direction start event when the direction changes, instead of every frame. Used
+     * for NPCs at a reduced AI level of detail, where nobody is close enough to see the difference.
+     *
+     * @param reduced true to skip repeated direction events, false to trigger them every frame
+     */
+    public void setReducedAnimationEvents(boolean reduced) {
+        this.reducedAnimationEvents = reduced;
+    }
+
     /**
      * enemy move down
      */
     public void downAnimation() {
         previousDirection = "down";
-        this.getEntity().getEvents().trigger("DownStart");
+        triggerStart("DownStart");
     }
 
     /**
@@ -107,7 +125,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void upAnimation() {
         previousDirection = "up";
-        this.getEntity().getEvents().trigger("UpStart");
+        triggerStart("UpStart");
     }
 
     /**
@@ -115,7 +133,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void leftAnimation() {
         previousDirection = "left";
-        this.getEntity().getEvents().trigger("LeftStart");
+        triggerStart("LeftStart");
     }
 
     /**
@@ -123,7 +141,7 @@ public class PhysicsMovementComponent extends Component {
      */
     public void rightAnimation() {
         previousDirection = "right";
-        this.getEntity().getEvents().trigger("RightStart");
+        triggerStart("RightStart");
     }
 
     /**
@@ -172,8 +190,19 @@ public class PhysicsMovementComponent extends Component {
     }
 
 
+    private void triggerStart(String event) {
+        if (reducedAnimationEvents && previousDirection.equals(startedDirection)) {
+            return;
+        }
+        startedDirection = previousDirection;
+        this.getEntity().getEvents().trigger(event);
+    }
+
     private void updateDirection(Body body) {
         Vector2 desiredVelocity = getDirection().scl(maxSpeed);
+        if (steeringComponent != null) {
+            steeringComponent.steer(desiredVelocity);
+        }
         setToVelocity(body, desiredVelocity);
         directionAnimation();
     }
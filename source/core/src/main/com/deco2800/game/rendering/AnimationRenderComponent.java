@@ -3,6 +3,7 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.deco2800.game.services.GameTime;
@@ -37,8 +38,12 @@ public class AnimationRenderComponent extends RenderComponent {
     private final Map<String, Animation<TextureRegion>> animations;
     private Animation<TextureRegion> currentAnimation;
     private String currentAnimationName;
+    private TextureRegion currentFrame;
     private float animationPlayTime;
     private float scaleFactor;
+    // Reused every frame to avoid allocating
+    private final Vector2 renderPosition = new Vector2();
+    private final Vector2 renderScale = new Vector2();
 
 
     /**
@@ -138,6 +143,7 @@ public class AnimationRenderComponent extends RenderComponent {
         currentAnimation = animation;
         currentAnimationName = name;
         animationPlayTime = 0f;
+        currentFrame = animation.getKeyFrame(0f);
         logger.debug("Starting animation {}", name);
     }
 
@@ -154,6 +160,7 @@ public class AnimationRenderComponent extends RenderComponent {
         logger.debug("Stopping animation {}", currentAnimationName);
         currentAnimation = null;
         currentAnimationName = null;
+        currentFrame = null;
         animationPlayTime = 0f;
         return true;
     }
@@ -167,48 +174,65 @@ public class AnimationRenderComponent extends RenderComponent {
         return currentAnimationName;
     }
 
+    /**
+     * The entity's area, grown around its center by the animation scale.
+     */
     @Override
-    protected void draw(SpriteBatch batch) {
+    public boolean getBounds(Rectangle bounds) {
+        super.getBounds(bounds);
+        if (scaleFactor != 1f) {
+            float centerX = bounds.x + bounds.width / 2f;
+            float centerY = bounds.y + bounds.height / 2f;
+            bounds.setSize(bounds.width * scaleFactor, bounds.height * scaleFactor);
+            bounds.setCenter(centerX, centerY);
+        }
+        return true;
+    }
+
+    /**
+     * Advance the animation by one simulation tick, so it plays at the same speed however fast
+     * frames are drawn.
+     */
+    @Override
+    public void update() {
         if (currentAnimation == null) {
             return;
         }
+        animationPlayTime += timeSource.getDeltaTime();
+        currentFrame = currentAnimation.getKeyFrame(animationPlayTime);
+    }
+
+    @Override
+    protected void draw(SpriteBatch batch) {
+        if (currentFrame == null) {
+            return;
+        }
         if (scaleFactor != 1f) {
             drawWithScale(batch);
             return;
         }
-        Vector2 positionCenter = entity.getCenterPosition();
-        float angle = entity.getAngle();
-        Sprite sprite = new Sprite(currentAnimation.getKeyFrame(animationPlayTime));
-        sprite.setScale(entity.getScale().x / sprite.getWidth(),
-                entity.getScale().y / sprite.getHeight());
-        sprite.setRotation(angle);
-        sprite.setCenter(positionCenter.x, positionCenter.y);
-        sprite.draw(batch);
-        animationPlayTime += timeSource.getDeltaTime();
+        Vector2 pos = entity.getRenderPosition(renderPosition);
+        Vector2 size = entity.getScale(renderScale);
+        // Rotate around the entity's center
+        batch.draw(currentFrame, pos.x, pos.y, size.x / 2f, size.y / 2f, size.x, size.y, 1f, 1f,
+                entity.getAngle());
     }
 
     protected void drawWithScale(SpriteBatch batch) {
-        if (currentAnimation == null) {
+        if (currentFrame == null) {
             return;
         }
-        TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-
-        Vector2 scale = entity.getScale().cpy();
-        Vector2 pos = entity.getPosition().cpy();
-
-        // apply scale if one exists
-        if (scaleFactor != 1f) {
-            scale.scl(scaleFactor);
-            /* Without scaling, the animation center position will be (x/2, y/2).
-            Where x, y are the entities scale. If we scale up by 3, this position
-            becomes (3x/2, 3y/2). We need to readjust the position to (x/2, y/2).
-            We do this by subtracting the difference, which is (x, y) * (scaleFactor - 1) / 2.
-            E.G. (3x/2, 3y/2) - ((x, y) * (3 - 1) / 2) = (x/2, y/2) */
-            pos.sub(entity.getScale().cpy().scl((scaleFactor - 1f) / 2f));
-        }
-
-        batch.draw(region, pos.x, pos.y, scale.x, scale.y);
-        animationPlayTime += timeSource.getDeltaTime();
+        Vector2 pos = entity.getRenderPosition(renderPosition);
+        Vector2 size = entity.getScale(renderScale);
+
+        /* Without scaling, the animation center position will be (x/2, y/2).
+        Where x, y are the entities scale. If we scale up by 3, this position
+        becomes (3x/2, 3y/2). We need to readjust the position to (x/2, y/2).
+        We do this by subtracting the difference, which is (x, y) * (scaleFactor - 1) / 2.
+        E.G. (3x/2, 3y/2) - ((x, y) * (3 - 1) / 2) = (x/2, y/2) */
+        float offset = (scaleFactor - 1f) / 2f;
+        batch.draw(currentFrame, pos.x - size.x * offset, pos.y - size.y * offset,
+                size.x * scaleFactor, size.y * scaleFactor);
     }
 
     /**
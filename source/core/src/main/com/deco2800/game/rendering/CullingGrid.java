@@ -0,0 +1,173 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * A uniform grid of renderables by their world bounds, for finding the renderables in view without
+ * checking every one. Unlike {@link com.deco2800.game.ai.steering.SpatialHashGrid}, items are kept
+ * between frames and only moved when their bounds cross into different cells, so renderables that
+ * never move are placed once.
+ */
+public class CullingGrid {
+    private final float cellSize;
+    private final LongMap<Array<Entry>> cells = new LongMap<>();
+    private final IdentityMap<Renderable, Entry> entries = new IdentityMap<>();
+    private int queryId = 0;
+
+    /**
+     * @param cellSize width and height of a cell in metres
+     */
+    public CullingGrid(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive, got " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add a renderable, or update its bounds if it's already in the grid. It's only moved between
+     * cells when its bounds cover different cells.
+     *
+     * @param renderable renderable to add
+     * @param bounds     world bounds of the renderable
+     */
+    public void put(Renderable renderable, Rectangle bounds) {
+        int minX = toCell(bounds.x);
+        int minY = toCell(bounds.y);
+        int maxX = toCell(bounds.x + bounds.width);
+        int maxY = toCell(bounds.y + bounds.height);
+
+        Entry entry = entries.get(renderable);
+        if (entry == null) {
+            entry = new Entry(renderable);
+            entries.put(renderable, entry);
+        } else if (entry.minX == minX && entry.minY == minY && entry.maxX == maxX && entry.maxY == maxY) {
+            entry.bounds.set(bounds);
+            return;
+        } else {
+            removeFromCells(entry);
+        }
+
+        entry.bounds.set(bounds);
+        entry.minX = minX;
+        entry.minY = minY;
+        entry.maxX = maxX;
+        entry.maxY = maxY;
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                long key = key(cellX, cellY);
+                Array<Entry> cell = cells.get(key);
+                if (cell == null) {
+                    cell = new Array<>(false, 8);
+                    cells.put(key, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Remove a renderable. Does nothing if it isn't in the grid.
+     *
+     * @param renderable renderable to remove
+     */
+    public void remove(Renderable renderable) {
+        Entry entry = entries.remove(renderable);
+        if (entry != null) {
+            removeFromCells(entry);
+        }
+    }
+
+    /**
+     * @param renderable renderable to check
+     * @return true if the renderable is in the grid
+     */
+    public boolean contains(Renderable renderable) {
+        return entries.containsKey(renderable);
+    }
+
+    /**
+     * @return number of renderables in the grid
+     */
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Find every renderable whose bounds overlap an area, each added once.
+     *
+     * @param area world area to search
+     * @param out  array to add the renderables to. It is not cleared first.
+     * @return out
+     */
+    public Array<Renderable> query(Rectangle area, Array<Renderable> out) {
+        queryId++;
+        int minX = toCell(area.x);
+        int maxX = toCell(area.x + area.width);
+        int minY = toCell(area.y);
+        int maxY = toCell(area.y + area.height);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                Array<Entry> cell = cells.get(key(cellX, cellY));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.get(i);
+                    // Renderables spanning several cells are only checked the first time they're found
+                    if (entry.lastQuery != queryId) {
+                        entry.lastQuery = queryId;
+                        if (entry.bounds.overlaps(area)) {
+                            out.add(entry.renderable);
+                        }
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Remove every renderable.
+     */
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    private void removeFromCells(Entry entry) {
+        for (int cellX = entry.minX; cellX <= entry.maxX; cellX++) {
+            for (int cellY = entry.minY; cellY <= entry.maxY; cellY++) {
+                Array<Entry> cell = cells.get(key(cellX, cellY));
+                if (cell != null) {
+                    cell.removeValue(entry, true);
+                }
+            }
+        }
+    }
+
+    private int toCell(float position) {
+        return (int) Math.floor(position / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private static class Entry {
+        private final Renderable renderable;
+        private final Rectangle bounds = new Rectangle();
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+        private int lastQuery;
+
+        private Entry(Renderable renderable) {
+            this.renderable = renderable;
+        }
+    }
+}
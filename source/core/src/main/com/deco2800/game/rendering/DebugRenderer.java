@@ -11,30 +11,62 @@ import com.badlogic.gdx.physics.box2d.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+
 /**
  * Provides functionality to draw lines/shapes to the screen for debug purposes.
+ *
+ * <p>Requests are copied into fixed size arrays, so callers may reuse their vectors and nothing is
+ * allocated per request. At most {@link #DEFAULT_MAX_REQUESTS} requests are kept each frame, after
+ * which the oldest are overwritten. Nothing is stored while debug, or the request's category, is
+ * off, and callers doing extra work just to draw should check {@link #isEnabled(Category)} first.
  */
 public class DebugRenderer {
     private static final Logger logger = LoggerFactory.getLogger(DebugRenderer.class);
+    public static final int DEFAULT_MAX_REQUESTS = 1024;
+    private static final int COORDS = 4;
     private final Box2DDebugRenderer physicsRenderer;
     private final ShapeRenderer shapeRenderer;
 
     private World physicsWorld;
     private boolean active = true;
-    private DrawRequest[] drawRequests = new DrawRequest[10];
+    private final boolean[] enabled = new boolean[Category.values().length];
+    private final int maxRequests;
+    private final DrawRequestType[] types;
+    private final float[] coords;
+    private final int[] colors;
+    private final float[] lineWidths;
+    private int firstRequest = 0;
     private int requestCount = 0;
+    private int droppedCount = 0;
+
+    private final Vector2 start = new Vector2();
+    private final Vector2 end = new Vector2();
+    private final Color color = new Color();
 
     public DebugRenderer() {
         this(new Box2DDebugRenderer(), new ShapeRenderer());
     }
 
     public DebugRenderer(Box2DDebugRenderer physicsRenderer, ShapeRenderer shapeRenderer) {
+        this(physicsRenderer, shapeRenderer, DEFAULT_MAX_REQUESTS);
+    }
+
+    /**
+     * @param physicsRenderer renderer for the physics world
+     * @param shapeRenderer   renderer for lines and shapes
+     * @param maxRequests     most requests drawn in a frame
+     */
+    public DebugRenderer(Box2DDebugRenderer physicsRenderer, ShapeRenderer shapeRenderer, int maxRequests) {
         this.physicsRenderer = physicsRenderer;
         this.shapeRenderer = shapeRenderer;
+        this.maxRequests = maxRequests;
 
-        for (int i = 0; i < drawRequests.length; i++) {
-            drawRequests[i] = new DrawRequest();
-        }
+        types = new DrawRequestType[maxRequests];
+        coords = new float[maxRequests * COORDS];
+        colors = new int[maxRequests];
+        lineWidths = new float[maxRequests];
+        Arrays.fill(enabled, true);
     }
 
     public void renderPhysicsWorld(World physicsWorld) {
@@ -42,7 +74,7 @@ public class DebugRenderer {
     }
 
     /**
-     * Draw a line between two positions
+     * Draw a line between two positions, as a path
      *
      * @param from start position
      * @param to   end position
@@ -52,7 +84,7 @@ public class DebugRenderer {
     }
 
     /**
-     * Draw a line between two positions
+     * Draw a line between two positions, as a path
      *
      * @param from      start position
      * @param to        end position
@@ -60,18 +92,26 @@ public class DebugRenderer {
      * @param lineWidth line width
      */
     public void drawLine(Vector2 from, Vector2 to, Color color, float lineWidth) {
-        ensureCapacity();
-        DrawRequest request = drawRequests[requestCount];
-        request.drawRequestType = DrawRequestType.LINE;
-        request.pos = from;
-        request.end = to;
-        request.color = color;
-        request.lineWidth = lineWidth;
-        requestCount++;
+        drawLine(Category.PATHS, from, to, color, lineWidth);
     }
 
     /**
-     * Draw a rectangle
+     * Draw a line between two positions
+     *
+     * @param category  category to draw the line in
+     * @param from      start position
+     * @param to        end position
+     * @param color     line color
+     * @param lineWidth line width
+     */
+    public void drawLine(Category category, Vector2 from, Vector2 to, Color color, float lineWidth) {
+        if (isEnabled(category)) {
+            addRequest(DrawRequestType.LINE, from, to, color, lineWidth);
+        }
+    }
+
+    /**
+     * Draw a rectangle whenever debug is on, whatever categories are shown
      *
      * @param pos  position of bottom left corner
      * @param size width/height
@@ -81,7 +121,7 @@ public class DebugRenderer {
     }
 
     /**
-     * Draw a rectangle
+     * Draw a rectangle whenever debug is on, whatever categories are shown
      *
      * @param pos       position of bottom left corner
      * @param size      width/height
@@ -89,14 +129,24 @@ public class DebugRenderer {
      * @param lineWidth line width
      */
     public void drawRectangle(Vector2 pos, Vector2 size, Color color, float lineWidth) {
-        ensureCapacity();
-        DrawRequest request = drawRequests[requestCount];
-        request.drawRequestType = DrawRequestType.RECT;
-        request.pos = pos;
-        request.end = size;
-        request.color = color;
-        request.lineWidth = lineWidth;
-        requestCount++;
+        if (active) {
+            addRequest(DrawRequestType.RECT, pos, size, color, lineWidth);
+        }
+    }
+
+    /**
+     * Draw a rectangle
+     *
+     * @param category  category to draw the rectangle in
+     * @param pos       position of bottom left corner
+     * @param size      width/height
+     * @param color     line color
+     * @param lineWidth line width
+     */
+    public void drawRectangle(Category category, Vector2 pos, Vector2 size, Color color, float lineWidth) {
+        if (isEnabled(category)) {
+            addRequest(DrawRequestType.RECT, pos, size, color, lineWidth);
+        }
     }
 
     public boolean getActive() {
@@ -109,26 +159,68 @@ public class DebugRenderer {
     public void setActive(boolean active) {
         logger.info("Set debug to: {}", active);
         this.active = active;
+        if (!active) {
+            clearRequests();
+        }
+    }
+
+    /**
+     * @param category category of debug drawing
+     * @return true if debug is on and the category is shown
+     */
+    public boolean isEnabled(Category category) {
+        return active && enabled[category.ordinal()];
+    }
+
+    /**
+     * @param category category of debug drawing
+     * @param enabled  true to show the category while debug is on, false to hide it
+     */
+    public void setEnabled(Category category, boolean enabled) {
+        logger.info("Set debug {} to: {}", category, enabled);
+        this.enabled[category.ordinal()] = enabled;
+    }
+
+    /**
+     * @return number of requests waiting to be drawn this frame
+     */
+    public int getRequestCount() {
+        return requestCount;
     }
 
     public void render(Matrix4 projMatrix) {
         if (!active) {
+            clearRequests();
             return;
         }
 
-        if (physicsWorld != null) {
+        if (physicsWorld != null && isEnabled(Category.PHYSICS)) {
             physicsRenderer.render(physicsWorld, projMatrix);
         }
+        if (droppedCount > 0) {
+            logger.debug("Dropped {} debug draw requests over the limit of {}", droppedCount, maxRequests);
+        }
 
         shapeRenderer.setProjectionMatrix(projMatrix);
         shapeRenderer.begin(ShapeType.Line);
-        for (int i = 0; i < requestCount; i++) {
-            switch (drawRequests[i].drawRequestType) {
+        float lineWidth = -1f;
+        for (int n = 0; n < requestCount; n++) {
+            int i = (firstRequest + n) % maxRequests;
+            if (lineWidths[i] != lineWidth) {
+                lineWidth = lineWidths[i];
+                Gdx.gl.glLineWidth(lineWidth);
+            }
+            Color.rgba8888ToColor(color, colors[i]);
+            shapeRenderer.setColor(color);
+            int offset = i * COORDS;
+            switch (types[i]) {
                 case LINE:
-                    renderLine(drawRequests[i]);
+                    start.set(coords[offset], coords[offset + 1]);
+                    end.set(coords[offset + 2], coords[offset + 3]);
+                    shapeRenderer.line(start, end);
                     break;
                 case RECT:
-                    renderRect(drawRequests[i]);
+                    shapeRenderer.rect(coords[offset], coords[offset + 1], coords[offset + 2], coords[offset + 3]);
                     break;
                 default:
                     logger.error("Attempting to draw unsupported shape!");
@@ -136,52 +228,53 @@ public class DebugRenderer {
             }
         }
         shapeRenderer.end();
-        requestCount = 0;
+        clearRequests();
     }
 
-    private void renderLine(DrawRequest request) {
-        Gdx.gl.glLineWidth(request.lineWidth);
-        shapeRenderer.setColor(request.color);
-        shapeRenderer.line(request.pos, request.end);
+    /**
+     * Copy a request into the ring buffer, overwriting the oldest request once this frame's limit
+     * is reached.
+     */
+    private void addRequest(DrawRequestType type, Vector2 pos, Vector2 end, Color color, float lineWidth) {
+        int i;
+        if (requestCount < maxRequests) {
+            i = (firstRequest + requestCount) % maxRequests;
+            requestCount++;
+        } else {
+            i = firstRequest;
+            firstRequest = (firstRequest + 1) % maxRequests;
+            droppedCount++;
+        }
+        types[i] = type;
+        int offset = i * COORDS;
+        coords[offset] = pos.x;
+        coords[offset + 1] = pos.y;
+        coords[offset + 2] = end.x;
+        coords[offset + 3] = end.y;
+        colors[i] = Color.rgba8888(color);
+        lineWidths[i] = lineWidth;
     }
 
-    private void renderRect(DrawRequest request) {
-        Gdx.gl.glLineWidth(request.lineWidth);
-        shapeRenderer.setColor(request.color);
-        shapeRenderer.rect(request.pos.x, request.pos.y, request.end.x, request.end.y);
+    private void clearRequests() {
+        firstRequest = 0;
+        requestCount = 0;
+        droppedCount = 0;
     }
 
     /**
-     * Use a custom resizing array instead of an array list to avoid allocating/deallocating requests
-     * every render. Does not shrink, so a large amount of debug drawing on a single frame can
-     * permanently use memory.
+     * Categories of debug drawing which can be shown or hidden separately
      */
-    private void ensureCapacity() {
-        if (requestCount >= drawRequests.length - 1) {
-            DrawRequest[] newArr = new DrawRequest[(int) (requestCount * 1.4f)];
-            System.arraycopy(drawRequests, 0, newArr, 0, drawRequests.length);
-            for (int i = drawRequests.length; i < newArr.length; i++) {
-                newArr[i] = new DrawRequest();
-            }
-            drawRequests = newArr;
-        }
+    public enum Category {
+        /** Line of sight and aiming raycasts */
+        LOS,
+        /** Paths entities are moving along */
+        PATHS,
+        /** Bodies and fixtures in the physics world, including hitboxes */
+        PHYSICS
     }
 
     enum DrawRequestType {
         LINE,
         RECT
     }
-
-    /**
-     * Stores a draw request. One class stores the potential options for all shapes, to prevent
-     * allocating/deallocating new instances every render.
-     */
-    static class DrawRequest {
-        public DrawRequestType drawRequestType;
-        public Vector2 pos;
-        public Color color;
-        public float lineWidth = 1;
-
-        public Vector2 end;
-    }
 }
@@ -0,0 +1,326 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.services.ServiceLocator;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the health bars above enemies. Each bar's state is kept in flat arrays, and the vertices of
+ * its frame and fill are only rebuilt when its health, position, scale or angle change, rather than
+ * re-scaling three sprites per enemy every frame.
+ *
+ * <p>Each bar is registered with the {@link RenderService} on the entity layer with its owner's Z
+ * index, so it's sorted with its owner and drawn over it, but under entities in front. All of a bar's
+ * images share one texture (an atlas, see {@link com.deco2800.game.areas.terrain.TileAtlas}), so the
+ * batch doesn't flush between them.
+ *
+ * <p>Bars are added by {@link com.deco2800.game.components.HealthBarComponent}. Bars drawn over bosses
+ * by {@link com.deco2800.game.components.BossOverlayComponent} aren't affected.
+ */
+public class HealthBarService {
+    /**
+     * Same layer as entities, see {@link RenderComponent}
+     */
+    private static final int LAYER = 1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SPRITE_VERTICES = 20;
+    private static final float BAR_THICKNESS = 0.8f;
+    private static final long DECREASE_MILLIS = 1000L;
+    private static final int NO_BAR = -1;
+    // Render position, scale and angle the vertices were built for
+    private static final int STATE_X = 0;
+    private static final int STATE_Y = 1;
+    private static final int STATE_SCALE_X = 2;
+    private static final int STATE_SCALE_Y = 3;
+    private static final int STATE_ANGLE = 4;
+    private static final int STATE_SIZE = 5;
+
+    // Bars are packed into [0, count). Handles stay the same while bars move around.
+    private int count = 0;
+    private int[] barOfHandle = new int[INITIAL_CAPACITY];
+    private int[] handleOfBar = new int[INITIAL_CAPACITY];
+    private final IntArray freeHandles = new IntArray();
+    private int handles = 0;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private Bar[] renderables = new Bar[INITIAL_CAPACITY];
+    private TextureRegion[] fills = new TextureRegion[INITIAL_CAPACITY];
+    private TextureRegion[] frames = new TextureRegion[INITIAL_CAPACITY];
+    private TextureRegion[] decreases = new TextureRegion[INITIAL_CAPACITY];
+    private float[] heights = new float[INITIAL_CAPACITY];
+    private float[] sizes = new float[INITIAL_CAPACITY];
+    private float[] ratios = new float[INITIAL_CAPACITY];
+    private float[] previousRatios = new float[INITIAL_CAPACITY];
+    private long[] decreaseStarts = new long[INITIAL_CAPACITY];
+    private boolean[] decreasing = new boolean[INITIAL_CAPACITY];
+    private boolean[] dirty = new boolean[INITIAL_CAPACITY];
+    private float[] builtState = new float[INITIAL_CAPACITY * STATE_SIZE];
+    private float[] frameVertices = new float[INITIAL_CAPACITY * SPRITE_VERTICES];
+    private float[] fillVertices = new float[INITIAL_CAPACITY * SPRITE_VERTICES];
+    private float[] decreaseVertices = new float[INITIAL_CAPACITY * SPRITE_VERTICES];
+
+    private final Vector2 position = new Vector2();
+    private final Vector2 scale = new Vector2();
+
+    /**
+     * Add a health bar above an entity.
+     *
+     * @param entity   entity to follow
+     * @param fill     image of the remaining health, may be null
+     * @param frame    image of the bar's border, may be null
+     * @param decrease image shown briefly where health was lost, may be null
+     * @param height   distance above the entity's centre to draw the bar
+     * @param size     scale of the bar
+     * @param ratio    starting fraction of health left
+     * @return handle to update or remove the bar with
+     */
+    public int add(Entity entity, TextureRegion fill, TextureRegion frame, TextureRegion decrease,
+                   float height, float size, float ratio) {
+        ensureCapacity();
+        int handle = freeHandles.isEmpty() ? handles++ : freeHandles.pop();
+        if (handle >= barOfHandle.length) {
+            barOfHandle = Arrays.copyOf(barOfHandle, handle * 2);
+        }
+        int bar = count++;
+        barOfHandle[handle] = bar;
+        handleOfBar[bar] = handle;
+
+        entities[bar] = entity;
+        renderables[bar] = new Bar(handle);
+        fills[bar] = fill;
+        frames[bar] = frame;
+        decreases[bar] = decrease;
+        heights[bar] = height;
+        sizes[bar] = size;
+        ratios[bar] = ratio;
+        previousRatios[bar] = ratio;
+        decreasing[bar] = false;
+        dirty[bar] = true;
+        ServiceLocator.getRenderService().register(renderables[bar]);
+        return handle;
+    }
+
+    /**
+     * Remove a health bar. Does nothing if it was already removed.
+     *
+     * @param handle handle returned when the bar was added
+     */
+    public void remove(int handle) {
+        if (handle < 0 || handle >= handles || barOfHandle[handle] == NO_BAR) {
+            return;
+        }
+        int bar = barOfHandle[handle];
+        ServiceLocator.getRenderService().unregister(renderables[bar]);
+        int last = --count;
+        if (bar != last) {
+            moveBar(last, bar);
+        }
+        entities[last] = null;
+        renderables[last] = null;
+        fills[last] = null;
+        frames[last] = null;
+        decreases[last] = null;
+        barOfHandle[handle] = NO_BAR;
+        freeHandles.add(handle);
+    }
+
+    /**
+     * Set how much health an entity has left. The lost health is shown shrinking away for a second.
+     *
+     * @param handle handle returned when the bar was added
+     * @param ratio  fraction of health left
+     */
+    public void setHealth(int handle, float ratio) {
+        int bar = barOfHandle[handle];
+        if (ratios[bar] == ratio) {
+            return;
+        }
+        previousRatios[bar] = ratios[bar];
+        ratios[bar] = ratio;
+        decreaseStarts[bar] = ServiceLocator.getTimeSource().getTime();
+        decreasing[bar] = true;
+        dirty[bar] = true;
+    }
+
+    /**
+     * @return number of health bars
+     */
+    public int getCount() {
+        return count;
+    }
+
+    private void update(int bar, long time) {
+        Entity entity = entities[bar];
+        entity.getRenderPosition(position);
+        entity.getScale(scale);
+        float angle = entity.getAngle();
+        int state = bar * STATE_SIZE;
+        if (dirty[bar] || builtState[state + STATE_X] != position.x || builtState[state + STATE_Y] != position.y
+                || builtState[state + STATE_SCALE_X] != scale.x || builtState[state + STATE_SCALE_Y] != scale.y
+                || builtState[state + STATE_ANGLE] != angle) {
+            builtState[state + STATE_X] = position.x;
+            builtState[state + STATE_Y] = position.y;
+            builtState[state + STATE_SCALE_X] = scale.x;
+            builtState[state + STATE_SCALE_Y] = scale.y;
+            builtState[state + STATE_ANGLE] = angle;
+            dirty[bar] = false;
+            buildQuad(frameVertices, bar, frames[bar], 1f, sizes[bar]);
+            buildQuad(fillVertices, bar, fills[bar], ratios[bar], sizes[bar]);
+        }
+
+        if (decreasing[bar]) {
+            long elapsed = time - decreaseStarts[bar];
+            if (elapsed >= DECREASE_MILLIS) {
+                decreasing[bar] = false;
+            } else {
+                // Shrinks from the old health to the new over the second
+                float progress = 1f - (float) elapsed / DECREASE_MILLIS;
+                float ratio = ratios[bar] + (previousRatios[bar] - ratios[bar]) * progress;
+                // The decrease has always been drawn at full size, whatever the bar's size
+                buildQuad(decreaseVertices, bar, decreases[bar], ratio, 1f);
+            }
+        }
+    }
+
+    /**
+     * Build the vertices of one image of a bar, centred above its entity and as wide as the given
+     * fraction of a full bar.
+     */
+    private void buildQuad(float[] vertices, int bar, TextureRegion region, float fraction, float size) {
+        if (region == null) {
+            return;
+        }
+        int state = bar * STATE_SIZE;
+        float scaleX = builtState[state + STATE_SCALE_X];
+        float scaleY = builtState[state + STATE_SCALE_Y];
+        // A full bar is half as wide as the entity is tall, at the image's aspect ratio
+        float aspect = (float) region.getRegionWidth() / region.getRegionHeight();
+        float halfWidth = aspect * scaleY * fraction / 4f * size;
+        float halfHeight = BAR_THICKNESS / aspect * size / 2f;
+        float centerX = builtState[state + STATE_X] + scaleX / 2f;
+        float centerY = builtState[state + STATE_Y] + scaleY / 2f + heights[bar];
+        float cos = MathUtils.cosDeg(builtState[state + STATE_ANGLE]);
+        float sin = MathUtils.sinDeg(builtState[state + STATE_ANGLE]);
+
+        // Bottom left, top left, top right, bottom right, as a sprite's vertices are
+        int offset = bar * SPRITE_VERTICES;
+        setVertex(vertices, offset, centerX, centerY, -halfWidth, -halfHeight, cos, sin,
+                region.getU(), region.getV2());
+        setVertex(vertices, offset + 5, centerX, centerY, -halfWidth, halfHeight, cos, sin,
+                region.getU(), region.getV());
+        setVertex(vertices, offset + 10, centerX, centerY, halfWidth, halfHeight, cos, sin,
+                region.getU2(), region.getV());
+        setVertex(vertices, offset + 15, centerX, centerY, halfWidth, -halfHeight, cos, sin,
+                region.getU2(), region.getV2());
+    }
+
+    private static void setVertex(float[] vertices, int offset, float centerX, float centerY, float x,
+                                  float y, float cos, float sin, float u, float v) {
+        vertices[offset] = centerX + x * cos - y * sin;
+        vertices[offset + 1] = centerY + x * sin + y * cos;
+        vertices[offset + 2] = Color.WHITE_FLOAT_BITS;
+        vertices[offset + 3] = u;
+        vertices[offset + 4] = v;
+    }
+
+    private void draw(SpriteBatch batch, TextureRegion region, float[] vertices, int bar) {
+        if (region != null) {
+            batch.draw(region.getTexture(), vertices, bar * SPRITE_VERTICES, SPRITE_VERTICES);
+        }
+    }
+
+    private void moveBar(int from, int to) {
+        int handle = handleOfBar[from];
+        handleOfBar[to] = handle;
+        barOfHandle[handle] = to;
+        entities[to] = entities[from];
+        renderables[to] = renderables[from];
+        fills[to] = fills[from];
+        frames[to] = frames[from];
+        decreases[to] = decreases[from];
+        heights[to] = heights[from];
+        sizes[to] = sizes[from];
+        ratios[to] = ratios[from];
+        previousRatios[to] = previousRatios[from];
+        decreaseStarts[to] = decreaseStarts[from];
+        decreasing[to] = decreasing[from];
+        System.arraycopy(builtState, from * STATE_SIZE, builtState, to * STATE_SIZE, STATE_SIZE);
+        System.arraycopy(frameVertices, from * SPRITE_VERTICES, frameVertices, to * SPRITE_VERTICES,
+                SPRITE_VERTICES);
+        System.arraycopy(fillVertices, from * SPRITE_VERTICES, fillVertices, to * SPRITE_VERTICES,
+                SPRITE_VERTICES);
+        System.arraycopy(decreaseVertices, from * SPRITE_VERTICES, decreaseVertices, to * SPRITE_VERTICES,
+                SPRITE_VERTICES);
+        dirty[to] = dirty[from];
+    }
+
+    private void ensureCapacity() {
+        if (count < entities.length) {
+            return;
+        }
+        int capacity = entities.length * 2;
+        handleOfBar = Arrays.copyOf(handleOfBar, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        renderables = Arrays.copyOf(renderables, capacity);
+        fills = Arrays.copyOf(fills, capacity);
+        frames = Arrays.copyOf(frames, capacity);
+        decreases = Arrays.copyOf(decreases, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        ratios = Arrays.copyOf(ratios, capacity);
+        previousRatios = Arrays.copyOf(previousRatios, capacity);
+        decreaseStarts = Arrays.copyOf(decreaseStarts, capacity);
+        decreasing = Arrays.copyOf(decreasing, capacity);
+        dirty = Arrays.copyOf(dirty, capacity);
+        builtState = Arrays.copyOf(builtState, capacity * STATE_SIZE);
+        frameVertices = Arrays.copyOf(frameVertices, capacity * SPRITE_VERTICES);
+        fillVertices = Arrays.copyOf(fillVertices, capacity * SPRITE_VERTICES);
+        decreaseVertices = Arrays.copyOf(decreaseVertices, capacity * SPRITE_VERTICES);
+    }
+
+    /**
+     * One bar, drawn frame then decrease then fill, just in front of its owner.
+     */
+    private class Bar implements Renderable {
+        private final int handle;
+        private final Vector2 renderPosition = new Vector2();
+
+        Bar(int handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void render(SpriteBatch batch) {
+            int bar = barOfHandle[handle];
+            update(bar, ServiceLocator.getTimeSource().getTime());
+            draw(batch, frames[bar], frameVertices, bar);
+            if (decreasing[bar]) {
+                draw(batch, decreases[bar], decreaseVertices, bar);
+            }
+            draw(batch, fills[bar], fillVertices, bar);
+        }
+
+        @Override
+        public float getZIndex() {
+            // Same as its owner's render component, see RenderComponent
+            return -entities[barOfHandle[handle]].getRenderPosition(renderPosition).y;
+        }
+
+        @Override
+        public int getLayer() {
+            return LAYER;
+        }
+
+        @Override
+        public int compareTo(Renderable o) {
+            return Float.compare(getZIndex(), o.getZIndex());
+        }
+    }
+}
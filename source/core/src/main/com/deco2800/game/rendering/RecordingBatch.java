@@ -0,0 +1,441 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A sprite batch that records what is drawn instead of drawing it, so rendering can be measured and
+ * tested without a GPU. Each draw is kept as a command in a flat buffer: its texture, texture region,
+ * bounds, rotation, and the layer and Z index of the renderable that drew it (when drawn through the
+ * {@link RenderService}).
+ *
+ * <p>The batch also works out where a real {@link SpriteBatch} of the same size would have flushed:
+ * on texture switches, when full, and on state changes such as a new shader, blend function or
+ * matrix. The usual {@link #renderCalls}, {@link #totalRenderCalls} and {@link #maxSpritesInBatch}
+ * counters are kept as a real batch would.
+ *
+ * <p>Sprites drawn from vertices (e.g. {@link com.badlogic.gdx.graphics.g2d.Sprite} and fonts) are
+ * recorded by their bounding box. Still needs a {@link com.badlogic.gdx.Gdx#gl}, which may be a mock,
+ * since a sprite batch can't be created without one.
+ */
+public class RecordingBatch extends SpriteBatch {
+    private static final int DEFAULT_SIZE = 1000;
+    private static final String VERTEX_SHADER = "void main() { gl_Position = vec4(0.0); }";
+    private static final String FRAGMENT_SHADER = "void main() { gl_FragColor = vec4(0.0); }";
+    private static final int SPRITE_VERTICES = 20;
+    private static final int VERTEX_SIZE = 5;
+
+    // Layout of a command in the buffer
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int WIDTH = 2;
+    private static final int HEIGHT = 3;
+    private static final int ORIGIN_X = 4;
+    private static final int ORIGIN_Y = 5;
+    private static final int ROTATION = 6;
+    private static final int U = 7;
+    private static final int V = 8;
+    private static final int U2 = 9;
+    private static final int V2 = 10;
+    private static final int Z = 11;
+    private static final int STRIDE = 12;
+
+    private final int size;
+    private final ShaderProgram placeholderShader;
+    private final FloatArray commands = new FloatArray(STRIDE * 256);
+    private final Array<Texture> textures = new Array<>(false, 256, Texture.class);
+    private final IntArray layers = new IntArray(256);
+    private final IntArray batchSizes = new IntArray();
+
+    private boolean drawing = false;
+    private Texture lastTexture;
+    private int spritesInBatch;
+    private int textureSwitches;
+    private int textureBreaks;
+    private int fullBreaks;
+    private int layer;
+    private float z;
+
+    public RecordingBatch() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size most sprites the real batch being imitated can hold before flushing
+     */
+    public RecordingBatch(int size) {
+        this(size, new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER));
+    }
+
+    private RecordingBatch(int size, ShaderProgram placeholderShader) {
+        // The parent's mesh and shader are never used, so keep them as small as possible
+        super(1, placeholderShader);
+        this.size = size;
+        this.placeholderShader = placeholderShader;
+    }
+
+    /**
+     * Forget all recorded commands and reset the counters, ready to record a new frame.
+     */
+    public void clear() {
+        commands.clear();
+        textures.clear();
+        layers.clear();
+        batchSizes.clear();
+        textureSwitches = 0;
+        textureBreaks = 0;
+        fullBreaks = 0;
+        totalRenderCalls = 0;
+        maxSpritesInBatch = 0;
+    }
+
+    /**
+     * @return number of sprites drawn
+     */
+    public int getCommandCount() {
+        return textures.size;
+    }
+
+    /**
+     * @param index command index
+     * @return texture the sprite was drawn from
+     */
+    public Texture getTexture(int index) {
+        return textures.get(index);
+    }
+
+    /**
+     * Get the part of the texture a sprite was drawn from.
+     *
+     * @param index command index
+     * @param out   region to set
+     * @return out
+     */
+    public TextureRegion getRegion(int index, TextureRegion out) {
+        int offset = index * STRIDE;
+        float[] items = commands.items;
+        out.setTexture(textures.get(index));
+        out.setRegion(items[offset + U], items[offset + V], items[offset + U2], items[offset + V2]);
+        return out;
+    }
+
+    /**
+     * Get the area a sprite was drawn to, before rotation.
+     *
+     * @param index command index
+     * @param out   rectangle to set
+     * @return out
+     */
+    public Rectangle getBounds(int index, Rectangle out) {
+        int offset = index * STRIDE;
+        float[] items = commands.items;
+        return out.set(items[offset + X], items[offset + Y], items[offset + WIDTH], items[offset + HEIGHT]);
+    }
+
+    /**
+     * Get the point a sprite was rotated and scaled around.
+     *
+     * @param index command index
+     * @param out   vector to set
+     * @return out
+     */
+    public Vector2 getOrigin(int index, Vector2 out) {
+        int offset = index * STRIDE;
+        return out.set(commands.items[offset + ORIGIN_X], commands.items[offset + ORIGIN_Y]);
+    }
+
+    /**
+     * @param index command index
+     * @return rotation in degrees counterclockwise around the sprite's origin
+     */
+    public float getRotation(int index) {
+        return commands.get(index * STRIDE + ROTATION);
+    }
+
+    /**
+     * @param index command index
+     * @return render layer of the renderable that drew the sprite
+     */
+    public int getLayer(int index) {
+        return layers.get(index);
+    }
+
+    /**
+     * @param index command index
+     * @return Z index of the renderable that drew the sprite
+     */
+    public float getZ(int index) {
+        return commands.get(index * STRIDE + Z);
+    }
+
+    /**
+     * @return number of times the texture changed, each of which is a texture bind on a real batch
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * @return number of flushes caused by texture switches
+     */
+    public int getTextureBreaks() {
+        return textureBreaks;
+    }
+
+    /**
+     * @return number of flushes caused by the batch being full
+     */
+    public int getFullBreaks() {
+        return fullBreaks;
+    }
+
+    /**
+     * @return number of flushes caused by anything else, e.g. ending the batch or changing its state
+     */
+    public int getStateBreaks() {
+        return batchSizes.size - textureBreaks - fullBreaks;
+    }
+
+    /**
+     * @return number of batches a real sprite batch would have sent to the GPU
+     */
+    public int getBatchCount() {
+        return batchSizes.size;
+    }
+
+    /**
+     * @param index batch index, in the order they were sent
+     * @return number of sprites in the batch
+     */
+    public int getBatchSize(int index) {
+        return batchSizes.get(index);
+    }
+
+    /**
+     * Set the renderable being drawn, recorded with each of its sprites.
+     *
+     * @param layer render layer
+     * @param z     Z index
+     */
+    void setDepth(int layer, float z) {
+        this.layer = layer;
+        this.z = z;
+    }
+
+    @Override
+    public void begin() {
+        if (drawing) {
+            throw new IllegalStateException("RecordingBatch.end must be called before begin.");
+        }
+        renderCalls = 0;
+        drawing = true;
+    }
+
+    @Override
+    public void end() {
+        if (!drawing) {
+            throw new IllegalStateException("RecordingBatch.begin must be called before end.");
+        }
+        flush();
+        lastTexture = null;
+        drawing = false;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void flush() {
+        if (spritesInBatch == 0) {
+            return;
+        }
+        renderCalls++;
+        totalRenderCalls++;
+        maxSpritesInBatch = Math.max(maxSpritesInBatch, spritesInBatch);
+        batchSizes.add(spritesInBatch);
+        spritesInBatch = 0;
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        if (drawing) {
+            flush();
+        }
+        super.setProjectionMatrix(projection);
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        if (drawing) {
+            flush();
+        }
+        super.setTransformMatrix(transform);
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+        if (drawing) {
+            flush();
+        }
+        super.setShader(shader);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        placeholderShader.dispose();
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width,
+                     float height, float scaleX, float scaleY, float rotation, int srcX, int srcY,
+                     int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        float u = srcX * invWidth(texture);
+        float v = (srcY + srcHeight) * invHeight(texture);
+        float u2 = (srcX + srcWidth) * invWidth(texture);
+        float v2 = srcY * invHeight(texture);
+        record(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                flipX ? u2 : u, flipY ? v2 : v, flipX ? u : u2, flipY ? v : v2);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY,
+                     int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        draw(texture, x, y, 0f, 0f, width, height, 1f, 1f, 0f, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        draw(texture, x, y, 0f, 0f, srcWidth, srcHeight, 1f, 1f, 0f, srcX, srcY, srcWidth, srcHeight,
+                false, false);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v,
+                     float u2, float v2) {
+        record(texture, x, y, 0f, 0f, width, height, 1f, 1f, 0f, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, texture.getWidth(), texture.getHeight());
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        record(texture, x, y, 0f, 0f, width, height, 1f, 1f, 0f, 0f, 1f, 1f, 0f);
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        for (int sprite = offset; sprite + SPRITE_VERTICES <= offset + count; sprite += SPRITE_VERTICES) {
+            float minX = Float.MAX_VALUE;
+            float minY = Float.MAX_VALUE;
+            float maxX = -Float.MAX_VALUE;
+            float maxY = -Float.MAX_VALUE;
+            for (int vertex = sprite; vertex < sprite + SPRITE_VERTICES; vertex += VERTEX_SIZE) {
+                minX = Math.min(minX, spriteVertices[vertex]);
+                minY = Math.min(minY, spriteVertices[vertex + 1]);
+                maxX = Math.max(maxX, spriteVertices[vertex]);
+                maxY = Math.max(maxY, spriteVertices[vertex + 1]);
+            }
+            // Vertices go bottom left, top left, top right, bottom right, each with (x, y, colour, u, v)
+            record(texture, minX, minY, 0f, 0f, maxX - minX, maxY - minY, 1f, 1f, 0f,
+                    spriteVertices[sprite + 3], spriteVertices[sprite + 9],
+                    spriteVertices[sprite + 13], spriteVertices[sprite + 4]);
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        draw(region, x, y, 0f, 0f, width, height, 1f, 1f, 0f);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width,
+                     float height, float scaleX, float scaleY, float rotation) {
+        record(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                region.getU(), region.getV(), region.getU2(), region.getV2());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width,
+                     float height, float scaleX, float scaleY, float rotation, boolean clockwise) {
+        // Only used for regions packed rotated, which are recorded as if they weren't
+        draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        float scaleX = (float) Math.sqrt(transform.m00 * transform.m00 + transform.m10 * transform.m10);
+        float scaleY = (float) Math.sqrt(transform.m01 * transform.m01 + transform.m11 * transform.m11);
+        float rotation = MathUtils.atan2(transform.m10, transform.m00) * MathUtils.radiansToDegrees;
+        record(region.getTexture(), transform.m02, transform.m12, 0f, 0f, width, height, scaleX, scaleY,
+                rotation, region.getU(), region.getV(), region.getU2(), region.getV2());
+    }
+
+    private void record(Texture texture, float x, float y, float originX, float originY, float width,
+                        float height, float scaleX, float scaleY, float rotation,
+                        float u, float v, float u2, float v2) {
+        if (!drawing) {
+            throw new IllegalStateException("RecordingBatch.begin must be called before draw.");
+        }
+        if (texture != lastTexture) {
+            if (spritesInBatch > 0) {
+                textureBreaks++;
+            }
+            flush();
+            lastTexture = texture;
+            textureSwitches++;
+        } else if (spritesInBatch == size) {
+            fullBreaks++;
+            flush();
+        }
+        spritesInBatch++;
+
+        float worldOriginX = x + originX;
+        float worldOriginY = y + originY;
+        textures.add(texture);
+        layers.add(layer);
+        int offset = commands.size;
+        float[] items = commands.ensureCapacity(STRIDE);
+        items[offset + X] = worldOriginX - originX * scaleX;
+        items[offset + Y] = worldOriginY - originY * scaleY;
+        items[offset + WIDTH] = width * scaleX;
+        items[offset + HEIGHT] = height * scaleY;
+        items[offset + ORIGIN_X] = worldOriginX;
+        items[offset + ORIGIN_Y] = worldOriginY;
+        items[offset + ROTATION] = rotation;
+        items[offset + U] = u;
+        items[offset + V] = v;
+        items[offset + U2] = u2;
+        items[offset + V2] = v2;
+        items[offset + Z] = z;
+        commands.size += STRIDE;
+    }
+
+    private static float invWidth(Texture texture) {
+        return texture.getWidth() == 0 ? 0f : 1f / texture.getWidth();
+    }
+
+    private static float invHeight(Texture texture) {
+        return texture.getHeight() == 0 ? 0f : 1f / texture.getHeight();
+    }
+}
@@ -1,6 +1,8 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.deco2800.game.components.Component;
 import com.deco2800.game.services.ServiceLocator;
@@ -11,6 +13,10 @@ import com.deco2800.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
     private static final int DEFAULT_LAYER = 1;
+    private boolean isStatic = false;
+    // Reused by the methods the render service calls every frame, to avoid allocating
+    private final Vector2 renderPosition = new Vector2();
+    private final Vector2 renderScale = new Vector2();
 
     @Override
     public void create() {
@@ -40,7 +46,45 @@ public abstract class RenderComponent extends Component implements Renderable, D
     @Override
     public float getZIndex() {
         // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-        return -entity.getPosition().y;
+        return -entity.getRenderPosition(renderPosition).y;
+    }
+
+    /**
+     * The entity's area from its render position and scale. Rotated entities are given the square
+     * around the circle they can rotate in.
+     */
+    @Override
+    public boolean getBounds(Rectangle bounds) {
+        Vector2 position = entity.getRenderPosition(renderPosition);
+        Vector2 scale = entity.getScale(renderScale);
+        float width = Math.abs(scale.x);
+        float height = Math.abs(scale.y);
+        bounds.set(Math.min(position.x, position.x + scale.x), Math.min(position.y, position.y + scale.y),
+                width, height);
+        if (entity.getAngle() != 0f) {
+            float radius = (float) Math.sqrt(width * width + height * height) / 2f;
+            float centerX = bounds.x + width / 2f;
+            float centerY = bounds.y + height / 2f;
+            bounds.set(centerX - radius, centerY - radius, radius * 2f, radius * 2f);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Mark the entity as never moving, so the render service only reads its bounds once. Must be set
+     * before the entity is created.
+     *
+     * @param isStatic true if the entity never moves
+     * @return self
+     */
+    public RenderComponent setStatic(boolean isStatic) {
+        this.isStatic = isStatic;
+        return this;
     }
 
     /**
@@ -0,0 +1,159 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * The renderables in one layer of the {@link RenderService}, kept in rendering order. Static
+ * renderables are sorted once as they're added. Dynamic ones are re-sorted each frame by their cached
+ * Z index with an insertion sort, which is close to linear since the order barely changes between
+ * frames. The two are merged while drawing.
+ */
+class RenderLayer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int index;
+    private final Array<Entry> statics = new Array<>(true, INITIAL_CAPACITY, Entry.class);
+    private final Array<Entry> dynamics = new Array<>(true, INITIAL_CAPACITY, Entry.class);
+
+    /**
+     * @param index the layer's index in the render service
+     */
+    RenderLayer(int index) {
+        this.index = index;
+    }
+
+    /**
+     * @return the layer's index in the render service
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Add a renderable that never moves, in order of its Z index.
+     *
+     * @param entry renderable to add, with its Z index set
+     */
+    void addStatic(Entry entry) {
+        // Insert after any renderables with the same Z index, so ties render in registration order
+        int low = 0;
+        int high = statics.size;
+        Entry[] items = statics.items;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items[mid].z <= entry.z) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        statics.insert(low, entry);
+    }
+
+    /**
+     * Add a renderable that may move. It's put in order on the next {@link #sortDynamic()}.
+     *
+     * @param entry renderable to add
+     */
+    void addDynamic(Entry entry) {
+        dynamics.add(entry);
+    }
+
+    /**
+     * @param entry renderable to remove
+     */
+    void remove(Entry entry) {
+        if (!statics.removeValue(entry, true)) {
+            dynamics.removeValue(entry, true);
+        }
+    }
+
+    /**
+     * @return renderables that may move, in rendering order as of the last sort
+     */
+    Array<Entry> getDynamic() {
+        return dynamics;
+    }
+
+    /**
+     * @return number of renderables in the layer
+     */
+    int size() {
+        return statics.size + dynamics.size;
+    }
+
+    /**
+     * Sort the dynamic renderables by their cached Z index. Stable, so ties keep their order.
+     */
+    void sortDynamic() {
+        Entry[] items = dynamics.items;
+        for (int i = 1; i < dynamics.size; i++) {
+            Entry entry = items[i];
+            int j = i - 1;
+            while (j >= 0 && items[j].z > entry.z) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = entry;
+        }
+    }
+
+    /**
+     * Render the layer in Z index order, merging static and dynamic renderables.
+     *
+     * @param batch     batch to render to
+     * @param onlyFrame if not negative, only render renderables visible in this frame
+     * @param recording the batch again if it is recording, to tell it what is being drawn, else null
+     * @return number of renderables rendered
+     */
+    int render(SpriteBatch batch, int onlyFrame, RecordingBatch recording) {
+        Entry[] staticItems = statics.items;
+        Entry[] dynamicItems = dynamics.items;
+        int staticCount = statics.size;
+        int dynamicCount = dynamics.size;
+        int i = 0;
+        int j = 0;
+        int drawn = 0;
+        while (i < staticCount || j < dynamicCount) {
+            Entry next;
+            if (j >= dynamicCount || (i < staticCount && staticItems[i].z <= dynamicItems[j].z)) {
+                next = staticItems[i++];
+            } else {
+                next = dynamicItems[j++];
+            }
+            if (onlyFrame < 0 || next.visibleFrame == onlyFrame) {
+                if (recording != null) {
+                    recording.setDepth(index, next.z);
+                }
+                next.renderable.render(batch);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    void clear() {
+        statics.clear();
+        dynamics.clear();
+    }
+
+    /**
+     * A registered renderable and what the render service knows about it.
+     */
+    static class Entry {
+        final Renderable renderable;
+        /**
+         * cached Z index, fixed for static renderables and updated every frame for dynamic ones
+         */
+        float z;
+        /**
+         * last frame the renderable was found to be in view
+         */
+        int visibleFrame = -1;
+
+        Entry(Renderable renderable) {
+            this.renderable = renderable;
+        }
+    }
+}
@@ -1,26 +1,53 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.deco2800.game.components.CameraComponent;
 import com.deco2800.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
+ *
+ * <p>Once a camera is set, renderables with bounds (see {@link Renderable#getBounds(Rectangle)})
+ * are only rendered when they are in the camera's view. They are kept in a {@link CullingGrid}:
+ * static renderables are placed once when registered, and the rest are moved each frame.
+ *
+ * <p>Each layer keeps its renderables in rendering order (see {@link RenderLayer}), so there is no
+ * full sort per frame.
+ *
+ * <p>When recording (see {@link #setRecording(RecordingBatch)}), renderables are drawn to a
+ * {@link RecordingBatch} instead of the real batch, so rendering can be measured without a GPU.
  */
 @SuppressWarnings("GDXJavaUnsafeIterator")
 public class RenderService implements Disposable {
     private static final int INITIAL_LAYER_CAPACITY = 4;
-    private static final int INITIAL_CAPACITY = 4;
+    private static final float CULLING_CELL_SIZE = 4f;
     /**
-     * Map from layer to list of renderables, allows us to render each layer in the correct order
+     * Map from layer to its renderables, allows us to render each layer in the correct order
      */
-    private final SortedIntMap<Array<Renderable>> renderables =
-            new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+    private final SortedIntMap<RenderLayer> layers = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+    private final IdentityMap<Renderable, RenderLayer.Entry> entries = new IdentityMap<>();
+    private final CullingGrid grid = new CullingGrid(CULLING_CELL_SIZE);
+    private final Array<Renderable> inView = new Array<>(false, 64);
+    private final Rectangle bounds = new Rectangle();
+    private final Rectangle view = new Rectangle();
+    private CameraComponent camera;
     private Stage stage;
     private DebugRenderer debugRenderer;
+    private int frame = 0;
+    private RenderStats stats = new RenderStats();
+    private RecordingBatch recording;
+
+    // Statistics for the last rendered frame
+    private int lastFrameSubmitted;
+    private int lastFrameDrawn;
 
     /**
      * Register a new renderable.
@@ -29,11 +56,21 @@ public class RenderService implements Disposable {
      */
     public void register(Renderable renderable) {
         int layerIndex = renderable.getLayer();
-        if (!renderables.containsKey(layerIndex)) {
-            renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+        RenderLayer layer = layers.get(layerIndex);
+        if (layer == null) {
+            layer = new RenderLayer(layerIndex);
+            layers.put(layerIndex, layer);
+        }
+
+        RenderLayer.Entry entry = new RenderLayer.Entry(renderable);
+        entry.z = renderable.getZIndex();
+        entries.put(renderable, entry);
+        if (renderable.isStatic() && renderable.getBounds(bounds)) {
+            grid.put(renderable, bounds);
+            layer.addStatic(entry);
+        } else {
+            layer.addDynamic(entry);
         }
-        Array<Renderable> layer = renderables.get(layerIndex);
-        layer.add(renderable);
     }
 
     /**
@@ -42,26 +79,122 @@ public class RenderService implements Disposable {
      * @param renderable renderable to unregister.
      */
     public void unregister(Renderable renderable) {
-        Array<Renderable> layer = renderables.get(renderable.getLayer());
-        if (layer != null) {
-            layer.removeValue(renderable, true);
+        RenderLayer.Entry entry = entries.remove(renderable);
+        RenderLayer layer = layers.get(renderable.getLayer());
+        if (entry != null && layer != null) {
+            layer.remove(entry);
         }
+        grid.remove(renderable);
     }
 
     /**
      * Trigger rendering on the given batch. This should be called only from the main renderer.
      *
-     * @param batch batch to render to.
+     * @param batch batch to render to. Replaced by the recording batch while recording.
      */
     public void render(SpriteBatch batch) {
-        for (Array<Renderable> layer : renderables) {
-            // Sort into rendering order
-            layer.sort();
+        if (recording != null) {
+            recording.clear();
+            recording.setProjectionMatrix(batch.getProjectionMatrix());
+            recording.begin();
+            renderLayers(recording, recording);
+            recording.end();
+        } else {
+            renderLayers(batch, batch instanceof RecordingBatch ? (RecordingBatch) batch : null);
+        }
+    }
+
+    private void renderLayers(SpriteBatch batch, RecordingBatch recordingBatch) {
+        frame = frame == Integer.MAX_VALUE ? 0 : frame + 1;
+        boolean culling = camera != null;
+
+        lastFrameSubmitted = 0;
+        for (RenderLayer layer : layers) {
+            Array<RenderLayer.Entry> dynamic = layer.getDynamic();
+            for (int i = 0; i < dynamic.size; i++) {
+                RenderLayer.Entry entry = dynamic.get(i);
+                entry.z = entry.renderable.getZIndex();
+                if (culling) {
+                    updateBounds(entry);
+                }
+            }
+            layer.sortDynamic();
+            lastFrameSubmitted += layer.size();
+        }
 
-            for (Renderable renderable : layer) {
-                renderable.render(batch);
+        if (culling) {
+            getView(camera.getCamera(), view);
+            inView.clear();
+            grid.query(view, inView);
+            for (int i = 0; i < inView.size; i++) {
+                entries.get(inView.get(i)).visibleFrame = frame;
             }
         }
+
+        lastFrameDrawn = 0;
+        for (RenderLayer layer : layers) {
+            long start = System.nanoTime();
+            lastFrameDrawn += layer.render(batch, culling ? frame : -1, recordingBatch);
+            stats.setLayerTime(layer.getIndex(), System.nanoTime() - start);
+        }
+        stats.setRenderables(lastFrameSubmitted, lastFrameDrawn);
+    }
+
+    /**
+     * Set the camera to cull renderables against. Without a camera, every renderable is rendered.
+     *
+     * @param camera camera whose view is rendered, or null to render everything
+     */
+    public void setCamera(CameraComponent camera) {
+        this.camera = camera;
+    }
+
+    /**
+     * @return number of renderables registered in the last rendered frame
+     */
+    public int getLastFrameSubmitted() {
+        return lastFrameSubmitted;
+    }
+
+    /**
+     * @return number of renderables rendered in the last frame, after culling
+     */
+    public int getLastFrameDrawn() {
+        return lastFrameDrawn;
+    }
+
+    /**
+     * Draw renderables to a recording batch instead of the batch given to {@link #render(SpriteBatch)}.
+     * The recording is cleared at the start of each frame, so holds only the last frame.
+     *
+     * @param recording batch to record to, or null to render normally
+     */
+    public void setRecording(RecordingBatch recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * @return batch being recorded to, or null if rendering normally
+     */
+    public RecordingBatch getRecording() {
+        return recording;
+    }
+
+    /**
+     * @return statistics for the last rendered frame
+     */
+    public RenderStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Set where statistics for each frame are recorded. A layer's time covers the sprites sent to the
+     * GPU while it renders, which can include the end of the layer before it.
+     *
+     * @param stats stats to record to
+     */
+    public void setStats(RenderStats stats) {
+        this.stats = stats;
     }
 
     public Stage getStage() {
@@ -82,6 +215,41 @@ public class RenderService implements Disposable {
 
     @Override
     public void dispose() {
-        renderables.clear();
+        for (RenderLayer layer : layers) {
+            layer.clear();
+        }
+        layers.clear();
+        entries.clear();
+        grid.clear();
+    }
+
+    /**
+     * Move a dynamic renderable in the culling grid. Renderables without bounds are always visible.
+     */
+    private void updateBounds(RenderLayer.Entry entry) {
+        if (entry.renderable.getBounds(bounds)) {
+            grid.put(entry.renderable, bounds);
+        } else {
+            grid.remove(entry.renderable);
+            entry.visibleFrame = frame;
+        }
+    }
+
+    /**
+     * Get the world area seen by a camera, from the corners of its frustum.
+     */
+    private static void getView(Camera camera, Rectangle out) {
+        Vector3[] corners = camera.frustum.planePoints;
+        float minX = corners[0].x;
+        float minY = corners[0].y;
+        float maxX = minX;
+        float maxY = minY;
+        for (Vector3 corner : corners) {
+            minX = Math.min(minX, corner.x);
+            minY = Math.min(minY, corner.y);
+            maxX = Math.max(maxX, corner.x);
+            maxY = Math.max(maxY, corner.y);
+        }
+        out.set(minX, minY, maxX - minX, maxY - minY);
     }
 }
@@ -0,0 +1,386 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Statistics about the last rendered frame, filled in by the {@link Renderer} and
+ * {@link RenderService}. Used to tell whether a level is limited by the CPU preparing the frame or by
+ * the GPU drawing it.
+ *
+ * <p>GL statistics are only collected while profiling is on (see {@link #setProfiling(boolean)}),
+ * since it slows every GL call down. Every frame can also be written to a log file, as CSV or, for
+ * files ending in .json, one JSON object per line.
+ *
+ * <p>All times are in milliseconds.
+ */
+public class RenderStats {
+    private static final Logger logger = LoggerFactory.getLogger(RenderStats.class);
+    private static final float NANOS_PER_MS = 1000000f;
+    private static final String CSV_HEADER = "frame,frameTime,worldTime,debugTime,stageActTime,stageDrawTime,"
+            + "batchRenderCalls,maxSpritesInBatch,drawCalls,textureBindings,shaderSwitches,glCalls,vertices,"
+            + "submitted,drawn,layerTimes\n";
+
+    private long frame;
+    private boolean profiling;
+
+    // Sprite batch
+    private int batchRenderCalls;
+    private int maxSpritesInBatch;
+    // GL, only while profiling
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int glCalls;
+    private int vertices;
+    // Renderables
+    private int submitted;
+    private int drawn;
+    // Times
+    private float frameTime;
+    private float worldTime;
+    private float debugTime;
+    private float stageActTime;
+    private float stageDrawTime;
+    // Time to draw each layer, in layer order
+    private final IntArray layers = new IntArray();
+    private final FloatArray layerTimes = new FloatArray();
+
+    private Writer log;
+    private boolean jsonLog;
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * @return number of frames rendered
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * @return whether GL calls are being counted
+     */
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Start or stop counting GL calls. Slows rendering down, so should only be on while the stats are
+     * being looked at.
+     *
+     * @param profiling true to count GL calls
+     */
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+        if (!profiling) {
+            setGl(0, 0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * @return number of times the sprite batch sent its vertices to the GPU
+     */
+    public int getBatchRenderCalls() {
+        return batchRenderCalls;
+    }
+
+    /**
+     * @return most sprites sent to the GPU at once
+     */
+    public int getMaxSpritesInBatch() {
+        return maxSpritesInBatch;
+    }
+
+    /**
+     * @return number of GL draw calls, or 0 when not profiling
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * @return number of texture binds, or 0 when not profiling
+     */
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    /**
+     * @return number of shader switches, or 0 when not profiling
+     */
+    public int getShaderSwitches() {
+        return shaderSwitches;
+    }
+
+    /**
+     * @return number of GL calls of any kind, or 0 when not profiling
+     */
+    public int getGlCalls() {
+        return glCalls;
+    }
+
+    /**
+     * @return number of vertices drawn, or 0 when not profiling
+     */
+    public int getVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return number of renderables registered
+     */
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return number of renderables drawn, after culling
+     */
+    public int getDrawn() {
+        return drawn;
+    }
+
+    /**
+     * @return time spent in the renderer for the whole frame
+     */
+    public float getFrameTime() {
+        return frameTime;
+    }
+
+    /**
+     * @return time spent drawing the game world through the render service
+     */
+    public float getWorldTime() {
+        return worldTime;
+    }
+
+    /**
+     * @return time spent drawing debug shapes
+     */
+    public float getDebugTime() {
+        return debugTime;
+    }
+
+    /**
+     * @return time spent updating the UI stage
+     */
+    public float getStageActTime() {
+        return stageActTime;
+    }
+
+    /**
+     * @return time spent drawing the UI stage
+     */
+    public float getStageDrawTime() {
+        return stageDrawTime;
+    }
+
+    /**
+     * @return number of layers with a draw time
+     */
+    public int getLayerCount() {
+        return layers.size;
+    }
+
+    /**
+     * @param index index from 0 to {@link #getLayerCount()}, in layer order
+     * @return the layer
+     */
+    public int getLayer(int index) {
+        return layers.get(index);
+    }
+
+    /**
+     * @param index index from 0 to {@link #getLayerCount()}, in layer order
+     * @return time spent drawing the layer
+     */
+    public float getLayerTime(int index) {
+        return layerTimes.get(index);
+    }
+
+    /**
+     * Start writing every frame to a log, replacing any log already open.
+     *
+     * @param file file to write to. Written as JSON lines if it ends in .json, otherwise CSV.
+     * @return true if the log was opened
+     */
+    public boolean startLog(FileHandle file) {
+        stopLog();
+        jsonLog = "json".equalsIgnoreCase(file.extension());
+        try {
+            log = file.writer(false, "UTF-8");
+            if (!jsonLog) {
+                log.write(CSV_HEADER);
+            }
+        } catch (Exception e) {
+            logger.error("Couldn't open render stats log {}", file.path(), e);
+            log = null;
+            return false;
+        }
+        logger.info("Logging render stats to {}", file.path());
+        return true;
+    }
+
+    /**
+     * Stop and close the frame log. Does nothing if there is no log.
+     */
+    public void stopLog() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.error("Couldn't close render stats log", e);
+        }
+        log = null;
+    }
+
+    /**
+     * @return whether frames are being written to a log
+     */
+    public boolean isLogging() {
+        return log != null;
+    }
+
+    void setBatch(int batchRenderCalls, int maxSpritesInBatch) {
+        this.batchRenderCalls = batchRenderCalls;
+        this.maxSpritesInBatch = maxSpritesInBatch;
+    }
+
+    void setGl(int drawCalls, int textureBindings, int shaderSwitches, int glCalls, int vertices) {
+        this.drawCalls = drawCalls;
+        this.textureBindings = textureBindings;
+        this.shaderSwitches = shaderSwitches;
+        this.glCalls = glCalls;
+        this.vertices = vertices;
+    }
+
+    void setRenderables(int submitted, int drawn) {
+        this.submitted = submitted;
+        this.drawn = drawn;
+    }
+
+    void setTimes(long frameNanos, long worldNanos, long debugNanos, long stageActNanos, long stageDrawNanos) {
+        frameTime = frameNanos / NANOS_PER_MS;
+        worldTime = worldNanos / NANOS_PER_MS;
+        debugTime = debugNanos / NANOS_PER_MS;
+        stageActTime = stageActNanos / NANOS_PER_MS;
+        stageDrawTime = stageDrawNanos / NANOS_PER_MS;
+    }
+
+    void setLayerTime(int layer, long nanos) {
+        int index = 0;
+        while (index < layers.size && layers.get(index) < layer) {
+            index++;
+        }
+        if (index == layers.size || layers.get(index) != layer) {
+            layers.insert(index, layer);
+            layerTimes.insert(index, 0f);
+        }
+        layerTimes.set(index, nanos / NANOS_PER_MS);
+    }
+
+    /**
+     * Finish collecting stats for a frame, writing it to the log if there is one.
+     */
+    void finishFrame() {
+        frame++;
+        if (log == null) {
+            return;
+        }
+        line.setLength(0);
+        if (jsonLog) {
+            appendJson();
+        } else {
+            appendCsv();
+        }
+        try {
+            log.append(line);
+        } catch (IOException e) {
+            logger.error("Couldn't write render stats log, stopping it", e);
+            stopLog();
+        }
+    }
+
+    /**
+     * @return the stats as lines of text, for showing to the player
+     */
+    public String describe() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "Render: %.2f ms (world %.2f, debug %.2f, UI act %.2f, UI draw %.2f)%n",
+                frameTime, worldTime, debugTime, stageActTime, stageDrawTime));
+        text.append(String.format(Locale.ROOT, "Renderables: %d drawn of %d%n", drawn, submitted));
+        text.append(String.format(Locale.ROOT, "Batch: %d flushes, max %d sprites%n",
+                batchRenderCalls, maxSpritesInBatch));
+        if (profiling) {
+            text.append(String.format(Locale.ROOT,
+                    "GL: %d draws, %d texture binds, %d shader switches, %d calls, %d vertices%n",
+                    drawCalls, textureBindings, shaderSwitches, glCalls, vertices));
+        }
+        text.append("Layers:");
+        for (int i = 0; i < layers.size; i++) {
+            text.append(String.format(Locale.ROOT, " %d=%.2f ms", layers.get(i), layerTimes.get(i)));
+        }
+        return text.append(System.lineSeparator()).toString();
+    }
+
+    private void appendCsv() {
+        line.append(frame).append(',')
+                .append(frameTime).append(',')
+                .append(worldTime).append(',')
+                .append(debugTime).append(',')
+                .append(stageActTime).append(',')
+                .append(stageDrawTime).append(',')
+                .append(batchRenderCalls).append(',')
+                .append(maxSpritesInBatch).append(',')
+                .append(drawCalls).append(',')
+                .append(textureBindings).append(',')
+                .append(shaderSwitches).append(',')
+                .append(glCalls).append(',')
+                .append(vertices).append(',')
+                .append(submitted).append(',')
+                .append(drawn).append(',');
+        // Layers can be added at any time, so they share one column
+        for (int i = 0; i < layers.size; i++) {
+            if (i > 0) {
+                line.append(';');
+            }
+            line.append(layers.get(i)).append('=').append(layerTimes.get(i));
+        }
+        line.append('\n');
+    }
+
+    private void appendJson() {
+        line.append("{\"frame\":").append(frame)
+                .append(",\"frameTime\":").append(frameTime)
+                .append(",\"worldTime\":").append(worldTime)
+                .append(",\"debugTime\":").append(debugTime)
+                .append(",\"stageActTime\":").append(stageActTime)
+                .append(",\"stageDrawTime\":").append(stageDrawTime)
+                .append(",\"batchRenderCalls\":").append(batchRenderCalls)
+                .append(",\"maxSpritesInBatch\":").append(maxSpritesInBatch)
+                .append(",\"drawCalls\":").append(drawCalls)
+                .append(",\"textureBindings\":").append(textureBindings)
+                .append(",\"shaderSwitches\":").append(shaderSwitches)
+                .append(",\"glCalls\":").append(glCalls)
+                .append(",\"vertices\":").append(vertices)
+                .append(",\"submitted\":").append(submitted)
+                .append(",\"drawn\":").append(drawn)
+                .append(",\"layerTimes\":{");
+        for (int i = 0; i < layers.size; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append('"').append(layers.get(i)).append("\":").append(layerTimes.get(i));
+        }
+        line.append("}}\n");
+    }
+}
@@ -1,6 +1,7 @@
 package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -26,4 +27,25 @@ public interface Renderable extends Comparable<Renderable> {
      * @return layer
      */
     int getLayer();
+
+    /**
+     * World area the renderable draws to, so it can be skipped when it's outside the camera's view.
+     * Renderables without bounds, e.g. UI, are always rendered.
+     *
+     * @param bounds set to the renderable's bounds in world units
+     * @return true if bounds were set, false to always render
+     */
+    default boolean getBounds(Rectangle bounds) {
+        return false;
+    }
+
+    /**
+     * Whether the renderable never moves, so its bounds only need to be read once when it's
+     * registered.
+     *
+     * @return true if the renderable never moves
+     */
+    default boolean isStatic() {
+        return false;
+    }
 }
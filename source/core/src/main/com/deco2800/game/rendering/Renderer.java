@@ -3,6 +3,7 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
@@ -15,6 +16,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Core rendering system for the game. Controls the game's camera and runs rendering on all
  * renderables each frame.
+ *
+ * <p>Statistics for each frame are recorded in {@link #getStats()}. GL calls are only counted while
+ * debug mode is on or the stats are being logged.
  */
 public class Renderer implements Disposable {
     private static final float GAME_SCREEN_WIDTH = 20f;
@@ -26,6 +30,8 @@ public class Renderer implements Disposable {
     private Stage stage;
     private RenderService renderService;
     private DebugRenderer debugRenderer;
+    private final RenderStats stats = new RenderStats();
+    private GLProfiler profiler;
 
     /**
      * Create a new renderer with default settings
@@ -84,6 +90,8 @@ public class Renderer implements Disposable {
 
         renderService.setStage(stage);
         renderService.setDebug(debugRenderer);
+        renderService.setCamera(camera);
+        renderService.setStats(stats);
         resizeCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
@@ -95,17 +103,44 @@ public class Renderer implements Disposable {
      * Render everything to the render service.
      */
     public void render() {
+        updateProfiling();
+        long frameStart = System.nanoTime();
         Matrix4 projMatrix = camera.getProjectionMatrix();
         batch.setProjectionMatrix(projMatrix);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Render calls are counted from here since the batch may be restarted while rendering
+        int startRenderCalls = batch.totalRenderCalls;
+        batch.maxSpritesInBatch = 0;
         batch.begin();
         renderService.render(batch);
         batch.end();
+        long worldEnd = System.nanoTime();
+        stats.setBatch(batch.totalRenderCalls - startRenderCalls, batch.maxSpritesInBatch);
+
         debugRenderer.render(projMatrix);
+        long debugEnd = System.nanoTime();
 
         stage.act();
+        long actEnd = System.nanoTime();
         stage.draw();
+        long frameEnd = System.nanoTime();
+
+        stats.setTimes(frameEnd - frameStart, worldEnd - frameStart, debugEnd - worldEnd,
+                actEnd - debugEnd, frameEnd - actEnd);
+        if (stats.isProfiling()) {
+            stats.setGl(profiler.getDrawCalls(), profiler.getTextureBindings(), profiler.getShaderSwitches(),
+                    profiler.getCalls(), (int) profiler.getVertexCount().total);
+            profiler.reset();
+        }
+        stats.finishFrame();
+    }
+
+    /**
+     * @return statistics for the last rendered frame
+     */
+    public RenderStats getStats() {
+        return stats;
     }
 
     /**
@@ -127,6 +162,26 @@ public class Renderer implements Disposable {
         return debugRenderer;
     }
 
+    /**
+     * Count GL calls only while someone is looking at them, since profiling slows every call down.
+     */
+    private void updateProfiling() {
+        boolean profiling = debugRenderer.getActive() || stats.isLogging();
+        if (profiling == stats.isProfiling()) {
+            return;
+        }
+        if (profiling) {
+            if (profiler == null) {
+                profiler = new GLProfiler(Gdx.graphics);
+            }
+            profiler.enable();
+            profiler.reset();
+        } else {
+            profiler.disable();
+        }
+        stats.setProfiling(profiling);
+    }
+
     private void resizeCamera(int screenWidth, int screenHeight) {
         camera.resize(screenWidth, screenHeight, gameWidth);
     }
@@ -137,6 +192,10 @@ public class Renderer implements Disposable {
 
     @Override
     public void dispose() {
+        if (profiler != null) {
+            profiler.disable();
+        }
+        stats.stopLog();
         stage.dispose();
         batch.dispose();
     }
@@ -0,0 +1,248 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.services.ServiceLocator;
+
+import java.util.function.IntFunction;
+
+/**
+ * Sprites that never move or change, e.g. map obstacles, baked into {@link SpriteCache}s when the
+ * entity is created so their vertices are only built once. Much cheaper than an entity with a
+ * {@link TextureRenderComponent} for each sprite.
+ *
+ * <p>Sprites are grouped into chunks by row and by {@link #CHUNK_WIDTH} wide regions. Each chunk is
+ * registered with the render service like any other renderable, so it's culled when out of view and
+ * drawn in between entities by its Y position.
+ */
+public class StaticSpriteLayer extends Component {
+    /**
+     * Width of a chunk in metres
+     */
+    public static final float CHUNK_WIDTH = 8f;
+    // The most sprites a SpriteCache with indices can hold
+    private static final int MAX_CACHE_SPRITES = 8191;
+    private static final int DEFAULT_LAYER = 1;
+
+    private final IntFunction<SpriteCache> cacheFactory;
+    private final Array<StaticSprite> sprites = new Array<>(false, 64);
+    private final Array<SpriteCache> caches = new Array<>(false, 1);
+    private final Array<Chunk> chunks = new Array<>(false, 16);
+
+    public StaticSpriteLayer() {
+        this(size -> new SpriteCache(size, true));
+    }
+
+    /**
+     * @param cacheFactory creates a sprite cache able to hold the given number of sprites
+     */
+    StaticSpriteLayer(IntFunction<SpriteCache> cacheFactory) {
+        this.cacheFactory = cacheFactory;
+    }
+
+    /**
+     * Add a sprite to the layer. Sprites must be added before the entity is created.
+     *
+     * @param texture texture to draw
+     * @param x       left edge in world units
+     * @param y       bottom edge in world units
+     * @param width   width in world units
+     * @param height  height in world units
+     */
+    public void add(Texture texture, float x, float y, float width, float height) {
+        add(new TextureRegion(texture), x, y, width, height);
+    }
+
+    /**
+     * Add a sprite to the layer. Sprites must be added before the entity is created. Sprites from the
+     * same texture, e.g. regions of one atlas, are drawn without switching textures.
+     *
+     * @param region texture region to draw
+     * @param x      left edge in world units
+     * @param y      bottom edge in world units
+     * @param width  width in world units
+     * @param height height in world units
+     */
+    public void add(TextureRegion region, float x, float y, float width, float height) {
+        if (!chunks.isEmpty()) {
+            throw new IllegalStateException("Sprites can't be added after the layer has been baked");
+        }
+        sprites.add(new StaticSprite(region, x, y, width, height));
+    }
+
+    /**
+     * @return number of sprites in the layer
+     */
+    public int getSpriteCount() {
+        return sprites.size;
+    }
+
+    /**
+     * @return number of chunks the sprites were baked into, or 0 before the entity is created
+     */
+    public int getChunkCount() {
+        return chunks.size;
+    }
+
+    @Override
+    public void create() {
+        if (sprites.isEmpty()) {
+            return;
+        }
+        // Sprites in the same chunk end up next to each other, in order from left to right
+        sprites.sort((a, b) -> {
+            int compare = Float.compare(a.y, b.y);
+            if (compare == 0) {
+                compare = Integer.compare(a.chunkX(), b.chunkX());
+            }
+            return compare != 0 ? compare : Float.compare(a.x, b.x);
+        });
+
+        int start = 0;
+        while (start < sprites.size) {
+            int end = start;
+            int cacheSize = 0;
+            // Fill one cache with as many whole chunks as fit
+            while (end < sprites.size) {
+                int chunkEnd = findChunkEnd(end);
+                if (cacheSize > 0 && cacheSize + chunkEnd - end > MAX_CACHE_SPRITES) {
+                    break;
+                }
+                cacheSize += chunkEnd - end;
+                end = chunkEnd;
+            }
+            bake(start, end, cacheSize);
+            start = end;
+        }
+
+        RenderService renderService = ServiceLocator.getRenderService();
+        for (Chunk chunk : chunks) {
+            renderService.register(chunk);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        RenderService renderService = ServiceLocator.getRenderService();
+        for (Chunk chunk : chunks) {
+            renderService.unregister(chunk);
+        }
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        chunks.clear();
+        caches.clear();
+    }
+
+    private int findChunkEnd(int start) {
+        StaticSprite first = sprites.get(start);
+        int end = start + 1;
+        while (end < sprites.size && sprites.get(end).y == first.y
+                && sprites.get(end).chunkX() == first.chunkX()) {
+            end++;
+        }
+        return end;
+    }
+
+    private void bake(int start, int end, int size) {
+        SpriteCache cache = cacheFactory.apply(size);
+        caches.add(cache);
+        int chunkStart = start;
+        while (chunkStart < end) {
+            int chunkEnd = findChunkEnd(chunkStart);
+            Rectangle bounds = new Rectangle();
+            cache.beginCache();
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                StaticSprite sprite = sprites.get(i);
+                cache.add(sprite.region, sprite.x, sprite.y, sprite.width, sprite.height);
+                if (i == chunkStart) {
+                    bounds.set(sprite.x, sprite.y, sprite.width, sprite.height);
+                } else {
+                    bounds.merge(sprite.x, sprite.y).merge(sprite.x + sprite.width, sprite.y + sprite.height);
+                }
+            }
+            chunks.add(new Chunk(cache, cache.endCache(), bounds, -sprites.get(chunkStart).y));
+            chunkStart = chunkEnd;
+        }
+    }
+
+    /**
+     * One row of sprites within a region, drawn from its sprite cache.
+     */
+    private static class Chunk implements Renderable {
+        private final SpriteCache cache;
+        private final int cacheId;
+        private final Rectangle bounds;
+        private final float zIndex;
+
+        private Chunk(SpriteCache cache, int cacheId, Rectangle bounds, float zIndex) {
+            this.cache = cache;
+            this.cacheId = cacheId;
+            this.bounds = bounds;
+            this.zIndex = zIndex;
+        }
+
+        @Override
+        public void render(SpriteBatch batch) {
+            // The cache has its own mesh, so anything already in the batch has to be drawn first
+            batch.end();
+            cache.setProjectionMatrix(batch.getProjectionMatrix());
+            cache.setTransformMatrix(batch.getTransformMatrix());
+            cache.begin();
+            cache.draw(cacheId);
+            cache.end();
+            batch.begin();
+        }
+
+        @Override
+        public float getZIndex() {
+            return zIndex;
+        }
+
+        @Override
+        public int getLayer() {
+            return DEFAULT_LAYER;
+        }
+
+        @Override
+        public boolean getBounds(Rectangle out) {
+            out.set(bounds);
+            return true;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return true;
+        }
+
+        @Override
+        public int compareTo(Renderable o) {
+            return Float.compare(getZIndex(), o.getZIndex());
+        }
+    }
+
+    private static class StaticSprite {
+        private final TextureRegion region;
+        private final float x;
+        private final float y;
+        private final float width;
+        private final float height;
+
+        private StaticSprite(TextureRegion region, float x, float y, float width, float height) {
+            this.region = region;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        private int chunkX() {
+            return (int) Math.floor(x / CHUNK_WIDTH);
+        }
+    }
+}
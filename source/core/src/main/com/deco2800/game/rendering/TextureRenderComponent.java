@@ -3,6 +3,7 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.services.ServiceLocator;
 
@@ -11,7 +12,11 @@ import com.deco2800.game.services.ServiceLocator;
  */
 public class TextureRenderComponent extends RenderComponent {
     private final Texture texture;
+    private final TextureRegion region;
     private final Sprite sprite;
+    // Reused every frame to avoid allocating
+    private final Vector2 renderPosition = new Vector2();
+    private final Vector2 renderScale = new Vector2();
 
     /**
      * @param texturePath internal path of static teture to render. Will be scaled to the entity's
@@ -26,6 +31,16 @@ public class TextureRenderComponent extends RenderComponent {
      */
     public TextureRenderComponent(Texture texture) {
         this.texture = texture;
+        this.region = null;
+        this.sprite = null;
+    }
+
+    /**
+     * @param region Static texture region, e.g. from an atlas. Will be scaled to the entity's scale.
+     */
+    public TextureRenderComponent(TextureRegion region) {
+        this.texture = null;
+        this.region = region;
         this.sprite = null;
     }
 
@@ -34,6 +49,7 @@ public class TextureRenderComponent extends RenderComponent {
      */
     public TextureRenderComponent(Sprite sprite) {
         this.texture = null;
+        this.region = null;
         this.sprite = sprite;
     }
 
@@ -45,7 +61,11 @@ public class TextureRenderComponent extends RenderComponent {
      * Scale the entity to a width of 1 and a height matching the texture's ratio
      */
     public void scaleEntity() {
-        entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        if (region != null) {
+            entity.setScale(1f, (float) region.getRegionHeight() / region.getRegionWidth());
+        } else {
+            entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        }
     }
 
     /**
@@ -55,19 +75,19 @@ public class TextureRenderComponent extends RenderComponent {
      */
     @Override
     public void draw(SpriteBatch batch) {
-        Vector2 position = entity.getPosition();
-        Vector2 positionCenter = entity.getCenterPosition();
-        Vector2 scale = entity.getScale();
+        Vector2 position = entity.getRenderPosition(renderPosition);
+        Vector2 scale = entity.getScale(renderScale);
         float angle = entity.getAngle();
 
         if (texture != null) {
             batch.draw(texture, position.x, position.y, scale.x, scale.y);
+        } else if (region != null) {
+            batch.draw(region, position.x, position.y, scale.x, scale.y);
         } else if (sprite != null) {
             //Prepare sprite to be drawn
-            sprite.setScale(entity.getScale().x / sprite.getWidth(),
-                    entity.getScale().y / sprite.getHeight());
+            sprite.setScale(scale.x / sprite.getWidth(), scale.y / sprite.getHeight());
             sprite.setRotation(angle);
-            sprite.setCenter(positionCenter.x, positionCenter.y);
+            sprite.setCenter(position.x + scale.x / 2f, position.y + scale.y / 2f);
             sprite.draw(batch);
         }
     }
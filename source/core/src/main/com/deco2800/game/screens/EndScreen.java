@@ -4,7 +4,6 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.Timer;
 import com.deco2800.game.GdxGame;
 import com.deco2800.game.components.endgame.EndScreenActions;
 import com.deco2800.game.components.maingame.EndScreenDisplay;
@@ -18,6 +17,7 @@ import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.SchedulerService;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +39,7 @@ public class EndScreen extends ScreenAdapter {
 
         logger.debug("Initialising End Screen services");
         ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerSchedulerService(new SchedulerService());
         ServiceLocator.registerInputService(new InputService());
         ServiceLocator.registerResourceService(new ResourceService());
         ServiceLocator.registerEntityService(new EntityService());
@@ -52,6 +53,9 @@ public class EndScreen extends ScreenAdapter {
 
     @Override
     public void render(float delta) {
+        // No fixed ticks on the end screen, so advance game time once per frame
+        ServiceLocator.getTimeSource().tick(delta);
+        ServiceLocator.getSchedulerService().update();
         ServiceLocator.getEntityService().update();
         renderer.render();
     }
@@ -68,6 +72,7 @@ public class EndScreen extends ScreenAdapter {
         renderer.dispose();
         unloadAssets();
 
+        ServiceLocator.getSchedulerService().clear();
         ServiceLocator.getRenderService().dispose();
         ServiceLocator.getEntityService().dispose();
         ServiceLocator.clear();
@@ -109,19 +114,10 @@ public class EndScreen extends ScreenAdapter {
         endUi.setScale(20.5f, 12.5f);
         endUi.setPosition(-5.5f, -1.5f);
 
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                endAnimator.startAnimation("winScreen");
-            }
-        }, 0.2f);
+        SchedulerService scheduler = ServiceLocator.getSchedulerService();
+        scheduler.schedule(() -> endAnimator.startAnimation("winScreen"), 200L);
         //display button after playing the win animations
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                endUi.getComponent(EndScreenDisplay.class).displayButtons();
-            }
-        }, 4.5f);
+        scheduler.schedule(() -> endUi.getComponent(EndScreenDisplay.class).displayButtons(), 4500L);
     }
 
 }
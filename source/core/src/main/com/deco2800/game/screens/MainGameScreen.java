@@ -1,10 +1,13 @@
 package com.deco2800.game.screens;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.deco2800.game.GdxGame;
+import com.deco2800.game.ai.lod.AILodService;
+import com.deco2800.game.ai.steering.SteeringService;
 import com.deco2800.game.areas.*;
 import com.deco2800.game.areas.terrain.TerrainFactory;
 import com.deco2800.game.components.CombatStatsComponent;
@@ -17,15 +20,23 @@ import com.deco2800.game.components.player.PlayerWin;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.entities.factories.RenderFactory;
+import com.deco2800.game.files.UserSettings;
 import com.deco2800.game.input.InputComponent;
 import com.deco2800.game.input.InputDecorator;
+import com.deco2800.game.input.InputRecorder;
+import com.deco2800.game.input.InputRecording;
+import com.deco2800.game.input.InputReplay;
 import com.deco2800.game.input.InputService;
 import com.deco2800.game.physics.PhysicsEngine;
 import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.rendering.DebugRenderer;
+import com.deco2800.game.rendering.HealthBarService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.Renderer;
 import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.RandomService;
 import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.SchedulerService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.CutsceneScreen;
 import com.deco2800.game.ui.terminal.Terminal;
@@ -68,23 +79,52 @@ public class MainGameScreen extends ScreenAdapter {
     private GameArea gameArea;
     private boolean gameChange = false;
     private final TerrainFactory terrainFactory;
+    private InputRecorder recorder = null;
+    private InputReplay replay = null;
+    /**
+     * recording to replay, taken from the game before anything is created so its seed can be used
+     */
+    private InputRecording pendingRecording;
+    /**
+     * simulation ticks to run per normal tick, more than 1 to replay faster than real time
+     */
+    private int ticksPerTick = 1;
+    private boolean stepAfterFrameUpdate = false;
 
     public MainGameScreen(GdxGame game) {
         this.game = game;
-
+        // The last screen has been disposed, so ids are free to reuse and match between replays
+        Entity.resetIds();
 
         logger.debug("Initialising main game screen services");
         ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerSchedulerService(new SchedulerService());
+        // Seed before creating anything, e.g. the text box picks its first dialogue
+        pendingRecording = game.takePendingReplay();
+        RandomService randomService = new RandomService();
+        if (pendingRecording != null) {
+            randomService.setSeed(pendingRecording.getSeed());
+        } else if (game.getReplayOptions().seed != null) {
+            randomService.setSeed(game.getReplayOptions().seed);
+        }
+        ServiceLocator.registerRandomService(randomService);
 
         PhysicsService physicsService = new PhysicsService();
         ServiceLocator.registerPhysicsService(physicsService);
         physicsEngine = physicsService.getPhysics();
+        physicsEngine.setTimestep(GameTime.TICK_TIME);
+        physicsEngine.setThreaded(UserSettings.get().physicsThread);
 
-        ServiceLocator.registerInputService(new InputService());
+        InputService inputService = new InputService();
+        inputService.setQueueEvents(true);
+        ServiceLocator.registerInputService(inputService);
         ServiceLocator.registerResourceService(new ResourceService());
 
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
+        ServiceLocator.registerHealthBarService(new HealthBarService());
+        ServiceLocator.registerAILodService(new AILodService());
+        ServiceLocator.registerSteeringService(new SteeringService());
 
         renderer = RenderFactory.createRenderer();
 
@@ -99,6 +139,7 @@ public class MainGameScreen extends ScreenAdapter {
     public MainGameScreen(GdxGame game, String world) {
         this(game);
         logger.debug("Initialising main game screen entities");
+        setUpReplay(world, InputRecording.DEFAULT_HEALTH);
 
         switch (world) {
             case "tutorial":
@@ -123,6 +164,7 @@ public class MainGameScreen extends ScreenAdapter {
                 break;
         }
         renderer.getCamera().setPlayer(this.gameArea.getPlayer());
+        ServiceLocator.getAILodService().setFocus(this.gameArea.getPlayer());
     }
 
     /**
@@ -131,6 +173,7 @@ public class MainGameScreen extends ScreenAdapter {
     public MainGameScreen(GdxGame game, String world, int currentHealth) {
         this(game);
         logger.debug("Initialising main game screen entities");
+        setUpReplay(world, currentHealth);
 
         switch (world) {
             case "tutorial":
@@ -155,8 +198,30 @@ public class MainGameScreen extends ScreenAdapter {
                 break;
         }
         renderer.getCamera().setPlayer(this.gameArea.getPlayer());
+        ServiceLocator.getAILodService().setFocus(this.gameArea.getPlayer());
     }
 
+    /**
+     * Replay a recording if one is waiting, otherwise record the level if recording is turned on.
+     * Must be called before the level is created, so no input is missed.
+     *
+     * @param world         name of the level
+     * @param currentHealth health the player starts with, or InputRecording.DEFAULT_HEALTH
+     */
+    private void setUpReplay(String world, int currentHealth) {
+        InputService inputService = ServiceLocator.getInputService();
+        InputRecording recording = pendingRecording;
+        pendingRecording = null;
+        if (recording != null) {
+            replay = new InputReplay(recording);
+            inputService.setReplay(replay);
+            ticksPerTick = game.getReplayOptions().replaySpeed;
+        } else if (game.getReplayOptions().recordDirectory != null) {
+            recorder = new InputRecorder(
+                    new InputRecording(ServiceLocator.getRandomService().getSeed(), world, currentHealth));
+            inputService.setRecorder(recorder);
+        }
+    }
 
     /**
      * Runs when the player dies, causes the camera to zoom in.
@@ -218,11 +283,78 @@ public class MainGameScreen extends ScreenAdapter {
                 gameChange = false;
             }
         } else {
-            physicsEngine.update();
-            ServiceLocator.getEntityService().update();
+            GameTime timeSource = ServiceLocator.getTimeSource();
+            int ticks = timeSource.startFrame() * ticksPerTick;
+            boolean paused = ticks == 0 && timeSource.isPaused();
+            if (paused) {
+                // Nothing is simulated while paused, but menus still need input
+                ServiceLocator.getInputService().processQueuedEvents();
+            }
+            for (int i = 0; i < ticks; i++) {
+                timeSource.tick();
+                // Input handlers and scheduled tasks touch bodies, so the last step must be done
+                physicsEngine.finishStep();
+                ServiceLocator.getInputService().processQueuedEvents();
+                ServiceLocator.getSchedulerService().update();
+                simulate(i == ticks - 1);
+            }
+            timeSource.finishTicks();
+
+            physicsEngine.finishStep();
+            if (paused) {
+                ServiceLocator.getEntityService().pausedUpdate();
+            }
+            ServiceLocator.getEntityService().frameUpdate();
+            if (stepAfterFrameUpdate) {
+                // The last tick's step overlaps rendering, which doesn't touch bodies
+                stepAfterFrameUpdate = false;
+                physicsEngine.step();
+            }
+            if (physicsEngine.isThreaded() && renderer.getDebug().isEnabled(DebugRenderer.Category.PHYSICS)) {
+                physicsEngine.finishStep();
+            }
             renderer.render();
+            physicsEngine.finishStep();
             isPlayerDead();
             playerWin();
+            checkReplayFinished();
+        }
+    }
+
+    /**
+     * Exit once a replay has finished, if the replay options say to.
+     */
+    private void checkReplayFinished() {
+        if (replay != null && replay.isFinished()) {
+            logger.info("Replay of {} ticks finished", replay.getRecording().getTickCount());
+            replay = null;
+            ticksPerTick = 1;
+            if (game.getReplayOptions().exitAfterReplay) {
+                game.exit();
+            }
+        }
+    }
+
+    /**
+     * Run one fixed simulation tick of physics and entity updates.
+     *
+     * @param lastTick true if this is the frame's last tick
+     */
+    private void simulate(boolean lastTick) {
+        if (physicsEngine.isThreaded()) {
+            // Entities read the previous step's results, then the next step runs in the background.
+            // The last tick's step waits until after frame updates, so it can overlap rendering.
+            ServiceLocator.getSteeringService().update();
+            ServiceLocator.getEntityService().update();
+            if (lastTick) {
+                stepAfterFrameUpdate = true;
+            } else {
+                physicsEngine.step();
+            }
+        } else {
+            physicsEngine.step();
+            ServiceLocator.getSteeringService().update();
+            ServiceLocator.getEntityService().update();
         }
     }
 
@@ -269,10 +401,18 @@ public class MainGameScreen extends ScreenAdapter {
     @Override
     public void dispose() {
         logger.debug("Disposing main game screen");
+        physicsEngine.setThreaded(false);
+        saveRecording();
+        if (replay != null && game.getReplayOptions().exitAfterReplay) {
+            // The level ended before the replay did, e.g. the player died
+            logger.info("Replay stopped at {}% when the level ended", (int) (replay.getProgress() * 100));
+            game.exit();
+        }
 
         renderer.dispose();
         unloadAssets();
 
+        ServiceLocator.getSchedulerService().clear();
         ServiceLocator.getEntityService().dispose();
         ServiceLocator.getRenderService().dispose();
         ServiceLocator.getResourceService().dispose();
@@ -280,6 +420,20 @@ public class MainGameScreen extends ScreenAdapter {
         ServiceLocator.clear();
     }
 
+    /**
+     * Save the recording of this level, if it was being recorded.
+     */
+    private void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        recorder.finish(ServiceLocator.getTimeSource().getTicks());
+        InputRecording recording = recorder.getRecording();
+        recording.save(Gdx.files.absolute(game.getReplayOptions().recordDirectory)
+                .child(recording.getLevel() + ".replay"));
+        recorder = null;
+    }
+
     /**
      * load the assets the current game screen need it
      */
@@ -1,29 +1,39 @@
 package com.deco2800.game.services;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.utils.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Controls the game time
+ * Controls the game time. This is the simulation clock: it only moves forward when the game calls
+ * {@link #tick()}, so it stops while paused and speeds up or slows down with the time scale.
+ * Gameplay timers and cooldowns should read it instead of the wall clock.
+ *
+ * <p>The game simulates in fixed ticks of {@link #TICK_TIME}, however fast frames are rendered.
+ * Each frame, {@link #startFrame()} works out how many ticks are due, the game runs them, and then
+ * draws between the last two ticks at {@link #getInterpolationAlpha()}.
  */
 public class GameTime {
+    /**
+     * Length of one simulation tick in seconds.
+     */
+    public static final float TICK_TIME = 1f / 60f;
     private static final Logger logger = LoggerFactory.getLogger(GameTime.class);
-    private final long startTime;
+    private static final float MAX_FRAME_TIME = 0.25f;
+    private static final int MAX_TICKS_PER_FRAME = 5;
     private float timeScale = 1f;
     private boolean paused = false;
 
     private boolean enemiesPaused = false;
-    // The amount of time game was paused since started
-    private long timePaused;
-    // The time at which game was paused last time
-    private long previouslyPausedAt;
-
-    public GameTime() {
-        startTime = TimeUtils.millis();
-        logger.debug("Setting game start time to {}", startTime);
-    }
+    // Simulation time since the game started, in seconds
+    private double simulationTime;
+    private long time;
+    private long ticks;
+    private long droppedTicks;
+    // Scaled frame time not yet simulated
+    private float tickAccumulator;
+    private float tickDeltaTime;
+    private boolean ticking = false;
 
     /**
      * Set the speed of time passing. This affects getDeltaTime()
@@ -36,9 +46,13 @@ public class GameTime {
     }
 
     /**
-     * @return time passed since the last frame in seconds, scaled by time scale.
+     * @return during a simulation tick, the length of the tick in seconds. Otherwise, time passed
+     * since the last frame in seconds, scaled by time scale.
      */
     public float getDeltaTime() {
+        if (ticking) {
+            return tickDeltaTime;
+        }
         return Gdx.graphics.getDeltaTime() * timeScale;
     }
 
@@ -50,16 +64,100 @@ public class GameTime {
     }
 
     /**
-     * @return time passed since the game started in milliseconds
+     * Start a new frame, adding its scaled time to the time still to be simulated. If the game has
+     * fallen too far behind, the extra time is dropped so it slows down instead of freezing.
+     *
+     * @return number of ticks to run this frame
+     */
+    public int startFrame() {
+        ticking = false;
+        tickAccumulator += Math.min(getDeltaTime(), MAX_FRAME_TIME);
+        int due = (int) (tickAccumulator / TICK_TIME);
+        if (due > MAX_TICKS_PER_FRAME) {
+            logger.debug("Simulation behind, dropping {} ticks", due - MAX_TICKS_PER_FRAME);
+            droppedTicks += due - MAX_TICKS_PER_FRAME;
+            tickAccumulator -= (due - MAX_TICKS_PER_FRAME) * TICK_TIME;
+            due = MAX_TICKS_PER_FRAME;
+        }
+        tickAccumulator -= due * TICK_TIME;
+        return due;
+    }
+
+    /**
+     * Start a simulation tick of {@link #TICK_TIME}, advancing the clock. Until the next frame is
+     * started, getDeltaTime() returns the tick length.
+     */
+    public void tick() {
+        tick(TICK_TIME);
+    }
+
+    /**
+     * Start a simulation tick of any length, advancing the clock. Until the next frame is started,
+     * getDeltaTime() returns the tick length.
+     *
+     * @param deltaTime simulation time passed in seconds
+     */
+    public void tick(float deltaTime) {
+        simulationTime += deltaTime;
+        time = (long) (simulationTime * 1000);
+        ticks++;
+        tickDeltaTime = deltaTime;
+        ticking = true;
+    }
+
+    /**
+     * End the frame's simulation ticks, so getDeltaTime() returns frame time again while rendering.
+     */
+    public void finishTicks() {
+        ticking = false;
+    }
+
+    /**
+     * How far the current frame is between the last tick and the next one, for drawing moving
+     * things smoothly.
+     *
+     * @return interpolation alpha from 0 to 1
+     */
+    public float getInterpolationAlpha() {
+        return tickAccumulator / TICK_TIME;
+    }
+
+    /**
+     * @return number of ticks since the game started
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return simulation time passed since the game started in milliseconds
      */
     public long getTime() {
-        return TimeUtils.timeSinceMillis(startTime) - timePaused;
+        return time;
     }
 
     public long getTimeSince(long lastTime) {
         return getTime() - lastTime;
     }
 
+    /**
+     * Check a timer or cooldown, e.g. {@code timeSource.hasElapsed(lastFired, cooldownMS)}.
+     *
+     * @param startTime  simulation time the timer was started at, from {@link #getTime()}
+     * @param durationMS length of the timer in milliseconds
+     * @return true if at least durationMS has passed since startTime
+     */
+    public boolean hasElapsed(long startTime, long durationMS) {
+        return getTimeSince(startTime) >= durationMS;
+    }
+
+    /**
+     * @return ticks dropped so far because a frame was too far behind, see {@link #startFrame()}
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
     /**
      * @return whether the game is paused
      */
@@ -73,7 +171,6 @@ public class GameTime {
     public void pause() {
         timeScale = 0f;
         paused = true;
-        previouslyPausedAt = this.getTime();
     }
 
     /**
@@ -82,7 +179,6 @@ public class GameTime {
     public void unpause() {
         timeScale = 1f;
         paused = false;
-        timePaused += getTimeSince(previouslyPausedAt);
     }
 
     public void pauseEnemies() {
@@ -0,0 +1,93 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.deco2800.game.utils.math.SplitMixRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * Gives out seeded random number streams for gameplay. Every stream is derived from one level
+ * seed and a key, so the same seed replays the same fights, and one system using more or fewer
+ * numbers does not change what another system gets.
+ *
+ * <p>Use a system stream for randomness shared by a whole system:
+ *
+ * <pre>
+ * Random random = ServiceLocator.getRandomService().getStream("deathSounds");
+ * </pre>
+ *
+ * <p>or an entity stream, kept by the component, when each entity should have its own sequence:
+ *
+ * <pre>
+ * random = ServiceLocator.getRandomService().getStream("multishot", entity.getId());
+ * </pre>
+ */
+public class RandomService {
+    private static final Logger logger = LoggerFactory.getLogger(RandomService.class);
+    private final ObjectMap<String, SplitMixRandom> streams = new ObjectMap<>();
+    private long seed;
+
+    /**
+     * Create a random service with a new random level seed.
+     */
+    public RandomService() {
+        this(new SecureRandom().nextLong());
+    }
+
+    public RandomService(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * @return level seed all streams are derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Change the level seed. Streams handed out before this keep their old sequence, so this should
+     * be called before the level is created.
+     *
+     * @param seed level seed
+     */
+    public void setSeed(long seed) {
+        logger.info("Using level seed {}", seed);
+        this.seed = seed;
+        streams.clear();
+    }
+
+    /**
+     * Get the stream for a system. The same stream is returned every time for a key.
+     *
+     * @param key name of the system, e.g. "deathSounds"
+     * @return random number stream
+     */
+    public Random getStream(String key) {
+        SplitMixRandom stream = streams.get(key);
+        if (stream == null) {
+            stream = new SplitMixRandom(deriveSeed(key, 0));
+            streams.put(key, stream);
+        }
+        return stream;
+    }
+
+    /**
+     * Create a new stream for one entity of a system. Every call starts the sequence again, so the
+     * caller should keep the stream.
+     *
+     * @param key name of the system, e.g. "multishot"
+     * @param id  id of the entity
+     * @return random number stream
+     */
+    public Random getStream(String key, int id) {
+        return new SplitMixRandom(deriveSeed(key, id + 1L));
+    }
+
+    private long deriveSeed(String key, long id) {
+        return SplitMixRandom.mix(seed ^ SplitMixRandom.mix(key.hashCode() + (id << 32)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks after a delay, or repeatedly, in game time. Tasks run on the game thread from {@link
+ * #update()}, which the game calls once per tick, so they pause with the game and can safely change
+ * game state. Use this instead of starting a new Timer thread for short delays.
+ *
+ * <p>Scheduling returns a handle which can be used to cancel the task:
+ *
+ * <pre>
+ * long handle = scheduler.schedule(this::closeDoor, 500L);
+ * ...
+ * scheduler.cancel(handle);
+ * </pre>
+ */
+public class SchedulerService {
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerService.class);
+    private final GameTime timeSource;
+    private final Array<ScheduledTask> tasks = new Array<>();
+    private final Pool<ScheduledTask> taskPool = new Pool<ScheduledTask>() {
+        @Override
+        protected ScheduledTask newObject() {
+            return new ScheduledTask();
+        }
+    };
+    private long nextHandle = 1;
+
+    public SchedulerService() {
+        this(ServiceLocator.getTimeSource());
+    }
+
+    public SchedulerService(GameTime timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Run a task once after a delay.
+     *
+     * @param task    task to run
+     * @param delayMS delay in milliseconds of game time
+     * @return handle to cancel the task with
+     */
+    public long schedule(Runnable task, long delayMS) {
+        return scheduleRepeating(task, delayMS, 0L);
+    }
+
+    /**
+     * Run a task after a delay, then again every interval until it is cancelled. A task runs at most
+     * once per tick.
+     *
+     * @param task       task to run
+     * @param delayMS    delay before the first run in milliseconds of game time
+     * @param intervalMS time between runs in milliseconds of game time
+     * @return handle to cancel the task with
+     */
+    public long scheduleRepeating(Runnable task, long delayMS, long intervalMS) {
+        ScheduledTask scheduled = taskPool.obtain();
+        scheduled.handle = nextHandle++;
+        scheduled.task = task;
+        scheduled.dueTime = timeSource.getTime() + delayMS;
+        scheduled.intervalMS = intervalMS;
+        tasks.add(scheduled);
+        return scheduled.handle;
+    }
+
+    /**
+     * Stop a task from running again. Does nothing if the task has already finished.
+     *
+     * @param handle handle returned when the task was scheduled
+     * @return true if the task was cancelled
+     */
+    public boolean cancel(long handle) {
+        ScheduledTask scheduled = find(handle);
+        if (scheduled == null) {
+            return false;
+        }
+        scheduled.finished = true;
+        return true;
+    }
+
+    /**
+     * @param handle handle returned when the task was scheduled
+     * @return true if the task will still run
+     */
+    public boolean isScheduled(long handle) {
+        return find(handle) != null;
+    }
+
+    /**
+     * @return number of tasks waiting to run
+     */
+    public int getTaskCount() {
+        int count = 0;
+        for (int i = 0; i < tasks.size; i++) {
+            if (!tasks.get(i).finished) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Run all tasks which are due, in the order they were scheduled. Tasks scheduled while this runs
+     * wait until the next update. Should only be called from the main game loop.
+     */
+    public void update() {
+        long now = timeSource.getTime();
+        int count = tasks.size;
+        // A task may clear the scheduler, e.g. by leaving the screen
+        for (int i = 0; i < count && i < tasks.size; i++) {
+            ScheduledTask scheduled = tasks.get(i);
+            if (scheduled.finished || scheduled.dueTime > now) {
+                continue;
+            }
+            if (scheduled.intervalMS > 0) {
+                scheduled.dueTime = Math.max(scheduled.dueTime + scheduled.intervalMS, now);
+            } else {
+                scheduled.finished = true;
+            }
+            scheduled.task.run();
+        }
+        removeFinished();
+    }
+
+    /**
+     * Cancel all tasks.
+     */
+    public void clear() {
+        logger.debug("Cancelling {} scheduled tasks", getTaskCount());
+        taskPool.freeAll(tasks);
+        tasks.clear();
+    }
+
+    private ScheduledTask find(long handle) {
+        for (int i = 0; i < tasks.size; i++) {
+            ScheduledTask scheduled = tasks.get(i);
+            if (scheduled.handle == handle && !scheduled.finished) {
+                return scheduled;
+            }
+        }
+        return null;
+    }
+
+    private void removeFinished() {
+        int kept = 0;
+        for (int i = 0; i < tasks.size; i++) {
+            ScheduledTask scheduled = tasks.get(i);
+            if (scheduled.finished) {
+                taskPool.free(scheduled);
+            } else {
+                tasks.set(kept++, scheduled);
+            }
+        }
+        tasks.truncate(kept);
+    }
+
+    private static class ScheduledTask implements Pool.Poolable {
+        private long handle;
+        private Runnable task;
+        private long dueTime;
+        private long intervalMS;
+        private boolean finished;
+
+        @Override
+        public void reset() {
+            task = null;
+            finished = false;
+        }
+    }
+}
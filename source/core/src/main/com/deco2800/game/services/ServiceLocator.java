@@ -1,9 +1,12 @@
 package com.deco2800.game.services;
 
+import com.deco2800.game.ai.lod.AILodService;
+import com.deco2800.game.ai.steering.SteeringService;
 import com.deco2800.game.areas.GameArea;
 import com.deco2800.game.entities.EntityService;
 import com.deco2800.game.input.InputService;
 import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.rendering.HealthBarService;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.screens.MainGameScreen;
 import org.slf4j.Logger;
@@ -27,6 +30,11 @@ public class ServiceLocator {
     private static ResourceService resourceService;
     private static GameArea gameAreaService;
     private static MainGameScreen gameScreen;
+    private static AILodService aiLodService;
+    private static SteeringService steeringService;
+    private static SchedulerService schedulerService;
+    private static RandomService randomService;
+    private static HealthBarService healthBarService;
 
 
     private ServiceLocator() {
@@ -70,6 +78,26 @@ public class ServiceLocator {
         return gameScreen;
     }
 
+    public static AILodService getAILodService() {
+        return aiLodService;
+    }
+
+    public static SteeringService getSteeringService() {
+        return steeringService;
+    }
+
+    public static SchedulerService getSchedulerService() {
+        return schedulerService;
+    }
+
+    public static RandomService getRandomService() {
+        return randomService;
+    }
+
+    public static HealthBarService getHealthBarService() {
+        return healthBarService;
+    }
+
     public static void registerEntityService(EntityService service) {
         logger.debug("Registering entity service {}", service);
         entityService = service;
@@ -100,6 +128,31 @@ public class ServiceLocator {
         resourceService = source;
     }
 
+    public static void registerAILodService(AILodService service) {
+        logger.debug("Registering AI LOD service {}", service);
+        aiLodService = service;
+    }
+
+    public static void registerSteeringService(SteeringService service) {
+        logger.debug("Registering steering service {}", service);
+        steeringService = service;
+    }
+
+    public static void registerSchedulerService(SchedulerService service) {
+        logger.debug("Registering scheduler service {}", service);
+        schedulerService = service;
+    }
+
+    public static void registerRandomService(RandomService service) {
+        logger.debug("Registering random service {}", service);
+        randomService = service;
+    }
+
+    public static void registerHealthBarService(HealthBarService service) {
+        logger.debug("Registering health bar service {}", service);
+        healthBarService = service;
+    }
+
     public static void registerGameScreen(MainGameScreen gameScreen) {
         ServiceLocator.gameScreen = gameScreen;
     }
@@ -121,6 +174,11 @@ public class ServiceLocator {
         timeSource = null;
         inputService = null;
         resourceService = null;
+        aiLodService = null;
+        steeringService = null;
+        schedulerService = null;
+        randomService = null;
+        healthBarService = null;
     }
 
 }
@@ -5,9 +5,6 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.deco2800.game.services.ServiceLocator;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 
 public class CutsceneScreen extends UIComponent {
 
@@ -132,14 +129,7 @@ public class CutsceneScreen extends UIComponent {
         if (blackScreen.getY() > initialHeight - ServiceLocator.getRenderService().getStage().getHeight()
                 && opening) {
             blackScreen.setY(blackScreen.getY() - 15);
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    moveDown();
-                    timer.cancel();
-                }
-            }, 15);
+            ServiceLocator.getSchedulerService().schedule(() -> moveDown(), 15L);
         }
     }
 
@@ -150,14 +140,7 @@ public class CutsceneScreen extends UIComponent {
         if (blackScreen.getY() < ServiceLocator.getRenderService().getStage().getHeight()
                 && closing) {
             blackScreen.setY(blackScreen.getY() + 15);
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    moveUp();
-                    timer.cancel();
-                }
-            }, 15);
+            ServiceLocator.getSchedulerService().schedule(() -> moveUp(), 15L);
         }
     }
 
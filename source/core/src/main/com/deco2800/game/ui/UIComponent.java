@@ -1,6 +1,7 @@
 package com.deco2800.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.deco2800.game.rendering.RenderComponent;
@@ -22,6 +23,11 @@ public abstract class UIComponent extends RenderComponent implements Renderable
         stage = ServiceLocator.getRenderService().getStage();
     }
 
+    @Override
+    public boolean updatesWhilePaused() {
+        return true;
+    }
+
     @Override
     public int getLayer() {
         return UI_LAYER;
@@ -31,4 +37,12 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     public float getZIndex() {
         return 1f;
     }
+
+    /**
+     * UI is drawn in screen space, so it's never culled.
+     */
+    @Override
+    public boolean getBounds(Rectangle bounds) {
+        return false;
+    }
 }
@@ -1,5 +1,6 @@
 package com.deco2800.game.ui.terminal.commands;
 
+import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,13 +8,15 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 
 /**
- * A command for toggling debug mode on and off.
+ * A command for toggling debug mode on and off, or one category of debug drawing, e.g.
+ * 'debug paths off'.
  */
 public class DebugCommand implements Command {
     private static final Logger logger = LoggerFactory.getLogger(DebugCommand.class);
 
     /**
-     * Toggles debug mode on or off if the corresponding argument is received.
+     * Toggles debug mode on or off if the corresponding argument is received. Given a category
+     * (los, paths or physics) first, toggles just that category.
      *
      * @param args command arguments
      */
@@ -23,17 +26,44 @@ public class DebugCommand implements Command {
             return false;
         }
 
-        String arg = args.get(0);
+        DebugRenderer debug = ServiceLocator.getRenderService().getDebug();
+        if (args.size() == 2) {
+            DebugRenderer.Category category = getCategory(args.get(0));
+            Boolean enabled = getEnabled(args.get(1));
+            if (category == null || enabled == null) {
+                logger.debug("Unrecognised argument received for 'debug' command: {}", args);
+                return false;
+            }
+            debug.setEnabled(category, enabled);
+            return true;
+        }
+
+        Boolean active = getEnabled(args.get(0));
+        if (active == null) {
+            logger.debug("Unrecognised argument received for 'debug' command: {}", args);
+            return false;
+        }
+        debug.setActive(active);
+        return true;
+    }
+
+    private static DebugRenderer.Category getCategory(String arg) {
+        for (DebugRenderer.Category category : DebugRenderer.Category.values()) {
+            if (category.name().equalsIgnoreCase(arg)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    private static Boolean getEnabled(String arg) {
         switch (arg) {
             case "on":
-                ServiceLocator.getRenderService().getDebug().setActive(true);
                 return true;
             case "off":
-                ServiceLocator.getRenderService().getDebug().setActive(false);
-                return true;
-            default:
-                logger.debug("Unrecognised argument received for 'debug' command: {}", args);
                 return false;
+            default:
+                return null;
         }
     }
 
@@ -44,6 +74,6 @@ public class DebugCommand implements Command {
      * @return is valid
      */
     boolean isValid(ArrayList<String> args) {
-        return args.size() == 1;
+        return args.size() == 1 || args.size() == 2;
     }
 }
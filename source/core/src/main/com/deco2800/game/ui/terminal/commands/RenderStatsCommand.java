@@ -0,0 +1,62 @@
+package com.deco2800.game.ui.terminal.commands;
+
+import com.badlogic.gdx.Gdx;
+import com.deco2800.game.rendering.RenderStats;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for looking at render statistics. With no arguments the last frame's stats are logged,
+ * 'log file' writes every frame to a CSV (or JSON lines, for .json files) file, and 'stop' stops
+ * writing.
+ */
+public class RenderStatsCommand implements Command {
+    private static final Logger logger = LoggerFactory.getLogger(RenderStatsCommand.class);
+
+    /**
+     * Shows or logs the render stats depending on the arguments received.
+     *
+     * @param args command arguments
+     */
+    public boolean action(ArrayList<String> args) {
+        if (!isValid(args)) {
+            logger.debug("Invalid arguments received for 'render' command: {}", args);
+            return false;
+        }
+
+        RenderStats stats = ServiceLocator.getRenderService().getStats();
+        if (args.isEmpty()) {
+            logger.info("{}", stats.describe());
+            return true;
+        }
+        switch (args.get(0)) {
+            case "log":
+                return stats.startLog(Gdx.files.local(args.get(1)));
+            case "stop":
+                stats.stopLog();
+                return true;
+            default:
+                logger.debug("Unrecognised argument received for 'render' command: {}", args);
+                return false;
+        }
+    }
+
+    /**
+     * Validates the command arguments.
+     *
+     * @param args command arguments
+     * @return is valid
+     */
+    boolean isValid(ArrayList<String> args) {
+        if (args.isEmpty()) {
+            return true;
+        }
+        if ("log".equals(args.get(0))) {
+            return args.size() == 2;
+        }
+        return args.size() == 1;
+    }
+}
@@ -1,5 +1,9 @@
 package com.deco2800.game.ui.textbox;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.deco2800.game.services.RandomService;
+import com.deco2800.game.services.ServiceLocator;
+
 /**
  * To create a diverse storyline, interactions between the player and the characters throughout the map
  * will change on past interactions, mainly if they have defeated you or you have been defeated by them before.
@@ -291,14 +295,18 @@ public enum RandomDialogueSet {
     }
 
     /**
-     * Random index generator to get a random set of text.
+     * Random index generator to get a random set of text. Uses the level's random service when there
+     * is one, so the same dialogue is picked when a level is replayed with the same seed.
      *
      * @param size the number of possible dialogue sequences
      * @return returns the random index
      */
     private static int randomIndex(int size) {
-        int index = ((int) System.currentTimeMillis()) % size;
-        return index > 0 ? index : index * -1;
+        RandomService randomService = ServiceLocator.getRandomService();
+        if (randomService == null) {
+            return MathUtils.random(size - 1);
+        }
+        return randomService.getStream("dialogue").nextInt(size);
     }
 
     /**
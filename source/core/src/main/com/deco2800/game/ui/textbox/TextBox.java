@@ -5,9 +5,6 @@ import com.deco2800.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class TextBox extends Component {
     private static final Logger logger = LoggerFactory.getLogger(TextBox.class);
 
@@ -205,14 +202,7 @@ public class TextBox extends Component {
             subMessage = message.substring(0, subMessageIndex);
             subMessageIndex++;
             if (generateCharacter) {
-                Timer timer = new Timer();
-                timer.schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        setSubMessage();
-                        timer.cancel();
-                    }
-                }, 30);
+                ServiceLocator.getSchedulerService().schedule(() -> setSubMessage(), 30L);
             }
         }
     }
@@ -9,9 +9,6 @@ import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.UIComponent;
 import com.deco2800.game.utils.BooleanObject;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class TextBoxDisplay extends UIComponent {
 
     /**
@@ -258,14 +255,7 @@ public class TextBoxDisplay extends UIComponent {
         }
         if (bar.getY() > initialHeight - BAR_HEIGHT && type.getBoolean()) {
             bar.setY(bar.getY() - 6);
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    moveDown(bar, type);
-                    timer.cancel();
-                }
-            }, 15);
+            ServiceLocator.getSchedulerService().schedule(() -> moveDown(bar, type), 15L);
         }
     }
 
@@ -282,14 +272,7 @@ public class TextBoxDisplay extends UIComponent {
         }
         if (bar.getY() < initialHeight + BAR_HEIGHT && type.getBoolean()) {
             bar.setY(bar.getY() + 6);
-            Timer timer = new Timer();
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    moveUp(bar, type);
-                    timer.cancel();
-                }
-            }, 15);
+            ServiceLocator.getSchedulerService().schedule(() -> moveUp(bar, type), 15L);
         }
     }
 
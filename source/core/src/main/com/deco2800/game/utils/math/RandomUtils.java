@@ -2,13 +2,32 @@ package com.deco2800.game.utils.math;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.services.RandomService;
+import com.deco2800.game.services.ServiceLocator;
+
+import java.util.Random;
 
 public class RandomUtils {
     private RandomUtils() {
         throw new IllegalStateException("Instantiating static util class");
     }
 
+    /**
+     * Get a random point in a rectangle. Uses the level's random service when there is one, so
+     * movement is repeatable for the same level seed.
+     *
+     * @param start minimum corner
+     * @param end   maximum corner
+     * @return random point
+     */
     public static Vector2 random(Vector2 start, Vector2 end) {
-        return new Vector2(MathUtils.random(start.x, end.x), MathUtils.random(start.y, end.y));
+        RandomService randomService = ServiceLocator.getRandomService();
+        if (randomService == null) {
+            return new Vector2(MathUtils.random(start.x, end.x), MathUtils.random(start.y, end.y));
+        }
+        Random random = randomService.getStream("movement");
+        return new Vector2(
+                start.x + random.nextFloat() * (end.x - start.x),
+                start.y + random.nextFloat() * (end.y - start.y));
     }
 }
@@ -0,0 +1,80 @@
+package com.deco2800.game.utils.math;
+
+import java.util.Random;
+
+/**
+ * A fast, seeded random number generator using the SplitMix64 algorithm. Unlike SecureRandom it
+ * never blocks and always gives the same numbers for the same seed, and unlike Random it is not
+ * synchronised. New independent generators can be split off with {@link #split()}.
+ *
+ * <p>Not thread safe, should only be used from the game thread.
+ */
+public class SplitMixRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+    private long state;
+
+    public SplitMixRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Mix the bits of a value, so that similar inputs give unrelated outputs. Useful for deriving
+     * seeds.
+     *
+     * @param value value to mix
+     * @return mixed value
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return a new generator with a seed taken from this one, which gives an independent sequence
+     */
+    public SplitMixRandom split() {
+        return new SplitMixRandom(mix(nextLong()));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // Called from the Random constructor before our fields are initialised
+        state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+}
@@ -0,0 +1,68 @@
+package com.deco2800.game.ai.lod;
+
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.configs.AILodConfig;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(GameExtension.class)
+class AILodServiceTest {
+    private AILodService lodService;
+    private Entity npc;
+
+    @BeforeEach
+    void beforeEach() {
+        lodService = new AILodService();
+        Entity player = new Entity();
+        player.setPosition(0f, 0f);
+        lodService.setFocus(player);
+        npc = new Entity();
+    }
+
+    @Test
+    void shouldUseNearWithoutFocus() {
+        lodService.setFocus(null);
+        npc.setPosition(100f, 0f);
+        assertEquals(AILodTier.NEAR, lodService.getTier(npc, null));
+    }
+
+    @Test
+    void shouldPickTierByDistance() {
+        npc.setPosition(AILodConfig.NEAR_DISTANCE / 2f, 0f);
+        assertEquals(AILodTier.NEAR, lodService.getTier(npc, null));
+        npc.setPosition(0f, (AILodConfig.NEAR_DISTANCE + AILodConfig.FAR_DISTANCE) / 2f);
+        assertEquals(AILodTier.MID, lodService.getTier(npc, null));
+        npc.setPosition(AILodConfig.FAR_DISTANCE * 2f, 0f);
+        assertEquals(AILodTier.FAR, lodService.getTier(npc, null));
+    }
+
+    @Test
+    void shouldNotFlickerAtBoundary() {
+        float justOutside = AILodConfig.NEAR_DISTANCE + AILodConfig.HYSTERESIS / 2f;
+        npc.setPosition(justOutside, 0f);
+        assertEquals(AILodTier.NEAR, lodService.getTier(npc, AILodTier.NEAR));
+        assertEquals(AILodTier.MID, lodService.getTier(npc, AILodTier.MID));
+
+        float justInside = AILodConfig.FAR_DISTANCE - AILodConfig.HYSTERESIS / 2f;
+        npc.setPosition(justInside, 0f);
+        assertEquals(AILodTier.FAR, lodService.getTier(npc, AILodTier.FAR));
+        assertEquals(AILodTier.MID, lodService.getTier(npc, AILodTier.MID));
+    }
+
+    @Test
+    void shouldCountTiers() {
+        lodService.changeTier(null, AILodTier.NEAR);
+        lodService.changeTier(null, AILodTier.NEAR);
+        lodService.changeTier(AILodTier.NEAR, AILodTier.FAR);
+        assertEquals(1, lodService.getCount(AILodTier.NEAR));
+        assertEquals(0, lodService.getCount(AILodTier.MID));
+        assertEquals(1, lodService.getCount(AILodTier.FAR));
+
+        lodService.changeTier(AILodTier.FAR, null);
+        assertEquals(0, lodService.getCount(AILodTier.FAR));
+    }
+}
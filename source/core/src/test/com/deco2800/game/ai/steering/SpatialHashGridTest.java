@@ -0,0 +1,37 @@
+package com.deco2800.game.ai.steering;
+
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class SpatialHashGridTest {
+    @Test
+    void shouldFindNearbyItems() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(2f);
+        grid.insert("near", 1f, 1f);
+        grid.insert("negative", -0.5f, -0.5f);
+        grid.insert("far", 20f, 20f);
+
+        Array<String> found = grid.query(0f, 0f, 1f, new Array<>());
+        assertTrue(found.contains("near", false));
+        assertTrue(found.contains("negative", false));
+        assertFalse(found.contains("far", false));
+    }
+
+    @Test
+    void shouldClear() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(2f);
+        grid.insert("item", 1f, 1f);
+        grid.clear();
+        assertEquals(0, grid.query(1f, 1f, 1f, new Array<>()).size);
+    }
+
+    @Test
+    void shouldRejectBadCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(0f));
+    }
+}
@@ -0,0 +1,87 @@
+package com.deco2800.game.ai.steering;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.physics.PhysicsService;
+import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class SteeringComponentTest {
+    private SteeringService steeringService;
+
+    @BeforeEach
+    void beforeEach() {
+        ServiceLocator.registerPhysicsService(new PhysicsService());
+        steeringService = new SteeringService();
+        ServiceLocator.registerSteeringService(steeringService);
+    }
+
+    @Test
+    void shouldNotChangeVelocityWhenAlone() {
+        SteeringComponent agent = createAgent(0f, 0f);
+        steeringService.update();
+
+        Vector2 velocity = agent.steer(new Vector2(1f, 0f));
+        assertEquals(new Vector2(1f, 0f), velocity);
+    }
+
+    @Test
+    void shouldSeparateOverlappingAgents() {
+        SteeringComponent left = createAgent(0f, 0f);
+        SteeringComponent right = createAgent(0.3f, 0f);
+        steeringService.update();
+
+        // Both want to move up, but should also push apart sideways
+        Vector2 leftVelocity = left.steer(new Vector2(0f, 1f));
+        Vector2 rightVelocity = right.steer(new Vector2(0f, 1f));
+        assertTrue(leftVelocity.x < 0f);
+        assertTrue(rightVelocity.x > 0f);
+        assertTrue(leftVelocity.len() <= 1f + 0.0001f);
+    }
+
+    @Test
+    void shouldSeparateAgentsOnSameSpot() {
+        SteeringComponent first = createAgent(0f, 0f);
+        SteeringComponent second = createAgent(0f, 0f);
+        steeringService.update();
+
+        Vector2 firstVelocity = first.steer(new Vector2(0f, 1f));
+        Vector2 secondVelocity = second.steer(new Vector2(0f, 1f));
+        assertNotEquals(firstVelocity, secondVelocity);
+    }
+
+    @Test
+    void shouldAvoidHeadOnCollision() {
+        SteeringComponent left = createAgent(0f, 0f);
+        SteeringComponent right = createAgent(1f, 0.1f);
+        steeringService.update();
+
+        Vector2 velocity = left.steer(new Vector2(2f, 0f));
+        assertTrue(velocity.y < 0f);
+    }
+
+    @Test
+    void shouldUnregisterOnDispose() {
+        SteeringComponent agent = createAgent(0f, 0f);
+        assertEquals(1, steeringService.getAgentCount());
+        agent.dispose();
+        assertEquals(0, steeringService.getAgentCount());
+    }
+
+    private static SteeringComponent createAgent(float x, float y) {
+        SteeringComponent steering = new SteeringComponent();
+        Entity entity = new Entity()
+                .addComponent(new PhysicsComponent())
+                .addComponent(steering);
+        entity.setPosition(x, y);
+        entity.create();
+        return steering;
+    }
+}
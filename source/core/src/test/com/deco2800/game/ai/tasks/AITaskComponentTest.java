@@ -1,5 +1,9 @@
 package com.deco2800.game.ai.tasks;
 
+import com.deco2800.game.ai.lod.AILodService;
+import com.deco2800.game.ai.lod.AILodTier;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.configs.AILodConfig;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
@@ -7,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -79,4 +84,59 @@ class AITaskComponentTest {
 
         verify(task).stop();
     }
+
+    @Test
+    void shouldNotReevaluateCachedPriority() {
+        AITaskComponent taskComponent = new AITaskComponent();
+        PriorityTask task = mock(PriorityTask.class);
+        when(task.getPriority()).thenReturn(1);
+        taskComponent.addTask(task);
+
+        taskComponent.update();
+        when(task.isPriorityCached()).thenReturn(true);
+        taskComponent.update();
+        taskComponent.update();
+
+        verify(task, times(1)).getPriority();
+        verify(task, times(3)).update();
+    }
+
+    @Test
+    void shouldOnlyRunLowDetailTasksWhenFar() {
+        AILodService lodService = new AILodService();
+        Entity player = new Entity();
+        lodService.setFocus(player);
+        ServiceLocator.registerAILodService(lodService);
+
+        AITaskComponent taskComponent = new AITaskComponent().setLevelOfDetailEnabled(true);
+        PriorityTask wanderTask = mock(PriorityTask.class);
+        when(wanderTask.getPriority()).thenReturn(1);
+        when(wanderTask.isLowDetail()).thenReturn(true);
+        taskComponent.addTask(wanderTask);
+        PriorityTask chaseTask = mock(PriorityTask.class);
+        when(chaseTask.getPriority()).thenReturn(10);
+        taskComponent.addTask(chaseTask);
+
+        Entity npc = new Entity().addComponent(taskComponent);
+        npc.setPosition(AILodConfig.FAR_DISTANCE * 2f, 0f);
+        for (int i = 0; i < AILodTier.FAR.getUpdateInterval(); i++) {
+            taskComponent.update();
+        }
+
+        assertEquals(AILodTier.FAR, taskComponent.getLevelOfDetail());
+        assertEquals(1, lodService.getCount(AILodTier.FAR));
+        verify(chaseTask, never()).getPriority();
+        verify(wanderTask).start();
+        verify(wanderTask, times(1)).update();
+
+        // Coming back into range switches straight to full AI
+        npc.setPosition(0f, 0f);
+        taskComponent.update();
+        assertEquals(AILodTier.NEAR, taskComponent.getLevelOfDetail());
+        verify(wanderTask).stop();
+        verify(chaseTask).start();
+
+        taskComponent.dispose();
+        assertEquals(0, lodService.getCount(AILodTier.NEAR));
+    }
 }
@@ -0,0 +1,90 @@
+package com.deco2800.game.ai.tasks;
+
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class PriorityCacheTest {
+    private GameTime gameTime;
+
+    @BeforeEach
+    void beforeEach() {
+        gameTime = mock(GameTime.class);
+        ServiceLocator.registerTimeSource(gameTime);
+    }
+
+    @Test
+    void shouldOnlyEvaluateOnceUntilInvalidated() {
+        PriorityCache cache = new PriorityCache();
+        IntSupplier evaluator = mock(IntSupplier.class);
+        when(evaluator.getAsInt()).thenReturn(5);
+
+        assertFalse(cache.isValid());
+        assertEquals(5, cache.get(evaluator));
+        assertEquals(5, cache.get(evaluator));
+        assertTrue(cache.isValid());
+        verify(evaluator, times(1)).getAsInt();
+
+        cache.invalidate();
+        assertFalse(cache.isValid());
+        cache.get(evaluator);
+        verify(evaluator, times(2)).getAsInt();
+    }
+
+    @Test
+    void shouldRefreshAfterInterval() {
+        PriorityCache cache = new PriorityCache().refreshEvery(100L);
+        when(gameTime.getTime()).thenReturn(0L);
+        cache.get(() -> 1);
+
+        when(gameTime.getTime()).thenReturn(99L);
+        assertTrue(cache.isValid());
+
+        when(gameTime.getTime()).thenReturn(100L);
+        assertFalse(cache.isValid());
+    }
+
+    @Test
+    void shouldInvalidateOnEvent() {
+        Entity entity = new Entity();
+        PriorityCache cache = new PriorityCache()
+                .invalidateOn(entity.getEvents(), "hit")
+                .invalidateOn(entity.getEvents(), "updateHealth", 1);
+
+        cache.get(() -> 1);
+        entity.getEvents().trigger("hit");
+        assertFalse(cache.isValid());
+
+        cache.get(() -> 1);
+        entity.getEvents().trigger("updateHealth", 50);
+        assertFalse(cache.isValid());
+    }
+
+    @Test
+    void shouldInvalidateOnMove() {
+        Entity target = new Entity();
+        target.setPosition(0f, 0f);
+        PriorityCache cache = new PriorityCache().invalidateOnMove(target, 1f);
+        cache.get(() -> 1);
+
+        target.setPosition(0.5f, 0f);
+        assertTrue(cache.isValid());
+
+        target.setPosition(2f, 0f);
+        assertFalse(cache.isValid());
+
+        // Moving is measured from the position at the last evaluation
+        cache.get(() -> 1);
+        assertTrue(cache.isValid());
+    }
+}
@@ -0,0 +1,119 @@
+package com.deco2800.game.areas.terrain;
+
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.files.FileLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class BinaryMapTest {
+    private static final String LEVEL = "maps/lvl_0.json";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldMatchJson() throws IOException {
+        File binaryFile = new File(tempDir, "lvl_0" + BinaryMap.EXTENSION);
+        BinaryMap.compile(new File(LEVEL), binaryFile);
+        assertTrue(binaryFile.length() < new File(LEVEL).length() / 10);
+
+        Map json = FileLoader.readClass(Map.class, LEVEL);
+        Map binary = BinaryMap.load(LEVEL, binaryFile);
+        assertEquals(json.getDimensions(), binary.getDimensions());
+        assertArrayEquals(json.tileRefsArray(), binary.tileRefsArray());
+        for (String layer : Map.TILE_LAYERS) {
+            assertArrayEquals(json.getTileLayer(layer), binary.getTileLayer(layer), layer);
+        }
+        for (String table : Map.OBJECT_TABLES) {
+            assertArrayEquals(json.getObjects(table), binary.getObjects(table), table);
+        }
+    }
+
+    @Test
+    void shouldEncodeRuns() throws IOException {
+        Map map = makeMap(3, 2);
+        int[][] tiles = {{0, 0, 5}, {5, 5, -1}};
+        map.setTileLayer("mapTilePlacement", tiles);
+        HashMap<String, Float> wall = new HashMap<>();
+        wall.put("x", 1f);
+        wall.put("y", 2f);
+        wall.put("width", 32f);
+        wall.put("height", 64.5f);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HashMap<String, Float>[] walls = new HashMap[] {wall};
+        map.setObjects("wallObjects", walls);
+
+        Map read = BinaryMap.read(ByteBuffer.wrap(BinaryMap.encode(map, 0)));
+        assertArrayEquals(tiles, read.getMapTiles());
+        assertNull(read.getTransObstacles());
+        assertEquals(wall, read.getWallObjects()[0]);
+        assertNull(read.getLavaObjects());
+        assertArrayEquals(new String[] {"Assets/gametile-1.png"}, read.tileRefsArray());
+    }
+
+    @Test
+    void shouldRejectUnsupportedObjects() {
+        Map map = makeMap(1, 1);
+        HashMap<String, Float> object = new HashMap<>();
+        object.put("x", 1f);
+        object.put("rotation", 2f);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        HashMap<String, Float>[] spikes = new HashMap[] {object};
+        map.setObjects("spikeObjects", spikes);
+        assertThrows(IllegalArgumentException.class, () -> BinaryMap.encode(map, 0));
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenOutOfDate() throws IOException {
+        File binaryFile = new File(tempDir, "stale" + BinaryMap.EXTENSION);
+        try (OutputStream output = new FileOutputStream(binaryFile)) {
+            output.write(BinaryMap.encode(makeMap(1, 1), 1));
+        }
+        Map map = BinaryMap.load(LEVEL, binaryFile);
+        assertEquals(FileLoader.readClass(Map.class, LEVEL).getDimensions(), map.getDimensions());
+
+        assertNotNull(BinaryMap.load(LEVEL, new File(tempDir, "missing" + BinaryMap.EXTENSION)));
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenEditedToSameLength() throws IOException {
+        File jsonFile = new File(tempDir, "edited.json");
+        String json = "{dimensions: {n_tiles_width: 1, n_tiles_height: 1, n_pixels_width: 32, n_pixels_height: 32},"
+                + " tileRefs: {1: Assets/gametile-1.png}, mapTilePlacement: [[1]]}";
+        Files.write(jsonFile.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        File binaryFile = new File(tempDir, "edited" + BinaryMap.EXTENSION);
+        BinaryMap.compile(jsonFile, binaryFile);
+        assertEquals(1, BinaryMap.load(jsonFile.getAbsolutePath(), binaryFile).getMapTiles()[0][0]);
+
+        // Same length, different tile
+        Files.write(jsonFile.toPath(), json.replace("[[1]]", "[[2]]").getBytes(StandardCharsets.UTF_8));
+        assertEquals(2, BinaryMap.load(jsonFile.getAbsolutePath(), binaryFile).getMapTiles()[0][0]);
+    }
+
+    private static Map makeMap(int width, int height) {
+        Map map = new Map();
+        HashMap<String, Integer> dimensions = new HashMap<>();
+        dimensions.put("n_tiles_width", width);
+        dimensions.put("n_tiles_height", height);
+        dimensions.put("n_pixels_width", width * 32);
+        dimensions.put("n_pixels_height", height * 32);
+        map.setDimensions(dimensions);
+        HashMap<String, String> tileRefs = new HashMap<>();
+        tileRefs.put("1", "Assets/gametile-1.png");
+        map.setTileRefs(tileRefs);
+        return map;
+    }
+}
@@ -0,0 +1,101 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.math.Matrix4;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class ChunkedTiledMapRendererTest {
+    private static final int TILE_PIXELS = 32;
+    // Half a metre per tile, as made by the terrain factory
+    private static final float UNIT_SCALE = 0.5f / TILE_PIXELS;
+
+    @Test
+    void shouldOnlyRenderChunksInView() {
+        SpriteCache cache = mock(SpriteCache.class);
+        ChunkedTiledMapRenderer renderer =
+                new ChunkedTiledMapRenderer(makeMap(40, 40), UNIT_SCALE, 16, size -> cache);
+        // 16 tiles is 8 metres, so 40 tiles need 3 chunks each way
+        assertEquals(9, renderer.getChunkCount());
+        verify(cache, times(9)).beginCache();
+        verify(cache, times(40 * 40)).add(any(TextureRegion.class), anyFloat(), anyFloat(), eq(0.5f), eq(0.5f));
+
+        renderer.setView(new Matrix4(), 1f, 1f, 4f, 4f);
+        renderer.render();
+        assertEquals(1, renderer.getChunksDrawn());
+        verify(cache, times(1)).draw(anyInt());
+
+        renderer.setView(new Matrix4(), 6f, 6f, 4f, 4f);
+        renderer.render();
+        assertEquals(4, renderer.getChunksDrawn());
+
+        renderer.setView(new Matrix4(), -100f, -100f, 10f, 10f);
+        renderer.render();
+        assertEquals(0, renderer.getChunksDrawn());
+    }
+
+    @Test
+    void shouldSkipEmptyChunks() {
+        TiledMap map = makeMap(32, 16);
+        TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
+        for (int x = 16; x < 32; x++) {
+            for (int y = 0; y < 16; y++) {
+                layer.setCell(x, y, null);
+            }
+        }
+        ChunkedTiledMapRenderer renderer =
+                new ChunkedTiledMapRenderer(map, UNIT_SCALE, 16, size -> mock(SpriteCache.class));
+        assertEquals(1, renderer.getChunkCount());
+
+        renderer.setView(new Matrix4(), 0f, 0f, 16f, 8f);
+        renderer.render();
+        assertEquals(1, renderer.getChunksDrawn());
+    }
+
+    @Test
+    void shouldSplitFullCaches() {
+        int[] caches = {0};
+        new ChunkedTiledMapRenderer(makeMap(128, 64), UNIT_SCALE, 64, size -> {
+            // Two chunks of 64 x 64 tiles don't fit in one cache
+            assertEquals(64 * 64, size);
+            caches[0]++;
+            return mock(SpriteCache.class);
+        });
+        assertEquals(2, caches[0]);
+    }
+
+    @Test
+    void shouldRejectOversizedChunks() {
+        TiledMap map = makeMap(1, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedTiledMapRenderer(map, UNIT_SCALE, 100, size -> mock(SpriteCache.class)));
+    }
+
+    private static TiledMap makeMap(int width, int height) {
+        TextureRegion region = mock(TextureRegion.class);
+        when(region.getRegionWidth()).thenReturn(TILE_PIXELS);
+        when(region.getRegionHeight()).thenReturn(TILE_PIXELS);
+        Cell cell = new Cell().setTile(new TerrainTile(region));
+
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, height, TILE_PIXELS, TILE_PIXELS);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                layer.setCell(x, y, cell);
+            }
+        }
+        TiledMap map = new TiledMap();
+        map.getLayers().add(layer);
+        return map;
+    }
+}
@@ -0,0 +1,132 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.files.FileLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class PotentiallyVisibleSetTest {
+    private static final int SIZE = 12;
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldSeeAcrossOpenMap() {
+        PotentiallyVisibleSet visibility = compute(new boolean[SIZE * SIZE]);
+        Vector2 from = new Vector2(1f, 1f);
+        Vector2 to = new Vector2(10f, 10f);
+        assertTrue(visibility.covers(from, to));
+        assertTrue(visibility.isPotentiallyVisible(from, to));
+    }
+
+    @Test
+    void shouldNotSeeThroughWall() {
+        PotentiallyVisibleSet visibility = compute(wallWithGap(false));
+        Vector2 left = new Vector2(1f, 1f);
+        Vector2 right = new Vector2(10f, 1f);
+        assertFalse(visibility.isPotentiallyVisible(left, right));
+        assertFalse(visibility.isPotentiallyVisible(right, left));
+        assertTrue(visibility.isPotentiallyVisible(left, new Vector2(2f, 10f)));
+    }
+
+    @Test
+    void shouldSeeThroughGap() {
+        PotentiallyVisibleSet visibility = compute(wallWithGap(true));
+        assertTrue(visibility.isPotentiallyVisible(new Vector2(1f, 1f), new Vector2(10f, 1f)));
+    }
+
+    @Test
+    void shouldNotCoverOffMap() {
+        PotentiallyVisibleSet visibility = compute(new boolean[SIZE * SIZE]);
+        assertFalse(visibility.covers(new Vector2(1f, 1f), new Vector2(-1f, 1f)));
+        assertFalse(visibility.covers(new Vector2(1f, 1f), new Vector2(1f, SIZE + 1f)));
+    }
+
+    @Test
+    void shouldLoadWrittenSetForSameWalls() throws IOException {
+        File file = new File(tempDir, "written.pvs");
+        PotentiallyVisibleSet.write(PotentiallyVisibleSet.compute(wallWithGap(false), SIZE, SIZE, 1f), file);
+        assertTrue(file.length() > 0);
+
+        PotentiallyVisibleSet loaded = PotentiallyVisibleSet.load(file, wallWithGap(false), SIZE, SIZE, 1f);
+        assertNotNull(loaded);
+        assertFalse(loaded.isPotentiallyVisible(new Vector2(1f, 1f), new Vector2(10f, 1f)));
+
+        // Different walls, so the file must not be used
+        assertNull(PotentiallyVisibleSet.load(file, wallWithGap(true), SIZE, SIZE, 1f));
+        assertNull(PotentiallyVisibleSet.load(new File(tempDir, "missing.pvs"), wallWithGap(true), SIZE, SIZE, 1f));
+    }
+
+    @Test
+    void shouldLoadCompiledMap() throws IOException {
+        File file = new File(tempDir, "lvl_0.pvs");
+        PotentiallyVisibleSet.compile(new File("maps/lvl_0.json"), file);
+
+        Map map = FileLoader.readClass(Map.class, "maps/lvl_0.json");
+        int width = map.getDimensions().get("n_tiles_width");
+        int height = map.getDimensions().get("n_tiles_height");
+        boolean[] blocked = PotentiallyVisibleSet.getBlockedTiles(map, width, height);
+        assertNotNull(PotentiallyVisibleSet.load(file, blocked, width, height, 0.5f));
+    }
+
+    @Test
+    void shouldComputeInBackground() throws Exception {
+        Map map = FileLoader.readClass(Map.class, "maps/lvl_0.json");
+        PotentiallyVisibleSet visibility = PotentiallyVisibleSet.computeAsync(map, 0.5f).get(30, TimeUnit.SECONDS);
+        assertNotNull(visibility);
+        assertTrue(visibility.covers(new Vector2(1f, 1f), new Vector2(2f, 2f)));
+    }
+
+    @Test
+    void shouldNeverHideClearLines() {
+        // Scattered walls, so plenty of gaps that lines between sample points miss
+        int size = 40;
+        Random random = new Random(2);
+        boolean[] blocked = new boolean[size * size];
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = random.nextFloat() < 0.3f;
+        }
+        PotentiallyVisibleSet visibility = PotentiallyVisibleSet.compute(blocked, size, size, 1f);
+
+        Vector2 from = new Vector2();
+        Vector2 to = new Vector2();
+        int clear = 0;
+        while (clear < 20000) {
+            from.set(random.nextFloat() * size, random.nextFloat() * size);
+            to.set(random.nextFloat() * size, random.nextFloat() * size);
+            if (visibility.covers(from, to)
+                    && PotentiallyVisibleSet.isLineClear(blocked, size, from.x, from.y, to.x, to.y)) {
+                clear++;
+                assertTrue(visibility.isPotentiallyVisible(from, to), from + " to " + to);
+            }
+        }
+    }
+
+    private static PotentiallyVisibleSet compute(boolean[] blocked) {
+        return PotentiallyVisibleSet.compute(blocked, SIZE, SIZE, 1f);
+    }
+
+    /**
+     * A wall filling the middle column of cells, optionally leaving the bottom row of cells open.
+     */
+    private static boolean[] wallWithGap(boolean gap) {
+        boolean[] blocked = new boolean[SIZE * SIZE];
+        for (int y = gap ? PotentiallyVisibleSet.CELL_TILES : 0; y < SIZE; y++) {
+            for (int x = PotentiallyVisibleSet.CELL_TILES; x < PotentiallyVisibleSet.CELL_TILES * 2; x++) {
+                blocked[y * SIZE + x] = true;
+            }
+        }
+        return blocked;
+    }
+}
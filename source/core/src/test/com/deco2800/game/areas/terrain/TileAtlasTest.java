@@ -0,0 +1,104 @@
+package com.deco2800.game.areas.terrain;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.game.components.HealthBarComponent;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class TileAtlasTest {
+    private static final String TILE = "Assets/gametile-1.png";
+    private ResourceService resourceService;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void beforeEach() {
+        resourceService = mock(ResourceService.class);
+        ServiceLocator.registerResourceService(resourceService);
+    }
+
+    @Test
+    void shouldNameRegionsAfterFiles() {
+        assertEquals("gametile-1", TileAtlas.getRegionName(TILE));
+        assertEquals("tile", TileAtlas.getRegionName("tile"));
+    }
+
+    @Test
+    void shouldGetRegionFromAtlas() {
+        TextureAtlas atlas = mock(TextureAtlas.class);
+        AtlasRegion region = mock(AtlasRegion.class);
+        when(resourceService.containsAsset(TileAtlas.ATLAS_PATH, TextureAtlas.class)).thenReturn(true);
+        when(resourceService.getAsset(TileAtlas.ATLAS_PATH, TextureAtlas.class)).thenReturn(atlas);
+        when(atlas.findRegion("gametile-1")).thenReturn(region);
+
+        assertSame(region, TileAtlas.getRegion(TILE));
+        verify(resourceService, never()).getAsset(TILE, Texture.class);
+    }
+
+    @Test
+    void shouldFallBackToTexture() {
+        Texture texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(32);
+        when(texture.getHeight()).thenReturn(32);
+        when(resourceService.getAsset(TILE, Texture.class)).thenReturn(texture);
+
+        TextureRegion region = TileAtlas.getRegion(TILE);
+        assertSame(texture, region.getTexture());
+        assertEquals(32, region.getRegionWidth());
+    }
+
+    @Test
+    void shouldResolvePackedRegions() {
+        // An atlas laid out as the packTextures task writes it, with one tile and a health bar image
+        FileHandle atlasFile = new FileHandle(new File(tempDir, "tiles.atlas"));
+        Pixmap pixmap = new Pixmap(64, 32, Pixmap.Format.RGBA8888);
+        PixmapIO.writePNG(atlasFile.sibling("tiles.png"), pixmap);
+        pixmap.dispose();
+        atlasFile.writeString("\ntiles.png\nsize: 64,32\nformat: RGBA8888\nfilter: Nearest,Nearest\nrepeat: none\n"
+                + region(TileAtlas.getRegionName(TILE), 0)
+                + region(TileAtlas.getRegionName(HealthBarComponent.HEALTH_IMAGE), 32), false);
+        ResourceService packed = new ResourceService(new AssetManager(
+                name -> TileAtlas.ATLAS_PATH.equals(name) ? atlasFile : Gdx.files.internal(name)));
+        ServiceLocator.registerResourceService(packed);
+        packed.loadTextureAtlases(new String[]{TileAtlas.ATLAS_PATH});
+        packed.loadAll();
+
+        TextureRegion tile = TileAtlas.getRegion(TILE);
+        assertEquals(0, tile.getRegionX());
+        assertEquals(32, TileAtlas.getRegion(HealthBarComponent.HEALTH_IMAGE).getRegionX());
+        assertFalse(packed.containsAsset(TILE, Texture.class));
+
+        // Tiles missing from the atlas are loaded as textures instead of failing
+        String missing = "Assets/gametile-2.png";
+        assertNotSame(tile.getTexture(), TileAtlas.getRegion(missing).getTexture());
+        assertTrue(packed.containsAsset(missing, Texture.class));
+        TileAtlas.unload(new String[]{TILE, missing});
+        assertFalse(packed.containsAsset(missing, Texture.class));
+        packed.dispose();
+    }
+
+    private static String region(String name, int x) {
+        return name + "\n  rotate: false\n  xy: " + x + ", 0\n  size: 32, 32\n  orig: 32, 32\n"
+                + "  offset: 0, 0\n  index: -1\n";
+    }
+}
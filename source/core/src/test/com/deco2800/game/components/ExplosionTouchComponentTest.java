@@ -9,6 +9,7 @@ import com.deco2800.game.physics.PhysicsService;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
+import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class ExplosionTouchComponentTest {
     @BeforeEach
     void beforeEach() {
+        GameTime gameTime = new GameTime();
+        // level has been running for a while, so the first touch is off cooldown
+        gameTime.tick(10f);
+        ServiceLocator.registerTimeSource(gameTime);
         ServiceLocator.registerPhysicsService(new PhysicsService());
     }
 
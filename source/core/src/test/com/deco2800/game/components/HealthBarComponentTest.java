@@ -1,12 +1,15 @@
 package com.deco2800.game.components;
 
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.rendering.HealthBarService;
+import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
 class HealthBarComponentTest {
@@ -35,4 +38,30 @@ class HealthBarComponentTest {
         verify(component).dispose();
 
     }
+
+    @Test
+    void shouldUpdateHealthBarService() {
+        HealthBarService service = mock(HealthBarService.class);
+        ServiceLocator.registerHealthBarService(service);
+        TextureRegion region = mock(TextureRegion.class);
+        when(service.add(any(), any(), any(), any(), anyFloat(), anyFloat(), anyFloat())).thenReturn(3);
+
+        Entity entity = new Entity();
+        CombatStatsComponent combatStats = new CombatStatsComponent(10, 10);
+        entity.addComponent(combatStats)
+                .addComponent(new HealthBarComponent(region, region, region));
+        entity.create();
+        verify(service).add(entity, region, region, region, 1f, 1f, 1f);
+
+        entity.update();
+        verify(service, never()).setHealth(anyInt(), anyFloat());
+        combatStats.setHealth(5);
+        entity.update();
+        verify(service).setHealth(3, 0.5f);
+
+        HealthBarComponent healthBar = entity.getComponent(HealthBarComponent.class);
+        healthBar.dispose();
+        healthBar.dispose();
+        verify(service, times(1)).remove(3);
+    }
 }
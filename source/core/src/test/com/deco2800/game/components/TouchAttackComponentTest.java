@@ -7,6 +7,7 @@ import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.physics.PhysicsService;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class TouchAttackComponentTest {
     @BeforeEach
     void beforeEach() {
+        GameTime gameTime = new GameTime();
+        // level has been running for a while, so the first touch is off cooldown
+        gameTime.tick(10f);
+        ServiceLocator.registerTimeSource(gameTime);
         ServiceLocator.registerPhysicsService(new PhysicsService());
     }
 
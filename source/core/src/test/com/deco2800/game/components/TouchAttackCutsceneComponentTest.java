@@ -13,6 +13,8 @@ import com.deco2800.game.physics.PhysicsService;
 import com.deco2800.game.physics.components.ColliderComponent;
 import com.deco2800.game.physics.components.HitboxComponent;
 import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.SchedulerService;
 import com.deco2800.game.services.ServiceLocator;
 import com.deco2800.game.ui.textbox.TextBox;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,8 @@ class TouchAttackCutsceneComponentTest {
 
     @BeforeEach
     void beforeEach() {
+        ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerSchedulerService(new SchedulerService());
         ServiceLocator.registerPhysicsService(new PhysicsService());
         ServiceLocator.registerInputService(new InputService());
         Entity ui = new Entity();
@@ -3,6 +3,10 @@ package com.deco2800.game.components.player;
 import com.badlogic.gdx.Input;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.SchedulerService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -13,6 +17,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @ExtendWith(GameExtension.class)
 class PlayerActionsTest {
 
+    @BeforeEach
+    void beforeEach() {
+        ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerSchedulerService(new SchedulerService());
+    }
+
     @Test
     void shouldMoveUp() {
         KeyboardPlayerInputComponent keyboardInput = new KeyboardPlayerInputComponent();
@@ -273,6 +283,19 @@ class PlayerActionsTest {
         assertEquals(2.5, keyboardInput.getWalkDirection().y);
     }
 
+    @Test
+    void shouldStopDashingAfterDelay() {
+        KeyboardPlayerInputComponent keyboardInput = new KeyboardPlayerInputComponent();
+        keyboardInput.setEntity(new Entity());
+        keyboardInput.keyDown(Input.Keys.W);
+        keyboardInput.keyDown(Input.Keys.CAPS_LOCK);
+
+        ServiceLocator.getTimeSource().tick(0.15f);
+        ServiceLocator.getSchedulerService().update();
+        assertEquals(0f, keyboardInput.getWalkDirection().x);
+        assertEquals(1f, keyboardInput.getWalkDirection().y);
+    }
+
     @Test
     void shouldDashUpLeft() {
         KeyboardPlayerInputComponent keyboardInput = new KeyboardPlayerInputComponent();
@@ -87,6 +87,23 @@ class AlertableChaseTaskTest {
         assertNotEquals(0, newDistance2 - oldDistance);
     }
 
+    @Test
+    void shouldListenToAlertCallersSpawnedLater() {
+        EntityService entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        Entity target = new Entity();
+        AlertableChaseTask alertableChaseTask = new AlertableChaseTask(target, 10, 5, 10);
+        Entity alertableEntity = makePhysicsEntity().addComponent(new AITaskComponent().addTask(alertableChaseTask));
+        entityService.register(alertableEntity);
+
+        Entity alertCaller = new Entity();
+        alertCaller.setEntityType("AlertCaller");
+        entityService.register(alertCaller);
+        alertCaller.getEvents().trigger("alert");
+
+        assertEquals(15, alertableChaseTask.getPriority());
+    }
+
     private Entity makePhysicsEntity() {
         return new Entity()
                 .addComponent(new PhysicsComponent())
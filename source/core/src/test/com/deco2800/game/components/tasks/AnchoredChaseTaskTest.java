@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +36,18 @@ class AnchoredChaseTaskTest {
     /**
      * Idea of anchored chase test is entity only chase target if target is within anchor range
      */
+    @Test
+    void shouldNotCachePriority() {
+        Entity target = new Entity();
+        Entity entity = makePhysicsEntity();
+        entity.create();
+
+        AnchoredChaseTask anchoredChaseTask = new AnchoredChaseTask(target, 10f, 10f, new Entity(), 3f);
+        anchoredChaseTask.create(() -> entity);
+        anchoredChaseTask.getPriority();
+        assertFalse(anchoredChaseTask.isPriorityCached());
+    }
+
     @Test
     void isTargetAtBase() {
 
@@ -27,6 +27,8 @@ class AnchoredRetreatTaskTest {
         ServiceLocator.registerRenderService(renderService);
         GameTime gameTime = mock(GameTime.class);
         when(gameTime.getDeltaTime()).thenReturn(20f / 1000);
+        // level has been running for a while, so retreating can be updated straight away
+        when(gameTime.getTime()).thenReturn(10000L);
         ServiceLocator.registerTimeSource(gameTime);
         ServiceLocator.registerPhysicsService(new PhysicsService());
     }
@@ -69,18 +71,13 @@ class AnchoredRetreatTaskTest {
         entity.setPosition(6f, 6f);
         anchoredRetreatTask.start();
         anchoredRetreatTask.update();
-        long time = System.currentTimeMillis();
-        //noinspection StatementWithEmptyBody
-        while (System.currentTimeMillis() - time <= 2000) {
-            //wait
-        }
+        // wait 2 seconds before retreating is updated again
+        when(ServiceLocator.getTimeSource().getTime()).thenReturn(12001L);
         entity.setPosition(2f, 2f);
         anchoredRetreatTask.stop();
 
         // no longer retreat
-        if (System.currentTimeMillis() - time > 2000) {
-            assertEquals(-1, anchoredRetreatTask.getPriority());
-        }
+        assertEquals(-1, anchoredRetreatTask.getPriority());
 
     }
 } 
@@ -15,7 +15,9 @@ import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.RandomService;
 import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +55,8 @@ class DeathPauseTaskTest {
 
     @BeforeEach
     void beforeEach() {
+        ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerRandomService(new RandomService(0L));
         // Mock rendering, physics, game time
         RenderService renderService = new RenderService();
         renderService.setDebug(mock(DebugRenderer.class));
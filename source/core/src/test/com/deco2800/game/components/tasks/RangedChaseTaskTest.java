@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -75,6 +76,20 @@ class RangedChaseTaskTest {
         assertTrue(newDistance2 > initialDistance2);
     }
 
+    @Test
+    void shouldNotCachePriority() {
+        Entity target = new Entity();
+        target.setPosition(10f, 4f);
+        Entity entity = makePhysicsEntity();
+        entity.create();
+        entity.setAttackRange(5);
+
+        RangedChaseTask rangedChaseTask = new RangedChaseTask(target, 10, 15f, 20f);
+        rangedChaseTask.create(() -> entity);
+        rangedChaseTask.getPriority();
+        assertFalse(rangedChaseTask.isPriorityCached());
+    }
+
     @Test
     void shouldChaseOnlyWhenInDistance() {
         Entity target = new Entity();
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.when;
 class ShootProjectileTaskTest {
     @Mock
     GameArea gameArea;
+    GameTime gameTime;
     private static final String[] forestTextureAtlases = {
             "images/explosion/explosion.atlas",
             "images/newArrowBroken/atlas/arrow.atlas",
@@ -64,7 +65,7 @@ class ShootProjectileTaskTest {
         RenderService renderService = new RenderService();
         renderService.setDebug(mock(DebugRenderer.class));
         ServiceLocator.registerRenderService(renderService);
-        GameTime gameTime = mock(GameTime.class);
+        gameTime = mock(GameTime.class);
         when(gameTime.getDeltaTime()).thenReturn(20f / 1000);
         ServiceLocator.registerTimeSource(gameTime);
         ServiceLocator.registerPhysicsService(new PhysicsService());
@@ -85,6 +86,8 @@ class ShootProjectileTaskTest {
         resourceService.loadAll();
 
         gameTime = mock(GameTime.class);
+        // level has been running for a while, so the first shot is off cooldown
+        when(gameTime.getTime()).thenReturn(10000L);
         ServiceLocator.registerTimeSource(gameTime);
     }
 
@@ -104,11 +107,7 @@ class ShootProjectileTaskTest {
         assertEquals(20, shootProjectileTask.getPriority());
         shootProjectileTask.start();
         // need to wait 2 seconds (cool down) before can shoot
-        long time = System.currentTimeMillis();
-        //noinspection StatementWithEmptyBody
-        while (System.currentTimeMillis() - time <= 2000) {
-            // Wait
-        }
+        when(gameTime.getTime()).thenReturn(12001L);
         // can see enemy
         assertEquals(20, shootProjectileTask.getPriority());
 
@@ -138,12 +137,9 @@ class ShootProjectileTaskTest {
         // can see enemy
         assertEquals(20, shootProjectileTask.getPriority());
         shootProjectileTask.start();
-        // need to wait 2 seconds (cool down) before can shoot
-        long time = System.currentTimeMillis();
-        while (System.currentTimeMillis() - time <= 700) {
-            // Wait
-            entity.earlyUpdate();
-        }
+        // need to wait 0.5 seconds (cool down) before can shoot
+        when(gameTime.getTime()).thenReturn(10700L);
+        entity.earlyUpdate();
         // can see enemy
         assertEquals(20, shootProjectileTask.getPriority());
 
@@ -63,6 +63,7 @@ class SpawnLokiDecoysTaskTest {
 
     @BeforeEach
     void beforeEach() {
+        ServiceLocator.registerTimeSource(new GameTime());
         // Mock rendering, physics, game time
         RenderService renderService = new RenderService();
         renderService.setDebug(mock(DebugRenderer.class));
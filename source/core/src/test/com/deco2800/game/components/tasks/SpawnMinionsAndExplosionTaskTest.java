@@ -10,6 +10,7 @@ import com.deco2800.game.physics.components.PhysicsComponent;
 import com.deco2800.game.physics.components.PhysicsMovementComponent;
 import com.deco2800.game.rendering.DebugRenderer;
 import com.deco2800.game.rendering.RenderService;
+import com.deco2800.game.services.RandomService;
 import com.deco2800.game.services.ResourceService;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +50,7 @@ class SpawnMinionsAndExplosionTaskTest {
 
     @BeforeEach
     void beforeEach() {
+        ServiceLocator.registerRandomService(new RandomService(0L));
         // Mock rendering, physics, game time
         RenderService renderService = new RenderService();
         renderService.setDebug(mock(DebugRenderer.class));
@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(GameExtension.class)
 //@ExtendWith(MockitoExtension.class)
@@ -59,6 +60,8 @@ class TeleportationTaskTest {
         resourceService.loadAll();
 
         gameTime = mock(GameTime.class);
+        // level has been running for a while, so the first teleport is off cooldown
+        when(gameTime.getTime()).thenReturn(10000L);
         ServiceLocator.registerTimeSource(gameTime);
     }
 
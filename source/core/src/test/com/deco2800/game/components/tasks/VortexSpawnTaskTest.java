@@ -63,15 +63,14 @@ class VortexSpawnTaskTest {
 
         assertEquals(scale2, taskRunner.getScale());
 
-        long timeStart = System.currentTimeMillis();
-        long timeWait = 0;
+        // advance game time 20ms per update until the vortex starts shrinking
+        GameTime gameTime = ServiceLocator.getTimeSource();
+        long[] time = {0L};
+        when(gameTime.getTime()).thenAnswer(invocation -> time[0]);
 
         while (taskRunner.getScale().x == scale2.x) {
             vortexSpawnTask.update();
-            if (System.currentTimeMillis() - timeStart >= 1) {
-                timeWait++;
-                timeStart = System.currentTimeMillis();
-            }
+            time[0] += 20;
         }
 
         // ensure the priority always return 10
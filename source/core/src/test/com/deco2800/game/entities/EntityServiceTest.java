@@ -4,6 +4,7 @@ import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -27,6 +28,28 @@ class EntityServiceTest {
         verify(entity).earlyUpdate();
     }
 
+    @Test
+    void shouldOnlyUpdateEntitiesWhilePausedWithPausedUpdate() {
+        EntityService entityService = new EntityService();
+        Entity entity = spy(Entity.class);
+        entityService.register(entity);
+        entityService.pausedUpdate();
+
+        verify(entity).pausedUpdate();
+        verify(entity, times(0)).update();
+    }
+
+    @Test
+    void shouldTriggerEntityRegistered() {
+        EntityService entityService = new EntityService();
+        Entity entity = new Entity();
+        Entity[] registered = new Entity[1];
+        entityService.getEvents().addListener("entityRegistered", (Entity e) -> registered[0] = e);
+        entityService.register(entity);
+
+        assertSame(entity, registered[0]);
+    }
+
     @Test
     void shouldNotUpdateUnregisteredEntities() {
         EntityService entityService = new EntityService();
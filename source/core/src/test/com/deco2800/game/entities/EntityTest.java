@@ -23,6 +23,20 @@ class EntityTest {
         assertEquals(Vector2.Zero, entity.getPosition());
     }
 
+    @Test
+    void shouldResetRenderPositionOnMove() {
+        Entity entity = new Entity();
+        entity.setScale(2f, 2f);
+        entity.setPosition(1f, 1f);
+        entity.setRenderPosition(new Vector2(0.5f, 0.5f));
+        assertEquals(new Vector2(0.5f, 0.5f), entity.getRenderPosition());
+        assertEquals(new Vector2(1.5f, 1.5f), entity.getRenderCenterPosition());
+        assertEquals(new Vector2(1f, 1f), entity.getPosition());
+
+        entity.setPosition(3f, 3f);
+        assertEquals(new Vector2(3f, 3f), entity.getRenderPosition());
+    }
+
     @Test
     void shouldSetAndGetScale() {
         Entity entity = new Entity();
@@ -141,6 +155,16 @@ class EntityTest {
         assertNotEquals(entity1.getId(), entity2.getId());
     }
 
+    @Test
+    void shouldRestartIds() {
+        Entity.resetIds();
+        Entity entity1 = new Entity();
+        new Entity();
+        Entity.resetIds();
+
+        assertEquals(entity1.getId(), new Entity().getId());
+    }
+
     @Test
     void shouldEqualWithId() {
         Entity entity1 = new Entity();
@@ -166,6 +190,21 @@ class EntityTest {
         verify(component, times(0)).update();
     }
 
+    @Test
+    void shouldOnlyUpdatePausedComponentsWhilePaused() {
+        Entity entity = new Entity();
+        TestComponent1 gameplay = spy(TestComponent1.class);
+        TestComponent2 ui = spy(TestComponent2.class);
+        when(ui.updatesWhilePaused()).thenReturn(true);
+        entity.addComponent(gameplay).addComponent(ui);
+        entity.create();
+
+        entity.pausedUpdate();
+
+        verify(gameplay, times(0)).update();
+        verify(ui).update();
+    }
+
     static class TestComponent1 extends Component {
     }
 
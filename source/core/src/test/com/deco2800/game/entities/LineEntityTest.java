@@ -7,6 +7,7 @@ import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.rendering.RenderService;
 import com.deco2800.game.rendering.TextureRenderComponent;
 import com.deco2800.game.services.ResourceService;
+import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ class LineEntityTest {
 
     @BeforeEach
     void beforeEach() {
+        ServiceLocator.registerTimeSource(new GameTime());
         ResourceService resourceService = new ResourceService();
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerResourceService(resourceService);
@@ -0,0 +1,104 @@
+package com.deco2800.game.input;
+
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(GameExtension.class)
+class InputRecordingTest {
+    @Test
+    void shouldReadWhatWasWritten() throws IOException {
+        InputRecording recording = new InputRecording(1234L, "game3", 80);
+        InputRecorder recorder = new InputRecorder(recording);
+        recorder.record(keyEvent(InputEvent.Type.KEY_DOWN, 51), 3, false);
+        recorder.record(touchEvent(InputEvent.Type.TOUCH_DOWN, -5, 700, 1), 3, false);
+        recorder.record(keyEvent(InputEvent.Type.KEY_UP, 51), 400, false);
+        InputEvent typed = new InputEvent();
+        typed.type = InputEvent.Type.KEY_TYPED;
+        typed.character = 'q';
+        recorder.record(typed, 401, true);
+        InputEvent scrolled = new InputEvent();
+        scrolled.type = InputEvent.Type.SCROLLED;
+        scrolled.amountY = -1.5f;
+        recorder.record(scrolled, 100000, false);
+        recorder.finish(100500);
+
+        InputRecording read = writeAndRead(recording);
+        assertEquals(1234L, read.getSeed());
+        assertEquals("game3", read.getLevel());
+        assertEquals(80, read.getPlayerHealth());
+        assertEquals(100500, read.getTickCount());
+        assertEquals(5, read.getEventCount());
+
+        assertEquals(InputEvent.Type.KEY_DOWN, read.getEvent(0).type);
+        assertEquals(51, read.getEvent(0).keycode);
+        assertEquals(3, read.getEvent(0).tick);
+
+        InputEvent touch = read.getEvent(1);
+        assertEquals(InputEvent.Type.TOUCH_DOWN, touch.type);
+        assertEquals(-5, touch.screenX);
+        assertEquals(700, touch.screenY);
+        assertEquals(1, touch.button);
+        assertEquals(3, touch.tick);
+
+        assertEquals(400, read.getEvent(2).tick);
+        assertFalse(read.getEvent(2).paused);
+        assertEquals('q', read.getEvent(3).character);
+        assertTrue(read.getEvent(3).paused);
+        assertEquals(-1.5f, read.getEvent(4).amountY);
+        assertEquals(100000, read.getEvent(4).tick);
+    }
+
+    @Test
+    void shouldBeCompact() throws IOException {
+        InputRecording recording = new InputRecording(0L, "game1", InputRecording.DEFAULT_HEALTH);
+        InputRecorder recorder = new InputRecorder(recording);
+        for (int i = 0; i < 100; i++) {
+            recorder.record(keyEvent(InputEvent.Type.KEY_DOWN, 29), i * 10L, false);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        recording.write(new DataOutputStream(bytes));
+
+        // Header, then a byte each for tick, type and keycode
+        assertTrue(bytes.size() < 40 + 100 * 3);
+    }
+
+    @Test
+    void shouldRejectOtherFiles() {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}));
+        assertThrows(IOException.class, () -> InputRecording.read(input));
+    }
+
+    private static InputRecording writeAndRead(InputRecording recording) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        recording.write(new DataOutputStream(bytes));
+        return InputRecording.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static InputEvent keyEvent(InputEvent.Type type, int keycode) {
+        InputEvent event = new InputEvent();
+        event.type = type;
+        event.keycode = keycode;
+        return event;
+    }
+
+    private static InputEvent touchEvent(InputEvent.Type type, int screenX, int screenY, int button) {
+        InputEvent event = new InputEvent();
+        event.type = type;
+        event.screenX = screenX;
+        event.screenY = screenY;
+        event.button = button;
+        return event;
+    }
+}
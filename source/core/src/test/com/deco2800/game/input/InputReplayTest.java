@@ -0,0 +1,132 @@
+package com.deco2800.game.input;
+
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class InputReplayTest {
+    GameTime gameTime;
+
+    @BeforeEach
+    void beforeEach() {
+        gameTime = new GameTime();
+        ServiceLocator.registerTimeSource(gameTime);
+    }
+
+    @Test
+    void shouldReplayOnRecordedTicks() {
+        InputRecording recording = new InputRecording(1L, "game1", InputRecording.DEFAULT_HEALTH);
+        InputService recordingService = createInputService();
+        InputRecorder recorder = new InputRecorder(recording);
+        recordingService.setRecorder(recorder);
+
+        tick(recordingService);
+        recordingService.keyDown(29);
+        tick(recordingService);
+        tick(recordingService);
+        recordingService.keyUp(29);
+        recordingService.touchDown(10, 20, 0, 0);
+        tick(recordingService);
+        recorder.finish(gameTime.getTicks() + 2);
+        assertEquals(3, recording.getEventCount());
+
+        // Replay into a new game
+        gameTime = new GameTime();
+        ServiceLocator.registerTimeSource(gameTime);
+        InputComponent handler = spy(InputComponent.class);
+        when(handler.getPriority()).thenReturn(1);
+        InputService replayService = createInputService();
+        replayService.register(handler);
+        InputReplay replay = new InputReplay(recording);
+        replayService.setReplay(replay);
+
+        tick(replayService);
+        verify(handler, never()).keyDown(anyInt());
+        tick(replayService);
+        verify(handler).keyDown(29);
+        tick(replayService);
+        verify(handler, never()).keyUp(anyInt());
+        tick(replayService);
+        InOrder inOrder = inOrder(handler);
+        inOrder.verify(handler).keyUp(29);
+        inOrder.verify(handler).touchDown(10, 20, 0, 0);
+        assertFalse(replay.isFinished());
+
+        tick(replayService);
+        tick(replayService);
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    void shouldIgnoreLiveInputWhileReplaying() {
+        InputRecording recording = new InputRecording(1L, "game1", InputRecording.DEFAULT_HEALTH);
+        new InputRecorder(recording).finish(2);
+        InputComponent handler = spy(InputComponent.class);
+        when(handler.getPriority()).thenReturn(1);
+        InputService inputService = createInputService();
+        inputService.register(handler);
+        inputService.setReplay(new InputReplay(recording));
+
+        inputService.keyDown(29);
+        tick(inputService);
+        verify(handler, never()).keyDown(anyInt());
+
+        // Live input resumes once the replay has finished
+        tick(inputService);
+        inputService.keyDown(29);
+        tick(inputService);
+        verify(handler).keyDown(29);
+    }
+
+    @Test
+    void shouldReplayPausedEventsWhilePaused() {
+        InputRecording recording = new InputRecording(1L, "game1", InputRecording.DEFAULT_HEALTH);
+        InputService recordingService = createInputService();
+        recordingService.setRecorder(new InputRecorder(recording));
+        tick(recordingService);
+        gameTime.pause();
+        recordingService.keyDown(111);
+        recordingService.processQueuedEvents();
+        assertTrue(recording.getEvent(0).paused);
+
+        gameTime = new GameTime();
+        ServiceLocator.registerTimeSource(gameTime);
+        InputComponent handler = spy(InputComponent.class);
+        when(handler.getPriority()).thenReturn(1);
+        InputService replayService = createInputService();
+        replayService.register(handler);
+        replayService.setReplay(new InputReplay(recording));
+
+        tick(replayService);
+        verify(handler, never()).keyDown(anyInt());
+        gameTime.pause();
+        replayService.processQueuedEvents();
+        verify(handler).keyDown(111);
+    }
+
+    private void tick(InputService inputService) {
+        gameTime.tick();
+        inputService.processQueuedEvents();
+    }
+
+    private static InputService createInputService() {
+        InputService inputService = new InputService();
+        inputService.setQueueEvents(true);
+        return inputService;
+    }
+}
@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -40,6 +41,32 @@ class InputServiceTest {
         verify(inputComponent, times(0)).keyDown(keycode);
     }
 
+    @Test
+    void shouldQueueEventsUntilProcessed() {
+        InputComponent inputComponent = spy(InputComponent.class);
+        when(inputComponent.getPriority()).thenReturn(1);
+
+        InputService inputService = new InputService();
+        inputService.register(inputComponent);
+        inputService.setQueueEvents(true);
+
+        inputService.keyDown(1);
+        inputService.touchDown(2, 3, 0, 0);
+        inputService.keyUp(1);
+        verify(inputComponent, never()).keyDown(anyInt());
+        verify(inputComponent, never()).touchDown(anyInt(), anyInt(), anyInt(), anyInt());
+
+        inputService.processQueuedEvents();
+        InOrder inOrder = inOrder(inputComponent);
+        inOrder.verify(inputComponent).keyDown(1);
+        inOrder.verify(inputComponent).touchDown(2, 3, 0, 0);
+        inOrder.verify(inputComponent).keyUp(1);
+
+        // Queue is emptied once processed
+        inputService.processQueuedEvents();
+        verify(inputComponent, times(1)).keyDown(1);
+    }
+
     @Test
     void shouldHandleKeyDown()
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
@@ -0,0 +1,43 @@
+package com.deco2800.game.input;
+
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(GameExtension.class)
+class ReplayOptionsTest {
+    @Test
+    void shouldDefaultToNormalPlay() {
+        ReplayOptions options = ReplayOptions.parse(new String[0]);
+        assertNull(options.recordDirectory);
+        assertNull(options.replayFile);
+        assertEquals(1, options.replaySpeed);
+        assertTrue(options.exitAfterReplay);
+        assertNull(options.seed);
+    }
+
+    @Test
+    void shouldParseArguments() {
+        ReplayOptions options = ReplayOptions.parse(new String[]{
+                "--replay", "thor.replay", "--replay-speed", "8", "--keep-open", "--unknown", "--seed", "-3"});
+        assertEquals("thor.replay", options.replayFile);
+        assertEquals(8, options.replaySpeed);
+        assertFalse(options.exitAfterReplay);
+        assertEquals(-3L, options.seed);
+
+        options = ReplayOptions.parse(new String[]{"--record", "recordings", "--replay-speed", "fast"});
+        assertEquals("recordings", options.recordDirectory);
+        assertEquals(1, options.replaySpeed);
+    }
+
+    @Test
+    void shouldNeedValues() {
+        assertThrows(IllegalArgumentException.class, () -> ReplayOptions.parse(new String[]{"--replay"}));
+    }
+}
@@ -2,9 +2,11 @@ package com.deco2800.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.physics.components.PhysicsComponent;
+import com.deco2800.game.services.GameTime;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,4 +66,22 @@ class PhysicsComponentTest {
         entity.setPosition(newPos);
         verify(body).setTransform(eq(newPos), anyFloat());
     }
+
+    @Test
+    void shouldInterpolateRenderPositionBetweenTicks() {
+        GameTime gameTime = mock(GameTime.class);
+        when(gameTime.getInterpolationAlpha()).thenReturn(0.5f);
+        ServiceLocator.registerTimeSource(gameTime);
+        when(body.getType()).thenReturn(BodyType.DynamicBody);
+        Entity entity = new Entity();
+        entity.addComponent(new PhysicsComponent());
+        entity.create();
+
+        when(body.getPosition()).thenReturn(new Vector2(0f, 0f));
+        entity.earlyUpdate();
+        when(body.getPosition()).thenReturn(new Vector2(2f, 4f));
+        entity.earlyUpdate();
+        entity.frameUpdate();
+        assertEquals(new Vector2(1f, 2f), entity.getRenderPosition());
+    }
 }
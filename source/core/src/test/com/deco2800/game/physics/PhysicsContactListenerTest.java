@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("unchecked")
@@ -77,6 +78,29 @@ class PhysicsContactListenerTest {
         verify(endCallback2).handle(fixture2, fixture1);
     }
 
+    @Test
+    void shouldQueueCollisionsUntilThreadedStepFinishes() {
+        PhysicsEngine engine = ServiceLocator.getPhysicsService().getPhysics();
+        engine.setThreaded(true);
+        Entity entity1 = createPhysicsEntity();
+        Entity entity2 = createPhysicsEntity();
+        entity1.setPosition(0f, 0f);
+        entity2.setPosition(0f, 0f);
+
+        Thread gameThread = Thread.currentThread();
+        EventListener2<Fixture, Fixture> callback = mock(EventListener2.class);
+        doAnswer(invocation -> {
+            assertSame(gameThread, Thread.currentThread());
+            return null;
+        }).when(callback).handle(any(), any());
+        entity1.getEvents().addListener("collisionStart", callback);
+
+        engine.update();
+        engine.finishStep();
+        verify(callback).handle(any(), any());
+        engine.dispose();
+    }
+
     Entity createPhysicsEntity() {
         Entity entity =
                 new Entity().addComponent(new PhysicsComponent()).addComponent(new ColliderComponent());
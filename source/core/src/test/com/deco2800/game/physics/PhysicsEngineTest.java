@@ -8,6 +8,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +47,65 @@ class PhysicsEngineTest {
         verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
     }
 
+    @Test
+    void shouldStepByGivenTime() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setTimestep(0.02f);
+
+        engine.update(0.04f);
+        verify(world, times(2)).step(eq(0.02f), anyInt(), anyInt());
+        verify(gameTime, never()).getDeltaTime();
+    }
+
+    @Test
+    void shouldGiveInterpolationAlpha() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setTimestep(0.02f);
+        when(gameTime.getDeltaTime()).thenReturn(0.05f);
+
+        engine.update();
+        verify(world, times(2)).step(eq(0.02f), anyInt(), anyInt());
+        assertEquals(0.5f, engine.getInterpolationAlpha(), 0.001f);
+    }
+
+    @Test
+    void shouldStepOnceForEachStepCall() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setTimestep(0.02f);
+
+        engine.step();
+        engine.step();
+        verify(world, times(2)).step(eq(0.02f), anyInt(), anyInt());
+        assertEquals(1, engine.getLastFrameSteps());
+        verify(gameTime, never()).getDeltaTime();
+    }
+
+    @Test
+    void shouldUseTunedIterations() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setIterations(3, 1);
+        when(gameTime.getDeltaTime()).thenReturn(0.02f);
+
+        engine.update();
+        verify(world).step(anyFloat(), eq(3), eq(1));
+    }
+
+    @Test
+    void shouldSubstepWithFastBodies() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setTimestep(0.02f);
+        engine.setFastBodySubsteps(2);
+        engine.registerFastBody();
+        when(gameTime.getDeltaTime()).thenReturn(0.03f);
+
+        engine.update();
+        verify(world, times(2)).step(eq(0.01f), anyInt(), anyInt());
+
+        engine.unregisterFastBody();
+        engine.update();
+        verify(world, times(2)).step(eq(0.02f), anyInt(), anyInt());
+    }
+
     @Test
     void shouldCreateBody() {
         PhysicsEngine engine = new PhysicsEngine(world, gameTime);
@@ -72,4 +134,39 @@ class PhysicsEngineTest {
         engine.dispose();
         verify(world).dispose();
     }
+
+    @Test
+    void shouldStepOnPhysicsThread() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setThreaded(true);
+        assertTrue(engine.isThreaded());
+        when(gameTime.getDeltaTime()).thenReturn(0.02f);
+        doAnswer(invocation -> {
+            assertEquals("physics", Thread.currentThread().getName());
+            return null;
+        }).when(world).step(anyFloat(), anyInt(), anyInt());
+
+        engine.update();
+        engine.finishStep();
+        verify(world).step(anyFloat(), anyInt(), anyInt());
+        assertTrue(engine.isThreaded());
+
+        engine.dispose();
+        assertFalse(engine.isThreaded());
+    }
+
+    @Test
+    void shouldFallBackWhenThreadedStepFails() {
+        PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+        engine.setThreaded(true);
+        when(gameTime.getDeltaTime()).thenReturn(0.02f);
+        doThrow(new IllegalStateException()).doNothing().when(world).step(anyFloat(), anyInt(), anyInt());
+
+        engine.update();
+        engine.finishStep();
+        assertFalse(engine.isThreaded());
+
+        engine.update();
+        verify(world, times(2)).step(anyFloat(), anyInt(), anyInt());
+    }
 }
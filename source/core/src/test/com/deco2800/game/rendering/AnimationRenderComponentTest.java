@@ -1,15 +1,20 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
 class AnimationRenderComponentTest {
@@ -65,6 +70,53 @@ class AnimationRenderComponentTest {
         assertNull(animator.getCurrentAnimation());
     }
 
+    @Test
+    void shouldAdvanceFramesEachTick() {
+        GameTime gameTime = mock(GameTime.class);
+        when(gameTime.getDeltaTime()).thenReturn(GameTime.TICK_TIME);
+        ServiceLocator.registerTimeSource(gameTime);
+        TextureAtlas atlas = mock(TextureAtlas.class);
+        Array<AtlasRegion> regions = new Array<>();
+        regions.add(mock(AtlasRegion.class));
+        regions.add(mock(AtlasRegion.class));
+        when(atlas.findRegions("test_name")).thenReturn(regions);
+
+        AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+        new Entity().addComponent(animator);
+        animator.addAnimation("test_name", GameTime.TICK_TIME * 2);
+        animator.startAnimation("test_name");
+        SpriteBatch batch = mock(SpriteBatch.class);
+
+        animator.render(batch);
+        animator.update();
+        animator.render(batch);
+        verify(batch, times(2)).draw(eq(regions.get(0)), anyFloat(), anyFloat(), anyFloat(), anyFloat(),
+                anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+
+        // Drawing doesn't move the animation on, only ticks do
+        animator.update();
+        animator.render(batch);
+        animator.render(batch);
+        verify(batch, times(2)).draw(eq(regions.get(1)), anyFloat(), anyFloat(), anyFloat(), anyFloat(),
+                anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    void shouldDrawRotatedAroundCenter() {
+        TextureAtlas atlas = createMockAtlas();
+        AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+        Entity entity = new Entity().addComponent(animator);
+        entity.setPosition(1f, 2f);
+        entity.setScale(2f, 4f);
+        entity.setAngle(90f);
+        animator.addAnimation("test_name", 1f);
+        animator.startAnimation("test_name");
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        animator.render(batch);
+        verify(batch).draw(atlas.findRegions("test_name").get(0), 1f, 2f, 1f, 2f, 2f, 4f, 1f, 1f, 90f);
+    }
+
     static TextureAtlas createMockAtlas() {
         TextureAtlas atlas = mock(TextureAtlas.class);
         Array<AtlasRegion> regions = new Array<>(1);
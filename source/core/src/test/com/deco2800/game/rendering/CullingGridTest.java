@@ -0,0 +1,84 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(GameExtension.class)
+class CullingGridTest {
+    @Test
+    void shouldRejectInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CullingGrid(0f));
+    }
+
+    @Test
+    void shouldFindOverlappingRenderables() {
+        CullingGrid grid = new CullingGrid(4f);
+        Renderable near = mock(Renderable.class);
+        Renderable far = mock(Renderable.class);
+        grid.put(near, new Rectangle(1f, 1f, 1f, 1f));
+        grid.put(far, new Rectangle(50f, 50f, 1f, 1f));
+
+        Array<Renderable> found = grid.query(new Rectangle(0f, 0f, 10f, 10f), new Array<>());
+        assertEquals(1, found.size);
+        assertTrue(found.contains(near, true));
+    }
+
+    @Test
+    void shouldCheckExactBoundsInCell() {
+        CullingGrid grid = new CullingGrid(10f);
+        Renderable renderable = mock(Renderable.class);
+        grid.put(renderable, new Rectangle(8f, 8f, 1f, 1f));
+
+        // Same cell, but the bounds don't overlap
+        assertEquals(0, grid.query(new Rectangle(0f, 0f, 2f, 2f), new Array<>()).size);
+    }
+
+    @Test
+    void shouldFindLargeRenderablesOnce() {
+        CullingGrid grid = new CullingGrid(1f);
+        Renderable large = mock(Renderable.class);
+        grid.put(large, new Rectangle(0f, 0f, 10f, 10f));
+
+        Array<Renderable> found = grid.query(new Rectangle(2f, 2f, 5f, 5f), new Array<>());
+        assertEquals(1, found.size);
+        // A second query finds it again
+        assertEquals(1, grid.query(new Rectangle(2f, 2f, 5f, 5f), new Array<>()).size);
+    }
+
+    @Test
+    void shouldMoveRenderables() {
+        CullingGrid grid = new CullingGrid(4f);
+        Renderable renderable = mock(Renderable.class);
+        grid.put(renderable, new Rectangle(1f, 1f, 1f, 1f));
+        grid.put(renderable, new Rectangle(20f, 20f, 1f, 1f));
+
+        assertEquals(1, grid.size());
+        assertEquals(0, grid.query(new Rectangle(0f, 0f, 4f, 4f), new Array<>()).size);
+        assertEquals(1, grid.query(new Rectangle(19f, 19f, 4f, 4f), new Array<>()).size);
+
+        // Moving within a cell still updates its bounds
+        grid.put(renderable, new Rectangle(22f, 22f, 1f, 1f));
+        assertEquals(0, grid.query(new Rectangle(19f, 19f, 1f, 1f), new Array<>()).size);
+    }
+
+    @Test
+    void shouldRemoveRenderables() {
+        CullingGrid grid = new CullingGrid(4f);
+        Renderable renderable = mock(Renderable.class);
+        grid.put(renderable, new Rectangle(-5f, -5f, 1f, 1f));
+        assertTrue(grid.contains(renderable));
+
+        grid.remove(renderable);
+        assertFalse(grid.contains(renderable));
+        assertEquals(0, grid.query(new Rectangle(-10f, -10f, 20f, 20f), new Array<>()).size);
+    }
+}
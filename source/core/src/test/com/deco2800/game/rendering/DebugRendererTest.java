@@ -1,5 +1,6 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
@@ -10,9 +11,11 @@ import com.deco2800.game.utils.math.Vector2Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -79,4 +82,60 @@ class DebugRendererTest {
 
         verify(shapeRenderer, times(0)).line(any(Vector2.class), any(Vector2.class));
     }
+
+    @Test
+    void shouldNotStoreWhenDisabled() {
+        debugRenderer.setActive(false);
+        for (int i = 0; i < 2 * DebugRenderer.DEFAULT_MAX_REQUESTS; i++) {
+            debugRenderer.drawLine(Vector2.Zero, Vector2Utils.ONE);
+        }
+        assertEquals(0, debugRenderer.getRequestCount());
+    }
+
+    @Test
+    void shouldCopyPositions() {
+        Vector2 from = new Vector2(1f, 2f);
+        Vector2 to = new Vector2(3f, 4f);
+        debugRenderer.drawLine(from, to);
+        from.set(5f, 6f);
+        to.set(7f, 8f);
+        debugRenderer.render(projMatrix);
+
+        verify(shapeRenderer).line(new Vector2(1f, 2f), new Vector2(3f, 4f));
+    }
+
+    @Test
+    void shouldKeepNewestRequestsOverLimit() {
+        debugRenderer = new DebugRenderer(physicsRenderer, shapeRenderer, 2);
+        debugRenderer.drawRectangle(new Vector2(1f, 0f), Vector2Utils.ONE);
+        debugRenderer.drawRectangle(new Vector2(2f, 0f), Vector2Utils.ONE);
+        debugRenderer.drawRectangle(new Vector2(3f, 0f), Vector2Utils.ONE);
+        assertEquals(2, debugRenderer.getRequestCount());
+        debugRenderer.render(projMatrix);
+
+        InOrder inOrder = inOrder(shapeRenderer);
+        inOrder.verify(shapeRenderer).rect(2f, 0f, 1f, 1f);
+        inOrder.verify(shapeRenderer).rect(3f, 0f, 1f, 1f);
+        verify(shapeRenderer, times(2)).rect(anyFloat(), anyFloat(), anyFloat(), anyFloat());
+        assertEquals(0, debugRenderer.getRequestCount());
+    }
+
+    @Test
+    void shouldToggleCategories() {
+        World physicsWorld = mock(World.class);
+        debugRenderer.renderPhysicsWorld(physicsWorld);
+        debugRenderer.setEnabled(DebugRenderer.Category.LOS, false);
+        debugRenderer.setEnabled(DebugRenderer.Category.PHYSICS, false);
+        assertFalse(debugRenderer.isEnabled(DebugRenderer.Category.LOS));
+        assertTrue(debugRenderer.isEnabled(DebugRenderer.Category.PATHS));
+
+        debugRenderer.drawLine(DebugRenderer.Category.LOS, Vector2.Zero, Vector2Utils.ONE, Color.RED, 1f);
+        debugRenderer.drawLine(Vector2.Zero, Vector2Utils.ONE);
+        assertEquals(1, debugRenderer.getRequestCount());
+        debugRenderer.render(projMatrix);
+        verify(physicsRenderer, never()).render(any(), any());
+
+        debugRenderer.setActive(false);
+        assertFalse(debugRenderer.isEnabled(DebugRenderer.Category.PATHS));
+    }
 }
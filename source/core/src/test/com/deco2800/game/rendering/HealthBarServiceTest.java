@@ -0,0 +1,191 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class HealthBarServiceTest {
+    private GameTime time;
+    private TextureRegion fill;
+    private TextureRegion frame;
+    private TextureRegion decrease;
+    private RecordingBatch batch;
+    private RenderService renderService;
+
+    @BeforeEach
+    void beforeEach() {
+        time = mock(GameTime.class);
+        ServiceLocator.registerTimeSource(time);
+        Texture texture = mock(Texture.class);
+        // One atlas texture with three 40 x 10 images
+        fill = new TextureRegion(texture, 0f, 0f, 1f, 1f / 3f);
+        frame = new TextureRegion(texture, 0f, 1f / 3f, 1f, 2f / 3f);
+        decrease = new TextureRegion(texture, 0f, 2f / 3f, 1f, 1f);
+        when(texture.getWidth()).thenReturn(40);
+        when(texture.getHeight()).thenReturn(30);
+        fill.setRegion(0, 0, 40, 10);
+        frame.setRegion(0, 10, 40, 10);
+        decrease.setRegion(0, 20, 40, 10);
+        batch = new RecordingBatch();
+        renderService = new RenderService();
+        ServiceLocator.registerRenderService(renderService);
+    }
+
+    @Test
+    void shouldDrawAllBarsInOneBatch() {
+        HealthBarService service = new HealthBarService();
+        for (int i = 0; i < 10; i++) {
+            service.add(makeEntity(i, 0f), fill, frame, decrease, 1f, 1f, 1f);
+        }
+        render();
+
+        // A frame and a fill for each bar, with no decreases yet
+        assertEquals(20, batch.getCommandCount());
+        assertEquals(1, batch.getTextureSwitches());
+        assertEquals(1, batch.getBatchCount());
+    }
+
+    @Test
+    void shouldPlaceBarAboveEntity() {
+        HealthBarService service = new HealthBarService();
+        int bar = service.add(makeEntity(2f, 3f), fill, frame, decrease, 1f, 1f, 1f);
+        service.setHealth(bar, 0.5f);
+        when(time.getTime()).thenReturn(500L);
+        render();
+
+        // Frames, then decreases, then fills
+        Rectangle bounds = new Rectangle();
+        // Half as wide as the entity is tall, centred above the entity's centre
+        batch.getBounds(0, bounds);
+        assertEquals(0.5f, bounds.x, 0.0001f);
+        assertEquals(4.9f, bounds.y, 0.0001f);
+        assertEquals(4f, bounds.width, 0.0001f);
+        assertEquals(0.2f, bounds.height, 0.0001f);
+        // Halfway between the old health and the new
+        assertEquals(3f, batch.getBounds(1, bounds).width, 0.0001f);
+        assertEquals(2f, batch.getBounds(2, bounds).width, 0.0001f);
+        assertEquals(2.5f, bounds.x + bounds.width / 2f, 0.0001f);
+
+        // The decrease is gone after a second
+        when(time.getTime()).thenReturn(1000L);
+        render();
+        assertEquals(2, batch.getCommandCount());
+    }
+
+    @Test
+    void shouldOnlyScaleFrameAndFill() {
+        HealthBarService service = new HealthBarService();
+        int bar = service.add(makeEntity(2f, 3f), fill, frame, decrease, 1f, 2f, 1f);
+        service.setHealth(bar, 0.5f);
+        render();
+
+        Rectangle bounds = new Rectangle();
+        assertEquals(8f, batch.getBounds(0, bounds).width, 0.0001f);
+        assertEquals(0.4f, bounds.height, 0.0001f);
+        // The decrease is drawn at the unscaled size, as a full bar would be at size 1
+        assertEquals(4f, batch.getBounds(1, bounds).width, 0.0001f);
+        assertEquals(0.2f, bounds.height, 0.0001f);
+        assertEquals(4f, batch.getBounds(2, bounds).width, 0.0001f);
+    }
+
+    @Test
+    void shouldSortBarsWithTheirOwners() {
+        HealthBarService service = new HealthBarService();
+        service.add(makeEntity(0f, 0f), fill, frame, decrease, 1f, 1f, 1f);
+        service.add(makeEntity(0f, 10f), fill, frame, decrease, 1f, 1f, 1f);
+        // An entity between the two, so in front of the bar further back
+        Texture other = mock(Texture.class);
+        renderService.register(new Renderable() {
+            @Override
+            public void render(SpriteBatch batch) {
+                batch.draw(other, 0f, 0f);
+            }
+
+            @Override
+            public float getZIndex() {
+                return -5f;
+            }
+
+            @Override
+            public int getLayer() {
+                return 1;
+            }
+
+            @Override
+            public int compareTo(Renderable o) {
+                return Float.compare(getZIndex(), o.getZIndex());
+            }
+        });
+        render();
+
+        assertEquals(5, batch.getCommandCount());
+        assertEquals(-10f, batch.getZ(0), 0.0001f);
+        assertEquals(-10f, batch.getZ(1), 0.0001f);
+        assertEquals(other, batch.getTexture(2));
+        assertEquals(0f, batch.getZ(3), 0.0001f);
+        assertEquals(0f, batch.getZ(4), 0.0001f);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, batch.getLayer(i));
+        }
+    }
+
+    @Test
+    void shouldOnlyRebuildMovedBars() {
+        HealthBarService service = new HealthBarService();
+        Entity entity = makeEntity(0f, 0f);
+        service.add(entity, fill, frame, decrease, 1f, 1f, 1f);
+        render();
+        Rectangle before = batch.getBounds(0, new Rectangle());
+
+        entity.setPosition(5f, 0f);
+        render();
+        assertEquals(before.x + 5f, batch.getBounds(0, new Rectangle()).x, 0.0001f);
+    }
+
+    @Test
+    void shouldKeepHandlesWhenRemoving() {
+        HealthBarService service = new HealthBarService();
+        int first = service.add(makeEntity(0f, 0f), fill, frame, decrease, 1f, 1f, 1f);
+        int second = service.add(makeEntity(10f, 0f), fill, frame, decrease, 1f, 1f, 1f);
+        service.remove(first);
+        service.remove(first);
+        assertEquals(1, service.getCount());
+
+        service.setHealth(second, 0.5f);
+        render();
+        assertEquals(3, batch.getCommandCount());
+        // The remaining bar is the second entity's
+        assertEquals(10.5f, batch.getBounds(0, new Rectangle()).x + 2f, 0.0001f);
+
+        // Freed handles are reused
+        assertEquals(first, service.add(makeEntity(0f, 0f), fill, frame, decrease, 1f, 1f, 1f));
+        assertEquals(2, service.getCount());
+    }
+
+    private void render() {
+        batch.clear();
+        batch.begin();
+        renderService.render(batch);
+        batch.end();
+    }
+
+    private static Entity makeEntity(float x, float y) {
+        Entity entity = new Entity();
+        entity.setScale(1f, 2f);
+        entity.setPosition(x, y);
+        return entity;
+    }
+}
@@ -0,0 +1,143 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class RecordingBatchTest {
+    @Test
+    void shouldBreakOnTextureSwitches() {
+        Texture texture1 = mock(Texture.class);
+        Texture texture2 = mock(Texture.class);
+        RecordingBatch batch = new RecordingBatch();
+
+        batch.begin();
+        batch.draw(texture1, 0f, 0f, 1f, 1f);
+        batch.draw(texture1, 1f, 0f, 1f, 1f);
+        batch.draw(texture2, 2f, 0f, 1f, 1f);
+        batch.draw(texture1, 3f, 0f, 1f, 1f);
+        batch.end();
+
+        assertEquals(4, batch.getCommandCount());
+        assertSame(texture2, batch.getTexture(2));
+        assertEquals(3, batch.getTextureSwitches());
+        assertEquals(2, batch.getTextureBreaks());
+        assertEquals(3, batch.getBatchCount());
+        assertEquals(2, batch.getBatchSize(0));
+        assertEquals(2, batch.maxSpritesInBatch);
+        assertEquals(3, batch.renderCalls);
+    }
+
+    @Test
+    void shouldBreakWhenFull() {
+        Texture texture = mock(Texture.class);
+        RecordingBatch batch = new RecordingBatch(2);
+
+        batch.begin();
+        for (int i = 0; i < 5; i++) {
+            batch.draw(texture, i, 0f, 1f, 1f);
+        }
+        batch.end();
+
+        assertEquals(1, batch.getTextureSwitches());
+        assertEquals(2, batch.getFullBreaks());
+        assertEquals(3, batch.getBatchCount());
+        assertEquals(1, batch.getBatchSize(2));
+    }
+
+    @Test
+    void shouldBreakOnStateChanges() {
+        Texture texture = mock(Texture.class);
+        RecordingBatch batch = new RecordingBatch();
+
+        batch.begin();
+        batch.draw(texture, 0f, 0f, 1f, 1f);
+        batch.setTransformMatrix(new Matrix4());
+        batch.draw(texture, 0f, 0f, 1f, 1f);
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE);
+        batch.draw(texture, 0f, 0f, 1f, 1f);
+        // Nothing to flush
+        batch.setTransformMatrix(new Matrix4());
+        batch.end();
+
+        assertEquals(1, batch.getTextureSwitches());
+        assertEquals(3, batch.getStateBreaks());
+        assertEquals(3, batch.getBatchCount());
+    }
+
+    @Test
+    void shouldRecordTransforms() {
+        TextureRegion region = new TextureRegion(mock(Texture.class), 0.25f, 0.5f, 0.75f, 1f);
+        RecordingBatch batch = new RecordingBatch();
+
+        batch.begin();
+        batch.draw(region, 1f, 2f, 1f, 0.5f, 2f, 1f, 2f, 1f, 90f);
+        batch.end();
+
+        assertEquals(new Rectangle(0f, 2f, 4f, 1f), batch.getBounds(0, new Rectangle()));
+        assertEquals(new Vector2(2f, 2.5f), batch.getOrigin(0, new Vector2()));
+        assertEquals(90f, batch.getRotation(0));
+        TextureRegion recorded = batch.getRegion(0, new TextureRegion());
+        assertSame(region.getTexture(), recorded.getTexture());
+        assertEquals(0.25f, recorded.getU());
+        assertEquals(0.5f, recorded.getV());
+        assertEquals(0.75f, recorded.getU2());
+        assertEquals(1f, recorded.getV2());
+    }
+
+    @Test
+    void shouldRecordSpriteVertices() {
+        Texture texture = mock(Texture.class);
+        when(texture.getWidth()).thenReturn(16);
+        when(texture.getHeight()).thenReturn(16);
+        Sprite sprite = new Sprite(texture);
+        sprite.setBounds(1f, 1f, 2f, 3f);
+        RecordingBatch batch = new RecordingBatch();
+
+        batch.begin();
+        sprite.draw(batch);
+        batch.end();
+
+        assertEquals(1, batch.getCommandCount());
+        assertEquals(new Rectangle(1f, 1f, 2f, 3f), batch.getBounds(0, new Rectangle()));
+        TextureRegion recorded = batch.getRegion(0, new TextureRegion());
+        assertEquals(0f, recorded.getU());
+        assertEquals(0f, recorded.getV());
+        assertEquals(1f, recorded.getU2());
+        assertEquals(1f, recorded.getV2());
+    }
+
+    @Test
+    void shouldClear() {
+        RecordingBatch batch = new RecordingBatch();
+        batch.begin();
+        batch.draw(mock(Texture.class), 0f, 0f, 1f, 1f);
+        batch.end();
+
+        batch.clear();
+        assertEquals(0, batch.getCommandCount());
+        assertEquals(0, batch.getBatchCount());
+        assertEquals(0, batch.getTextureSwitches());
+        assertEquals(0, batch.totalRenderCalls);
+    }
+
+    @Test
+    void shouldRequireBegin() {
+        RecordingBatch batch = new RecordingBatch();
+        Texture texture = mock(Texture.class);
+        assertThrows(IllegalStateException.class, () -> batch.draw(texture, 0f, 0f, 1f, 1f));
+        assertThrows(IllegalStateException.class, batch::end);
+    }
+}
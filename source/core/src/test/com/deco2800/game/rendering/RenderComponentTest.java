@@ -1,5 +1,6 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.services.ServiceLocator;
@@ -62,4 +63,23 @@ class RenderComponentTest {
         entity2.setPosition(5f, -3f);
         assertTrue(component1.getZIndex() < component2.getZIndex());
     }
-} 
+
+    @Test
+    void shouldGetBoundsFromEntity() {
+        RenderComponent component = spy(RenderComponent.class);
+        Entity entity = new Entity();
+        component.setEntity(entity);
+        entity.setPosition(2f, 3f);
+        entity.setScale(4f, 1f);
+
+        Rectangle bounds = new Rectangle();
+        assertTrue(component.getBounds(bounds));
+        assertEquals(new Rectangle(2f, 3f, 4f, 1f), bounds);
+
+        // Rotated entities can cover anywhere within their diagonal
+        entity.setScale(3f, 4f);
+        entity.setAngle(45f);
+        component.getBounds(bounds);
+        assertEquals(new Rectangle(1f, 2.5f, 5f, 5f), bounds);
+    }
+}
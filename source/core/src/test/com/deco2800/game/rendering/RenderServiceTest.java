@@ -1,12 +1,18 @@
 package com.deco2800.game.rendering;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.deco2800.game.components.CameraComponent;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -44,8 +50,8 @@ class RenderServiceTest {
         // Same layer, renderable2 is in front
         when(renderable1.getLayer()).thenReturn(1);
         when(renderable2.getLayer()).thenReturn(1);
-        when(renderable1.compareTo(any())).thenReturn(1);
-        when(renderable2.compareTo(any())).thenReturn(-1);
+        when(renderable1.getZIndex()).thenReturn(1f);
+        when(renderable2.getZIndex()).thenReturn(-1f);
 
         renderService.register(renderable1);
         renderService.register(renderable2);
@@ -56,6 +62,52 @@ class RenderServiceTest {
         inOrder.verify(renderable1).render(any());
     }
 
+    @Test
+    void shouldResortMovedRenderables() {
+        RenderService renderService = new RenderService();
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Renderable renderable1 = mock(Renderable.class);
+        Renderable renderable2 = mock(Renderable.class);
+
+        when(renderable1.getZIndex()).thenReturn(-1f);
+        when(renderable2.getZIndex()).thenReturn(1f);
+        renderService.register(renderable1);
+        renderService.register(renderable2);
+        renderService.render(spriteBatch);
+
+        // renderable1 moves behind renderable2
+        when(renderable1.getZIndex()).thenReturn(2f);
+        InOrder inOrder = Mockito.inOrder(renderable1, renderable2);
+        renderService.render(spriteBatch);
+        inOrder.verify(renderable2).render(any());
+        inOrder.verify(renderable1).render(any());
+    }
+
+    @Test
+    void shouldMergeStaticAndMovingRenderables() {
+        RenderService renderService = new RenderService();
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Renderable wall = makeBoundedRenderable(new Rectangle(0f, 0f, 1f, 1f), true);
+        Renderable player = makeBoundedRenderable(new Rectangle(0f, 0f, 1f, 1f), false);
+        when(wall.getZIndex()).thenReturn(0f);
+        when(player.getZIndex()).thenReturn(-1f);
+
+        renderService.register(wall);
+        renderService.register(player);
+        InOrder inOrder = Mockito.inOrder(wall, player);
+        renderService.render(spriteBatch);
+        inOrder.verify(player).render(any());
+        inOrder.verify(wall).render(any());
+
+        when(player.getZIndex()).thenReturn(1f);
+        inOrder = Mockito.inOrder(wall, player);
+        renderService.render(spriteBatch);
+        inOrder.verify(wall).render(any());
+        inOrder.verify(player).render(any());
+        // Static renderables are only sorted when registered
+        verify(wall, times(1)).getZIndex();
+    }
+
     @Test
     void shouldRenderInLayerOrder() {
         RenderService renderService = new RenderService();
@@ -65,8 +117,8 @@ class RenderServiceTest {
 
         when(renderable1.getLayer()).thenReturn(1);
         when(renderable2.getLayer()).thenReturn(2);
-        when(renderable1.compareTo(any())).thenReturn(1);
-        when(renderable2.compareTo(any())).thenReturn(-1);
+        when(renderable1.getZIndex()).thenReturn(1f);
+        when(renderable2.getZIndex()).thenReturn(-1f);
 
         renderService.register(renderable1);
         renderService.register(renderable2);
@@ -76,4 +128,134 @@ class RenderServiceTest {
         inOrder.verify(renderable1).render(any());
         inOrder.verify(renderable2).render(any());
     }
+
+    @Test
+    void shouldCullRenderablesOutOfView() {
+        RenderService renderService = new RenderService();
+        renderService.setCamera(makeCamera(0f, 0f));
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Renderable onScreen = makeBoundedRenderable(new Rectangle(1f, 1f, 1f, 1f), false);
+        Renderable offScreen = makeBoundedRenderable(new Rectangle(100f, 100f, 1f, 1f), false);
+        Renderable unbounded = mock(Renderable.class);
+
+        renderService.register(onScreen);
+        renderService.register(offScreen);
+        renderService.register(unbounded);
+        renderService.render(spriteBatch);
+
+        verify(onScreen).render(spriteBatch);
+        verify(offScreen, never()).render(any());
+        verify(unbounded).render(spriteBatch);
+        assertEquals(3, renderService.getLastFrameSubmitted());
+        assertEquals(2, renderService.getLastFrameDrawn());
+    }
+
+    @Test
+    void shouldRenderMovedRenderables() {
+        RenderService renderService = new RenderService();
+        renderService.setCamera(makeCamera(0f, 0f));
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Rectangle bounds = new Rectangle(100f, 100f, 1f, 1f);
+        Renderable renderable = makeBoundedRenderable(bounds, false);
+
+        renderService.register(renderable);
+        renderService.render(spriteBatch);
+        verify(renderable, never()).render(any());
+
+        bounds.setPosition(0f, 0f);
+        renderService.render(spriteBatch);
+        verify(renderable).render(spriteBatch);
+    }
+
+    @Test
+    void shouldOnlyReadStaticBoundsOnce() {
+        RenderService renderService = new RenderService();
+        CameraComponent camera = makeCamera(0f, 0f);
+        renderService.setCamera(camera);
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Renderable renderable = makeBoundedRenderable(new Rectangle(100f, 100f, 1f, 1f), true);
+
+        renderService.register(renderable);
+        renderService.render(spriteBatch);
+        verify(renderable, never()).render(any());
+
+        camera.getCamera().position.set(100f, 100f, 0f);
+        camera.getCamera().update();
+        renderService.render(spriteBatch);
+        verify(renderable).render(spriteBatch);
+        verify(renderable, times(1)).getBounds(any());
+    }
+
+    @Test
+    void shouldNotCullWithoutCamera() {
+        RenderService renderService = new RenderService();
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        Renderable offScreen = makeBoundedRenderable(new Rectangle(100f, 100f, 1f, 1f), false);
+
+        renderService.register(offScreen);
+        renderService.render(spriteBatch);
+        verify(offScreen).render(spriteBatch);
+        assertEquals(1, renderService.getLastFrameDrawn());
+    }
+
+    @Test
+    void shouldRecordInsteadOfRendering() {
+        RenderService renderService = new RenderService();
+        SpriteBatch spriteBatch = mock(SpriteBatch.class);
+        when(spriteBatch.getProjectionMatrix()).thenReturn(new Matrix4());
+        RecordingBatch recording = new RecordingBatch();
+        renderService.setRecording(recording);
+
+        Texture texture = mock(Texture.class);
+        Renderable back = makeDrawingRenderable(texture, 1, 2f);
+        Renderable front = makeDrawingRenderable(texture, 1, -1f);
+        Renderable ui = makeDrawingRenderable(texture, 2, 0f);
+        renderService.register(back);
+        renderService.register(front);
+        renderService.register(ui);
+
+        renderService.render(spriteBatch);
+        verify(back).render(recording);
+        verify(back, never()).render(spriteBatch);
+        assertEquals(3, recording.getCommandCount());
+        assertEquals(-1f, recording.getZ(0));
+        assertEquals(2f, recording.getZ(1));
+        assertEquals(1, recording.getLayer(1));
+        assertEquals(2, recording.getLayer(2));
+        assertEquals(1, recording.getBatchCount());
+
+        // Each frame replaces the last
+        renderService.render(spriteBatch);
+        assertEquals(3, recording.getCommandCount());
+    }
+
+    private static Renderable makeDrawingRenderable(Texture texture, int layer, float z) {
+        Renderable renderable = mock(Renderable.class);
+        when(renderable.getLayer()).thenReturn(layer);
+        when(renderable.getZIndex()).thenReturn(z);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, SpriteBatch.class).draw(texture, 0f, 0f, 1f, 1f);
+            return null;
+        }).when(renderable).render(any());
+        return renderable;
+    }
+
+    private static CameraComponent makeCamera(float x, float y) {
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.viewportWidth = 20f;
+        camera.viewportHeight = 10f;
+        camera.position.set(x, y, 0f);
+        camera.update();
+        return new CameraComponent(camera);
+    }
+
+    private static Renderable makeBoundedRenderable(Rectangle bounds, boolean isStatic) {
+        Renderable renderable = mock(Renderable.class);
+        when(renderable.getBounds(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Rectangle.class).set(bounds);
+            return true;
+        });
+        when(renderable.isStatic()).thenReturn(isStatic);
+        return renderable;
+    }
 }
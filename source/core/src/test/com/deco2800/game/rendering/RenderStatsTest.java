@@ -0,0 +1,94 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class RenderStatsTest {
+    @TempDir
+    File dir;
+
+    @Test
+    void shouldKeepLayersInOrder() {
+        RenderStats stats = new RenderStats();
+        stats.setLayerTime(2, 2000000);
+        stats.setLayerTime(0, 1000000);
+        stats.setLayerTime(2, 3000000);
+
+        assertEquals(2, stats.getLayerCount());
+        assertEquals(0, stats.getLayer(0));
+        assertEquals(1f, stats.getLayerTime(0), 0.001f);
+        assertEquals(2, stats.getLayer(1));
+        assertEquals(3f, stats.getLayerTime(1), 0.001f);
+    }
+
+    @Test
+    void shouldClearGlStatsWhenNotProfiling() {
+        RenderStats stats = new RenderStats();
+        stats.setProfiling(true);
+        stats.setGl(4, 3, 2, 100, 600);
+        assertEquals(3, stats.getTextureBindings());
+
+        stats.setProfiling(false);
+        assertEquals(0, stats.getDrawCalls());
+        assertEquals(0, stats.getTextureBindings());
+        assertFalse(stats.describe().contains("GL:"));
+    }
+
+    @Test
+    void shouldLogCsv() {
+        FileHandle file = new FileHandle(new File(dir, "render.csv"));
+        RenderStats stats = new RenderStats();
+        assertTrue(stats.startLog(file));
+        assertTrue(stats.isLogging());
+
+        stats.setBatch(5, 120);
+        stats.setRenderables(10, 7);
+        stats.setLayerTime(0, 500000);
+        stats.setLayerTime(1, 250000);
+        stats.finishFrame();
+        stats.stopLog();
+        assertFalse(stats.isLogging());
+        // Frames after stopping aren't logged
+        stats.finishFrame();
+
+        String[] lines = file.readString().split("\n");
+        assertEquals(2, lines.length);
+        String[] header = lines[0].split(",");
+        String[] row = lines[1].split(",");
+        assertEquals(header.length, row.length);
+        assertEquals("1", row[0]);
+        assertEquals("5", row[6]);
+        assertEquals("120", row[7]);
+        assertEquals("10", row[13]);
+        assertEquals("7", row[14]);
+        assertEquals("0=0.5;1=0.25", row[15]);
+    }
+
+    @Test
+    void shouldLogJson() {
+        FileHandle file = new FileHandle(new File(dir, "render.json"));
+        RenderStats stats = new RenderStats();
+        assertTrue(stats.startLog(file));
+
+        stats.setRenderables(3, 2);
+        stats.setLayerTime(1, 1000000);
+        stats.finishFrame();
+        stats.finishFrame();
+        stats.stopLog();
+
+        String[] lines = file.readString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"frame\":1,"));
+        assertTrue(lines[1].startsWith("{\"frame\":2,"));
+        assertTrue(lines[0].contains("\"submitted\":3,\"drawn\":2"));
+        assertTrue(lines[0].endsWith("\"layerTimes\":{\"1\":1.0}}"));
+    }
+}
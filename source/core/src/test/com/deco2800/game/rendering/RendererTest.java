@@ -3,8 +3,10 @@ package com.deco2800.game.rendering;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GL20Interceptor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -18,7 +20,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -87,6 +89,33 @@ class RendererTest {
         verify(renderService).render(spriteBatch);
     }
 
+    @Test
+    void shouldRecordStats() {
+        CameraComponent cameraComponent = makeCameraEntity(camera);
+        Renderer renderer =
+                new Renderer(cameraComponent, 10, spriteBatch, stage, renderService, debugRenderer);
+        verify(renderService).setStats(renderer.getStats());
+
+        renderer.render();
+        assertEquals(1, renderer.getStats().getFrame());
+        assertFalse(renderer.getStats().isProfiling());
+
+        // GL calls are only counted in debug mode
+        // The profiler swaps the graphics' GL for one that counts calls
+        GL20[] gl = {Gdx.gl20};
+        when(graphics.getGL20()).thenAnswer(invocation -> gl[0]);
+        doAnswer(invocation -> gl[0] = invocation.getArgument(0)).when(graphics).setGL20(any());
+        when(debugRenderer.getActive()).thenReturn(true);
+        renderer.render();
+        assertEquals(2, renderer.getStats().getFrame());
+        assertTrue(renderer.getStats().isProfiling());
+
+        when(debugRenderer.getActive()).thenReturn(false);
+        renderer.render();
+        assertFalse(renderer.getStats().isProfiling());
+        assertFalse(gl[0] instanceof GL20Interceptor);
+    }
+
     private static CameraComponent makeCameraEntity(Camera camera) {
         Entity camEntity = new Entity().addComponent(new CameraComponent(camera));
         return camEntity.getComponent(CameraComponent.class);
@@ -0,0 +1,94 @@
+package com.deco2800.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class StaticSpriteLayerTest {
+    private final Texture texture = mock(Texture.class);
+    private final SpriteCache cache = mock(SpriteCache.class);
+    private RenderService renderService;
+
+    @BeforeEach
+    void beforeEach() {
+        renderService = new RenderService();
+        ServiceLocator.registerRenderService(renderService);
+    }
+
+    @Test
+    void shouldBakeChunksByRowAndRegion() {
+        StaticSpriteLayer layer = new StaticSpriteLayer(size -> cache);
+        layer.add(texture, 0f, 0f, 0.5f, 0.5f);
+        layer.add(texture, 1f, 0f, 0.5f, 0.5f);
+        layer.add(texture, 0f, 1f, 0.5f, 0.5f);
+        layer.add(texture, StaticSpriteLayer.CHUNK_WIDTH + 1f, 0f, 0.5f, 0.5f);
+        assertEquals(0, layer.getChunkCount());
+
+        new Entity().addComponent(layer).create();
+        assertEquals(3, layer.getChunkCount());
+        verify(cache, times(3)).beginCache();
+        verify(cache, times(4)).add(any(TextureRegion.class), anyFloat(), anyFloat(), eq(0.5f), eq(0.5f));
+
+        renderService.render(mock(SpriteBatch.class));
+        verify(cache, times(3)).draw(anyInt());
+    }
+
+    @Test
+    void shouldRenderBetweenEntitiesByY() {
+        StaticSpriteLayer layer = new StaticSpriteLayer(size -> cache);
+        layer.add(texture, 0f, 1f, 0.5f, 0.5f);
+        new Entity().addComponent(layer).create();
+
+        Renderable front = mock(Renderable.class);
+        Renderable behind = mock(Renderable.class);
+        when(front.getLayer()).thenReturn(1);
+        when(behind.getLayer()).thenReturn(1);
+        when(front.getZIndex()).thenReturn(0f);
+        when(behind.getZIndex()).thenReturn(-2f);
+        renderService.register(front);
+        renderService.register(behind);
+
+        SpriteBatch batch = mock(SpriteBatch.class);
+        renderService.render(batch);
+        InOrder inOrder = inOrder(behind, batch, cache, front);
+        inOrder.verify(behind).render(batch);
+        inOrder.verify(batch).end();
+        inOrder.verify(cache).draw(anyInt());
+        inOrder.verify(batch).begin();
+        inOrder.verify(front).render(batch);
+    }
+
+    @Test
+    void shouldDisposeCaches() {
+        StaticSpriteLayer layer = new StaticSpriteLayer(size -> cache);
+        layer.add(texture, 0f, 0f, 0.5f, 0.5f);
+        new Entity().addComponent(layer).create();
+        layer.dispose();
+
+        verify(cache).dispose();
+        renderService.render(mock(SpriteBatch.class));
+        verify(cache, never()).draw(anyInt());
+    }
+
+    @Test
+    void shouldNotAddAfterBaking() {
+        StaticSpriteLayer layer = new StaticSpriteLayer(size -> cache);
+        layer.add(texture, 0f, 0f, 0.5f, 0.5f);
+        new Entity().addComponent(layer).create();
+        assertThrows(IllegalStateException.class, () -> layer.add(texture, 0f, 0f, 0.5f, 0.5f));
+    }
+}
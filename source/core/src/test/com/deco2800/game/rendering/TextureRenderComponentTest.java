@@ -2,7 +2,7 @@ package com.deco2800.game.rendering;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.deco2800.game.entities.Entity;
 import com.deco2800.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
@@ -11,7 +11,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(GameExtension.class)
 @ExtendWith(MockitoExtension.class)
@@ -20,17 +19,29 @@ class TextureRenderComponentTest {
     Texture texture;
     @Mock
     SpriteBatch spriteBatch;
-    @Mock
-    Entity entity;
 
     @Test
     void shouldDrawTexture() {
-        when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
-        when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+        Entity entity = new Entity();
+        entity.setPosition(2f, 2f);
+        entity.setScale(1f, 1f);
         TextureRenderComponent component = new TextureRenderComponent(texture);
         component.setEntity(entity);
         component.render(spriteBatch);
 
         verify(spriteBatch).draw(texture, 2f, 2f, 1f, 1f);
     }
-} 
+
+    @Test
+    void shouldDrawTextureRegion() {
+        TextureRegion region = new TextureRegion();
+        Entity entity = new Entity();
+        entity.setPosition(2f, 2f);
+        entity.setScale(1f, 0.5f);
+        TextureRenderComponent component = new TextureRenderComponent(region);
+        component.setEntity(entity);
+        component.render(spriteBatch);
+
+        verify(spriteBatch).draw(region, 2f, 2f, 1f, 0.5f);
+    }
+}
@@ -0,0 +1,166 @@
+package com.deco2800.game.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.math.Vector2;
+import com.deco2800.game.GdxGame;
+import com.deco2800.game.components.Component;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.extensions.GameExtension;
+import com.deco2800.game.input.InputRecording;
+import com.deco2800.game.input.InputService;
+import com.deco2800.game.input.ReplayOptions;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.RandomService;
+import com.deco2800.game.services.ServiceLocator;
+import com.deco2800.game.soak.SoakHarness;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class MainGameScreenTest {
+    private static final String LEVEL = "game1";
+    private static final int TICKS = 300;
+    private static final String[] STREAMS = {
+            "deathSounds", "dialogue", "minionSpawns", "movement", "rangedElf", "thorAttacks"};
+
+    @TempDir
+    File recordDirectory;
+
+    @Test
+    void shouldReplaySameTicks() {
+        SoakHarness.mockGraphics();
+        ReplayOptions options = new ReplayOptions();
+        options.recordDirectory = recordDirectory.getAbsolutePath();
+        options.exitAfterReplay = false;
+        LevelGame game = new LevelGame(options);
+
+        // A recorded session goes through the main menu first, a replay starts in the level
+        new Entity();
+        new Entity();
+        MainGameScreen screen = new MainGameScreen(game, LEVEL);
+        State recorded = play(screen, true);
+        screen.dispose();
+
+        game.replay = InputRecording.load(Gdx.files.absolute(options.recordDirectory).child(LEVEL + ".replay"));
+        assertNotNull(game.replay);
+        assertTrue(game.replay.getEventCount() > 0);
+        screen = new MainGameScreen(game, LEVEL);
+        State replayed = play(screen, false);
+        screen.dispose();
+
+        assertEquals(recorded.positions.size(), replayed.positions.size());
+        assertEquals(recorded.positions, replayed.positions);
+        assertEquals(recorded.draws, replayed.draws);
+    }
+
+    @Test
+    void shouldOnlyUpdateUiWhilePaused() {
+        SoakHarness.mockGraphics();
+        MainGameScreen screen = new MainGameScreen(new LevelGame(new ReplayOptions()), LEVEL);
+        GameplayCounter gameplay = new GameplayCounter();
+        UiCounter ui = new UiCounter();
+        ServiceLocator.getEntityService().register(new Entity().addComponent(gameplay).addComponent(ui));
+
+        ServiceLocator.getTimeSource().pause();
+        for (int i = 0; i < 10; i++) {
+            screen.render(GameTime.TICK_TIME);
+        }
+        assertEquals(0, gameplay.updates);
+        assertEquals(10, ui.updates);
+
+        ServiceLocator.getTimeSource().unpause();
+        screen.render(GameTime.TICK_TIME);
+        assertEquals(1, gameplay.updates);
+        assertEquals(11, ui.updates);
+        screen.dispose();
+    }
+
+    /**
+     * Run the level for {@link #TICKS} ticks, walking the player around if recording, and take the
+     * state it ends in.
+     */
+    private static State play(MainGameScreen screen, boolean walk) {
+        InputService inputService = ServiceLocator.getInputService();
+        int[] keys = {Keys.D, Keys.S, Keys.A, Keys.W};
+        for (int i = 0; i < TICKS; i++) {
+            if (walk && i % 60 == 0) {
+                inputService.keyDown(keys[(i / 60) % keys.length]);
+            } else if (walk && i % 60 == 45) {
+                inputService.keyUp(keys[(i / 60) % keys.length]);
+            }
+            screen.render(GameTime.TICK_TIME);
+        }
+
+        State state = new State();
+        for (Entity entity : ServiceLocator.getEntityService().getEntities()) {
+            state.positions.put(entity.getId(), entity.getPosition());
+        }
+        RandomService randomService = ServiceLocator.getRandomService();
+        for (String stream : STREAMS) {
+            state.draws.put(stream, randomService.getStream(stream).nextLong());
+        }
+        return state;
+    }
+
+    private static class GameplayCounter extends Component {
+        protected int updates = 0;
+
+        @Override
+        public void update() {
+            updates++;
+        }
+    }
+
+    private static class UiCounter extends GameplayCounter {
+        @Override
+        public boolean updatesWhilePaused() {
+            return true;
+        }
+    }
+
+    private static class State {
+        private final Map<Integer, Vector2> positions = new TreeMap<>();
+        private final Map<String, Long> draws = new TreeMap<>();
+    }
+
+    /**
+     * Stays on the level screen and hands over the recording to replay.
+     */
+    private static class LevelGame extends GdxGame {
+        private InputRecording replay = null;
+
+        LevelGame(ReplayOptions options) {
+            super(options);
+        }
+
+        @Override
+        public void setScreen(ScreenType screenType) {
+            // Stay on the level
+        }
+
+        @Override
+        public void setScreen(ScreenType screenType, int currentHealth) {
+            // Stay on the level
+        }
+
+        @Override
+        public InputRecording takePendingReplay() {
+            InputRecording pending = replay;
+            replay = null;
+            return pending;
+        }
+
+        @Override
+        public void exit() {
+            // Keep the test running
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -19,11 +21,11 @@ class GameTimeTest {
     @BeforeAll
     static void beforeAll() {
         Gdx.graphics = mock(Graphics.class);
-        when(Gdx.graphics.getDeltaTime()).thenReturn(10f);
     }
 
     @BeforeEach
     void beforeEach() {
+        when(Gdx.graphics.getDeltaTime()).thenReturn(10f);
         gameTime = new GameTime();
     }
 
@@ -47,6 +49,57 @@ class GameTimeTest {
         shouldScale(0f, 0f);
     }
 
+    @Test
+    void shouldOnlyAdvanceWhenTicked() {
+        assertEquals(0L, gameTime.getTime());
+        gameTime.tick(0.5f);
+        gameTime.tick(0.25f);
+        assertEquals(750L, gameTime.getTime());
+        assertEquals(2L, gameTime.getTicks());
+        assertEquals(250L, gameTime.getTimeSince(500L));
+    }
+
+    @Test
+    void shouldNotTickWhilePaused() {
+        gameTime.pause();
+        assertEquals(0, gameTime.startFrame());
+        gameTime.unpause();
+        // Long frames are capped
+        assertEquals(5, gameTime.startFrame());
+    }
+
+    @Test
+    void shouldCountDroppedTicks() {
+        // A 10s frame is cut to 0.25s, 14 whole ticks, and all but 5 of them are dropped
+        assertEquals(5, gameTime.startFrame());
+        assertEquals(9L, gameTime.getDroppedTicks());
+    }
+
+    @Test
+    void shouldRunFixedTicksEachFrame() {
+        when(Gdx.graphics.getDeltaTime()).thenReturn(0.04f);
+        assertEquals(2, gameTime.startFrame());
+        gameTime.tick();
+        gameTime.tick();
+        assertEquals(GameTime.TICK_TIME, gameTime.getDeltaTime());
+        assertEquals(33L, gameTime.getTime());
+
+        gameTime.finishTicks();
+        assertEquals(0.04f, gameTime.getDeltaTime());
+        assertEquals(0.4f, gameTime.getInterpolationAlpha(), 0.001f);
+
+        // Left over time carries into the next frame
+        assertEquals(2, gameTime.startFrame());
+        assertEquals(0.8f, gameTime.getInterpolationAlpha(), 0.001f);
+    }
+
+    @Test
+    void shouldCheckElapsedTime() {
+        gameTime.tick(1f);
+        assertTrue(gameTime.hasElapsed(0L, 1000L));
+        assertFalse(gameTime.hasElapsed(500L, 1000L));
+    }
+
     private void shouldScale(float scale, float delta) {
         gameTime.setTimeScale(scale);
         assertEquals(delta, gameTime.getDeltaTime());
@@ -0,0 +1,59 @@
+package com.deco2800.game.services;
+
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(GameExtension.class)
+class RandomServiceTest {
+    @Test
+    void shouldRepeatForSameSeed() {
+        Random first = new RandomService(5L).getStream("test");
+        Random second = new RandomService(5L).getStream("test");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    void shouldKeepSystemStream() {
+        RandomService randomService = new RandomService(5L);
+        assertSame(randomService.getStream("test"), randomService.getStream("test"));
+        assertNotSame(randomService.getStream("test"), randomService.getStream("other"));
+    }
+
+    @Test
+    void shouldKeepStreamsIndependent() {
+        RandomService randomService = new RandomService(5L);
+        long expected = new RandomService(5L).getStream("second").nextLong();
+
+        // Using one stream does not change what another gives
+        randomService.getStream("first").nextLong();
+        assertEquals(expected, randomService.getStream("second").nextLong());
+    }
+
+    @Test
+    void shouldGiveEntitiesDifferentStreams() {
+        RandomService randomService = new RandomService(5L);
+        long first = randomService.getStream("test", 1).nextLong();
+        assertEquals(first, randomService.getStream("test", 1).nextLong());
+        assertNotEquals(first, randomService.getStream("test", 2).nextLong());
+        assertNotEquals(first, randomService.getStream("test").nextLong());
+    }
+
+    @Test
+    void shouldResetStreamsOnNewSeed() {
+        RandomService randomService = new RandomService(5L);
+        long first = randomService.getStream("test").nextLong();
+        randomService.setSeed(6L);
+        assertEquals(6L, randomService.getSeed());
+        assertNotEquals(first, randomService.getStream("test").nextLong());
+    }
+}
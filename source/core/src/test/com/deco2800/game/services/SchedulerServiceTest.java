@@ -0,0 +1,145 @@
+package com.deco2800.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.utils.Array;
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class SchedulerServiceTest {
+    GameTime gameTime;
+    SchedulerService scheduler;
+
+    @BeforeEach
+    void beforeEach() {
+        gameTime = new GameTime();
+        scheduler = new SchedulerService(gameTime);
+    }
+
+    @Test
+    void shouldRunAfterDelay() {
+        Runnable task = mock(Runnable.class);
+        scheduler.schedule(task, 100L);
+
+        advance(0.05f);
+        verify(task, never()).run();
+
+        advance(0.05f);
+        verify(task).run();
+
+        advance(0.1f);
+        verify(task).run();
+        assertEquals(0, scheduler.getTaskCount());
+    }
+
+    @Test
+    void shouldRepeat() {
+        Runnable task = mock(Runnable.class);
+        scheduler.scheduleRepeating(task, 0L, 100L);
+
+        advance(0f);
+        verify(task, times(1)).run();
+        advance(0.05f);
+        verify(task, times(1)).run();
+        advance(0.05f);
+        verify(task, times(2)).run();
+
+        // Falling behind only runs the task once per update
+        advance(1f);
+        verify(task, times(3)).run();
+    }
+
+    @Test
+    void shouldCancel() {
+        Runnable task = mock(Runnable.class);
+        long handle = scheduler.scheduleRepeating(task, 100L, 100L);
+        assertTrue(scheduler.isScheduled(handle));
+
+        assertTrue(scheduler.cancel(handle));
+        assertFalse(scheduler.isScheduled(handle));
+        assertFalse(scheduler.cancel(handle));
+
+        advance(1f);
+        verify(task, never()).run();
+    }
+
+    @Test
+    void shouldNotRunWhilePaused() {
+        Gdx.graphics = mock(Graphics.class);
+        when(Gdx.graphics.getDeltaTime()).thenReturn(1f);
+        Runnable task = mock(Runnable.class);
+        scheduler.schedule(task, 100L);
+
+        gameTime.pause();
+        runFrames(10);
+        verify(task, never()).run();
+
+        gameTime.unpause();
+        runFrames(2);
+        verify(task).run();
+    }
+
+    @Test
+    void shouldRunInScheduledOrder() {
+        Array<String> order = new Array<>();
+        scheduler.schedule(() -> order.add("late"), 50L);
+        scheduler.schedule(() -> order.add("first"), 10L);
+        scheduler.schedule(() -> order.add("second"), 10L);
+
+        advance(0.1f);
+        assertEquals(3, order.size);
+        assertEquals("late", order.get(0));
+        assertEquals("first", order.get(1));
+        assertEquals("second", order.get(2));
+    }
+
+    @Test
+    void shouldRunTasksScheduledDuringUpdateLater() {
+        Runnable task = mock(Runnable.class);
+        scheduler.schedule(() -> scheduler.schedule(task, 0L), 0L);
+
+        advance(0f);
+        verify(task, never()).run();
+        advance(0f);
+        verify(task).run();
+    }
+
+    @Test
+    void shouldClear() {
+        Runnable task = mock(Runnable.class);
+        scheduler.schedule(task, 0L);
+        scheduler.schedule(scheduler::clear, 0L);
+        scheduler.schedule(task, 0L);
+
+        advance(0f);
+        verify(task, times(1)).run();
+        assertEquals(0, scheduler.getTaskCount());
+    }
+
+    private void runFrames(int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            int ticks = gameTime.startFrame();
+            for (int i = 0; i < ticks; i++) {
+                gameTime.tick();
+                scheduler.update();
+            }
+        }
+    }
+
+    private void advance(float seconds) {
+        gameTime.tick(seconds);
+        scheduler.update();
+    }
+}
@@ -0,0 +1,457 @@
+package com.deco2800.game.soak;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.deco2800.game.GdxGame;
+import com.deco2800.game.areas.GameArea;
+import com.deco2800.game.components.tasks.ShootProjectileTask;
+import com.deco2800.game.entities.Entity;
+import com.deco2800.game.entities.factories.NPCFactory;
+import com.deco2800.game.input.InputRecording;
+import com.deco2800.game.input.ReplayOptions;
+import com.deco2800.game.rendering.RecordingBatch;
+import com.deco2800.game.screens.MainGameScreen;
+import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs a whole level headless for a fixed number of ticks and reports how it performed as JSON.
+ * Rendering runs as normal but OpenGL is stubbed out, so the CPU cost of rendering is measured without a
+ * window. Run it with the core:soak Gradle task, e.g.
+ *
+ * <pre>
+ * ./gradlew core:soak --args="--level game3 --ticks 3600 --npcs meleeElf:40,rangedElf:20 --out soak.json"
+ * </pre>
+ *
+ * <p>Given limits, the run fails with a non-zero exit status when any is exceeded, so it can be used
+ * as a regression check, e.g. {@code --maxFrameTimeP99 8 --maxHeapGrowthMb 16}. The report is still
+ * written and lists the limits that failed.
+ *
+ * <p>Arguments:
+ * <ul>
+ *   <li>--level: tutorial or game1 to game5 (default game1)</li>
+ *   <li>--ticks: ticks to measure (default 3600, one minute of game time)</li>
+ *   <li>--warmup: ticks to run before measuring (default 300)</li>
+ *   <li>--npcs: extra NPCs to spawn around the player, as type:count pairs, see {@link #NPC_TYPES}</li>
+ *   <li>--seed: level seed (default 0)</li>
+ *   <li>--replay: play an input recording instead, its level and seed are used</li>
+ *   <li>--recordRender: true to draw the world to a {@link RecordingBatch} and report the sprites,
+ *   batches and texture switches a real sprite batch would have had (default false)</li>
+ *   <li>--out: file to write the report to (default standard output)</li>
+ *   <li>--maxFrameTimeP99: fail if the 99th percentile frame time is over this many milliseconds</li>
+ *   <li>--maxHeapGrowthMb: fail if the live heap grew by more than this many megabytes while
+ *   measuring</li>
+ *   <li>--maxAllocatedBytesPerTick: fail if the game thread allocated more than this per tick</li>
+ * </ul>
+ */
+public class SoakHarness {
+    private static final Logger logger = LoggerFactory.getLogger(SoakHarness.class);
+    private static final float MIN_SPAWN_DISTANCE = 3f;
+    private static final float MAX_SPAWN_DISTANCE = 8f;
+    private static final Map<String, Function<Entity, Entity>> NPC_TYPES = new LinkedHashMap<>();
+
+    static {
+        NPC_TYPES.put("meleeElf", NPCFactory::createMeleeElf);
+        NPC_TYPES.put("elfGuard", NPCFactory::createElfGuard);
+        NPC_TYPES.put("rangedElf", target -> NPCFactory.createRangedElf(
+                target, ShootProjectileTask.projectileTypes.NORMAL_ARROW, 0.1f));
+        NPC_TYPES.put("archer", NPCFactory::createOutdoorArcher);
+        NPC_TYPES.put("viking", NPCFactory::createMeleeViking);
+        NPC_TYPES.put("hellViking", NPCFactory::createMeleeHellViking);
+        NPC_TYPES.put("asgardViking", NPCFactory::createMeleeAsgardViking);
+        NPC_TYPES.put("elfBoss", NPCFactory::createBossNPC);
+        NPC_TYPES.put("loki", NPCFactory::createLoki);
+        NPC_TYPES.put("thor", NPCFactory::createThor);
+        NPC_TYPES.put("odin", NPCFactory::createOdin);
+    }
+
+    String level = "game1";
+    int ticks = 3600;
+    int warmupTicks = 300;
+    long seed = 0L;
+    String npcs = "";
+    String replayFile = null;
+    boolean recordRender = false;
+    String outFile = null;
+    double maxFrameTimeP99 = -1;
+    double maxHeapGrowthMb = -1;
+    long maxAllocatedBytesPerTick = -1L;
+
+    public static void main(String[] args) {
+        HeadlessApplication application = new HeadlessApplication(new ApplicationAdapter() {
+        });
+        int status = 0;
+        try {
+            SoakHarness harness = parse(args);
+            SoakReport report = harness.run();
+            harness.checkLimits(report);
+            String json = toJson(report);
+            if (harness.outFile == null) {
+                System.out.println(json);
+            } else {
+                Gdx.files.absolute(harness.outFile).writeString(json, false);
+                logger.info("Wrote soak report to {}", harness.outFile);
+            }
+            for (String failure : report.failedLimits) {
+                logger.error("Soak limit exceeded: {}", failure);
+                status = 1;
+            }
+        } catch (RuntimeException e) {
+            logger.error("Soak run failed", e);
+            status = 1;
+        }
+        application.exit();
+        System.exit(status);
+    }
+
+    /**
+     * Read the harness arguments.
+     *
+     * @param args command line arguments
+     * @return harness
+     */
+    static SoakHarness parse(String[] args) {
+        SoakHarness harness = new SoakHarness();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--level":
+                    harness.level = value;
+                    break;
+                case "--ticks":
+                    harness.ticks = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    harness.warmupTicks = Integer.parseInt(value);
+                    break;
+                case "--npcs":
+                    harness.npcs = value;
+                    break;
+                case "--seed":
+                    harness.seed = Long.parseLong(value);
+                    break;
+                case "--replay":
+                    harness.replayFile = value;
+                    break;
+                case "--recordRender":
+                    harness.recordRender = Boolean.parseBoolean(value);
+                    break;
+                case "--out":
+                    harness.outFile = value;
+                    break;
+                case "--maxFrameTimeP99":
+                    harness.maxFrameTimeP99 = Double.parseDouble(value);
+                    break;
+                case "--maxHeapGrowthMb":
+                    harness.maxHeapGrowthMb = Double.parseDouble(value);
+                    break;
+                case "--maxAllocatedBytesPerTick":
+                    harness.maxAllocatedBytesPerTick = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        return harness;
+    }
+
+    /**
+     * Check a report against the limits that were given and record the ones it exceeds in
+     * {@link SoakReport#failedLimits}. A limit below 0 is not checked.
+     *
+     * @param report report of the run
+     */
+    void checkLimits(SoakReport report) {
+        List<String> failures = new ArrayList<>();
+        if (maxFrameTimeP99 >= 0 && report.frameTimeP99 > maxFrameTimeP99) {
+            failures.add(String.format("p99 frame time %.3fms is over %.3fms",
+                    report.frameTimeP99, maxFrameTimeP99));
+        }
+        double heapGrowthMb = report.heapGrowthBytes / (1024.0 * 1024.0);
+        if (maxHeapGrowthMb >= 0 && heapGrowthMb > maxHeapGrowthMb) {
+            failures.add(String.format("heap grew by %.1fMB, over %.1fMB", heapGrowthMb, maxHeapGrowthMb));
+        }
+        if (maxAllocatedBytesPerTick >= 0 && report.allocatedBytesPerTick > maxAllocatedBytesPerTick) {
+            failures.add(String.format("allocated %d bytes per tick, over %d",
+                    report.allocatedBytesPerTick, maxAllocatedBytesPerTick));
+        }
+        report.failedLimits = failures.toArray(new String[0]);
+    }
+
+    static String toJson(SoakReport report) {
+        Json json = new Json(JsonWriter.OutputType.json);
+        json.setUsePrototypes(false);
+        return json.prettyPrint(report);
+    }
+
+    /**
+     * Load the level, spawn the extra NPCs, then run and measure it.
+     *
+     * @return report of the run
+     */
+    SoakReport run() {
+        mockGraphics();
+
+        ReplayOptions options = new ReplayOptions();
+        options.seed = seed;
+        InputRecording replay = null;
+        if (replayFile != null) {
+            replay = InputRecording.load(Gdx.files.absolute(replayFile));
+            if (replay == null) {
+                throw new IllegalArgumentException("Could not load replay " + replayFile);
+            }
+            level = replay.getLevel();
+        }
+        SoakGame game = new SoakGame(options, replay);
+        MainGameScreen screen = new MainGameScreen(game, level);
+        screen.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        if (recordRender) {
+            ServiceLocator.getRenderService().setRecording(new RecordingBatch());
+        }
+
+        SoakReport report = new SoakReport();
+        report.level = level;
+        report.seed = ServiceLocator.getRandomService().getSeed();
+        report.warmupTicks = warmupTicks;
+        report.extraNpcs = spawnNpcs(ServiceLocator.getGameAreaService());
+
+        logger.info("Warming up {} for {} ticks", level, warmupTicks);
+        for (int i = 0; i < warmupTicks && game.endedWith == null; i++) {
+            screen.render(GameTime.TICK_TIME);
+        }
+        logger.info("Measuring {} ticks", ticks);
+        measure(screen, game, report);
+        report.endedWith = game.endedWith;
+
+        screen.dispose();
+        return report;
+    }
+
+    private void measure(MainGameScreen screen, SoakGame game, SoakReport report) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        long threadId = Thread.currentThread().getId();
+        Runtime runtime = Runtime.getRuntime();
+
+        long[] frameTimes = new long[ticks];
+        int measured = 0;
+        RecordingBatch recording = ServiceLocator.getRenderService().getRecording();
+        long sprites = 0L;
+        long batches = 0L;
+        long textureSwitches = 0L;
+        long startHeap = getLiveHeap(runtime);
+        long startAllocated = allocations == null ? 0L : allocations.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        while (measured < ticks && game.endedWith == null) {
+            long frameStart = System.nanoTime();
+            screen.render(GameTime.TICK_TIME);
+            frameTimes[measured++] = System.nanoTime() - frameStart;
+            if (recording != null) {
+                sprites += recording.getCommandCount();
+                batches += recording.getBatchCount();
+                textureSwitches += recording.getTextureSwitches();
+            }
+
+            report.peakHeapBytes = Math.max(report.peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+            report.peakEntityCount = Math.max(report.peakEntityCount, getEntityCount());
+            report.peakBodyCount = Math.max(report.peakBodyCount, getBodyCount());
+        }
+        long elapsed = System.nanoTime() - startTime;
+        report.heapGrowthBytes = getLiveHeap(runtime) - startHeap;
+
+        report.ticks = measured;
+        report.entityCount = getEntityCount();
+        report.bodyCount = getBodyCount();
+        if (allocations == null || measured == 0) {
+            report.allocatedBytesPerTick = -1L;
+            report.allocatedBytesPerSecond = -1L;
+        } else {
+            long allocated = allocations.getThreadAllocatedBytes(threadId) - startAllocated;
+            report.allocatedBytesPerTick = allocated / measured;
+            report.allocatedBytesPerSecond = (long) (allocated / (elapsed / 1e9));
+        }
+
+        if (recording != null && measured > 0) {
+            report.spritesPerTick = (double) sprites / measured;
+            report.batchesPerTick = (double) batches / measured;
+            report.textureSwitchesPerTick = (double) textureSwitches / measured;
+        }
+
+        long[] sorted = Arrays.copyOf(frameTimes, measured);
+        Arrays.sort(sorted);
+        report.frameTimeMean = toMillis(Arrays.stream(sorted).average().orElse(0));
+        report.frameTimeP50 = toMillis(percentile(sorted, 0.5));
+        report.frameTimeP90 = toMillis(percentile(sorted, 0.9));
+        report.frameTimeP99 = toMillis(percentile(sorted, 0.99));
+        report.frameTimeMax = toMillis(measured == 0 ? 0 : sorted[measured - 1]);
+    }
+
+    /**
+     * Spawn the extra NPCs in a ring around the player.
+     *
+     * @param area level to spawn in
+     * @return number of NPCs spawned
+     */
+    private int spawnNpcs(GameArea area) {
+        if (npcs.isEmpty()) {
+            return 0;
+        }
+        Entity player = area.getPlayer();
+        Random random = ServiceLocator.getRandomService().getStream("soak");
+        int spawned = 0;
+        for (String group : npcs.split(",")) {
+            String[] typeAndCount = group.split(":");
+            Function<Entity, Entity> factory = NPC_TYPES.get(typeAndCount[0]);
+            if (factory == null) {
+                throw new IllegalArgumentException(
+                        "Unknown NPC type " + typeAndCount[0] + ", expected one of " + NPC_TYPES.keySet());
+            }
+            int count = typeAndCount.length > 1 ? Integer.parseInt(typeAndCount[1]) : 1;
+            for (int i = 0; i < count; i++) {
+                Vector2 offset = new Vector2(
+                        MIN_SPAWN_DISTANCE + random.nextFloat() * (MAX_SPAWN_DISTANCE - MIN_SPAWN_DISTANCE), 0f)
+                        .setAngleDeg(random.nextFloat() * 360f);
+                area.spawnEntityAt(factory.apply(player), player.getPosition().add(offset), true, true);
+                spawned++;
+            }
+        }
+        logger.info("Spawned {} extra NPCs", spawned);
+        return spawned;
+    }
+
+    /**
+     * Heap in use after a full collection, so garbage waiting to be collected isn't counted as growth.
+     */
+    private static long getLiveHeap(Runtime runtime) {
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int getEntityCount() {
+        return ServiceLocator.getEntityService().getEntities().size;
+    }
+
+    private static int getBodyCount() {
+        return ServiceLocator.getPhysicsService().getPhysics().getWorld().getBodyCount();
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Stub OpenGL so shaders "compile" and rendering runs through to no-op draw calls, and give
+     * every frame exactly one tick. GL is a plain proxy rather than a Mockito mock, which would
+     * allocate and record on every one of the millions of calls and swamp the measurements. Also
+     * used by tests that run whole levels.
+     */
+    public static void mockGraphics() {
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+                SoakHarness::stubGL);
+        Gdx.gl20 = gl;
+        Gdx.gl = gl;
+
+        Graphics graphics = mock(Graphics.class, withSettings().stubOnly());
+        when(graphics.getDeltaTime()).thenReturn(GameTime.TICK_TIME);
+        when(graphics.getWidth()).thenReturn(1280);
+        when(graphics.getHeight()).thenReturn(720);
+        when(graphics.getBackBufferWidth()).thenReturn(1280);
+        when(graphics.getBackBufferHeight()).thenReturn(720);
+        Gdx.graphics = graphics;
+    }
+
+    private static Object stubGL(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "glCreateShader":
+            case "glCreateProgram":
+            case "glGenTexture":
+            case "glGenBuffer":
+                return 1;
+            case "glGetShaderiv":
+            case "glGetProgramiv":
+                // Report every shader as compiled and every program as linked
+                ((IntBuffer) args[2]).put(0, GL20.GL_TRUE);
+                return null;
+            default:
+                break;
+        }
+        Class<?> type = method.getReturnType();
+        if (type == int.class) {
+            return 0;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == String.class) {
+            return "";
+        }
+        return null;
+    }
+
+    /**
+     * Keeps the harness on the level it started: leaving the level or exiting is recorded instead.
+     */
+    private static class SoakGame extends GdxGame {
+        private String endedWith = null;
+        private InputRecording replay;
+
+        SoakGame(ReplayOptions options, InputRecording replay) {
+            super(options);
+            this.replay = replay;
+        }
+
+        @Override
+        public void setScreen(ScreenType screenType) {
+            endedWith = screenType.name();
+        }
+
+        @Override
+        public void setScreen(ScreenType screenType, int currentHealth) {
+            endedWith = screenType.name();
+        }
+
+        @Override
+        public InputRecording takePendingReplay() {
+            InputRecording pending = replay;
+            replay = null;
+            return pending;
+        }
+
+        @Override
+        public void exit() {
+            endedWith = "EXIT";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.deco2800.game.soak;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoakHarnessTest {
+
+    @Test
+    void shouldPassWithoutLimits() {
+        SoakReport report = makeReport();
+        SoakHarness.parse(new String[0]).checkLimits(report);
+        assertEquals(0, report.failedLimits.length);
+    }
+
+    @Test
+    void shouldFailExceededLimits() {
+        SoakReport report = makeReport();
+        SoakHarness harness = SoakHarness.parse(new String[] {
+                "--maxFrameTimeP99", "4", "--maxHeapGrowthMb", "16", "--maxAllocatedBytesPerTick", "1000"});
+        harness.checkLimits(report);
+        assertEquals(2, report.failedLimits.length);
+        assertTrue(report.failedLimits[0].startsWith("p99 frame time"));
+        assertTrue(report.failedLimits[1].startsWith("allocated"));
+    }
+
+    private static SoakReport makeReport() {
+        SoakReport report = new SoakReport();
+        report.frameTimeP99 = 5.0;
+        report.heapGrowthBytes = 8L * 1024 * 1024;
+        report.allocatedBytesPerTick = 2000L;
+        return report;
+    }
+}
@@ -0,0 +1,63 @@
+package com.deco2800.game.soak;
+
+/**
+ * Results of a soak run, written out as JSON by the {@link SoakHarness}. Times are in
+ * milliseconds.
+ */
+public class SoakReport {
+    public String level;
+    public long seed;
+    public int extraNpcs;
+    public int warmupTicks;
+    /**
+     * ticks measured, fewer than requested if the level ended early
+     */
+    public int ticks;
+    /**
+     * screen the level ended on early, e.g. DEATHSCREEN, or null if it ran every tick
+     */
+    public String endedWith;
+
+    public double frameTimeMean;
+    public double frameTimeP50;
+    public double frameTimeP90;
+    public double frameTimeP99;
+    public double frameTimeMax;
+
+    /**
+     * bytes allocated by the game thread per tick, -1 if the JVM can't measure it
+     */
+    public long allocatedBytesPerTick;
+    /**
+     * bytes allocated by the game thread per second of wall time, -1 if the JVM can't measure it
+     */
+    public long allocatedBytesPerSecond;
+    public long peakHeapBytes;
+    /**
+     * change in live heap from the start to the end of measuring, after a full collection at each
+     */
+    public long heapGrowthBytes;
+
+    /**
+     * world sprites drawn per tick, -1 unless rendering was recorded
+     */
+    public double spritesPerTick = -1;
+    /**
+     * sprite batches sent to the GPU per tick for the world, -1 unless rendering was recorded
+     */
+    public double batchesPerTick = -1;
+    /**
+     * texture switches per tick for the world, -1 unless rendering was recorded
+     */
+    public double textureSwitchesPerTick = -1;
+
+    public int entityCount;
+    public int peakEntityCount;
+    public int bodyCount;
+    public int peakBodyCount;
+
+    /**
+     * limits given to the harness that this run exceeded, empty if it passed
+     */
+    public String[] failedLimits = new String[0];
+}
@@ -1,11 +1,19 @@
 package com.deco2800.game.ui.textbox;
 
+import com.deco2800.game.services.RandomService;
+import com.deco2800.game.services.ServiceLocator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class RandomDialogueSetTest {
 
+    @AfterEach
+    void afterEach() {
+        ServiceLocator.clear();
+    }
+
     @Test
     void getRandomFirstEncounterTest() {
         assertEquals(Dialogue.TEST_1, RandomDialogueSet.TEST.getRandomFirstEncounter());
@@ -37,4 +45,18 @@ class RandomDialogueSetTest {
         Dialogue random = RandomDialogueSet.TEST.getRandomPlayerDefeatedBefore();
         assertTrue(random == Dialogue.TEST_1 || random == Dialogue.TEST_2);
     }
+
+    @Test
+    void shouldRepeatForSameSeed() {
+        assertArrayEquals(pickPlayerDefeatedBefore(42), pickPlayerDefeatedBefore(42));
+    }
+
+    private static Dialogue[] pickPlayerDefeatedBefore(long seed) {
+        ServiceLocator.registerRandomService(new RandomService(seed));
+        Dialogue[] picks = new Dialogue[20];
+        for (int i = 0; i < picks.length; i++) {
+            picks[i] = RandomDialogueSet.TEST.getRandomPlayerDefeatedBefore();
+        }
+        return picks;
+    }
 }
@@ -2,6 +2,7 @@ package com.deco2800.game.ui.textbox;
 
 import com.deco2800.game.extensions.GameExtension;
 import com.deco2800.game.services.GameTime;
+import com.deco2800.game.services.SchedulerService;
 import com.deco2800.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ class TextBoxTest {
     @BeforeEach
     void setUp() {
         ServiceLocator.registerTimeSource(new GameTime());
+        ServiceLocator.registerSchedulerService(new SchedulerService());
     }
 
     @Test
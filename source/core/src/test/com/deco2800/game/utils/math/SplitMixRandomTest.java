@@ -0,0 +1,50 @@
+package com.deco2800.game.utils.math;
+
+import com.deco2800.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(GameExtension.class)
+class SplitMixRandomTest {
+    @Test
+    void shouldRepeatForSameSeed() {
+        SplitMixRandom first = new SplitMixRandom(42L);
+        SplitMixRandom second = new SplitMixRandom(42L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertEquals(first.nextInt(10), second.nextInt(10));
+        assertEquals(first.nextDouble(), second.nextDouble());
+    }
+
+    @Test
+    void shouldDifferForDifferentSeeds() {
+        assertNotEquals(new SplitMixRandom(1L).nextLong(), new SplitMixRandom(2L).nextLong());
+    }
+
+    @Test
+    void shouldStayInRange() {
+        SplitMixRandom random = new SplitMixRandom(7L);
+        for (int i = 0; i < 1000; i++) {
+            double d = random.nextDouble();
+            float f = random.nextFloat();
+            int n = random.nextInt(7);
+            assertTrue(d >= 0 && d < 1);
+            assertTrue(f >= 0 && f < 1);
+            assertTrue(n >= 0 && n < 7);
+        }
+    }
+
+    @Test
+    void shouldSplitIndependentStream() {
+        SplitMixRandom random = new SplitMixRandom(3L);
+        SplitMixRandom split = random.split();
+        SplitMixRandom again = new SplitMixRandom(3L).split();
+        assertEquals(split.nextLong(), again.nextLong());
+        assertNotEquals(random.nextLong(), split.nextLong());
+    }
+}
@@ -0,0 +1,30 @@
+package com.deco2800.game.desktop;
+
+import com.deco2800.game.areas.terrain.BinaryMap;
+import com.deco2800.game.areas.terrain.PotentiallyVisibleSet;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compiles the level JSON files into the binary maps read by {@link BinaryMap} and the visibility
+ * sets read by {@link PotentiallyVisibleSet}. Run by the compileMaps task from the assets directory.
+ */
+public class MapCompilerLauncher {
+    private static final String MAPS_DIR = "maps";
+
+    private MapCompilerLauncher() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        File[] levels = new File(MAPS_DIR).listFiles((dir, file) -> file.startsWith("lvl_") && file.endsWith(".json"));
+        if (levels == null) {
+            throw new IllegalStateException("Run from the assets directory, " + MAPS_DIR + " not found");
+        }
+        for (File level : levels) {
+            BinaryMap.compile(level, new File(BinaryMap.getBinaryPath(level.getPath())));
+            PotentiallyVisibleSet.compile(level, new File(PotentiallyVisibleSet.getPath(level.getPath())));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.deco2800.game.desktop;
+
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.deco2800.game.areas.terrain.TileAtlas;
+import com.deco2800.game.components.HealthBarComponent;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Packs the map tile and enemy health bar images into the atlas read by {@link TileAtlas}. Run by the
+ * packTextures task from the assets directory.
+ */
+public class TexturePackerLauncher {
+    private static final String TILES_DIR = "Assets";
+    private static final String[] HEALTH_BAR_IMAGES = {
+            HealthBarComponent.HEALTH_IMAGE, HealthBarComponent.FRAME_IMAGE, HealthBarComponent.DECREASE_IMAGE
+    };
+
+    private TexturePackerLauncher() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        // Copy the edge pixels into the padding so neighbouring tiles don't bleed into each other
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.filterMin = TextureFilter.Nearest;
+        settings.filterMag = TextureFilter.Nearest;
+        // Tiles must keep their full size to line up on the map
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+
+        TexturePacker packer = new TexturePacker(settings);
+        File[] tiles = new File(TILES_DIR).listFiles((dir, file) -> file.endsWith(".png"));
+        if (tiles == null) {
+            throw new IllegalStateException("Run from the assets directory, " + TILES_DIR + " not found");
+        }
+        Set<String> names = new HashSet<>();
+        for (File tile : tiles) {
+            addImage(packer, names, TILES_DIR + "/" + tile.getName());
+        }
+        for (String image : HEALTH_BAR_IMAGES) {
+            addImage(packer, names, image);
+        }
+
+        File atlas = new File(TileAtlas.ATLAS_PATH);
+        String name = atlas.getName().substring(0, atlas.getName().lastIndexOf('.'));
+        packer.pack(atlas.getParentFile(), name);
+    }
+
+    /**
+     * Pack an image under the region name {@link TileAtlas#getRegion(String)} looks up, since the
+     * packer would otherwise name it after its absolute path.
+     */
+    private static void addImage(TexturePacker packer, Set<String> names, String path) throws IOException {
+        String name = TileAtlas.getRegionName(path);
+        if (!names.add(name)) {
+            throw new IllegalStateException("More than one image would be packed as " + name);
+        }
+        BufferedImage image = ImageIO.read(new File(path));
+        if (image == null) {
+            throw new IllegalStateException("Could not read " + path);
+        }
+        packer.addImage(image, name);
+    }
+}